@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import org.neo4j.driver.exceptions.value.Uncoercible;
+import org.neo4j.driver.types.Type;
+import org.neo4j.driver.util.Experimental;
+
+/**
+ * A single column of {@link Columns}.
+ * <p>
+ * The array accessors return a copy of the storage of the column on every call, callers that read a column repeatedly should keep the array. Rows that
+ * hold {@code null} contain the default value of the array type, use {@link #isNull(int)} to tell them apart. Columns that only contain nulls can be
+ * read as any array type.
+ *
+ * @since 5.0
+ */
+@Experimental
+public interface Column
+{
+    /**
+     * @return the key of this column
+     */
+    String key();
+
+    /**
+     * Retrieve the type of all non-null values in this column. This is {@code INTEGER}, {@code FLOAT}, {@code BOOLEAN} or {@code STRING} for columns
+     * stored in arrays, {@code NULL} if the column only contains nulls and {@code ANY} for columns with values of other or mixed types.
+     *
+     * @return the type of this column
+     */
+    Type type();
+
+    /**
+     * @return the number of rows in this column
+     */
+    int size();
+
+    /**
+     * @param row the index of the row
+     * @return {@code true} if the value in the given row is {@code null}
+     * @throws IndexOutOfBoundsException if the row is out of bounds
+     */
+    boolean isNull( int row );
+
+    /**
+     * Retrieve the value in the given row. Values of array backed columns are created on demand.
+     *
+     * @param row the index of the row
+     * @return the value in the given row, {@link Values#NULL} for nulls
+     * @throws IndexOutOfBoundsException if the row is out of bounds
+     */
+    Value get( int row );
+
+    /**
+     * @return the values of an {@code INTEGER} column
+     * @throws Uncoercible if this column contains non-null values of another type
+     */
+    long[] asLongArray();
+
+    /**
+     * @return the values of a {@code FLOAT} column
+     * @throws Uncoercible if this column contains non-null values of another type
+     */
+    double[] asDoubleArray();
+
+    /**
+     * @return the values of a {@code BOOLEAN} column
+     * @throws Uncoercible if this column contains non-null values of another type
+     */
+    boolean[] asBooleanArray();
+
+    /**
+     * @return the values of a {@code STRING} column, with {@code null} elements for nulls
+     * @throws Uncoercible if this column contains non-null values of another type
+     */
+    String[] asStringArray();
+}
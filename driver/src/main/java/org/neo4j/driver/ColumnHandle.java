@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A reference to a record field by key that remembers the position of the key.
+ * <p>
+ * Reading a field by {@link Record#get(String) key} looks the key up for every record. A handle resolves its key once for the keys of a result and then
+ * reads all records of that result by {@link Record#get(int) index}. Handles are thread-safe and are meant to be created once, for example as constants,
+ * and reused for many results. A handle remembers its position for the keys of the last four results it read, so results that are
+ * read in an interleaved way do not evict each other:
+ * <pre>
+ * {@code
+ * static final ColumnHandle NAME = ColumnHandle.of( "name" );
+ *
+ * for ( Record record : result.list() )
+ * {
+ *     String name = record.value( NAME ).asString();
+ * }
+ * }
+ * </pre>
+ *
+ * @see Record#value(ColumnHandle)
+ * @since 5.0
+ */
+public final class ColumnHandle
+{
+    static final int RESOLUTIONS = 4;
+
+    private final String key;
+    private volatile Resolution[] resolutions = new Resolution[0];
+
+    private ColumnHandle( String key )
+    {
+        this.key = key;
+    }
+
+    /**
+     * Create a handle for the field with the given key.
+     *
+     * @param key the key of the field
+     * @return a new handle
+     */
+    public static ColumnHandle of( String key )
+    {
+        return new ColumnHandle( requireNonNull( key, "Key must not be null" ) );
+    }
+
+    /**
+     * @return the key of the field
+     */
+    public String key()
+    {
+        return key;
+    }
+
+    /**
+     * Retrieve the position of the key of this handle in the given keys. The position is remembered for the given list, so resolving it again for the keys
+     * of one of the recently read results does not search the list.
+     *
+     * @param keys the keys of a result, see {@link Record#keys()}
+     * @return the index of the key or {@code -1} if the keys do not contain it
+     */
+    public int index( List<String> keys )
+    {
+        Resolution[] current = resolutions;
+        for ( Resolution resolution : current )
+        {
+            if ( resolution.keys == keys )
+            {
+                return resolution.index;
+            }
+        }
+
+        int index = keys.indexOf( key );
+        // the most recent resolution goes first and the oldest one is dropped when all slots are taken
+        Resolution[] updated = new Resolution[Math.min( current.length + 1, RESOLUTIONS )];
+        updated[0] = new Resolution( keys, index );
+        System.arraycopy( current, 0, updated, 1, updated.length - 1 );
+        resolutions = updated;
+        return index;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ColumnHandle<" + key + ">";
+    }
+
+    private static final class Resolution
+    {
+        final List<String> keys;
+        final int index;
+
+        Resolution( List<String> keys, int index )
+        {
+            this.keys = keys;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.neo4j.driver.util.Experimental;
+
+/**
+ * The records of a result stored column by column.
+ * <p>
+ * Columns that only contain integers, floats, booleans or strings (and nulls) are stored in primitive or string arrays instead of one {@link Value} per
+ * cell, which makes this representation considerably smaller than a list of {@link Record records} for large, mostly numeric results.
+ *
+ * @see Result#collectColumns()
+ * @see org.neo4j.driver.async.ResultCursor#collectColumnsAsync()
+ * @since 5.0
+ */
+@Experimental
+public interface Columns
+{
+    /**
+     * Retrieve the keys of the columns, in the order of the result.
+     *
+     * @return all column keys in order
+     */
+    List<String> keys();
+
+    /**
+     * Retrieve the number of rows.
+     *
+     * @return the number of collected records
+     */
+    int rowCount();
+
+    /**
+     * Retrieve the column at the given index.
+     *
+     * @param index the index of the column
+     * @return the column
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    Column column( int index );
+
+    /**
+     * Retrieve the column with the given key.
+     *
+     * @param key the key of the column
+     * @return the column
+     * @throws NoSuchElementException if there is no column with the given key
+     */
+    Column column( String key );
+}
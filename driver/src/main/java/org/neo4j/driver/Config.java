@@ -24,7 +24,9 @@ import java.net.InetAddress;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
@@ -32,10 +34,13 @@ import java.util.logging.Level;
 import org.neo4j.driver.internal.RevocationStrategy;
 import org.neo4j.driver.internal.SecuritySettings;
 import org.neo4j.driver.internal.async.pool.PoolSettings;
+import org.neo4j.driver.internal.cluster.RoutingContext;
 import org.neo4j.driver.internal.cluster.RoutingSettings;
+import org.neo4j.driver.internal.cluster.loadbalancing.CircuitBreakerSettings;
 import org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil;
 import org.neo4j.driver.internal.retry.RetrySettings;
 import org.neo4j.driver.net.ServerAddressResolver;
+import org.neo4j.driver.tracing.DriverTracer;
 import org.neo4j.driver.util.Experimental;
 import org.neo4j.driver.util.Immutable;
 
@@ -90,6 +95,23 @@ public class Config implements Serializable
 
     private final long fetchSize;
     private final long routingTablePurgeDelayMillis;
+    private final boolean routingTableSharing;
+    private final boolean circuitBreakerEnabled;
+    private final int circuitBreakerFailureRateThreshold;
+    private final int circuitBreakerWindowSize;
+    private final int circuitBreakerMinimumCalls;
+    private final long circuitBreakerOpenDurationMillis;
+    private final long domainNameCachePositiveTtlMillis;
+    private final long domainNameCacheNegativeTtlMillis;
+    private final String clientZone;
+    private final LinkedHashMap<String,String> serverZones;
+    private final long eventLoopBlockedThresholdMillis;
+    private final transient DriverTracer tracer;
+    private final long slowQueryThresholdMillis;
+    private final int slowQueryLogsPerSecond;
+    private final boolean slowQueryParametersLogged;
+    private final long adaptiveFetchSizeMemoryBudget;
+    private final long reactiveMinimumPullSize;
 
     private final int connectionTimeoutMillis;
     private final RetrySettings retrySettings;
@@ -114,6 +136,23 @@ public class Config implements Serializable
 
         this.connectionTimeoutMillis = builder.connectionTimeoutMillis;
         this.routingTablePurgeDelayMillis = builder.routingTablePurgeDelayMillis;
+        this.routingTableSharing = builder.routingTableSharing;
+        this.circuitBreakerEnabled = builder.circuitBreakerEnabled;
+        this.circuitBreakerFailureRateThreshold = builder.circuitBreakerFailureRateThreshold;
+        this.circuitBreakerWindowSize = builder.circuitBreakerWindowSize;
+        this.circuitBreakerMinimumCalls = builder.circuitBreakerMinimumCalls;
+        this.circuitBreakerOpenDurationMillis = builder.circuitBreakerOpenDurationMillis;
+        this.domainNameCachePositiveTtlMillis = builder.domainNameCachePositiveTtlMillis;
+        this.domainNameCacheNegativeTtlMillis = builder.domainNameCacheNegativeTtlMillis;
+        this.clientZone = builder.clientZone;
+        this.serverZones = builder.serverZones;
+        this.eventLoopBlockedThresholdMillis = builder.eventLoopBlockedThresholdMillis;
+        this.tracer = builder.tracer;
+        this.slowQueryThresholdMillis = builder.slowQueryThresholdMillis;
+        this.slowQueryLogsPerSecond = builder.slowQueryLogsPerSecond;
+        this.slowQueryParametersLogged = builder.slowQueryParametersLogged;
+        this.adaptiveFetchSizeMemoryBudget = builder.adaptiveFetchSizeMemoryBudget;
+        this.reactiveMinimumPullSize = builder.reactiveMinimumPullSize;
         this.retrySettings = builder.retrySettings;
         this.resolver = builder.resolver;
         this.fetchSize = builder.fetchSize;
@@ -234,7 +273,7 @@ public class Config implements Serializable
 
     RoutingSettings routingSettings()
     {
-        return new RoutingSettings( routingTablePurgeDelayMillis );
+        return new RoutingSettings( routingTablePurgeDelayMillis, RoutingContext.EMPTY, routingTableSharing );
     }
 
     RetrySettings retrySettings()
@@ -247,6 +286,24 @@ public class Config implements Serializable
         return fetchSize;
     }
 
+    /**
+     * @return the memory budget in bytes of each result when adaptive fetching is enabled, {@code 0} otherwise.
+     */
+    @Experimental
+    public long adaptiveFetchSizeMemoryBudget()
+    {
+        return adaptiveFetchSizeMemoryBudget;
+    }
+
+    /**
+     * @return the minimum number of records pulled at once for reactive results, {@code 0} when records are pulled as requested by subscribers.
+     */
+    @Experimental
+    public long reactiveMinimumPullSize()
+    {
+        return reactiveMinimumPullSize;
+    }
+
     public int eventLoopThreads()
     {
         return eventLoopThreads;
@@ -265,6 +322,133 @@ public class Config implements Serializable
         return this.metricsAdapter;
     }
 
+    /**
+     * @return if circuit breaking of failing servers is enabled or not on this driver.
+     */
+    @Experimental
+    public boolean isCircuitBreakerEnabled()
+    {
+        return circuitBreakerEnabled;
+    }
+
+    /**
+     * @return the failure rate in percent of recent connection attempts at and above which a circuit breaker opens.
+     */
+    @Experimental
+    public int circuitBreakerFailureRateThreshold()
+    {
+        return circuitBreakerFailureRateThreshold;
+    }
+
+    /**
+     * @return the number of most recent connection attempts towards a server the failure rate is computed from.
+     */
+    @Experimental
+    public int circuitBreakerWindowSize()
+    {
+        return circuitBreakerWindowSize;
+    }
+
+    /**
+     * @return the number of connection attempts towards a server needed before its failure rate is evaluated.
+     */
+    @Experimental
+    public int circuitBreakerMinimumCalls()
+    {
+        return circuitBreakerMinimumCalls;
+    }
+
+    /**
+     * @return how long an open circuit breaker excludes a server before it is probed again.
+     */
+    @Experimental
+    public long circuitBreakerOpenDurationMillis()
+    {
+        return circuitBreakerOpenDurationMillis;
+    }
+
+    /**
+     * @return how long successful domain name resolutions are cached by the driver, {@code 0} when they are not cached.
+     */
+    @Experimental
+    public long domainNameCachePositiveTtlMillis()
+    {
+        return domainNameCachePositiveTtlMillis;
+    }
+
+    /**
+     * @return how long failed domain name resolutions are cached by the driver, {@code 0} when they are not cached.
+     */
+    @Experimental
+    public long domainNameCacheNegativeTtlMillis()
+    {
+        return domainNameCacheNegativeTtlMillis;
+    }
+
+    /**
+     * @return the zone of the client used for locality-aware load balancing, {@code null} when it is not configured.
+     */
+    @Experimental
+    public String clientZone()
+    {
+        return clientZone;
+    }
+
+    /**
+     * @return the server zones by address pattern used for locality-aware load balancing.
+     */
+    @Experimental
+    public Map<String,String> serverZones()
+    {
+        return Collections.unmodifiableMap( serverZones );
+    }
+
+    /**
+     * @return how long an event loop thread may be busy before the driver logs its stack trace, {@code 0} when blocked event loops are not detected.
+     */
+    @Experimental
+    public long eventLoopBlockedThresholdMillis()
+    {
+        return eventLoopBlockedThresholdMillis;
+    }
+
+    /**
+     * @return the tracer receiving the spans of the work performed by the driver.
+     */
+    @Experimental
+    public DriverTracer tracer()
+    {
+        // the tracer is not serialized
+        return tracer != null ? tracer : DriverTracer.noop();
+    }
+
+    /**
+     * @return how long a query may take before it is logged as slow, {@code 0} when slow queries are not logged.
+     */
+    @Experimental
+    public long slowQueryThresholdMillis()
+    {
+        return slowQueryThresholdMillis;
+    }
+
+    /**
+     * @return the maximum number of slow queries logged per second.
+     */
+    @Experimental
+    public int slowQueryLogsPerSecond()
+    {
+        return slowQueryLogsPerSecond;
+    }
+
+    /**
+     * @return {@code true} if parameter values of slow queries are logged, {@code false} if they are redacted.
+     */
+    @Experimental
+    public boolean slowQueryParametersLogged()
+    {
+        return slowQueryParametersLogged;
+    }
+
     /**
      * @return the user_agent configured for this driver
      */
@@ -287,6 +471,23 @@ public class Config implements Serializable
         private String userAgent = format( "neo4j-java/%s", driverVersion() );
         private final SecuritySettings.SecuritySettingsBuilder securitySettingsBuilder = new SecuritySettings.SecuritySettingsBuilder();
         private long routingTablePurgeDelayMillis = RoutingSettings.DEFAULT.routingTablePurgeDelayMs();
+        private boolean routingTableSharing;
+        private boolean circuitBreakerEnabled;
+        private int circuitBreakerFailureRateThreshold = CircuitBreakerSettings.DEFAULT_FAILURE_RATE_THRESHOLD;
+        private int circuitBreakerWindowSize = CircuitBreakerSettings.DEFAULT_WINDOW_SIZE;
+        private int circuitBreakerMinimumCalls = CircuitBreakerSettings.DEFAULT_MINIMUM_CALLS;
+        private long circuitBreakerOpenDurationMillis = CircuitBreakerSettings.DEFAULT_OPEN_DURATION_MS;
+        private long domainNameCachePositiveTtlMillis;
+        private long domainNameCacheNegativeTtlMillis;
+        private String clientZone;
+        private LinkedHashMap<String,String> serverZones = new LinkedHashMap<>();
+        private long eventLoopBlockedThresholdMillis;
+        private DriverTracer tracer = DriverTracer.noop();
+        private long slowQueryThresholdMillis;
+        private int slowQueryLogsPerSecond = 10;
+        private boolean slowQueryParametersLogged;
+        private long adaptiveFetchSizeMemoryBudget;
+        private long reactiveMinimumPullSize;
         private int connectionTimeoutMillis = (int) TimeUnit.SECONDS.toMillis( 30 );
         private RetrySettings retrySettings = RetrySettings.DEFAULT;
         private ServerAddressResolver resolver;
@@ -520,6 +721,274 @@ public class Config implements Serializable
             return this;
         }
 
+        /**
+         * Enable or disable sharing of routing information between databases.
+         * <p>
+         * The driver keeps a routing table for each database seen by the driver and refreshes each of them separately. When sharing is enabled,
+         * routing tables of databases hosted on the same cluster reuse the same server address instances and, whenever a routing table is refreshed,
+         * routing tables of other databases that are stale or about to become stale are refreshed using the same router connection in a single
+         * batch. This reduces the rediscovery traffic and memory footprint of applications that use many databases.
+         * <p>
+         * Batched refreshes require servers that support Bolt 4.3 or later and are disabled by default.
+         *
+         * @param enabled {@code true} to enable routing table sharing, {@code false} to disable it.
+         * @return this builder
+         */
+        @Experimental
+        public ConfigBuilder withRoutingTableSharing( boolean enabled )
+        {
+            this.routingTableSharing = enabled;
+            return this;
+        }
+
+        /**
+         * Enable or disable circuit breaking of failing cluster members.
+         * <p>
+         * When enabled, the routing driver keeps track of the outcome of the most recent connection attempts towards each server. A server is
+         * excluded from load balancing when the failure rate of those attempts reaches a threshold, even though it is still present in the routing
+         * table. After a cool-down period a single probe, a RESET round trip to the server, decides whether the server is used again. Servers are never
+         * excluded when all candidates for a request are excluded. The thresholds are configured with
+         * {@link #withCircuitBreakerFailureRateThreshold(int, int, int)} and {@link #withCircuitBreakerOpenDuration(long, TimeUnit)}.
+         * <p>
+         * The state of the circuit breakers is exposed by {@link ConnectionPoolMetrics#circuitBreakerState()} when metrics are enabled.
+         * This setting only affects drivers created for the {@code neo4j} scheme and is disabled by default.
+         *
+         * @param enabled {@code true} to enable circuit breaking, {@code false} to disable it.
+         * @return this builder
+         */
+        @Experimental
+        public ConfigBuilder withCircuitBreaker( boolean enabled )
+        {
+            this.circuitBreakerEnabled = enabled;
+            return this;
+        }
+
+        /**
+         * Configure when a circuit breaker excludes a server from load balancing, see {@link #withCircuitBreaker(boolean)}.
+         * <p>
+         * The failure rate is computed from the {@code windowSize} most recent connection attempts towards a server, once at least
+         * {@code minimumCalls} attempts were made. Default is a threshold of 50% over 20 attempts with at least 5 attempts.
+         *
+         * @param failureRatePercent the failure rate in percent at and above which the circuit opens, between {@code 1} and {@code 100}.
+         * @param windowSize         the number of most recent connection attempts the failure rate is computed from, must be greater than {@code 0}.
+         * @param minimumCalls       the number of attempts needed before the failure rate is evaluated, must be greater than {@code 0}.
+         * @return this builder
+         * @throws IllegalArgumentException when any of the values is out of range.
+         */
+        @Experimental
+        public ConfigBuilder withCircuitBreakerFailureRateThreshold( int failureRatePercent, int windowSize, int minimumCalls )
+        {
+            if ( failureRatePercent < 1 || failureRatePercent > 100 )
+            {
+                throw new IllegalArgumentException( "The failure rate threshold must be between 1 and 100, but was: " + failureRatePercent );
+            }
+            if ( windowSize <= 0 || minimumCalls <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The window size and minimum calls must be greater than 0, but were: %d and %d", windowSize, minimumCalls ) );
+            }
+            this.circuitBreakerFailureRateThreshold = failureRatePercent;
+            this.circuitBreakerWindowSize = windowSize;
+            this.circuitBreakerMinimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Configure how long an open circuit breaker excludes a server from load balancing before the server is probed, see
+         * {@link #withCircuitBreaker(boolean)}. Default is 30 seconds.
+         *
+         * @param value the open duration.
+         * @param unit  the unit of the open duration.
+         * @return this builder
+         * @throws IllegalArgumentException when the duration is not greater than {@code 0}.
+         */
+        @Experimental
+        public ConfigBuilder withCircuitBreakerOpenDuration( long value, TimeUnit unit )
+        {
+            long openDurationMillis = unit.toMillis( value );
+            if ( openDurationMillis <= 0 )
+            {
+                throw new IllegalArgumentException( String.format( "The open duration must be greater than 0, but was %d %s.", value, unit ) );
+            }
+            this.circuitBreakerOpenDurationMillis = openDurationMillis;
+            return this;
+        }
+
+        /**
+         * Enable caching of domain name resolutions performed by the driver.
+         * <p>
+         * The driver resolves server names during rediscovery and every time a new connection is established. By default every resolution is
+         * delegated to the JVM, which may block. When the cache is enabled, results are kept for the given amount of time and resolutions that miss
+         * the cache while connecting are performed off the network threads. Failed resolutions can be cached separately, usually for a shorter time.
+         * <p>
+         * A value of {@code 0} disables caching of the respective results. The cache is disabled by default.
+         *
+         * @param positiveTtl how long successful resolutions are cached.
+         * @param negativeTtl how long failed resolutions are cached.
+         * @param unit        the unit in which the durations are given.
+         * @return this builder
+         * @throws IllegalArgumentException when any of the given durations is negative.
+         */
+        @Experimental
+        public ConfigBuilder withDomainNameCache( long positiveTtl, long negativeTtl, TimeUnit unit )
+        {
+            long positiveTtlMillis = unit.toMillis( positiveTtl );
+            long negativeTtlMillis = unit.toMillis( negativeTtl );
+            if ( positiveTtlMillis < 0 || negativeTtlMillis < 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The domain name cache TTLs may not be smaller than 0, but were %d and %d %s.", positiveTtl, negativeTtl, unit ) );
+            }
+            this.domainNameCachePositiveTtlMillis = positiveTtlMillis;
+            this.domainNameCacheNegativeTtlMillis = negativeTtlMillis;
+            return this;
+        }
+
+        /**
+         * Enable locality-aware load balancing of read requests.
+         * <p>
+         * By default readers are selected across the whole cluster. When the zone of the client is given, the routing driver prefers readers in
+         * the same zone and only uses readers in other zones when none of the local readers can take more requests, because their connection pools
+         * are exhausted or because they are excluded by circuit breakers, see {@link #withCircuitBreaker(boolean)}. Writers are not affected.
+         * <p>
+         * The zone of a server is determined by matching its address against the given patterns in iteration order. A pattern is matched against
+         * the host name of the server, or against {@code host:port} if the pattern contains a colon, and may use {@code *} as a wildcard.
+         * For example {@code "*.eu-west-1a.internal" -> "eu-west-1a"}. Servers not matching any pattern are considered remote.
+         * <p>
+         * This setting only affects drivers created for the {@code neo4j} scheme.
+         *
+         * @param clientZone  the zone of the client.
+         * @param serverZones the zones of the servers by address pattern.
+         * @return this builder
+         * @throws IllegalArgumentException when the client zone is empty.
+         */
+        @Experimental
+        public ConfigBuilder withClientZone( String clientZone, Map<String,String> serverZones )
+        {
+            Objects.requireNonNull( clientZone, "clientZone" );
+            Objects.requireNonNull( serverZones, "serverZones" );
+            if ( clientZone.isEmpty() )
+            {
+                throw new IllegalArgumentException( "The client zone may not be empty" );
+            }
+            this.clientZone = clientZone;
+            this.serverZones = new LinkedHashMap<>( serverZones );
+            return this;
+        }
+
+        /**
+         * Enable detection of blocked event loop threads.
+         * <p>
+         * All network IO, message decoding and, by default, the callbacks of the async and reactive APIs run on the event loop threads of the
+         * driver. A callback that blocks such a thread delays every connection served by it. When enabled, a watchdog periodically checks that
+         * every event loop makes progress and logs a warning with the stack trace of an event loop thread that did not run any task for longer
+         * than the given threshold. Blocked event loops are counted by {@link EventLoopMetrics#blockedDetections()} when metrics are enabled.
+         * <p>
+         * Only event loops created by the driver are monitored. A value of {@code 0} disables detection, which is the default.
+         *
+         * @param threshold how long an event loop may be busy before it is considered blocked.
+         * @param unit      the unit in which the threshold is given.
+         * @return this builder
+         * @throws IllegalArgumentException when the threshold is negative.
+         */
+        @Experimental
+        public ConfigBuilder withEventLoopBlockedThreshold( long threshold, TimeUnit unit )
+        {
+            long thresholdMillis = unit.toMillis( threshold );
+            if ( thresholdMillis < 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The event loop blocked threshold may not be smaller than 0, but was %d %s.", threshold, unit ) );
+            }
+            this.eventLoopBlockedThresholdMillis = thresholdMillis;
+            return this;
+        }
+
+        /**
+         * Provide a tracer that receives the spans of the work performed by the driver, such as acquiring connections, the round trips of queries
+         * and transactions and the delays between retries of transaction functions. See {@link DriverTracer} for the spans created by the driver.
+         * Spans are not created by default.
+         * <p>
+         * The tracer is not serialized with this config.
+         *
+         * @param tracer the tracer to use.
+         * @return this builder
+         * @throws NullPointerException when the given tracer is {@code null}.
+         */
+        @Experimental
+        public ConfigBuilder withTracer( DriverTracer tracer )
+        {
+            this.tracer = Objects.requireNonNull( tracer, "tracer" );
+            return this;
+        }
+
+        /**
+         * Enable logging of slow queries.
+         * <p>
+         * A query is slow when the time the server reports for producing and streaming its result, or the time to acquire a connection and receive
+         * the response to its RUN message, exceeds the given threshold. The server time includes the time the server waits for the driver to
+         * request more records, so results that are consumed slowly and fetched in batches can be logged as slow.
+         * Slow queries are logged with a warning containing the query text, its parameters, the database, the server address, the time it took to
+         * acquire the connection, to receive the response to RUN and to stream the result, and the number of received records. Queries that are
+         * not slow only cost a comparison, which makes this suitable for production use unlike debug logging of all messages.
+         * <p>
+         * At most {@link #withSlowQueryLogRateLimit(int) a limited number} of slow queries is logged per second, and parameter values are
+         * redacted unless {@link #withSlowQueryParameterLogging(boolean) enabled}. A value of {@code 0} disables slow query logging, which is
+         * the default.
+         *
+         * @param threshold how long a query may take before it is logged.
+         * @param unit      the unit in which the threshold is given.
+         * @return this builder
+         * @throws IllegalArgumentException when the threshold is negative.
+         */
+        @Experimental
+        public ConfigBuilder withSlowQueryLogging( long threshold, TimeUnit unit )
+        {
+            long thresholdMillis = unit.toMillis( threshold );
+            if ( thresholdMillis < 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The slow query threshold may not be smaller than 0, but was %d %s.", threshold, unit ) );
+            }
+            this.slowQueryThresholdMillis = thresholdMillis;
+            return this;
+        }
+
+        /**
+         * Limit how many slow queries are logged per second when {@link #withSlowQueryLogging(long, TimeUnit) slow query logging} is enabled.
+         * Slow queries exceeding the limit are not logged. By default, at most {@code 10} slow queries are logged per second.
+         *
+         * @param maxLogsPerSecond the maximum number of slow queries logged per second.
+         * @return this builder
+         * @throws IllegalArgumentException when the given value is not greater than {@code 0}.
+         */
+        @Experimental
+        public ConfigBuilder withSlowQueryLogRateLimit( int maxLogsPerSecond )
+        {
+            if ( maxLogsPerSecond <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The slow query log rate limit must be greater than 0, but was %d.", maxLogsPerSecond ) );
+            }
+            this.slowQueryLogsPerSecond = maxLogsPerSecond;
+            return this;
+        }
+
+        /**
+         * Specify whether parameter values of slow queries are logged when {@link #withSlowQueryLogging(long, TimeUnit) slow query logging} is
+         * enabled. Parameter values may contain sensitive data and are therefore redacted by default, only parameter names are logged. Logged
+         * values are abbreviated when their text is long.
+         *
+         * @param enabled {@code true} to log parameter values, {@code false} to redact them.
+         * @return this builder
+         */
+        @Experimental
+        public ConfigBuilder withSlowQueryParameterLogging( boolean enabled )
+        {
+            this.slowQueryParametersLogged = enabled;
+            return this;
+        }
+
         /**
          * Specify how many records to fetch in each batch.
          * This config is only valid when the driver is used with servers that support Bolt V4 (Server version 4.0 and later).
@@ -532,6 +1001,9 @@ public class Config implements Serializable
          * This config only applies to run result obtained via {@link Session} and {@link org.neo4j.driver.async.AsyncSession}.
          * As with {@link org.neo4j.driver.reactive.RxSession}, the batch size is provided via
          * {@link org.reactivestreams.Subscription#request(long)} instead.
+         *
+         * When adaptive fetching is enabled with {@link #withAdaptiveFetchSize(long)}, it takes precedence over this fetch size, regardless of the
+         * order in which both are configured.
          * @param size the default record fetch size when pulling records in batches using Bolt V4.
          * @return this builder
          */
@@ -541,6 +1013,60 @@ public class Config implements Serializable
             return this;
         }
 
+        /**
+         * Let the driver choose how many records to fetch in each batch.
+         * <p>
+         * Instead of using the same fixed fetch size for every query, the driver adjusts the size of each batch using the size of the records received
+         * so far and how fast the application consumes them. Batches are kept small for queries returning large records, so that the records buffered
+         * for a single result stay within the given memory budget, and grow for queries returning small records that are consumed quickly, which saves
+         * round trips.
+         * <p>
+         * This config takes precedence over the fixed fetch size set by {@link #withFetchSize(long)}, regardless of the order in which both are
+         * configured. A fetch size set for a session using {@link SessionConfig.Builder#withFetchSize(long)} takes precedence over both. Like the
+         * fixed fetch size, it only applies to results obtained via {@link Session} and {@link org.neo4j.driver.async.AsyncSession} when the driver is
+         * used with servers that support Bolt V4.
+         *
+         * @param memoryBudgetBytes the approximate number of bytes of records that may be buffered for each result.
+         * @return this builder
+         * @throws IllegalArgumentException when the memory budget is not positive.
+         */
+        @Experimental
+        public ConfigBuilder withAdaptiveFetchSize( long memoryBudgetBytes )
+        {
+            if ( memoryBudgetBytes <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The adaptive fetch size memory budget may not be 0 or negative. Illegal memory budget: %s.", memoryBudgetBytes ) );
+            }
+            this.adaptiveFetchSizeMemoryBudget = memoryBudgetBytes;
+            return this;
+        }
+
+        /**
+         * Specify the minimum number of records to pull at once for results obtained via {@link org.neo4j.driver.reactive.ReactiveSession} and
+         * {@link org.neo4j.driver.reactive.RxSession}.
+         * <p>
+         * By default, every {@link org.reactivestreams.Subscription#request(long)} of a record subscriber is sent to the server as is, so subscribers
+         * that request few records at a time cause a round trip per request. With a minimum pull size, small requests are coalesced into pulls of at least
+         * the given size, records received beyond the current demand are buffered by the driver, and the next batch is pulled before the buffered records
+         * run out. At most about the minimum pull size of records is buffered for each result on top of the demand of the subscriber.
+         *
+         * @param size the minimum number of records to pull at once.
+         * @return this builder
+         * @throws IllegalArgumentException when the size is not positive.
+         */
+        @Experimental
+        public ConfigBuilder withReactiveMinimumPullSize( long size )
+        {
+            if ( size <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The reactive minimum pull size may not be 0 or negative. Illegal size: %s.", size ) );
+            }
+            this.reactiveMinimumPullSize = size;
+            return this;
+        }
+
         /**
          * Specify socket connection timeout.
          * <p>
@@ -599,7 +1125,39 @@ public class Config implements Serializable
                 throw new IllegalArgumentException( String.format(
                         "The max retry time may not be smaller than 0, but was %d %s.", value, unit ) );
             }
-            this.retrySettings = new RetrySettings( maxRetryTimeMs );
+            this.retrySettings = new RetrySettings( maxRetryTimeMs, retrySettings.retryBudgetMaxTokens(), retrySettings.retryBudgetRatio() );
+            return this;
+        }
+
+        /**
+         * Limit the retries of {@link Session#readTransaction(TransactionWork)}, {@link Session#writeTransaction(TransactionWork)} and their async and
+         * reactive counterparts across the whole driver with a token bucket.
+         * <p>
+         * The bucket holds up to {@code maxRetries} tokens and starts full. Every retry takes a token and every transaction function that succeeds adds
+         * {@code retryRatio} tokens. While the bucket is empty, failed transaction functions are not retried and their error is thrown to the caller. This
+         * keeps the driver from multiplying the load on a cluster that fails most transactions, e.g. during a leader election. For example, a budget of 10
+         * retries with a ratio of 0.1 allows bursts of 10 retries and one retry for every ten successful transaction functions after that.
+         * <p>
+         * By default retries are not limited by a budget, every transaction function is retried until
+         * {@link #withMaxTransactionRetryTime(long, TimeUnit) the max retry time} elapses.
+         *
+         * @param maxRetries the capacity of the bucket, must be greater than {@code 0}.
+         * @param retryRatio the amount of retries every successful transaction function earns, must be greater than {@code 0}.
+         * @return this builder.
+         * @throws IllegalArgumentException when the capacity or the ratio is not greater than {@code 0}.
+         */
+        @Experimental
+        public ConfigBuilder withTransactionRetryBudget( int maxRetries, double retryRatio )
+        {
+            if ( maxRetries <= 0 )
+            {
+                throw new IllegalArgumentException( "The retry budget must allow at least one retry, but was: " + maxRetries );
+            }
+            if ( !(retryRatio > 0) || Double.isInfinite( retryRatio ) )
+            {
+                throw new IllegalArgumentException( "The retry ratio must be a positive number, but was: " + retryRatio );
+            }
+            this.retrySettings = new RetrySettings( retrySettings.maxRetryTimeMs(), maxRetries, retryRatio );
             return this;
         }
 
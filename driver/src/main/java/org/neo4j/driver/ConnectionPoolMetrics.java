@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.neo4j.driver.util.Experimental;
@@ -25,6 +27,9 @@ import org.neo4j.driver.util.Experimental;
 /**
  * Provides connection pool metrics such as connection created, current in use etc.
  * The pool metrics is uniquely identified using {@link ConnectionPoolMetrics#id()}.
+ * <p>
+ * Metrics added after the first version of this interface have default implementations returning {@code -1}, an empty collection or the
+ * default state, so that implementations of this interface outside of the driver keep working.
  */
 @Experimental
 public interface ConnectionPoolMetrics
@@ -181,4 +186,213 @@ public interface ConnectionPoolMetrics
      * @return the total amount of connection that are borrowed outside the pool.
      */
     long totalInUseCount();
+
+    /**
+     * The acquisition time in milliseconds at the given percentile of all connection acquisition requests since the pool is created.
+     * For example {@code acquisitionTimePercentile( 0.99 )} returns the time within which 99% of the connections were acquired.
+     * Acquisition times are recorded with a relative precision of about 3%, the highest time equivalent to the percentile is returned.
+     * When metrics are recorded with {@link MetricsAdapter#MICROMETER}, percentiles are the ones Micrometer computes over its distribution statistic expiry
+     * instead. Micrometer computes the 50th, 75th, 90th, 95th, 99th and 99.9th percentile, other percentiles are answered with the next higher one or
+     * with the maximum time.
+     * @param percentile the percentile, between {@code 0} and {@code 1}.
+     * @return The acquisition time at the given percentile, {@code 0} if no connection has been acquired yet.
+     * @throws IllegalArgumentException when the percentile is not between {@code 0} and {@code 1}.
+     */
+    default long acquisitionTimePercentile( double percentile )
+    {
+        return -1;
+    }
+
+    /**
+     * The time in milliseconds spent to establish a new socket connection at the given percentile of all connections established since the pool is
+     * created. See {@link #acquisitionTimePercentile(double)} for the precision of the returned time.
+     * @param percentile the percentile, between {@code 0} and {@code 1}.
+     * @return The connection time at the given percentile, {@code 0} if no connection has been established yet.
+     * @throws IllegalArgumentException when the percentile is not between {@code 0} and {@code 1}.
+     */
+    default long connectionTimePercentile( double percentile )
+    {
+        return -1;
+    }
+
+    /**
+     * The time in milliseconds connections are borrowed out of the pool at the given percentile of all connections returned to the pool since the
+     * pool is created. See {@link #acquisitionTimePercentile(double)} for the precision of the returned time.
+     * @param percentile the percentile, between {@code 0} and {@code 1}.
+     * @return The in-use time at the given percentile, {@code 0} if no connection has been returned to the pool yet.
+     * @throws IllegalArgumentException when the percentile is not between {@code 0} and {@code 1}.
+     */
+    default long inUseTimePercentile( double percentile )
+    {
+        return -1;
+    }
+
+    /**
+     * The number of connection acquisition requests that are currently waiting for a connection to be released back to the pool,
+     * because the pool had reached its maximum size set by {@link Config.ConfigBuilder#withMaxConnectionPoolSize(int)} when they were made.
+     * These requests are included in {@link #acquiring()}. The amount can increase or decrease over time.
+     * @return The number of connection acquisition requests that are currently waiting for a connection.
+     */
+    default int waitingToAcquire()
+    {
+        return -1;
+    }
+
+    /**
+     * A counter to record how many connection acquisition requests had to wait for a connection to be released back to the pool since the pool is created.
+     * This number increases every time when a waiting request got a connection or gave up waiting.
+     * Comparing it to {@link #acquired()} shows how often the pool is too small for the load.
+     * @return The amount of connection acquisition requests that had to wait for a connection.
+     */
+    default long waitedToAcquire()
+    {
+        return -1;
+    }
+
+    /**
+     * The time in milliseconds connection acquisition requests waited for a connection at the given percentile of all requests that had to wait since the
+     * pool is created. See {@link #acquisitionTimePercentile(double)} for the precision of the returned time.
+     * @param percentile the percentile, between {@code 0} and {@code 1}.
+     * @return The wait time at the given percentile, {@code 0} if no request had to wait yet.
+     * @throws IllegalArgumentException when the percentile is not between {@code 0} and {@code 1}.
+     */
+    default long waitTimePercentile( double percentile )
+    {
+        return -1;
+    }
+
+    /**
+     * A counter to record how many connection acquisition requests have been served with a newly created connection since the pool is created.
+     * @return The amount of acquisitions served with a new connection.
+     */
+    default long acquiredNewConnections()
+    {
+        return -1;
+    }
+
+    /**
+     * A counter to record how many connection acquisition requests have been served with an idle connection that was used before since the pool is created.
+     * @return The amount of acquisitions served with an idle connection.
+     */
+    default long acquiredIdleConnections()
+    {
+        return -1;
+    }
+
+    /**
+     * A counter to record how many times idle connections have been tested with a round trip to the server before being handed out since the pool is created.
+     * Idle connections are tested when they have been idle for longer than {@link Config.ConfigBuilder#withConnectionLivenessCheckTimeout(long, TimeUnit)}.
+     * @return The amount of connection tests.
+     */
+    default long healthChecks()
+    {
+        return -1;
+    }
+
+    /**
+     * A counter to record how many connection tests have failed since the pool is created. A connection that fails the test is closed.
+     * @return The amount of failed connection tests.
+     */
+    default long failedHealthChecks()
+    {
+        return -1;
+    }
+
+    /**
+     * The time in milliseconds of the round trip to test an idle connection at the given percentile of all connection tests since the pool is created.
+     * See {@link #acquisitionTimePercentile(double)} for the precision of the returned time.
+     * @param percentile the percentile, between {@code 0} and {@code 1}.
+     * @return The connection test time at the given percentile, {@code 0} if no connection has been tested yet.
+     * @throws IllegalArgumentException when the percentile is not between {@code 0} and {@code 1}.
+     */
+    default long healthCheckTimePercentile( double percentile )
+    {
+        return -1;
+    }
+
+    /**
+     * The current state of the circuit breaker guarding the server of this pool.
+     * The state is one of {@code CLOSED}, {@code OPEN} or {@code HALF_OPEN}.
+     * It is always {@code CLOSED} when circuit breaking is not enabled with {@link Config.ConfigBuilder#withCircuitBreaker(boolean)}.
+     * @return the current circuit breaker state.
+     */
+    default String circuitBreakerState()
+    {
+        return "CLOSED";
+    }
+
+    /**
+     * A counter to record how many times the circuit breaker guarding the server of this pool has opened since the pool is created.
+     * This number increases every time when the server is excluded from load balancing because too many calls to it failed.
+     * @return the amount of times the circuit breaker has opened.
+     */
+    default long circuitBreakerOpened()
+    {
+        return -1;
+    }
+
+    /**
+     * A counter to record how many bytes of Bolt messages, including chunk headers, have been written to connections of this pool since the pool is created.
+     * @return the amount of bytes sent.
+     */
+    default long bytesSent()
+    {
+        return -1;
+    }
+
+    /**
+     * A counter to record how many bytes of Bolt messages, including chunk headers, have been read from connections of this pool since the pool is created.
+     * @return the amount of bytes received.
+     */
+    default long bytesReceived()
+    {
+        return -1;
+    }
+
+    /**
+     * A counter to record how many Bolt messages have been sent, by message type such as {@code RUN}, {@code PULL} or {@code RESET}.
+     * The total amount of chunks sent divided by the total amount of messages sent is the average amount of chunks per message.
+     * @return the amount of messages sent per message type, types that have never been sent are absent.
+     */
+    default Map<String,Long> messagesSent()
+    {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * A counter to record how many Bolt messages have been received, by message type such as {@code RECORD}, {@code SUCCESS} or {@code FAILURE}.
+     * @return the amount of messages received per message type, types that have never been received are absent.
+     */
+    default Map<String,Long> messagesReceived()
+    {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * A counter to record how many chunks have been written to connections of this pool since the pool is created.
+     * @return the amount of chunks sent.
+     */
+    default long chunksSent()
+    {
+        return -1;
+    }
+
+    /**
+     * A counter to record how many chunks have been read from connections of this pool since the pool is created.
+     * @return the amount of chunks received.
+     */
+    default long chunksReceived()
+    {
+        return -1;
+    }
+
+    /**
+     * A counter to record how many times connections of this pool have been flushed to the network since the pool is created.
+     * Comparing it to the amount of messages sent shows how well messages are batched into network writes.
+     * @return the amount of flushes.
+     */
+    default long flushes()
+    {
+        return -1;
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import org.neo4j.driver.util.Experimental;
+
+/**
+ * Provides metrics of the domain name resolutions performed by the driver when the domain name cache is enabled with
+ * {@link Config.ConfigBuilder#withDomainNameCache(long, long, java.util.concurrent.TimeUnit)}.
+ */
+@Experimental
+public interface DomainNameResolutionMetrics
+{
+    /**
+     * A counter to record how many resolutions were answered from the cache, including cached failures.
+     * @return The amount of resolutions answered from the cache.
+     */
+    long cacheHits();
+
+    /**
+     * A counter to record how many resolutions were not cached and required a lookup.
+     * @return The amount of resolutions that required a lookup.
+     */
+    long cacheMisses();
+
+    /**
+     * A counter to record how many resolutions failed, either by a lookup or by a cached failure.
+     * @return The amount of failed resolutions.
+     */
+    long failures();
+}
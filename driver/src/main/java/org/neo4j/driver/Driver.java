@@ -21,7 +21,9 @@ package org.neo4j.driver;
 import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.diagnostics.DriverDiagnostics;
 import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.diagnostics.InternalDriverDiagnostics;
 import org.neo4j.driver.reactive.ReactiveSession;
 import org.neo4j.driver.reactive.RxSession;
 import org.neo4j.driver.types.TypeSystem;
@@ -192,6 +194,19 @@ public interface Driver extends AutoCloseable
      */
     boolean isMetricsEnabled();
 
+    /**
+     * Returns a snapshot of the state of this driver, containing its routing tables, connection pools, in-flight queries, event loops and retry
+     * counters. Taking a snapshot is cheap and does not require metrics to be enabled. The snapshot can be rendered as JSON using
+     * {@link DriverDiagnostics#toJson()}. Drivers that can not take snapshots return a snapshot without any parts.
+     *
+     * @return a snapshot of the state of this driver.
+     */
+    @Experimental
+    default DriverDiagnostics diagnostics()
+    {
+        return InternalDriverDiagnostics.empty();
+    }
+
     /**
      * This will return the type system supported by the driver.
      * The types supported on a particular server a session is connected against might not contain all of the types defined here.
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import org.neo4j.driver.util.Experimental;
+
+/**
+ * Provides metrics of an event loop thread of the driver, such as the amount of pending tasks and how late scheduled tasks are executed.
+ * The event loop metrics is uniquely identified using {@link EventLoopMetrics#id()}.
+ */
+@Experimental
+public interface EventLoopMetrics
+{
+    /**
+     * A unique id that identifies this event loop metrics. It is the name of the thread of the event loop.
+     *
+     * @return A unique name
+     */
+    String id();
+
+    /**
+     * The amount of tasks that are currently waiting to be executed by the event loop. The amount can increase or decrease over time.
+     * @return The amount of pending tasks, or {@code -1} if the event loop does not expose it.
+     */
+    int pendingTasks();
+
+    /**
+     * The amount of connections that are currently served by the event loop. The amount can increase or decrease over time.
+     * @return The amount of active connections, or {@code -1} if the event loop does not expose it.
+     */
+    int activeConnections();
+
+    /**
+     * The event loop periodically executes a probe task. This is how late the most recent probe task was executed in milliseconds.
+     * A lag that keeps growing means the event loop can not keep up with its tasks or is blocked.
+     * @return The scheduling lag of the most recent probe task in milliseconds.
+     */
+    long schedulingLag();
+
+    /**
+     * The maximum scheduling lag of all probe tasks executed since the event loop was started in milliseconds.
+     * @return The maximum scheduling lag in milliseconds.
+     */
+    long maxSchedulingLag();
+
+    /**
+     * A counter to record how many times the event loop was detected to be blocked for longer than the threshold set by
+     * {@link Config.ConfigBuilder#withEventLoopBlockedThreshold(long, java.util.concurrent.TimeUnit)}.
+     * @return The amount of times the event loop was detected to be blocked.
+     */
+    long blockedDetections();
+}
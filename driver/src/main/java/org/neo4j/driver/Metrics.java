@@ -19,11 +19,15 @@
 package org.neo4j.driver;
 
 import java.util.Collection;
+import java.util.Collections;
 
 import org.neo4j.driver.util.Experimental;
 
 /**
  * Provides driver internal metrics.
+ * <p>
+ * Metrics added after the first version of this interface have default implementations returning empty collections or counters of {@code -1},
+ * so that implementations of this interface outside of the driver keep working.
  */
 @Experimental
 public interface Metrics
@@ -34,4 +38,52 @@ public interface Metrics
      * @return Connection pool metrics for all current active pools.
      */
     Collection<ConnectionPoolMetrics> connectionPoolMetrics();
+
+    /**
+     * Event loop metrics records metrics of the event loop threads that perform the network IO of the driver.
+     * Event loops are added when they execute their first task, only event loops created by the driver are monitored.
+     * @return Event loop metrics for all current event loops.
+     */
+    default Collection<EventLoopMetrics> eventLoopMetrics()
+    {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Domain name resolution metrics records how often the domain name cache answered resolutions of server addresses.
+     * @return Domain name resolution metrics, all counters stay {@code 0} when the domain name cache is disabled.
+     */
+    default DomainNameResolutionMetrics domainNameResolutionMetrics()
+    {
+        return new DomainNameResolutionMetrics()
+        {
+            @Override
+            public long cacheHits()
+            {
+                return -1;
+            }
+
+            @Override
+            public long cacheMisses()
+            {
+                return -1;
+            }
+
+            @Override
+            public long failures()
+            {
+                return -1;
+            }
+        };
+    }
+
+    /**
+     * Query metrics records metrics of the queries executed by the driver, grouped by database and access mode.
+     * Query metrics are added when the first query against a database with an access mode completes.
+     * @return Query metrics for all databases and access modes queries were executed with.
+     */
+    default Collection<QueryMetrics> queryMetrics()
+    {
+        return Collections.emptyList();
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import org.neo4j.driver.util.Experimental;
+
+/**
+ * Provides metrics of the queries executed against one database with one access mode, such as how long they took and how large their results were.
+ * The query metrics is uniquely identified by its {@link #database()} and {@link #accessMode()}.
+ * <p>
+ * Each distribution is answered by percentile, for example {@code runTimePercentile( 0.99 )} returns the time within which 99% of the queries got the
+ * response to their RUN message. See {@link ConnectionPoolMetrics#acquisitionTimePercentile(double)} for the precision of the returned values.
+ */
+@Experimental
+public interface QueryMetrics
+{
+    /**
+     * The name of the database the queries were executed against, {@code unknown} if the database was not known to the driver.
+     * @return The name of the database.
+     */
+    String database();
+
+    /**
+     * The access mode of the connections the queries were executed on, {@code unknown} if the access mode was not known to the driver.
+     * @return The name of the access mode.
+     */
+    String accessMode();
+
+    /**
+     * A counter to record how many queries completed successfully.
+     * @return The amount of successful queries.
+     */
+    long completed();
+
+    /**
+     * A counter to record how many queries failed.
+     * @return The amount of failed queries.
+     */
+    long failed();
+
+    /**
+     * The time in milliseconds between sending the RUN message of a query and receiving its response at the given percentile.
+     * @param percentile the percentile, between {@code 0} and {@code 1}.
+     * @return The run time at the given percentile, {@code 0} if no query has been executed yet.
+     * @throws IllegalArgumentException when the percentile is not between {@code 0} and {@code 1}.
+     */
+    long runTimePercentile( double percentile );
+
+    /**
+     * The time in milliseconds the server reported until the first record of a result was available at the given percentile.
+     * @param percentile the percentile, between {@code 0} and {@code 1}.
+     * @return The result available after time at the given percentile, {@code 0} if no server reported it yet.
+     * @throws IllegalArgumentException when the percentile is not between {@code 0} and {@code 1}.
+     */
+    long resultAvailableAfterPercentile( double percentile );
+
+    /**
+     * The time in milliseconds the server reported until all records of a result were consumed at the given percentile.
+     * @param percentile the percentile, between {@code 0} and {@code 1}.
+     * @return The result consumed after time at the given percentile, {@code 0} if no server reported it yet.
+     * @throws IllegalArgumentException when the percentile is not between {@code 0} and {@code 1}.
+     */
+    long resultConsumedAfterPercentile( double percentile );
+
+    /**
+     * The time in microseconds the driver spent decoding the records of a result at the given percentile.
+     * @param percentile the percentile, between {@code 0} and {@code 1}.
+     * @return The decode time at the given percentile, {@code 0} if no query has been executed yet.
+     * @throws IllegalArgumentException when the percentile is not between {@code 0} and {@code 1}.
+     */
+    long decodeTimePercentile( double percentile );
+
+    /**
+     * The amount of records of a result at the given percentile.
+     * @param percentile the percentile, between {@code 0} and {@code 1}.
+     * @return The amount of records at the given percentile, {@code 0} if no query has been executed yet.
+     * @throws IllegalArgumentException when the percentile is not between {@code 0} and {@code 1}.
+     */
+    long recordsPercentile( double percentile );
+
+    /**
+     * The size in bytes of the records of a result as read from the network at the given percentile.
+     * @param percentile the percentile, between {@code 0} and {@code 1}.
+     * @return The size in bytes at the given percentile, {@code 0} if no query has been executed yet.
+     * @throws IllegalArgumentException when the percentile is not between {@code 0} and {@code 1}.
+     */
+    long bytesPercentile( double percentile );
+}
@@ -75,6 +75,18 @@ public interface Record extends MapAccessorWithDefaultValue
      */
     Value get( int index );
 
+    /**
+     * Retrieve the value of the field referenced by the given handle. The position of the key is resolved once for all records of a result, so this is
+     * as cheap as {@link #get(int)} in loops over many records.
+     *
+     * @param column the handle of the field
+     * @return the value or a {@link org.neo4j.driver.internal.value.NullValue} if this record has no field with the key of the handle
+     */
+    default Value value( ColumnHandle column )
+    {
+        return get( column.index( keys() ) );
+    }
+
     /**
      * Retrieve all record fields
      *
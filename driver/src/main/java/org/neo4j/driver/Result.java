@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
@@ -25,7 +26,10 @@ import java.util.stream.Stream;
 
 import org.neo4j.driver.exceptions.NoSuchRecordException;
 import org.neo4j.driver.exceptions.ResultConsumedException;
+import org.neo4j.driver.internal.InternalColumns;
+import org.neo4j.driver.internal.mapping.RecordMapper;
 import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.util.Experimental;
 import org.neo4j.driver.util.Resource;
 
 
@@ -100,6 +104,10 @@ public interface Result extends Iterator<Record>
      * Convert this result to a sequential {@link Stream} of records.
      * <p>
      * Result is exhausted when a terminal operation on the returned stream is executed.
+     * <p>
+     * The stream can be made {@linkplain Stream#parallel() parallel}. Records are then handed to parallel workers in batches of the records received so
+     * far, while the following records are still being fetched from the server. Records that arrive after the splitting stopped are processed as they
+     * arrive, the result is never buffered as a whole.
      *
      * @return sequential {@link Stream} of records. Empty stream if this result has already been consumed or is empty.
      */
@@ -139,6 +147,76 @@ public interface Result extends Iterator<Record>
      */
     <T> List<T> list( Function<Record, T> mapFunction );
 
+    /**
+     * Retrieve and store the entire result mapped to instances of the given type.
+     * <p>
+     * Java records are created with their canonical constructor and every record component must have a column with the same name. Other classes must
+     * have a no-argument constructor and are populated via setters or non-final fields named like the columns. Columns without a matching property are
+     * ignored. The mapping is introspected once per type and column positions are resolved once per result, so mapping a record does not involve reflection.
+     * <p>
+     * Note that this method can only be used if you know that the query that
+     * yielded this result returns a finite stream.
+     * <p>
+     * Calling this method exhausts the result.
+     *
+     * @param type the type to map records to.
+     * @param <T> the type of result list elements
+     * @return list of all remaining records mapped to the given type
+     * @throws org.neo4j.driver.exceptions.ClientException if records can not be mapped to the given type.
+     */
+    default <T> List<T> list( Class<T> type )
+    {
+        return list( RecordMapper.of( type ) );
+    }
+
+    /**
+     * Retrieve the entire result stored column by column.
+     * <p>
+     * Integer, float, boolean and string columns are stored in arrays, so no record objects are retained while the result is collected. This is the most
+     * compact way to keep large, mostly numeric results in memory.
+     * <p>
+     * Calling this method exhausts the result.
+     *
+     * @return the remaining records as columns
+     * @see Columns
+     */
+    @Experimental
+    default Columns collectColumns()
+    {
+        InternalColumns.Builder columns = new InternalColumns.Builder( keys() );
+        forEachRemaining( columns::add );
+        return columns.build();
+    }
+
+    /**
+     * Retrieve at most the given number of the remaining records and discard the rest of the result.
+     * <p>
+     * As soon as enough records have been received, the server is asked to discard all remaining records and records that are already on their way are
+     * dropped without decoding them. This is considerably cheaper than iterating a large result and then {@link #consume() consuming} it when only the
+     * first few records are needed.
+     * <p>
+     * Calling this method exhausts the result.
+     *
+     * @param limit the maximum number of records to return, must not be negative.
+     * @return list of at most {@code limit} immutable records
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    default List<Record> take( int limit )
+    {
+        if ( limit < 0 )
+        {
+            throw new IllegalArgumentException( "Limit must not be negative: " + limit );
+        }
+
+        List<Record> records = new ArrayList<>();
+        while ( records.size() < limit && hasNext() )
+        {
+            records.add( next() );
+        }
+        consume();
+        return records;
+    }
+
     /**
      * Return the result summary.
      * <p>
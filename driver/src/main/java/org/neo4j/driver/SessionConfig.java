@@ -24,10 +24,12 @@ import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import org.neo4j.driver.async.AsyncSession;
 import org.neo4j.driver.reactive.ReactiveSession;
 import org.neo4j.driver.reactive.RxSession;
+import org.neo4j.driver.util.Experimental;
 
 import static java.util.Objects.requireNonNull;
 import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.assertValidFetchSize;
@@ -46,6 +48,7 @@ public class SessionConfig implements Serializable
     private final String database;
     private final Long fetchSize;
     private final String impersonatedUser;
+    private final transient Executor recordPublishingExecutor;
 
     private SessionConfig( Builder builder )
     {
@@ -54,6 +57,7 @@ public class SessionConfig implements Serializable
         this.database = builder.database;
         this.fetchSize = builder.fetchSize;
         this.impersonatedUser = builder.impersonatedUser;
+        this.recordPublishingExecutor = builder.recordPublishingExecutor;
     }
 
     /**
@@ -140,6 +144,19 @@ public class SessionConfig implements Serializable
         return Optional.ofNullable( impersonatedUser );
     }
 
+    /**
+     * The executor used to publish records and summaries of results obtained via {@link ReactiveSession}.
+     * <p>
+     * The executor is not serialized.
+     *
+     * @return an optional value of the executor, records are published on network IO threads when empty.
+     */
+    @Experimental
+    public Optional<Executor> recordPublishingExecutor()
+    {
+        return Optional.ofNullable( recordPublishingExecutor );
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -153,7 +170,8 @@ public class SessionConfig implements Serializable
         }
         SessionConfig that = (SessionConfig) o;
         return Objects.equals( bookmarks, that.bookmarks ) && defaultAccessMode == that.defaultAccessMode && Objects.equals( database, that.database )
-               && Objects.equals( fetchSize, that.fetchSize ) && Objects.equals( impersonatedUser, that.impersonatedUser );
+               && Objects.equals( fetchSize, that.fetchSize ) && Objects.equals( impersonatedUser, that.impersonatedUser )
+               && Objects.equals( recordPublishingExecutor, that.recordPublishingExecutor );
     }
 
     @Override
@@ -179,6 +197,7 @@ public class SessionConfig implements Serializable
         private AccessMode defaultAccessMode = AccessMode.WRITE;
         private String database = null;
         private String impersonatedUser = null;
+        private Executor recordPublishingExecutor = null;
 
         private Builder()
         {
@@ -317,6 +336,26 @@ public class SessionConfig implements Serializable
             return this;
         }
 
+        /**
+         * Set the executor used to publish records and summaries of results obtained via {@link ReactiveSession}.
+         * <p>
+         * By default, records are published on the network IO thread that received them, so a slow subscriber delays all other connections served by the
+         * same thread. With an executor, records are still received and decoded on the network IO thread, but handed off through a bounded queue to the
+         * given executor, where subscribers are invoked. When the queue is full, records are no longer requested from the server until the subscriber
+         * catches up.
+         * <p>
+         * The executor is not owned by the driver and will not be shut down by it. It is not serialized with this configuration.
+         *
+         * @param executor the executor to publish records on, may not be {@code null}.
+         * @return this builder.
+         */
+        @Experimental
+        public Builder withRecordPublishingExecutor( Executor executor )
+        {
+            this.recordPublishingExecutor = requireNonNull( executor, "Record publishing executor should not be null." );
+            return this;
+        }
+
         public SessionConfig build()
         {
             return new SessionConfig( this );
@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.async;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -25,12 +26,17 @@ import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.neo4j.driver.Columns;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Records;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
 import org.neo4j.driver.exceptions.ResultConsumedException;
+import org.neo4j.driver.internal.InternalColumns;
+import org.neo4j.driver.internal.mapping.RecordMapper;
+import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.util.Experimental;
 
 /**
  * The result of asynchronous execution of a Cypher query, conceptually an asynchronous stream of
@@ -156,6 +162,73 @@ public interface ResultCursor
      */
     <T> CompletionStage<List<T>> listAsync( Function<Record,T> mapFunction );
 
+    /**
+     * Asynchronously retrieve and store the entire result mapped to instances of the given type.
+     * <p>
+     * Java records are created with their canonical constructor and every record component must have a column with the same name. Other classes must
+     * have a no-argument constructor and are populated via setters or non-final fields named like the columns. Columns without a matching property are
+     * ignored. The mapping is introspected once per type and column positions are resolved once per result.
+     * <p>
+     * Calling this method exhausts the result.
+     *
+     * @param type the type to map records to.
+     * @param <T> the type of result list elements
+     * @return a {@link CompletionStage} completed with a list of all remaining records mapped to the given type. Stage can also be
+     * completed exceptionally if query execution or the mapping fails.
+     */
+    default <T> CompletionStage<List<T>> listAsync( Class<T> type )
+    {
+        return listAsync( RecordMapper.of( type ) );
+    }
+
+    /**
+     * Asynchronously retrieve the entire result stored column by column.
+     * <p>
+     * Integer, float, boolean and string columns are stored in arrays and records are collected as they arrive, so no record objects are retained while
+     * the result is collected.
+     * <p>
+     * Calling this method exhausts the result.
+     *
+     * @return a {@link CompletionStage} completed with the remaining records as columns. Stage can also be completed exceptionally if query execution
+     * fails.
+     * @see Columns
+     */
+    @Experimental
+    default CompletionStage<Columns> collectColumnsAsync()
+    {
+        InternalColumns.Builder columns = new InternalColumns.Builder( keys() );
+        return forEachAsync( columns::add ).thenApply( ignore -> columns.build() );
+    }
+
+    /**
+     * Asynchronously retrieve at most the given number of the remaining records and discard the rest of the result.
+     * <p>
+     * As soon as enough records have been received, the server is asked to discard all remaining records and records that are already on their way are
+     * dropped without decoding them. The default implementation receives all remaining records and keeps the first {@code limit} of them.
+     * <p>
+     * Calling this method exhausts the result.
+     *
+     * @param limit the maximum number of records to return, must not be negative.
+     * @return a {@link CompletionStage} completed with a list of at most {@code limit} immutable records. Stage can also be completed exceptionally if
+     * query execution fails or with an {@link IllegalArgumentException} if the limit is negative.
+     */
+    default CompletionStage<List<Record>> takeAsync( int limit )
+    {
+        if ( limit < 0 )
+        {
+            return Futures.failedFuture( new IllegalArgumentException( "Limit must not be negative: " + limit ) );
+        }
+
+        List<Record> records = new ArrayList<>();
+        return forEachAsync( record ->
+                             {
+                                 if ( records.size() < limit )
+                                 {
+                                     records.add( record );
+                                 }
+                             } ).thenApply( ignore -> records );
+    }
+
     /**
      * Determine if result is open.
      * <p>
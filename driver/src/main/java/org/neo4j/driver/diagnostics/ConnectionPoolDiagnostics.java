@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.diagnostics;
+
+import org.neo4j.driver.util.Experimental;
+
+/**
+ * The state of the connection pool towards a single server.
+ */
+@Experimental
+public interface ConnectionPoolDiagnostics
+{
+    /**
+     * @return the address of the server.
+     */
+    String address();
+
+    /**
+     * @return the amount of connections that are currently borrowed out of the pool.
+     */
+    int inUse();
+
+    /**
+     * @return the amount of connections that are currently idle in the pool.
+     */
+    int idle();
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.diagnostics;
+
+import java.util.List;
+
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.util.Experimental;
+
+/**
+ * A point in time snapshot of the state of a driver, obtained via {@link Driver#diagnostics()}.
+ * <p>
+ * The snapshot contains the routing tables, the connection pools, the queries currently in flight, the event loops and the retry counters of the
+ * driver. Taking a snapshot does not wait for the network or for in-flight work, and the parts of a snapshot are not captured atomically with
+ * respect to each other.
+ */
+@Experimental
+public interface DriverDiagnostics
+{
+    /**
+     * @return the time at which this snapshot was taken, in milliseconds since the epoch.
+     */
+    long timestamp();
+
+    /**
+     * The routing tables per database. Always empty for drivers not performing routing.
+     *
+     * @return the routing tables known to the driver.
+     */
+    List<RoutingTableDiagnostics> routingTables();
+
+    /**
+     * @return the connection pools towards every server the driver is connected to.
+     */
+    List<ConnectionPoolDiagnostics> connectionPools();
+
+    /**
+     * @return the queries that have been sent and whose results have not been fully received yet.
+     */
+    List<InFlightQueryDiagnostics> inFlightQueries();
+
+    /**
+     * The event loops performing the network IO of the driver. Empty when the driver uses an event loop group provided by the application.
+     *
+     * @return the event loops of the driver.
+     */
+    List<EventLoopDiagnostics> eventLoops();
+
+    /**
+     * @return the retry counters of transaction functions.
+     */
+    RetryDiagnostics retries();
+
+    /**
+     * Renders this snapshot as a JSON object, with one field per method of this interface and its parts.
+     *
+     * @return this snapshot as JSON.
+     */
+    String toJson();
+}
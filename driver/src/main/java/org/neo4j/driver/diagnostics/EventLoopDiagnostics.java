@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.diagnostics;
+
+import org.neo4j.driver.util.Experimental;
+
+/**
+ * The state of an event loop of the driver.
+ */
+@Experimental
+public interface EventLoopDiagnostics
+{
+    /**
+     * @return the name of the event loop, unique within a snapshot.
+     */
+    String name();
+
+    /**
+     * @return the amount of tasks waiting to be executed by the event loop, or {@code -1} if unknown.
+     */
+    int pendingTasks();
+
+    /**
+     * @return the amount of connections of the driver served by the event loop.
+     */
+    int connections();
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.diagnostics;
+
+import org.neo4j.driver.util.Experimental;
+
+/**
+ * A query that has been sent to a server and whose result has not been fully received yet. Query parameters are not included.
+ */
+@Experimental
+public interface InFlightQueryDiagnostics
+{
+    /**
+     * @return the text of the query.
+     */
+    String query();
+
+    /**
+     * @return the database the query runs against, or {@code null} when the query runs against the default database of the server.
+     */
+    String database();
+
+    /**
+     * @return the address of the server running the query.
+     */
+    String address();
+
+    /**
+     * @return the server side id of the connection the query runs on, or {@code null} if unknown.
+     */
+    String connectionId();
+
+    /**
+     * @return the time in milliseconds since the query was sent.
+     */
+    long ageMillis();
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.diagnostics;
+
+import java.util.List;
+
+import org.neo4j.driver.util.Experimental;
+
+/**
+ * The state of the routing table of a single database.
+ */
+@Experimental
+public interface RoutingTableDiagnostics
+{
+    /**
+     * @return the name of the database, or a description of the default database when no name was given.
+     */
+    String database();
+
+    /**
+     * @return the time at which this routing table expires, in milliseconds since the epoch.
+     */
+    long expirationTimestamp();
+
+    /**
+     * @return the addresses of the routers.
+     */
+    List<String> routers();
+
+    /**
+     * @return the addresses of the readers.
+     */
+    List<String> readers();
+
+    /**
+     * @return the addresses of the writers.
+     */
+    List<String> writers();
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.internal.metrics.MetricsListener;
+import org.neo4j.driver.internal.util.Clock;
+
+import static org.neo4j.driver.internal.util.Futures.failedFuture;
+
+/**
+ * {@link DomainNameResolver} that caches successful and failed resolutions of another resolver for a configurable amount of time.
+ * <p>
+ * Routing drivers resolve the same cluster member names over and over, during rediscovery and whenever a new connection is established. Caching
+ * the results avoids repeated blocking lookups, while the TTLs bound how long changes of the DNS records stay unnoticed. When the cache is full,
+ * expired entries are evicted first and then the least recently used ones.
+ * <p>
+ * Lookups of names that are not cached are offloaded by {@link #resolveAsync(String)} to a small pool of daemon threads owned by this resolver, so
+ * that they never block an event loop thread. Concurrent lookups of the same name share a single offloaded lookup, and at most {@link #MAX_ENTRIES}
+ * lookups may wait for a thread. The pool is shut down by {@link #close()}.
+ */
+public class CachingDomainNameResolver implements DomainNameResolver, AutoCloseable
+{
+    static final int MAX_ENTRIES = 1024;
+    static final int LOOKUP_THREADS = 4;
+    private static final String LOOKUP_THREAD_NAME = "Neo4jDriverDnsLookup";
+
+    private final DomainNameResolver delegate;
+    private final Clock clock;
+    private final long positiveTtlMillis;
+    private final long negativeTtlMillis;
+    private final MetricsListener metricsListener;
+    private final ExecutorService lookupExecutor;
+    private final ConcurrentMap<String,CompletableFuture<InetAddress[]>> lookupsInProgress = new ConcurrentHashMap<>();
+    private final Map<String,Entry> cache = new LinkedHashMap<String,Entry>( 16, 0.75f, true )
+    {
+        @Override
+        protected boolean removeEldestEntry( Map.Entry<String,Entry> eldest )
+        {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * @param delegate          the resolver performing the actual lookups.
+     * @param clock             the clock used to expire entries.
+     * @param positiveTtlMillis how long successful resolutions are cached, {@code 0} disables caching of successful resolutions.
+     * @param negativeTtlMillis how long failed resolutions are cached, {@code 0} disables caching of failed resolutions.
+     * @param metricsListener   the listener notified of every resolution.
+     */
+    public CachingDomainNameResolver( DomainNameResolver delegate, Clock clock, long positiveTtlMillis, long negativeTtlMillis,
+                                      MetricsListener metricsListener )
+    {
+        this( delegate, clock, positiveTtlMillis, negativeTtlMillis, metricsListener, newLookupExecutor() );
+    }
+
+    CachingDomainNameResolver( DomainNameResolver delegate, Clock clock, long positiveTtlMillis, long negativeTtlMillis,
+                               MetricsListener metricsListener, ExecutorService lookupExecutor )
+    {
+        this.lookupExecutor = lookupExecutor;
+        this.delegate = delegate;
+        this.clock = clock;
+        this.positiveTtlMillis = positiveTtlMillis;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.metricsListener = metricsListener;
+    }
+
+    @Override
+    public InetAddress[] resolve( String name ) throws UnknownHostException
+    {
+        Entry entry = cachedEntry( name );
+        if ( entry != null )
+        {
+            metricsListener.afterDomainNameResolution( true, entry.addresses != null );
+            return entry.get( name );
+        }
+
+        InetAddress[] addresses;
+        try
+        {
+            addresses = delegate.resolve( name );
+        }
+        catch ( UnknownHostException e )
+        {
+            metricsListener.afterDomainNameResolution( false, false );
+            store( name, null, negativeTtlMillis );
+            throw e;
+        }
+        metricsListener.afterDomainNameResolution( false, true );
+        store( name, addresses.clone(), positiveTtlMillis );
+        return addresses;
+    }
+
+    /**
+     * Resolves the given name without blocking the calling thread when the name is not cached.
+     *
+     * @param name the name.
+     * @return stage completed with the resolved addresses, or failed with {@link UnknownHostException} if the name can not be resolved.
+     */
+    @Override
+    public CompletionStage<InetAddress[]> resolveAsync( String name )
+    {
+        Entry entry = cachedEntry( name );
+        if ( entry != null )
+        {
+            metricsListener.afterDomainNameResolution( true, entry.addresses != null );
+            try
+            {
+                return CompletableFuture.completedFuture( entry.get( name ) );
+            }
+            catch ( UnknownHostException e )
+            {
+                return failedFuture( e );
+            }
+        }
+
+        CompletableFuture<InetAddress[]> lookup = new CompletableFuture<>();
+        CompletableFuture<InetAddress[]> lookupInProgress = lookupsInProgress.putIfAbsent( name, lookup );
+        if ( lookupInProgress != null )
+        {
+            return lookupInProgress;
+        }
+        try
+        {
+            lookupExecutor.execute( () -> completeLookup( name, lookup ) );
+        }
+        catch ( RejectedExecutionException e )
+        {
+            lookupsInProgress.remove( name, lookup );
+            lookup.completeExceptionally( e );
+        }
+        return lookup;
+    }
+
+    boolean isCached( String name )
+    {
+        return cachedEntry( name ) != null;
+    }
+
+    /**
+     * Shuts down the threads performing the offloaded lookups.
+     */
+    @Override
+    public void close()
+    {
+        lookupExecutor.shutdown();
+    }
+
+    int size()
+    {
+        synchronized ( cache )
+        {
+            return cache.size();
+        }
+    }
+
+    private void completeLookup( String name, CompletableFuture<InetAddress[]> lookup )
+    {
+        InetAddress[] addresses = null;
+        Throwable error = null;
+        try
+        {
+            addresses = resolve( name );
+        }
+        catch ( Throwable t )
+        {
+            error = t;
+        }
+        // the result is already cached, later lookups of the name do not need to join this one
+        lookupsInProgress.remove( name, lookup );
+        if ( error != null )
+        {
+            lookup.completeExceptionally( error );
+        }
+        else
+        {
+            lookup.complete( addresses );
+        }
+    }
+
+    private Entry cachedEntry( String name )
+    {
+        synchronized ( cache )
+        {
+            Entry entry = cache.get( name );
+            return entry != null && entry.expirationTimestamp > clock.millis() ? entry : null;
+        }
+    }
+
+    private void store( String name, InetAddress[] addresses, long ttlMillis )
+    {
+        synchronized ( cache )
+        {
+            if ( ttlMillis <= 0 )
+            {
+                cache.remove( name );
+                return;
+            }
+            long now = clock.millis();
+            if ( cache.size() >= MAX_ENTRIES && !cache.containsKey( name ) )
+            {
+                // expired entries go first, the least recently used entry is evicted on insertion if none expired
+                cache.values().removeIf( entry -> entry.expirationTimestamp <= now );
+            }
+            long expirationTimestamp = ttlMillis > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + ttlMillis;
+            cache.put( name, new Entry( addresses, expirationTimestamp ) );
+        }
+    }
+
+    private static ExecutorService newLookupExecutor()
+    {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor( LOOKUP_THREADS, LOOKUP_THREADS, 60, TimeUnit.SECONDS,
+                                                              new LinkedBlockingQueue<>( MAX_ENTRIES ), new DefaultThreadFactory( LOOKUP_THREAD_NAME, true ) );
+        executor.allowCoreThreadTimeOut( true );
+        return executor;
+    }
+
+    private static class Entry
+    {
+        final InetAddress[] addresses;
+        final long expirationTimestamp;
+
+        Entry( InetAddress[] addresses, long expirationTimestamp )
+        {
+            this.addresses = addresses;
+            this.expirationTimestamp = expirationTimestamp;
+        }
+
+        InetAddress[] get( String name ) throws UnknownHostException
+        {
+            if ( addresses == null )
+            {
+                throw new UnknownHostException( name );
+            }
+            return addresses.clone();
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.internal.async.ConnectionContext;
 import org.neo4j.driver.internal.async.connection.DirectConnection;
+import org.neo4j.driver.internal.diagnostics.DiagnosticsCollector;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
@@ -77,6 +78,12 @@ public class DirectConnectionProvider implements ConnectionProvider
         } );
     }
 
+    @Override
+    public void collectDiagnostics( DiagnosticsCollector collector )
+    {
+        connectionPool.collectDiagnostics( collector );
+    }
+
     public BoltServerAddress getAddress()
     {
         return address;
@@ -20,6 +20,10 @@ package org.neo4j.driver.internal;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.neo4j.driver.internal.util.Futures.failedFuture;
 
 /**
  * A resolver function used by the driver to resolve domain names.
@@ -35,4 +39,31 @@ public interface DomainNameResolver
      * @throws UnknownHostException must be thrown if the given name can not be resolved to at least one address.
      */
     InetAddress[] resolve( String name ) throws UnknownHostException;
+
+    /**
+     * Resolve the given domain name to a set of addresses without blocking the calling thread, if supported by the resolver.
+     * <p>
+     * The default implementation resolves the name on the calling thread and returns an already completed stage.
+     *
+     * @param name the name to resolve.
+     * @return stage completed with the resolved addresses, or failed with {@link UnknownHostException} if the name can not be resolved.
+     */
+    default CompletionStage<InetAddress[]> resolveAsync( String name )
+    {
+        try
+        {
+            return CompletableFuture.completedFuture( resolve( name ) );
+        }
+        catch ( UnknownHostException e )
+        {
+            return failedFuture( e );
+        }
+    }
+
+    /**
+     * Release the resources held by this resolver. The default implementation does nothing.
+     */
+    default void close()
+    {
+    }
 }
@@ -35,16 +35,24 @@ import org.neo4j.driver.MetricsAdapter;
 import org.neo4j.driver.internal.async.connection.BootstrapFactory;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.async.connection.ChannelConnectorImpl;
+import org.neo4j.driver.internal.async.connection.EventLoopMonitor;
+import org.neo4j.driver.internal.async.connection.ChannelPipelineBuilderImpl;
 import org.neo4j.driver.internal.async.pool.ConnectionPoolImpl;
 import org.neo4j.driver.internal.async.pool.PoolSettings;
 import org.neo4j.driver.internal.cluster.RoutingContext;
 import org.neo4j.driver.internal.cluster.RoutingSettings;
+import org.neo4j.driver.internal.cluster.loadbalancing.CircuitBreakerSettings;
+import org.neo4j.driver.internal.cluster.loadbalancing.CircuitBreakers;
 import org.neo4j.driver.internal.cluster.loadbalancing.LeastConnectedLoadBalancingStrategy;
 import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancer;
 import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancingStrategy;
+import org.neo4j.driver.internal.cluster.loadbalancing.LocalityAwareLoadBalancingStrategy;
+import org.neo4j.driver.internal.cluster.loadbalancing.ServerZones;
 import org.neo4j.driver.internal.logging.NettyLogging;
+import org.neo4j.driver.internal.logging.SlowQueryLogger;
 import org.neo4j.driver.internal.metrics.DevNullMetricsProvider;
 import org.neo4j.driver.internal.metrics.InternalMetricsProvider;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.metrics.MetricsProvider;
 import org.neo4j.driver.internal.metrics.MicrometerMetricsProvider;
 import org.neo4j.driver.internal.retry.ExponentialBackoffRetryLogic;
@@ -56,6 +64,7 @@ import org.neo4j.driver.internal.spi.ConnectionProvider;
 import org.neo4j.driver.internal.util.Clock;
 import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.net.ServerAddressResolver;
+import org.neo4j.driver.tracing.DriverTracer;
 
 import static org.neo4j.driver.internal.Scheme.isRoutingScheme;
 import static org.neo4j.driver.internal.cluster.IdentityResolver.IDENTITY_RESOLVER;
@@ -94,26 +103,48 @@ public class DriverFactory
 
         InternalLoggerFactory.setDefaultFactory( new NettyLogging( config.logging() ) );
         EventExecutorGroup eventExecutorGroup = bootstrap.config().group();
-        RetryLogic retryLogic = createRetryLogic( retrySettings, eventExecutorGroup, config.logging() );
 
         MetricsProvider metricsProvider = getOrCreateMetricsProvider( config, createClock() );
-        ConnectionPool connectionPool = createConnectionPool( authToken, securityPlan, bootstrap, metricsProvider, config,
+        DomainNameResolver domainNameResolver = createDomainNameResolver( config, metricsProvider.metricsListener() );
+        RetryLogic retryLogic = createRetryLogic( retrySettings, eventExecutorGroup, config.logging(), config.tracer(), metricsProvider.metricsListener() );
+        if ( ownsEventLoopGroup )
+        {
+            startEventLoopMonitor( bootstrap.config().group(), metricsProvider, config );
+        }
+        ConnectionPool connectionPool = createConnectionPool( authToken, securityPlan, bootstrap, metricsProvider, domainNameResolver, config,
                                                               ownsEventLoopGroup, newRoutingSettings.routingContext() );
 
-        return createDriver( uri, securityPlan, address, connectionPool, eventExecutorGroup, newRoutingSettings, retryLogic, metricsProvider, config );
+        return createDriver( uri, securityPlan, address, connectionPool, eventExecutorGroup, newRoutingSettings, retryLogic, metricsProvider,
+                             domainNameResolver, config );
     }
 
     protected ConnectionPool createConnectionPool( AuthToken authToken, SecurityPlan securityPlan, Bootstrap bootstrap,
-            MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup, RoutingContext routingContext )
+            MetricsProvider metricsProvider, DomainNameResolver domainNameResolver, Config config, boolean ownsEventLoopGroup,
+            RoutingContext routingContext )
     {
         Clock clock = createClock();
         ConnectionSettings settings = new ConnectionSettings( authToken, config.userAgent(), config.connectionTimeoutMillis() );
-        ChannelConnector connector = createConnector( settings, securityPlan, config, clock, routingContext );
+        ChannelConnector connector = createConnector( settings, securityPlan, config, clock, routingContext, domainNameResolver,
+                                                     metricsProvider.metricsListener() );
         PoolSettings poolSettings = new PoolSettings( config.maxConnectionPoolSize(),
                 config.connectionAcquisitionTimeoutMillis(), config.maxConnectionLifetimeMillis(),
                 config.idleTimeBeforeConnectionTest()
         );
-        return new ConnectionPoolImpl( connector, bootstrap, poolSettings, metricsProvider.metricsListener(), config.logging(), clock, ownsEventLoopGroup );
+        return new ConnectionPoolImpl( connector, bootstrap, poolSettings, metricsProvider.metricsListener(), SlowQueryLogger.create( config, clock ),
+                                       config.logging(), clock, ownsEventLoopGroup );
+    }
+
+    /**
+     * Starts monitoring the health of the event loops created by the driver when metrics or blocked event loop detection are enabled.
+     * <p>
+     * <b>This method is protected only for testing</b>
+     */
+    protected void startEventLoopMonitor( EventLoopGroup eventLoopGroup, MetricsProvider metricsProvider, Config config )
+    {
+        if ( metricsProvider != DevNullMetricsProvider.INSTANCE || config.eventLoopBlockedThresholdMillis() > 0 )
+        {
+            new EventLoopMonitor( eventLoopGroup, metricsProvider.metricsListener(), config.eventLoopBlockedThresholdMillis(), config.logging() ).start();
+        }
     }
 
     protected static MetricsProvider getOrCreateMetricsProvider( Config config, Clock clock )
@@ -137,14 +168,15 @@ public class DriverFactory
     }
 
     protected ChannelConnector createConnector( ConnectionSettings settings, SecurityPlan securityPlan,
-            Config config, Clock clock, RoutingContext routingContext )
+            Config config, Clock clock, RoutingContext routingContext, DomainNameResolver domainNameResolver, MetricsListener metricsListener )
     {
-        return new ChannelConnectorImpl( settings, securityPlan, config.logging(), clock, routingContext, getDomainNameResolver() );
+        return new ChannelConnectorImpl( settings, securityPlan, new ChannelPipelineBuilderImpl( metricsListener ), config.logging(), clock, routingContext,
+                                         domainNameResolver );
     }
 
     private InternalDriver createDriver( URI uri, SecurityPlan securityPlan, BoltServerAddress address, ConnectionPool connectionPool,
                                          EventExecutorGroup eventExecutorGroup, RoutingSettings routingSettings, RetryLogic retryLogic,
-                                         MetricsProvider metricsProvider, Config config )
+                                         MetricsProvider metricsProvider, DomainNameResolver domainNameResolver, Config config )
     {
         try
         {
@@ -152,7 +184,8 @@ public class DriverFactory
 
             if ( isRoutingScheme( scheme ) )
             {
-                return createRoutingDriver( securityPlan, address, connectionPool, eventExecutorGroup, routingSettings, retryLogic, metricsProvider, config );
+                return createRoutingDriver( securityPlan, address, connectionPool, eventExecutorGroup, routingSettings, retryLogic, metricsProvider,
+                                            domainNameResolver, config );
             }
             else
             {
@@ -190,10 +223,11 @@ public class DriverFactory
      * <b>This method is protected only for testing</b>
      */
     protected InternalDriver createRoutingDriver( SecurityPlan securityPlan, BoltServerAddress address, ConnectionPool connectionPool,
-            EventExecutorGroup eventExecutorGroup, RoutingSettings routingSettings, RetryLogic retryLogic, MetricsProvider metricsProvider, Config config )
+            EventExecutorGroup eventExecutorGroup, RoutingSettings routingSettings, RetryLogic retryLogic, MetricsProvider metricsProvider,
+            DomainNameResolver domainNameResolver, Config config )
     {
         ConnectionProvider connectionProvider = createLoadBalancer( address, connectionPool, eventExecutorGroup,
-                config, routingSettings );
+                config, routingSettings, metricsProvider.metricsListener(), domainNameResolver );
         SessionFactory sessionFactory = createSessionFactory( connectionProvider, retryLogic, config );
         InternalDriver driver = createDriver( securityPlan, sessionFactory, metricsProvider, config );
         Logger log = config.logging().getLog( getClass() );
@@ -217,12 +251,27 @@ public class DriverFactory
      * <b>This method is protected only for testing</b>
      */
     protected LoadBalancer createLoadBalancer( BoltServerAddress address, ConnectionPool connectionPool,
-                                               EventExecutorGroup eventExecutorGroup, Config config, RoutingSettings routingSettings )
+                                               EventExecutorGroup eventExecutorGroup, Config config, RoutingSettings routingSettings,
+                                               MetricsListener metricsListener, DomainNameResolver domainNameResolver )
     {
-        LoadBalancingStrategy loadBalancingStrategy = new LeastConnectedLoadBalancingStrategy( connectionPool, config.logging() );
+        Clock clock = createClock();
+        CircuitBreakerSettings circuitBreakerSettings = config.isCircuitBreakerEnabled()
+                                                        ? new CircuitBreakerSettings( true, config.circuitBreakerWindowSize(),
+                                                                                      config.circuitBreakerMinimumCalls(),
+                                                                                      config.circuitBreakerFailureRateThreshold(),
+                                                                                      config.circuitBreakerOpenDurationMillis() )
+                                                        : CircuitBreakerSettings.DISABLED;
+        CircuitBreakers circuitBreakers = new CircuitBreakers( circuitBreakerSettings, connectionPool, clock, metricsListener, config.logging() );
+        LoadBalancingStrategy loadBalancingStrategy = new LeastConnectedLoadBalancingStrategy( connectionPool, circuitBreakers, config.logging() );
+        if ( config.clientZone() != null )
+        {
+            loadBalancingStrategy = new LocalityAwareLoadBalancingStrategy( loadBalancingStrategy, config.clientZone(), new ServerZones( config.serverZones() ),
+                                                                            connectionPool, config.maxConnectionPoolSize(), circuitBreakers,
+                                                                            config.logging() );
+        }
         ServerAddressResolver resolver = createResolver( config );
-        LoadBalancer loadBalancer = new LoadBalancer( address, routingSettings, connectionPool, eventExecutorGroup, createClock(),
-                                                      config.logging(), loadBalancingStrategy, resolver, getDomainNameResolver() );
+        LoadBalancer loadBalancer = new LoadBalancer( address, routingSettings, connectionPool, eventExecutorGroup, clock,
+                                                      config.logging(), loadBalancingStrategy, resolver, domainNameResolver, circuitBreakers );
         handleNewLoadBalancer( loadBalancer );
         return loadBalancer;
     }
@@ -271,9 +320,9 @@ public class DriverFactory
      * <b>This method is protected only for testing</b>
      */
     protected RetryLogic createRetryLogic( RetrySettings settings, EventExecutorGroup eventExecutorGroup,
-            Logging logging )
+            Logging logging, DriverTracer tracer, MetricsListener metricsListener )
     {
-        return new ExponentialBackoffRetryLogic( settings, eventExecutorGroup, createClock(), logging );
+        return new ExponentialBackoffRetryLogic( settings, eventExecutorGroup, createClock(), logging, tracer, metricsListener );
     }
 
     /**
@@ -308,6 +357,17 @@ public class DriverFactory
         return DefaultDomainNameResolver.getInstance();
     }
 
+    private DomainNameResolver createDomainNameResolver( Config config, MetricsListener metricsListener )
+    {
+        DomainNameResolver resolver = getDomainNameResolver();
+        if ( config.domainNameCachePositiveTtlMillis() == 0 && config.domainNameCacheNegativeTtlMillis() == 0 )
+        {
+            return resolver;
+        }
+        return new CachingDomainNameResolver( resolver, createClock(), config.domainNameCachePositiveTtlMillis(),
+                                              config.domainNameCacheNegativeTtlMillis(), metricsListener );
+    }
+
     private static void assertNoRoutingContext( URI uri, RoutingSettings routingSettings )
     {
         RoutingContext routingContext = routingSettings.routingContext();
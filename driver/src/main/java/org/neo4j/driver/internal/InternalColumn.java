@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.neo4j.driver.Column;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.exceptions.value.Uncoercible;
+import org.neo4j.driver.internal.value.BooleanValue;
+import org.neo4j.driver.internal.value.FloatValue;
+import org.neo4j.driver.internal.value.IntegerValue;
+import org.neo4j.driver.internal.value.StringValue;
+import org.neo4j.driver.types.Type;
+
+import static org.neo4j.driver.internal.types.InternalTypeSystem.TYPE_SYSTEM;
+
+/**
+ * A column that stores integers, floats, booleans and strings in arrays. The storage type is picked from the first non-null value and the column falls
+ * back to storing {@link Value values} once a value of a different type is added.
+ * <p>
+ * Columns are filled by a single thread through {@link #add(Value)} and must not be modified after {@link #trim()}.
+ */
+public class InternalColumn implements Column
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final String key;
+    private final BitSet nulls = new BitSet();
+    private Type type = TYPE_SYSTEM.NULL();
+    private int size;
+
+    private long[] longs;
+    private double[] doubles;
+    private boolean[] booleans;
+    private Object[] objects;
+
+    InternalColumn( String key )
+    {
+        this.key = key;
+    }
+
+    void add( Value value )
+    {
+        if ( value.isNull() )
+        {
+            nulls.set( size );
+            ensureCapacity( size + 1 );
+            size++;
+            return;
+        }
+
+        Type valueType = storageType( value );
+        if ( type == TYPE_SYSTEM.NULL() )
+        {
+            type = valueType;
+            ensureCapacity( Math.max( size + 1, INITIAL_CAPACITY ) );
+        }
+        else if ( type != valueType && type != TYPE_SYSTEM.ANY() )
+        {
+            storeAsValues();
+        }
+        ensureCapacity( size + 1 );
+        store( value );
+        size++;
+    }
+
+    void trim()
+    {
+        if ( longs != null )
+        {
+            longs = Arrays.copyOf( longs, size );
+        }
+        else if ( doubles != null )
+        {
+            doubles = Arrays.copyOf( doubles, size );
+        }
+        else if ( booleans != null )
+        {
+            booleans = Arrays.copyOf( booleans, size );
+        }
+        else if ( objects != null )
+        {
+            objects = Arrays.copyOf( objects, size );
+        }
+    }
+
+    @Override
+    public String key()
+    {
+        return key;
+    }
+
+    @Override
+    public Type type()
+    {
+        return type;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public boolean isNull( int row )
+    {
+        checkRow( row );
+        return nulls.get( row );
+    }
+
+    @Override
+    public Value get( int row )
+    {
+        if ( isNull( row ) )
+        {
+            return Values.NULL;
+        }
+        if ( longs != null )
+        {
+            return Values.value( longs[row] );
+        }
+        if ( doubles != null )
+        {
+            return Values.value( doubles[row] );
+        }
+        if ( booleans != null )
+        {
+            return Values.value( booleans[row] );
+        }
+        return type == TYPE_SYSTEM.STRING() ? Values.value( (String) objects[row] ) : (Value) objects[row];
+    }
+
+    @Override
+    public long[] asLongArray()
+    {
+        if ( type == TYPE_SYSTEM.NULL() )
+        {
+            return new long[size];
+        }
+        assertType( TYPE_SYSTEM.INTEGER(), "long[]" );
+        return longs.clone();
+    }
+
+    @Override
+    public double[] asDoubleArray()
+    {
+        if ( type == TYPE_SYSTEM.NULL() )
+        {
+            return new double[size];
+        }
+        assertType( TYPE_SYSTEM.FLOAT(), "double[]" );
+        return doubles.clone();
+    }
+
+    @Override
+    public boolean[] asBooleanArray()
+    {
+        if ( type == TYPE_SYSTEM.NULL() )
+        {
+            return new boolean[size];
+        }
+        assertType( TYPE_SYSTEM.BOOLEAN(), "boolean[]" );
+        return booleans.clone();
+    }
+
+    @Override
+    public String[] asStringArray()
+    {
+        if ( type == TYPE_SYSTEM.NULL() )
+        {
+            return new String[size];
+        }
+        assertType( TYPE_SYSTEM.STRING(), "String[]" );
+        return (String[]) objects.clone();
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format( "Column<%s, %s, %d rows>", key, type.name(), size );
+    }
+
+    private static Type storageType( Value value )
+    {
+        if ( value instanceof IntegerValue )
+        {
+            return TYPE_SYSTEM.INTEGER();
+        }
+        if ( value instanceof FloatValue )
+        {
+            return TYPE_SYSTEM.FLOAT();
+        }
+        if ( value instanceof BooleanValue )
+        {
+            return TYPE_SYSTEM.BOOLEAN();
+        }
+        if ( value instanceof StringValue )
+        {
+            return TYPE_SYSTEM.STRING();
+        }
+        return TYPE_SYSTEM.ANY();
+    }
+
+    private void store( Value value )
+    {
+        if ( longs != null )
+        {
+            longs[size] = value.asLong();
+        }
+        else if ( doubles != null )
+        {
+            doubles[size] = value.asDouble();
+        }
+        else if ( booleans != null )
+        {
+            booleans[size] = value.asBoolean();
+        }
+        else
+        {
+            objects[size] = type == TYPE_SYSTEM.STRING() ? value.asString() : value;
+        }
+    }
+
+    private void ensureCapacity( int capacity )
+    {
+        if ( type == TYPE_SYSTEM.INTEGER() )
+        {
+            longs = longs == null ? new long[capacity] : longs.length < capacity ? Arrays.copyOf( longs, newLength( longs.length, capacity ) ) : longs;
+        }
+        else if ( type == TYPE_SYSTEM.FLOAT() )
+        {
+            doubles = doubles == null ? new double[capacity]
+                                      : doubles.length < capacity ? Arrays.copyOf( doubles, newLength( doubles.length, capacity ) ) : doubles;
+        }
+        else if ( type == TYPE_SYSTEM.BOOLEAN() )
+        {
+            booleans = booleans == null ? new boolean[capacity]
+                                        : booleans.length < capacity ? Arrays.copyOf( booleans, newLength( booleans.length, capacity ) ) : booleans;
+        }
+        else if ( type == TYPE_SYSTEM.STRING() || type == TYPE_SYSTEM.ANY() )
+        {
+            if ( objects == null )
+            {
+                objects = type == TYPE_SYSTEM.STRING() ? new String[capacity] : new Value[capacity];
+            }
+            else if ( objects.length < capacity )
+            {
+                objects = Arrays.copyOf( objects, newLength( objects.length, capacity ) );
+            }
+        }
+        // nothing is stored for a column of nulls until the first non-null value defines the storage
+    }
+
+    private void storeAsValues()
+    {
+        Value[] values = new Value[Math.max( size + 1, INITIAL_CAPACITY )];
+        for ( int row = 0; row < size; row++ )
+        {
+            values[row] = get( row );
+        }
+        longs = null;
+        doubles = null;
+        booleans = null;
+        objects = values;
+        type = TYPE_SYSTEM.ANY();
+    }
+
+    private void assertType( Type expected, String destinationTypeName )
+    {
+        if ( type != expected )
+        {
+            throw new Uncoercible( type.name(), destinationTypeName );
+        }
+    }
+
+    private void checkRow( int row )
+    {
+        if ( row < 0 || row >= size )
+        {
+            throw new IndexOutOfBoundsException( "Row " + row + " is out of bounds for column '" + key + "' with " + size + " rows" );
+        }
+    }
+
+    private static int newLength( int length, int capacity )
+    {
+        return Math.max( capacity, length + (length >> 1) );
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.neo4j.driver.Column;
+import org.neo4j.driver.Columns;
+import org.neo4j.driver.Record;
+
+public class InternalColumns implements Columns
+{
+    private final List<String> keys;
+    private final InternalColumn[] columns;
+    private final int rowCount;
+
+    private InternalColumns( List<String> keys, InternalColumn[] columns, int rowCount )
+    {
+        this.keys = keys;
+        this.columns = columns;
+        this.rowCount = rowCount;
+    }
+
+    @Override
+    public List<String> keys()
+    {
+        return keys;
+    }
+
+    @Override
+    public int rowCount()
+    {
+        return rowCount;
+    }
+
+    @Override
+    public Column column( int index )
+    {
+        return columns[index];
+    }
+
+    @Override
+    public Column column( String key )
+    {
+        int index = keys.indexOf( key );
+        if ( index < 0 )
+        {
+            throw new NoSuchElementException( "Unknown key: " + key );
+        }
+        return columns[index];
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format( "Columns<%s, %d rows>", keys, rowCount );
+    }
+
+    /**
+     * Collects records into columns. Values are copied out of every added record, so records are not retained.
+     */
+    public static class Builder
+    {
+        private final List<String> keys;
+        private final InternalColumn[] columns;
+        private int rowCount;
+
+        public Builder( List<String> keys )
+        {
+            this.keys = keys;
+            this.columns = new InternalColumn[keys.size()];
+            for ( int i = 0; i < columns.length; i++ )
+            {
+                columns[i] = new InternalColumn( keys.get( i ) );
+            }
+        }
+
+        public void add( Record record )
+        {
+            for ( int i = 0; i < columns.length; i++ )
+            {
+                columns[i].add( record.get( i ) );
+            }
+            rowCount++;
+        }
+
+        public Columns build()
+        {
+            for ( InternalColumn column : columns )
+            {
+                column.trim();
+            }
+            return new InternalColumns( keys, columns, rowCount );
+        }
+    }
+}
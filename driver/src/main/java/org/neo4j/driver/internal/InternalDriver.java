@@ -18,6 +18,9 @@
  */
 package org.neo4j.driver.internal;
 
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -28,14 +31,17 @@ import org.neo4j.driver.Metrics;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.diagnostics.DriverDiagnostics;
 import org.neo4j.driver.internal.async.InternalAsyncSession;
 import org.neo4j.driver.internal.async.NetworkSession;
+import org.neo4j.driver.internal.diagnostics.DiagnosticsCollector;
 import org.neo4j.driver.internal.metrics.DevNullMetricsProvider;
 import org.neo4j.driver.internal.metrics.MetricsProvider;
 import org.neo4j.driver.internal.reactive.InternalReactiveSession;
 import org.neo4j.driver.internal.reactive.InternalRxSession;
 import org.neo4j.driver.internal.security.SecurityPlan;
 import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.internal.util.Clock;
 import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.reactive.ReactiveSession;
 import org.neo4j.driver.reactive.RxSession;
@@ -81,7 +87,8 @@ public class InternalDriver implements Driver
     @Override
     public ReactiveSession reactiveSession( SessionConfig sessionConfig )
     {
-        return new InternalReactiveSession( newSession( sessionConfig ) );
+        Scheduler publishingScheduler = sessionConfig.recordPublishingExecutor().map( Schedulers::fromExecutor ).orElse( null );
+        return new InternalReactiveSession( newSession( sessionConfig ), publishingScheduler );
     }
 
     @Override
@@ -108,6 +115,14 @@ public class InternalDriver implements Driver
         return metricsProvider != DevNullMetricsProvider.INSTANCE;
     }
 
+    @Override
+    public DriverDiagnostics diagnostics()
+    {
+        DiagnosticsCollector collector = new DiagnosticsCollector( Clock.SYSTEM );
+        sessionFactory.collectDiagnostics( collector );
+        return collector.snapshot();
+    }
+
     @Override
     public boolean isEncrypted()
     {
@@ -18,32 +18,44 @@
  */
 package org.neo4j.driver.internal;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.neo4j.driver.Columns;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
+import org.neo4j.driver.internal.cursor.AsyncResultCursor;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.summary.ResultSummary;
 
 public class InternalResult implements Result
 {
+    static final int RECORD_BATCH_SIZE = 1000;
+
     private final Connection connection;
     private final ResultCursor cursor;
+    // records handed off by the cursor in batches, only used when the cursor supports it
+    private final AsyncResultCursor batchingCursor;
+    private final Queue<Record> records = new ArrayDeque<>();
 
     public InternalResult(Connection connection, ResultCursor cursor )
     {
         this.connection = connection;
         this.cursor = cursor;
+        this.batchingCursor = cursor instanceof AsyncResultCursor ? (AsyncResultCursor) cursor : null;
     }
 
     @Override
@@ -55,13 +67,13 @@ public class InternalResult implements Result
     @Override
     public boolean hasNext()
     {
-        return blockingGet( cursor.peekAsync() ) != null;
+        return peekRecord() != null;
     }
 
     @Override
     public Record next()
     {
-        Record record = blockingGet( cursor.nextAsync() );
+        Record record = batchingCursor != null ? nextRecord() : blockingGet( cursor.nextAsync() );
         if ( record == null )
         {
             throw new NoSuchRecordException( "No more records" );
@@ -72,13 +84,26 @@ public class InternalResult implements Result
     @Override
     public Record single()
     {
-        return blockingGet( cursor.singleAsync() );
+        if ( records.isEmpty() )
+        {
+            return blockingGet( cursor.singleAsync() );
+        }
+
+        Record record = records.poll();
+        if ( hasNext() )
+        {
+            throw new NoSuchRecordException(
+                    "Expected a result with a single record, but this result " +
+                    "contains at least one more. Ensure your query returns only " +
+                    "one record." );
+        }
+        return record;
     }
 
     @Override
     public Record peek()
     {
-        Record record = blockingGet( cursor.peekAsync() );
+        Record record = peekRecord();
         if ( record == null )
         {
             throw new NoSuchRecordException( "Cannot peek past the last record" );
@@ -89,25 +114,70 @@ public class InternalResult implements Result
     @Override
     public Stream<Record> stream()
     {
-        Spliterator<Record> spliterator = Spliterators.spliteratorUnknownSize( this, Spliterator.IMMUTABLE | Spliterator.ORDERED );
-        return StreamSupport.stream( spliterator, false );
+        return StreamSupport.stream( new RecordSpliterator( this ), false );
     }
 
     @Override
     public List<Record> list()
     {
-        return blockingGet( cursor.listAsync() );
+        return list( Function.identity() );
     }
 
     @Override
     public <T> List<T> list( Function<Record,T> mapFunction )
     {
-        return blockingGet( cursor.listAsync( mapFunction ) );
+        if ( records.isEmpty() )
+        {
+            return blockingGet( cursor.listAsync( mapFunction ) );
+        }
+
+        List<T> result = new ArrayList<>( records.size() );
+        while ( !records.isEmpty() )
+        {
+            result.add( mapFunction.apply( records.poll() ) );
+        }
+        result.addAll( blockingGet( cursor.listAsync( mapFunction ) ) );
+        return result;
+    }
+
+    @Override
+    public Columns collectColumns()
+    {
+        if ( batchingCursor == null )
+        {
+            return blockingGet( cursor.collectColumnsAsync() );
+        }
+
+        InternalColumns.Builder columns = new InternalColumns.Builder( keys() );
+        for ( Record record = nextRecord(); record != null; record = nextRecord() )
+        {
+            columns.add( record );
+        }
+        return columns.build();
+    }
+
+    @Override
+    public List<Record> take( int limit )
+    {
+        if ( limit < 0 )
+        {
+            throw new IllegalArgumentException( "Limit must not be negative: " + limit );
+        }
+
+        List<Record> result = new ArrayList<>( Math.min( limit, records.size() ) );
+        while ( result.size() < limit && !records.isEmpty() )
+        {
+            result.add( records.poll() );
+        }
+        records.clear();
+        result.addAll( blockingGet( cursor.takeAsync( limit - result.size() ) ) );
+        return result;
     }
 
     @Override
     public ResultSummary consume()
     {
+        records.clear();
         return blockingGet( cursor.consumeAsync() );
     }
 
@@ -123,6 +193,61 @@ public class InternalResult implements Result
         throw new ClientException( "Removing records from a result is not supported." );
     }
 
+    /**
+     * Takes the records that have already been received without waiting for more.
+     *
+     * @param maxRecords the maximum number of records to take.
+     * @return the records, empty when no records have been received or the cursor does not hand off records in batches.
+     */
+    Record[] receivedRecords( int maxRecords )
+    {
+        if ( batchingCursor != null && records.size() < maxRecords )
+        {
+            batchingCursor.drainBufferedRecords( records, maxRecords - records.size() );
+        }
+        Record[] batch = new Record[Math.min( records.size(), maxRecords )];
+        for ( int i = 0; i < batch.length; i++ )
+        {
+            batch[i] = records.poll();
+        }
+        return batch;
+    }
+
+    private Record peekRecord()
+    {
+        if ( batchingCursor == null )
+        {
+            return blockingGet( cursor.peekAsync() );
+        }
+
+        if ( records.isEmpty() )
+        {
+            fetchRecords();
+        }
+        return records.peek();
+    }
+
+    private Record nextRecord()
+    {
+        if ( records.isEmpty() )
+        {
+            fetchRecords();
+        }
+        return records.poll();
+    }
+
+    private void fetchRecords()
+    {
+        // take what is already buffered and only wait when nothing has arrived yet, the cursor hands out no more than its low watermark at once
+        while ( batchingCursor.drainBufferedRecords( records, RECORD_BATCH_SIZE ) == 0 )
+        {
+            if ( blockingGet( cursor.peekAsync() ) == null )
+            {
+                return;
+            }
+        }
+    }
+
     private <T> T blockingGet( CompletionStage<T> stage )
     {
         return Futures.blockingGet( stage, this::terminateConnectionOnThreadInterrupt );
@@ -132,4 +257,67 @@ public class InternalResult implements Result
     {
         connection.terminateAndRelease( "Thread interrupted while waiting for result to arrive" );
     }
+
+    /**
+     * Splits off the records that have been received so far, so that parallel streams process them while the following records are still being
+     * fetched.
+     * <p>
+     * The number of records is not known until the result is fully received, so the size is reported as unknown. Splitting never waits for records,
+     * it stops as soon as no more records have been received and the remaining records are then processed as they arrive. This keeps parallel streams
+     * from buffering the whole result. Each split takes at most the records already received, starting with small batches that grow up to a fixed cap.
+     */
+    static class RecordSpliterator implements Spliterator<Record>
+    {
+        private static final int CHARACTERISTICS = Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.NONNULL;
+        static final int SPLIT_BATCH_UNIT = 128;
+
+        private final InternalResult result;
+        private int splitBatchSize;
+
+        RecordSpliterator( InternalResult result )
+        {
+            this.result = result;
+        }
+
+        @Override
+        public boolean tryAdvance( Consumer<? super Record> action )
+        {
+            if ( !result.hasNext() )
+            {
+                return false;
+            }
+            action.accept( result.next() );
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining( Consumer<? super Record> action )
+        {
+            while ( result.hasNext() )
+            {
+                action.accept( result.next() );
+            }
+        }
+
+        @Override
+        public Spliterator<Record> trySplit()
+        {
+            splitBatchSize = Math.min( splitBatchSize + SPLIT_BATCH_UNIT, RECORD_BATCH_SIZE );
+            Record[] batch = result.receivedRecords( splitBatchSize );
+            return batch.length == 0 ? null : Spliterators.spliterator( batch, CHARACTERISTICS );
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            // unknown size, as required by the spliterator contract
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return CHARACTERISTICS;
+        }
+    }
 }
@@ -170,7 +170,7 @@ public class InternalSession extends AbstractQueryRunner implements Session
                         }
                         return result;
                     }
-                } );
+                }, session.span() );
     }
 
     private Transaction beginTransaction( AccessMode mode, TransactionConfig config )
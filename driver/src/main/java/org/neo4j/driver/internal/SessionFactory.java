@@ -22,6 +22,7 @@ import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.internal.async.NetworkSession;
+import org.neo4j.driver.internal.diagnostics.DiagnosticsCollector;
 
 public interface SessionFactory
 {
@@ -32,4 +33,6 @@ public interface SessionFactory
     CompletionStage<Void> close();
 
     CompletionStage<Boolean> supportsMultiDb();
+
+    void collectDiagnostics( DiagnosticsCollector collector );
 }
@@ -31,8 +31,11 @@ import org.neo4j.driver.Logging;
 import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.internal.async.LeakLoggingNetworkSession;
 import org.neo4j.driver.internal.async.NetworkSession;
+import org.neo4j.driver.internal.diagnostics.DiagnosticsCollector;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizePolicy;
 import org.neo4j.driver.internal.retry.RetryLogic;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
+import org.neo4j.driver.tracing.DriverTracer;
 
 public class SessionFactoryImpl implements SessionFactory
 {
@@ -40,7 +43,9 @@ public class SessionFactoryImpl implements SessionFactory
     private final RetryLogic retryLogic;
     private final Logging logging;
     private final boolean leakedSessionsLoggingEnabled;
-    private final long defaultFetchSize;
+    private final FetchSizePolicy defaultFetchSizePolicy;
+    private final long reactiveMinimumPullSize;
+    private final DriverTracer tracer;
 
     SessionFactoryImpl( ConnectionProvider connectionProvider, RetryLogic retryLogic, Config config )
     {
@@ -48,7 +53,11 @@ public class SessionFactoryImpl implements SessionFactory
         this.leakedSessionsLoggingEnabled = config.logLeakedSessions();
         this.retryLogic = retryLogic;
         this.logging = config.logging();
-        this.defaultFetchSize = config.fetchSize();
+        this.defaultFetchSizePolicy = config.adaptiveFetchSizeMemoryBudget() > 0
+                                      ? FetchSizePolicy.adaptive( config.adaptiveFetchSizeMemoryBudget() )
+                                      : FetchSizePolicy.fixed( config.fetchSize() );
+        this.reactiveMinimumPullSize = config.reactiveMinimumPullSize();
+        this.tracer = config.tracer();
     }
 
     @Override
@@ -88,9 +97,9 @@ public class SessionFactoryImpl implements SessionFactory
         return Collections.unmodifiableSet( set );
     }
 
-    private long parseFetchSize( SessionConfig sessionConfig )
+    private FetchSizePolicy parseFetchSize( SessionConfig sessionConfig )
     {
-        return sessionConfig.fetchSize().orElse( defaultFetchSize );
+        return sessionConfig.fetchSize().map( FetchSizePolicy::fixed ).orElse( defaultFetchSizePolicy );
     }
 
     private DatabaseName parseDatabaseName( SessionConfig sessionConfig )
@@ -118,6 +127,13 @@ public class SessionFactoryImpl implements SessionFactory
         return connectionProvider.supportsMultiDb();
     }
 
+    @Override
+    public void collectDiagnostics( DiagnosticsCollector collector )
+    {
+        connectionProvider.collectDiagnostics( collector );
+        retryLogic.collectDiagnostics( collector );
+    }
+
     /**
      * Get the underlying connection provider.
      * <p>
@@ -131,10 +147,12 @@ public class SessionFactoryImpl implements SessionFactory
     }
 
     private NetworkSession createSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, DatabaseName databaseName, AccessMode mode,
-                                          BookmarksHolder bookmarksHolder, long fetchSize, String impersonatedUser, Logging logging )
+                                          BookmarksHolder bookmarksHolder, FetchSizePolicy fetchSizePolicy, String impersonatedUser, Logging logging )
     {
         return leakedSessionsLoggingEnabled
-               ? new LeakLoggingNetworkSession( connectionProvider, retryLogic, databaseName, mode, bookmarksHolder, impersonatedUser, fetchSize, logging )
-               : new NetworkSession( connectionProvider, retryLogic, databaseName, mode, bookmarksHolder, impersonatedUser, fetchSize, logging );
+               ? new LeakLoggingNetworkSession( connectionProvider, retryLogic, databaseName, mode, bookmarksHolder, impersonatedUser, fetchSizePolicy,
+                                                reactiveMinimumPullSize, logging, tracer )
+               : new NetworkSession( connectionProvider, retryLogic, databaseName, mode, bookmarksHolder, impersonatedUser, fetchSizePolicy,
+                                     reactiveMinimumPullSize, logging, tracer );
     }
 }
@@ -161,7 +161,7 @@ public class InternalAsyncSession extends AsyncAbstractQueryRunner implements As
                                                             } );
 
                                                     return resultFuture;
-                                                } );
+                                                }, session.span() );
     }
 
     private <T> void executeWork(CompletableFuture<T> resultFuture, UnmanagedTransaction tx, AsyncTransactionWork<CompletionStage<T>> work )
@@ -22,9 +22,11 @@ import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.BookmarksHolder;
 import org.neo4j.driver.internal.DatabaseName;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizePolicy;
 import org.neo4j.driver.internal.retry.RetryLogic;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 import org.neo4j.driver.internal.util.Futures;
+import org.neo4j.driver.tracing.DriverTracer;
 
 import static java.lang.System.lineSeparator;
 
@@ -33,9 +35,11 @@ public class LeakLoggingNetworkSession extends NetworkSession
     private final String stackTrace;
 
     public LeakLoggingNetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, DatabaseName databaseName, AccessMode mode,
-                                      BookmarksHolder bookmarksHolder, String impersonatedUser, long fetchSize, Logging logging )
+                                      BookmarksHolder bookmarksHolder, String impersonatedUser, FetchSizePolicy fetchSizePolicy, long reactiveMinimumPullSize,
+                                      Logging logging, DriverTracer tracer )
     {
-        super( connectionProvider, retryLogic, databaseName, mode, bookmarksHolder, impersonatedUser, fetchSize, logging );
+        super( connectionProvider, retryLogic, databaseName, mode, bookmarksHolder, impersonatedUser, fetchSizePolicy, reactiveMinimumPullSize, logging,
+               tracer );
         this.stackTrace = captureStackTrace();
     }
 
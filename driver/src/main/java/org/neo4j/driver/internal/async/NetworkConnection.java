@@ -21,6 +21,7 @@ package org.neo4j.driver.internal.async;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
@@ -28,18 +29,27 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
+import org.neo4j.driver.Value;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.connection.ChannelAttributes;
 import org.neo4j.driver.internal.async.inbound.ConnectionReadTimeoutHandler;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.async.pool.ExtendedChannelPool;
+import org.neo4j.driver.internal.diagnostics.InFlightQuery;
 import org.neo4j.driver.internal.handlers.ChannelReleasingResetResponseHandler;
 import org.neo4j.driver.internal.handlers.ResetResponseHandler;
+import org.neo4j.driver.internal.logging.SlowQueryLogger;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.messaging.request.BeginMessage;
+import org.neo4j.driver.internal.messaging.request.CommitMessage;
 import org.neo4j.driver.internal.messaging.request.ResetMessage;
+import org.neo4j.driver.internal.messaging.request.RollbackMessage;
+import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
 import org.neo4j.driver.internal.metrics.ListenerEvent;
 import org.neo4j.driver.internal.metrics.MetricsListener;
+import org.neo4j.driver.internal.metrics.QueryExecution;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ResponseHandler;
 import org.neo4j.driver.internal.util.Clock;
@@ -47,6 +57,7 @@ import org.neo4j.driver.internal.util.Clock;
 import static java.util.Collections.emptyMap;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.poolId;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setTerminationReason;
+import static org.neo4j.driver.internal.messaging.request.TransactionMetadataBuilder.DATABASE_NAME_KEY;
 import static org.neo4j.driver.internal.util.Futures.asCompletionStage;
 
 /**
@@ -68,11 +79,15 @@ public class NetworkConnection implements Connection
     private final AtomicReference<Status> status = new AtomicReference<>( Status.OPEN );
     private final MetricsListener metricsListener;
     private final ListenerEvent inUseEvent;
+    private final SlowQueryLogger slowQueryLogger;
+    private long acquisitionNanos;
+    private volatile String transactionDatabase;
 
     private final Long connectionReadTimeout;
     private ChannelHandler connectionReadTimeoutHandler;
 
-    public NetworkConnection( Channel channel, ExtendedChannelPool channelPool, Clock clock, MetricsListener metricsListener, Logging logging )
+    public NetworkConnection( Channel channel, ExtendedChannelPool channelPool, Clock clock, MetricsListener metricsListener,
+                              SlowQueryLogger slowQueryLogger, Logging logging )
     {
         this.log = logging.getLog( getClass() );
         this.channel = channel;
@@ -85,6 +100,9 @@ public class NetworkConnection implements Connection
         this.clock = clock;
         this.metricsListener = metricsListener;
         this.inUseEvent = metricsListener.createListenerEvent();
+        this.slowQueryLogger = slowQueryLogger;
+        Long acquisitionNanos = ChannelAttributes.acquisitionNanos( channel );
+        this.acquisitionNanos = acquisitionNanos == null ? -1 : acquisitionNanos;
         this.connectionReadTimeout = ChannelAttributes.connectionReadTimeout( channel ).orElse( null );
         metricsListener.afterConnectionCreated( poolId( this.channel ), this.inUseEvent );
     }
@@ -172,6 +190,7 @@ public class NetworkConnection implements Connection
     {
         if ( status.compareAndSet( Status.OPEN, Status.RELEASED ) )
         {
+            ChannelAttributes.setInFlightQuery( channel, null );
             ChannelReleasingResetResponseHandler handler = new ChannelReleasingResetResponseHandler( channel,
                     channelPool, messageDispatcher, clock, releaseFuture );
 
@@ -216,6 +235,57 @@ public class NetworkConnection implements Connection
         return protocol;
     }
 
+    @Override
+    public boolean isQueryExecutionObserved()
+    {
+        return metricsListener != DevNullMetricsListener.INSTANCE || slowQueryLogger != SlowQueryLogger.DISABLED;
+    }
+
+    @Override
+    public void afterResultCompleted()
+    {
+        ChannelAttributes.setInFlightQuery( channel, null );
+    }
+
+    @Override
+    public void afterQueryCompleted( QueryExecution execution )
+    {
+        metricsListener.afterQueryCompleted( execution );
+        // only the first query of a lease waited for the connection to be acquired
+        long acquireNanos = acquisitionNanos;
+        acquisitionNanos = -1;
+        slowQueryLogger.afterQueryCompleted( execution, serverAddress, acquireNanos );
+    }
+
+    /**
+     * Remembers the query of a RUN message on the channel, so that it shows up in the diagnostics of the driver until its result is received.
+     * The database of queries in explicit transactions is taken from the preceding BEGIN message until the transaction is committed or rolled back.
+     */
+    private void trackInFlightQuery( Message message )
+    {
+        if ( message instanceof RunWithMetadataMessage )
+        {
+            RunWithMetadataMessage runMessage = (RunWithMetadataMessage) message;
+            String database = databaseOf( runMessage.metadata() );
+            ChannelAttributes.setInFlightQuery( channel, new InFlightQuery( runMessage.query(), database != null ? database : transactionDatabase,
+                                                                             System.nanoTime() ) );
+        }
+        else if ( message instanceof BeginMessage )
+        {
+            transactionDatabase = databaseOf( ((BeginMessage) message).metadata() );
+        }
+        else if ( message instanceof CommitMessage || message instanceof RollbackMessage )
+        {
+            transactionDatabase = null;
+        }
+    }
+
+    private static String databaseOf( Map<String,Value> metadata )
+    {
+        Value database = metadata.get( DATABASE_NAME_KEY );
+        return database == null ? null : database.asString();
+    }
+
     private void writeResetMessageIfNeeded( ResponseHandler resetHandler, boolean isSessionReset )
     {
         channel.eventLoop().execute( () ->
@@ -247,6 +317,7 @@ public class NetworkConnection implements Connection
 
     private void writeMessageInEventLoop( Message message, ResponseHandler handler, boolean flush )
     {
+        trackInFlightQuery( message );
         channel.eventLoop().execute( () ->
         {
             messageDispatcher.enqueue( handler );
@@ -264,6 +335,8 @@ public class NetworkConnection implements Connection
 
     private void writeMessagesInEventLoop( Message message1, ResponseHandler handler1, Message message2, ResponseHandler handler2, boolean flush )
     {
+        trackInFlightQuery( message1 );
+        trackInFlightQuery( message2 );
         channel.eventLoop().execute( () ->
         {
             messageDispatcher.enqueue( handler1 );
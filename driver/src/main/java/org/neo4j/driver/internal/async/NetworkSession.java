@@ -38,13 +38,19 @@ import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.FailableCursor;
 import org.neo4j.driver.internal.ImpersonationUtil;
 import org.neo4j.driver.internal.cursor.AsyncResultCursor;
+import org.neo4j.driver.internal.cursor.DemandShapingRxResultCursor;
 import org.neo4j.driver.internal.cursor.ResultCursorFactory;
 import org.neo4j.driver.internal.cursor.RxResultCursor;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizePolicy;
 import org.neo4j.driver.internal.logging.PrefixedLogger;
 import org.neo4j.driver.internal.retry.RetryLogic;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
+import org.neo4j.driver.internal.tracing.DevNullTracer;
+import org.neo4j.driver.internal.tracing.TracingConnection;
 import org.neo4j.driver.internal.util.Futures;
+import org.neo4j.driver.tracing.DriverTracer;
+import org.neo4j.driver.tracing.TraceSpan;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
@@ -58,7 +64,10 @@ public class NetworkSession
     protected final Logger log;
 
     private final BookmarksHolder bookmarksHolder;
-    private final long fetchSize;
+    private final FetchSizePolicy fetchSizePolicy;
+    private final long reactiveMinimumPullSize;
+    private final DriverTracer tracer;
+    private final TraceSpan span;
     private volatile CompletionStage<UnmanagedTransaction> transactionStage = completedWithNull();
     private volatile CompletionStage<Connection> connectionStage = completedWithNull();
     private volatile CompletionStage<? extends FailableCursor> resultCursorStage = completedWithNull();
@@ -66,7 +75,8 @@ public class NetworkSession
     private final AtomicBoolean open = new AtomicBoolean( true );
 
     public NetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, DatabaseName databaseName, AccessMode mode,
-                           BookmarksHolder bookmarksHolder, String impersonatedUser, long fetchSize, Logging logging )
+                           BookmarksHolder bookmarksHolder, String impersonatedUser, FetchSizePolicy fetchSizePolicy, long reactiveMinimumPullSize, Logging logging,
+                           DriverTracer tracer )
     {
         this.connectionProvider = connectionProvider;
         this.mode = mode;
@@ -77,7 +87,11 @@ public class NetworkSession
                                                                          .map( ignored -> CompletableFuture.completedFuture( databaseName ) )
                                                                          .orElse( new CompletableFuture<>() );
         this.connectionContext = new NetworkSessionConnectionContext( databaseNameFuture, bookmarksHolder.getBookmarks(), impersonatedUser );
-        this.fetchSize = fetchSize;
+        this.fetchSizePolicy = fetchSizePolicy;
+        this.reactiveMinimumPullSize = reactiveMinimumPullSize;
+        this.tracer = tracer;
+        this.span = tracer.startSpan( DriverTracer.SESSION, null ).setAttribute( "db.name", databaseName.description() )
+                          .setAttribute( "access.mode", String.valueOf( mode ) );
     }
 
     public CompletionStage<ResultCursor> runAsync( Query query, TransactionConfig config )
@@ -95,7 +109,7 @@ public class NetworkSession
                 buildResultCursorFactory( query, config ).thenCompose( ResultCursorFactory::rxResult );
 
         resultCursorStage = newResultCursorStage.exceptionally( error -> null );
-        return newResultCursorStage;
+        return newResultCursorStage.thenApply( cursor -> DemandShapingRxResultCursor.withMinimumPullSize( cursor, reactiveMinimumPullSize ) );
     }
 
     public CompletionStage<UnmanagedTransaction> beginTransactionAsync( TransactionConfig config )
@@ -113,7 +127,7 @@ public class NetworkSession
                 .thenApply( connection -> ImpersonationUtil.ensureImpersonationSupport( connection, connection.impersonatedUser() ) )
                 .thenCompose( connection ->
                               {
-                                  UnmanagedTransaction tx = new UnmanagedTransaction( connection, bookmarksHolder, fetchSize );
+                                  UnmanagedTransaction tx = new UnmanagedTransaction( connection, bookmarksHolder, fetchSizePolicy, reactiveMinimumPullSize );
                                   return tx.beginAsync( bookmarksHolder.getBookmarks(), config );
                               } );
 
@@ -141,6 +155,11 @@ public class NetworkSession
         return retryLogic;
     }
 
+    public TraceSpan span()
+    {
+        return span;
+    }
+
     public Set<Bookmark> lastBookmarks()
     {
         return bookmarksHolder.getBookmarks();
@@ -192,8 +211,8 @@ public class NetworkSession
                 {
                     throw combinedError;
                 }
-                return null;
-            } ) );
+                return (Void) null;
+            } ) ).whenComplete( ( ignore, error ) -> span.end() );
         }
         return completedWithNull();
     }
@@ -220,7 +239,7 @@ public class NetworkSession
                             {
                                 ResultCursorFactory factory = connection
                                         .protocol()
-                                        .runInAutoCommitTransaction( connection, query, bookmarksHolder, config, fetchSize );
+                                        .runInAutoCommitTransaction( connection, query, bookmarksHolder, config, fetchSizePolicy );
                                 return completedFuture( factory );
                             }
                             catch ( Throwable e )
@@ -266,7 +285,7 @@ public class NetworkSession
                 // there somehow is an existing open connection, this should not happen, just a precondition
                 throw new IllegalStateException( "Existing open connection detected" );
             }
-            return connectionProvider.acquireConnection( connectionContext.contextWithMode( mode ) );
+            return acquireTracedConnection( mode );
         } );
 
         connectionStage = newConnectionStage.exceptionally( error -> null );
@@ -274,6 +293,27 @@ public class NetworkSession
         return newConnectionStage;
     }
 
+    private CompletionStage<Connection> acquireTracedConnection( AccessMode mode )
+    {
+        if ( tracer == DevNullTracer.INSTANCE )
+        {
+            return connectionProvider.acquireConnection( connectionContext.contextWithMode( mode ) );
+        }
+        TraceSpan acquisitionSpan = tracer.startSpan( DriverTracer.CONNECTION_ACQUISITION, span ).setAttribute( "access.mode", mode.name() );
+        return connectionProvider.acquireConnection( connectionContext.contextWithMode( mode ) ).handle( ( connection, error ) ->
+        {
+            if ( error != null )
+            {
+                acquisitionSpan.recordError( Futures.completionExceptionCause( error ) );
+                acquisitionSpan.end();
+                throw Futures.asCompletionException( error );
+            }
+            acquisitionSpan.setAttribute( "server.address", connection.serverAddress().toString() );
+            acquisitionSpan.end();
+            return new TracingConnection( connection, tracer, span );
+        } );
+    }
+
     private CompletionStage<Throwable> closeTransactionAndReleaseConnection()
     {
         return existingTransactionOrNull().thenCompose( tx ->
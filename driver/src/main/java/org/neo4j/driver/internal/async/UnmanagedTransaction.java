@@ -38,7 +38,9 @@ import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.ConnectionReadTimeoutException;
 import org.neo4j.driver.internal.BookmarksHolder;
 import org.neo4j.driver.internal.cursor.AsyncResultCursor;
+import org.neo4j.driver.internal.cursor.DemandShapingRxResultCursor;
 import org.neo4j.driver.internal.cursor.RxResultCursor;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizePolicy;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.spi.Connection;
 
@@ -86,25 +88,39 @@ public class UnmanagedTransaction
     private final BoltProtocol protocol;
     private final BookmarksHolder bookmarksHolder;
     private final ResultCursorsHolder resultCursors;
-    private final long fetchSize;
+    private final FetchSizePolicy fetchSizePolicy;
+    private final long reactiveMinimumPullSize;
     private final Lock lock = new ReentrantLock();
     private State state = State.ACTIVE;
     private CompletableFuture<Void> commitFuture;
     private CompletableFuture<Void> rollbackFuture;
     private Throwable causeOfTermination;
 
-    public UnmanagedTransaction( Connection connection, BookmarksHolder bookmarksHolder, long fetchSize )
+    public UnmanagedTransaction( Connection connection, BookmarksHolder bookmarksHolder, FetchSizePolicy fetchSizePolicy )
     {
-        this( connection, bookmarksHolder, fetchSize, new ResultCursorsHolder() );
+        this( connection, bookmarksHolder, fetchSizePolicy, 0, new ResultCursorsHolder() );
     }
 
-    protected UnmanagedTransaction( Connection connection, BookmarksHolder bookmarksHolder, long fetchSize, ResultCursorsHolder resultCursors )
+    public UnmanagedTransaction( Connection connection, BookmarksHolder bookmarksHolder, FetchSizePolicy fetchSizePolicy, long reactiveMinimumPullSize )
+    {
+        this( connection, bookmarksHolder, fetchSizePolicy, reactiveMinimumPullSize, new ResultCursorsHolder() );
+    }
+
+    protected UnmanagedTransaction( Connection connection, BookmarksHolder bookmarksHolder, FetchSizePolicy fetchSizePolicy,
+                                    ResultCursorsHolder resultCursors )
+    {
+        this( connection, bookmarksHolder, fetchSizePolicy, 0, resultCursors );
+    }
+
+    private UnmanagedTransaction( Connection connection, BookmarksHolder bookmarksHolder, FetchSizePolicy fetchSizePolicy, long reactiveMinimumPullSize,
+                                  ResultCursorsHolder resultCursors )
     {
         this.connection = connection;
         this.protocol = connection.protocol();
         this.bookmarksHolder = bookmarksHolder;
         this.resultCursors = resultCursors;
-        this.fetchSize = fetchSize;
+        this.fetchSizePolicy = fetchSizePolicy;
+        this.reactiveMinimumPullSize = reactiveMinimumPullSize;
     }
 
     public CompletionStage<UnmanagedTransaction> beginAsync( Set<Bookmark> initialBookmarks, TransactionConfig config )
@@ -156,7 +172,7 @@ public class UnmanagedTransaction
     {
         ensureCanRunQueries();
         CompletionStage<AsyncResultCursor> cursorStage =
-                protocol.runInUnmanagedTransaction( connection, query, this, fetchSize ).asyncResult();
+                protocol.runInUnmanagedTransaction( connection, query, this, fetchSizePolicy ).asyncResult();
         resultCursors.add( cursorStage );
         return cursorStage.thenCompose( AsyncResultCursor::mapSuccessfulRunCompletionAsync ).thenApply( cursor -> cursor );
     }
@@ -165,9 +181,9 @@ public class UnmanagedTransaction
     {
         ensureCanRunQueries();
         CompletionStage<RxResultCursor> cursorStage =
-                protocol.runInUnmanagedTransaction( connection, query, this, fetchSize ).rxResult();
+                protocol.runInUnmanagedTransaction( connection, query, this, fetchSizePolicy ).rxResult();
         resultCursors.add( cursorStage );
-        return cursorStage;
+        return cursorStage.thenApply( cursor -> DemandShapingRxResultCursor.withMinimumPullSize( cursor, reactiveMinimumPullSize ) );
     }
 
     public boolean isOpen()
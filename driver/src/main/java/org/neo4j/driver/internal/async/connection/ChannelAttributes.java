@@ -25,6 +25,7 @@ import java.util.Optional;
 
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
+import org.neo4j.driver.internal.diagnostics.InFlightQuery;
 import org.neo4j.driver.internal.messaging.BoltProtocolVersion;
 
 import static io.netty.util.AttributeKey.newInstance;
@@ -38,6 +39,8 @@ public final class ChannelAttributes
     private static final AttributeKey<BoltServerAddress> ADDRESS = newInstance( "serverAddress" );
     private static final AttributeKey<Long> CREATION_TIMESTAMP = newInstance( "creationTimestamp" );
     private static final AttributeKey<Long> LAST_USED_TIMESTAMP = newInstance( "lastUsedTimestamp" );
+    private static final AttributeKey<Long> ACQUISITION_NANOS = newInstance( "acquisitionNanos" );
+    private static final AttributeKey<InFlightQuery> IN_FLIGHT_QUERY = newInstance( "inFlightQuery" );
     private static final AttributeKey<InboundMessageDispatcher> MESSAGE_DISPATCHER = newInstance( "messageDispatcher" );
     private static final AttributeKey<String> TERMINATION_REASON = newInstance( "terminationReason" );
     private static final AttributeKey<AuthorizationStateListener> AUTHORIZATION_STATE_LISTENER = newInstance( "authorizationStateListener" );
@@ -119,6 +122,26 @@ public final class ChannelAttributes
         set( channel, LAST_USED_TIMESTAMP, lastUsedTimestamp );
     }
 
+    public static Long acquisitionNanos( Channel channel )
+    {
+        return get( channel, ACQUISITION_NANOS );
+    }
+
+    public static void setAcquisitionNanos( Channel channel, long acquisitionNanos )
+    {
+        set( channel, ACQUISITION_NANOS, acquisitionNanos );
+    }
+
+    public static InFlightQuery inFlightQuery( Channel channel )
+    {
+        return get( channel, IN_FLIGHT_QUERY );
+    }
+
+    public static void setInFlightQuery( Channel channel, InFlightQuery inFlightQuery )
+    {
+        set( channel, IN_FLIGHT_QUERY, inFlightQuery );
+    }
+
     public static InboundMessageDispatcher messageDispatcher( Channel channel )
     {
         return get( channel, MESSAGE_DISPATCHER );
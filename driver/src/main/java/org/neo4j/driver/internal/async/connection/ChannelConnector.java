@@ -26,4 +26,11 @@ import org.neo4j.driver.internal.BoltServerAddress;
 public interface ChannelConnector
 {
     ChannelFuture connect( BoltServerAddress address, Bootstrap bootstrap );
+
+    /**
+     * Releases the resources owned by this connector, called when the connection pool is closed.
+     */
+    default void close()
+    {
+    }
 }
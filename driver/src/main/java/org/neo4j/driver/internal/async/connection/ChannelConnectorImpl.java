@@ -26,8 +26,10 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.ChannelPromise;
 import io.netty.resolver.AddressResolverGroup;
 
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.concurrent.CompletableFuture;
 
 import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.AuthTokens;
@@ -38,6 +40,7 @@ import org.neo4j.driver.internal.ConnectionSettings;
 import org.neo4j.driver.internal.DomainNameResolver;
 import org.neo4j.driver.internal.async.inbound.ConnectTimeoutHandler;
 import org.neo4j.driver.internal.cluster.RoutingContext;
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
 import org.neo4j.driver.internal.security.InternalAuthToken;
 import org.neo4j.driver.internal.security.SecurityPlan;
 import org.neo4j.driver.internal.util.Clock;
@@ -60,7 +63,8 @@ public class ChannelConnectorImpl implements ChannelConnector
     public ChannelConnectorImpl( ConnectionSettings connectionSettings, SecurityPlan securityPlan, Logging logging,
                                  Clock clock, RoutingContext routingContext, DomainNameResolver domainNameResolver )
     {
-        this( connectionSettings, securityPlan, new ChannelPipelineBuilderImpl(), logging, clock, routingContext, domainNameResolver );
+        this( connectionSettings, securityPlan, new ChannelPipelineBuilderImpl( DevNullMetricsListener.INSTANCE ), logging, clock, routingContext,
+              domainNameResolver );
     }
 
     public ChannelConnectorImpl( ConnectionSettings connectionSettings, SecurityPlan securityPlan,
@@ -87,12 +91,14 @@ public class ChannelConnectorImpl implements ChannelConnector
         bootstrap.resolver( addressResolverGroup );
 
         SocketAddress socketAddress;
-        try
+        CompletableFuture<InetAddress[]> resolution = domainNameResolver.resolveAsync( address.connectionHost() ).toCompletableFuture();
+        if ( resolution.isDone() && !resolution.isCompletedExceptionally() )
         {
-            socketAddress = new InetSocketAddress( domainNameResolver.resolve( address.connectionHost() )[0], address.port() );
+            socketAddress = new InetSocketAddress( resolution.join()[0], address.port() );
         }
-        catch ( Throwable t )
+        else
         {
+            // leave pending and failed lookups to the address resolver group, which does not block the calling thread
             socketAddress = InetSocketAddress.createUnresolved( address.connectionHost(), address.port() );
         }
 
@@ -108,6 +114,12 @@ public class ChannelConnectorImpl implements ChannelConnector
         return connectionInitialized;
     }
 
+    @Override
+    public void close()
+    {
+        domainNameResolver.close();
+    }
+
     private void installChannelConnectedListeners( BoltServerAddress address, ChannelFuture channelConnected,
             ChannelPromise handshakeCompleted )
     {
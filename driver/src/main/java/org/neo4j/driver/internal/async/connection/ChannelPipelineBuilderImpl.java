@@ -26,20 +26,29 @@ import org.neo4j.driver.internal.async.inbound.InboundMessageHandler;
 import org.neo4j.driver.internal.async.inbound.MessageDecoder;
 import org.neo4j.driver.internal.async.outbound.OutboundMessageHandler;
 import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.Logging;
 
 public class ChannelPipelineBuilderImpl implements ChannelPipelineBuilder
 {
+    private final MetricsListener metricsListener;
+
+    public ChannelPipelineBuilderImpl( MetricsListener metricsListener )
+    {
+        this.metricsListener = metricsListener;
+    }
+
     @Override
     public void build( MessageFormat messageFormat, ChannelPipeline pipeline, Logging logging )
     {
         // inbound handlers
         pipeline.addLast( new ChunkDecoder( logging ) );
-        pipeline.addLast( new MessageDecoder() );
-        pipeline.addLast( new InboundMessageHandler( messageFormat, logging ) );
+        pipeline.addLast( new MessageDecoder( metricsListener ) );
+        pipeline.addLast( new InboundMessageHandler( messageFormat, logging, metricsListener != DevNullMetricsListener.INSTANCE ) );
 
         // outbound handlers
-        pipeline.addLast( OutboundMessageHandler.NAME, new OutboundMessageHandler( messageFormat, logging ) );
+        pipeline.addLast( OutboundMessageHandler.NAME, new OutboundMessageHandler( messageFormat, logging, metricsListener ) );
 
         // last one - error handler
         pipeline.addLast( new ChannelErrorHandler( logging ) );
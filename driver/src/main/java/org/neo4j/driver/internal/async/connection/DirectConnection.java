@@ -26,6 +26,7 @@ import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.DirectConnectionProvider;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.metrics.QueryExecution;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ResponseHandler;
 
@@ -153,4 +154,22 @@ public class DirectConnection implements Connection
     {
         delegate.flush();
     }
+
+    @Override
+    public boolean isQueryExecutionObserved()
+    {
+        return delegate.isQueryExecutionObserved();
+    }
+
+    @Override
+    public void afterResultCompleted()
+    {
+        delegate.afterResultCompleted();
+    }
+
+    @Override
+    public void afterQueryCompleted( QueryExecution execution )
+    {
+        delegate.afterQueryCompleted( execution.withTarget( databaseName, mode ) );
+    }
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.connection;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SingleThreadEventLoop;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.internal.metrics.MetricsListener;
+
+import static java.lang.String.format;
+
+/**
+ * Monitors the health of the event loops of an {@link EventLoopGroup}.
+ * <p>
+ * A probe task is periodically scheduled on every event loop. The delay between the time the probe was due and the time it actually ran is
+ * reported as scheduling lag, together with the amount of pending tasks and active connections of the event loop. When a blocked threshold is
+ * given, a watchdog thread checks that the probes keep running and logs the stack trace of an event loop thread whose probe is overdue for longer
+ * than the threshold, once for every time the event loop gets blocked.
+ */
+public class EventLoopMonitor
+{
+    static final long DEFAULT_PROBE_INTERVAL_MILLIS = 1_000;
+    private static final String WATCHDOG_THREAD_NAME = "Neo4jDriverEventLoopWatchdog";
+
+    private final EventLoopGroup eventLoopGroup;
+    private final MetricsListener metricsListener;
+    private final long probeIntervalNanos;
+    private final long blockedThresholdNanos;
+    private final Logger log;
+    private final List<ProbedEventLoop> eventLoops = new CopyOnWriteArrayList<>();
+    private volatile ScheduledExecutorService watchdog;
+
+    public EventLoopMonitor( EventLoopGroup eventLoopGroup, MetricsListener metricsListener, long blockedThresholdMillis, Logging logging )
+    {
+        this( eventLoopGroup, metricsListener, probeIntervalMillis( blockedThresholdMillis ), blockedThresholdMillis, logging );
+    }
+
+    EventLoopMonitor( EventLoopGroup eventLoopGroup, MetricsListener metricsListener, long probeIntervalMillis, long blockedThresholdMillis,
+                      Logging logging )
+    {
+        this.eventLoopGroup = eventLoopGroup;
+        this.metricsListener = metricsListener;
+        this.probeIntervalNanos = TimeUnit.MILLISECONDS.toNanos( probeIntervalMillis );
+        this.blockedThresholdNanos = TimeUnit.MILLISECONDS.toNanos( blockedThresholdMillis );
+        this.log = logging.getLog( getClass() );
+    }
+
+    /**
+     * Start probing all event loops of the group. The monitor stops by itself when the group terminates.
+     */
+    public void start()
+    {
+        for ( EventExecutor eventLoop : eventLoopGroup )
+        {
+            ProbedEventLoop probedEventLoop = new ProbedEventLoop( eventLoop );
+            eventLoops.add( probedEventLoop );
+            probedEventLoop.scheduleProbe();
+        }
+        if ( blockedThresholdNanos > 0 )
+        {
+            // checking twice per threshold reports a blocked event loop at most one and a half thresholds after it got blocked
+            long checkIntervalNanos = Math.max( blockedThresholdNanos / 2, TimeUnit.MILLISECONDS.toNanos( 1 ) );
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor( 1, new DefaultThreadFactory( WATCHDOG_THREAD_NAME, true ) );
+            executor.scheduleWithFixedDelay( this::checkEventLoops, checkIntervalNanos, checkIntervalNanos, TimeUnit.NANOSECONDS );
+            watchdog = executor;
+        }
+        eventLoopGroup.terminationFuture().addListener( ignore -> stop() );
+    }
+
+    void stop()
+    {
+        ScheduledExecutorService executor = watchdog;
+        if ( executor != null )
+        {
+            executor.shutdownNow();
+        }
+        for ( ProbedEventLoop eventLoop : eventLoops )
+        {
+            eventLoop.unregister();
+        }
+    }
+
+    void checkEventLoops()
+    {
+        long now = System.nanoTime();
+        for ( ProbedEventLoop eventLoop : eventLoops )
+        {
+            eventLoop.checkBlocked( now );
+        }
+    }
+
+    private static long probeIntervalMillis( long blockedThresholdMillis )
+    {
+        // the probe has to be overdue for the watchdog to notice a blocked event loop, so it runs at least once per threshold
+        return blockedThresholdMillis > 0 ? Math.min( DEFAULT_PROBE_INTERVAL_MILLIS, blockedThresholdMillis ) : DEFAULT_PROBE_INTERVAL_MILLIS;
+    }
+
+    private static String stackTrace( Thread thread )
+    {
+        StringBuilder builder = new StringBuilder();
+        for ( StackTraceElement element : thread.getStackTrace() )
+        {
+            builder.append( System.lineSeparator() ).append( "\tat " ).append( element );
+        }
+        return builder.toString();
+    }
+
+    private class ProbedEventLoop implements Runnable
+    {
+        private final EventExecutor eventLoop;
+        private final IntSupplier pendingTasksSupplier;
+        // only updated by the probe, reading the selector of the event loop from other threads is not safe
+        private volatile int activeConnections = -1;
+        private volatile long probeDueNanos;
+        private volatile Thread thread;
+        private volatile String id;
+        private volatile boolean blocked;
+
+        ProbedEventLoop( EventExecutor eventLoop )
+        {
+            this.eventLoop = eventLoop;
+            this.pendingTasksSupplier = eventLoop instanceof SingleThreadEventExecutor ? ((SingleThreadEventExecutor) eventLoop)::pendingTasks : () -> -1;
+        }
+
+        @Override
+        public void run()
+        {
+            long lagNanos = Math.max( 0, System.nanoTime() - probeDueNanos );
+            if ( thread == null )
+            {
+                thread = Thread.currentThread();
+                id = thread.getName();
+                metricsListener.registerEventLoopMetrics( id, pendingTasksSupplier, () -> activeConnections );
+            }
+            if ( eventLoop instanceof SingleThreadEventLoop )
+            {
+                activeConnections = ((SingleThreadEventLoop) eventLoop).registeredChannels();
+            }
+            metricsListener.afterEventLoopProbe( id, lagNanos );
+            if ( blocked )
+            {
+                blocked = false;
+                log.info( "Event loop thread %s is no longer blocked, it was blocked for at least %d ms", id, TimeUnit.NANOSECONDS.toMillis( lagNanos ) );
+            }
+            scheduleProbe();
+        }
+
+        void scheduleProbe()
+        {
+            if ( eventLoop.isShuttingDown() )
+            {
+                return;
+            }
+            probeDueNanos = System.nanoTime() + probeIntervalNanos;
+            try
+            {
+                eventLoop.schedule( this, probeIntervalNanos, TimeUnit.NANOSECONDS );
+            }
+            catch ( RejectedExecutionException ignore )
+            {
+                // event loop is shutting down
+            }
+        }
+
+        void checkBlocked( long now )
+        {
+            Thread eventLoopThread = thread;
+            long overdueNanos = now - probeDueNanos;
+            if ( blocked || eventLoopThread == null || overdueNanos <= blockedThresholdNanos || eventLoop.isShuttingDown() )
+            {
+                return;
+            }
+            blocked = true;
+            metricsListener.afterEventLoopBlocked( id );
+            log.warn( "Event loop thread %s is blocked for at least %d ms with %d pending tasks. " +
+                      "Blocking operations should not be executed in callbacks of the async and reactive API. Stack trace of the thread:%s",
+                      id, TimeUnit.NANOSECONDS.toMillis( overdueNanos ), pendingTasksSupplier.getAsInt(), stackTrace( eventLoopThread ) );
+        }
+
+        void unregister()
+        {
+            if ( id != null )
+            {
+                metricsListener.removeEventLoopMetrics( id );
+            }
+        }
+    }
+}
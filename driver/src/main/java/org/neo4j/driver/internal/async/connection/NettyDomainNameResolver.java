@@ -23,11 +23,11 @@ import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Promise;
 
 import java.net.InetAddress;
-import java.net.UnknownHostException;
 import java.util.Arrays;
 import java.util.List;
 
 import org.neo4j.driver.internal.DomainNameResolver;
+import org.neo4j.driver.internal.util.Futures;
 
 public class NettyDomainNameResolver extends InetNameResolver
 {
@@ -42,26 +42,26 @@ public class NettyDomainNameResolver extends InetNameResolver
     @Override
     protected void doResolve( String inetHost, Promise<InetAddress> promise )
     {
-        try
-        {
-            promise.setSuccess( domainNameResolver.resolve( inetHost )[0] );
-        }
-        catch ( UnknownHostException e )
-        {
-            promise.setFailure( e );
-        }
+        domainNameResolver.resolveAsync( inetHost ).whenComplete(
+                ( addresses, error ) -> completePromise( promise, addresses != null ? addresses[0] : null, error ) );
     }
 
     @Override
     protected void doResolveAll( String inetHost, Promise<List<InetAddress>> promise )
     {
-        try
+        domainNameResolver.resolveAsync( inetHost ).whenComplete(
+                ( addresses, error ) -> completePromise( promise, addresses != null ? Arrays.asList( addresses ) : null, error ) );
+    }
+
+    private static <T> void completePromise( Promise<T> promise, T result, Throwable error )
+    {
+        if ( error != null )
         {
-            promise.setSuccess( Arrays.asList( domainNameResolver.resolve( inetHost ) ) );
+            promise.tryFailure( Futures.completionExceptionCause( error ) );
         }
-        catch ( UnknownHostException e )
+        else
         {
-            promise.setFailure( e );
+            promise.trySuccess( result );
         }
     }
 }
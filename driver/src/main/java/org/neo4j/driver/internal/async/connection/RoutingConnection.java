@@ -27,6 +27,7 @@ import org.neo4j.driver.internal.RoutingErrorHandler;
 import org.neo4j.driver.internal.handlers.RoutingResponseHandler;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.metrics.QueryExecution;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ResponseHandler;
 
@@ -134,6 +135,24 @@ public class RoutingConnection implements Connection
         delegate.flush();
     }
 
+    @Override
+    public boolean isQueryExecutionObserved()
+    {
+        return delegate.isQueryExecutionObserved();
+    }
+
+    @Override
+    public void afterResultCompleted()
+    {
+        delegate.afterResultCompleted();
+    }
+
+    @Override
+    public void afterQueryCompleted( QueryExecution execution )
+    {
+        delegate.afterQueryCompleted( execution.withTarget( databaseName, accessMode ) );
+    }
+
     @Override
     public AccessMode mode()
     {
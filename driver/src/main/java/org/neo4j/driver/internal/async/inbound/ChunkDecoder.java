@@ -24,7 +24,6 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
 
 import org.neo4j.driver.internal.logging.ChannelActivityLogger;
-import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 
 public class ChunkDecoder extends LengthFieldBasedFrameDecoder
@@ -37,7 +36,7 @@ public class ChunkDecoder extends LengthFieldBasedFrameDecoder
     private static final int MAX_FRAME_LENGTH = LENGTH_FIELD_LENGTH + MAX_FRAME_BODY_LENGTH;
 
     private final Logging logging;
-    private Logger log;
+    private ChannelActivityLogger log;
 
     public ChunkDecoder( Logging logging )
     {
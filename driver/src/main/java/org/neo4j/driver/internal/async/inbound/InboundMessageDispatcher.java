@@ -20,8 +20,8 @@ package org.neo4j.driver.internal.async.inbound;
 
 import io.netty.channel.Channel;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
 
@@ -45,14 +45,16 @@ import static org.neo4j.driver.internal.util.ErrorUtil.addSuppressed;
 public class InboundMessageDispatcher implements ResponseMessageHandler
 {
     private final Channel channel;
-    private final Queue<ResponseHandler> handlers = new LinkedList<>();
-    private final Logger log;
+    private final Queue<ResponseHandler> handlers = new ArrayDeque<>();
+    private final ChannelActivityLogger log;
     private final ChannelErrorLogger errorLog;
 
     private volatile boolean gracefullyClosed;
     private Throwable currentError;
     private boolean fatalErrorOccurred;
     private HandlerHook beforeLastHandlerHook;
+    private int inboundMessageSize;
+    private long inboundMessageStartNanos;
 
     private ResponseHandler autoReadManagingHandler;
 
@@ -85,6 +87,18 @@ public class InboundMessageDispatcher implements ResponseMessageHandler
         this.beforeLastHandlerHook = beforeLastHandlerHook;
     }
 
+    /**
+     * Sets the size of the message that is about to be dispatched and when its decoding started.
+     *
+     * @param sizeInBytes the size of the message in bytes.
+     * @param startNanos  the value of {@link System#nanoTime()} when decoding started, or {@code -1} if decoding is not timed.
+     */
+    public void beforeInboundMessage( int sizeInBytes, long startNanos )
+    {
+        this.inboundMessageSize = sizeInBytes;
+        this.inboundMessageStartNanos = startNanos;
+    }
+
     public int queuedHandlersCount()
     {
         return handlers.size();
@@ -102,6 +116,7 @@ public class InboundMessageDispatcher implements ResponseMessageHandler
     @Override
     public void handleRecordMessage( Value[] fields )
     {
+        long decodeNanos = inboundMessageStartNanos < 0 ? -1 : System.nanoTime() - inboundMessageStartNanos;
         if ( log.isDebugEnabled() )
         {
             log.debug( "S: RECORD %s", Arrays.toString( fields ) );
@@ -111,9 +126,26 @@ public class InboundMessageDispatcher implements ResponseMessageHandler
         {
             throw new IllegalStateException( "No handler exists to handle RECORD message with fields: " + Arrays.toString( fields ) );
         }
+        handler.onRecordSize( inboundMessageSize );
+        if ( decodeNanos >= 0 )
+        {
+            handler.onRecordDecodeTime( decodeNanos );
+        }
         handler.onRecord( fields );
     }
 
+    @Override
+    public boolean skipRecordMessage()
+    {
+        ResponseHandler handler = handlers.peek();
+        if ( handler != null && handler.isDiscardingRecords() )
+        {
+            log.debug( "S: RECORD (discarded)" );
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public void handleFailureMessage( String code, String message )
     {
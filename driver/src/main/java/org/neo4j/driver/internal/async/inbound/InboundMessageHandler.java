@@ -25,7 +25,6 @@ import io.netty.handler.codec.DecoderException;
 
 import org.neo4j.driver.internal.logging.ChannelActivityLogger;
 import org.neo4j.driver.internal.messaging.MessageFormat;
-import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 
 import static io.netty.buffer.ByteBufUtil.hexDump;
@@ -37,15 +36,20 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
     private final ByteBufInput input;
     private final MessageFormat.Reader reader;
     private final Logging logging;
+    private final boolean decodeTimed;
 
     private InboundMessageDispatcher messageDispatcher;
-    private Logger log;
+    private ChannelActivityLogger log;
 
-    public InboundMessageHandler( MessageFormat messageFormat, Logging logging )
+    /**
+     * @param decodeTimed whether the time spent decoding each message is measured, only needed when the decode time is reported in metrics.
+     */
+    public InboundMessageHandler( MessageFormat messageFormat, Logging logging, boolean decodeTimed )
     {
         this.input = new ByteBufInput();
         this.reader = messageFormat.newReader( input );
         this.logging = logging;
+        this.decodeTimed = decodeTimed;
     }
 
     @Override
@@ -77,6 +81,7 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
             log.trace( "S: %s", hexDump( msg ) );
         }
 
+        messageDispatcher.beforeInboundMessage( msg.readableBytes(), decodeTimed ? System.nanoTime() : -1 );
         input.start( msg );
         try
         {
@@ -24,14 +24,23 @@ import io.netty.handler.codec.ByteToMessageDecoder;
 
 import java.util.List;
 
+import org.neo4j.driver.internal.async.connection.BoltProtocolUtil;
+import org.neo4j.driver.internal.metrics.MetricsListener;
+
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.poolId;
+
 public class MessageDecoder extends ByteToMessageDecoder
 {
     private static final Cumulator DEFAULT_CUMULATOR = determineDefaultCumulator();
 
+    private final MetricsListener metricsListener;
+
     private boolean readMessageBoundary;
+    private int chunkCount;
 
-    public MessageDecoder()
+    public MessageDecoder( MetricsListener metricsListener )
     {
+        this.metricsListener = metricsListener;
         setCumulator( DEFAULT_CUMULATOR );
     }
 
@@ -43,6 +52,10 @@ public class MessageDecoder extends ByteToMessageDecoder
             // on every read check if input buffer is empty or not
             // if it is empty then it's a message boundary and full message is in the buffer
             readMessageBoundary = ((ByteBuf) msg).readableBytes() == 0;
+            if ( !readMessageBoundary )
+            {
+                chunkCount++;
+            }
         }
         super.channelRead( ctx, msg );
     }
@@ -61,10 +74,26 @@ public class MessageDecoder extends ByteToMessageDecoder
             // signal that whole message was read by making input buffer seem like it was fully read/consumed
             in.readerIndex( in.readableBytes() );
 
+            afterMessageReceived( ctx, messageBuf );
+
             // pass the full message to the next handler in the pipeline
             out.add( messageBuf );
 
             readMessageBoundary = false;
+            chunkCount = 0;
+        }
+    }
+
+    private void afterMessageReceived( ChannelHandlerContext ctx, ByteBuf messageBuf )
+    {
+        String poolId = poolId( ctx.channel() );
+        if ( poolId != null && messageBuf.readableBytes() > 1 )
+        {
+            // every message is a struct, its signature follows the struct marker
+            byte signature = messageBuf.getByte( messageBuf.readerIndex() + 1 );
+            // chunk headers and the empty chunk marking the message boundary are already stripped
+            int bytes = messageBuf.readableBytes() + (chunkCount + 1) * BoltProtocolUtil.CHUNK_HEADER_SIZE_BYTES;
+            metricsListener.afterMessageReceived( poolId, signature, bytes, chunkCount );
         }
     }
 
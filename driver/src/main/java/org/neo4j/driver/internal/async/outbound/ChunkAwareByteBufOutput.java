@@ -34,6 +34,7 @@ public class ChunkAwareByteBufOutput implements PackOutput
     private ByteBuf buf;
     private int currentChunkStartIndex;
     private int currentChunkSize;
+    private int chunkCount;
 
     public ChunkAwareByteBufOutput()
     {
@@ -49,6 +50,7 @@ public class ChunkAwareByteBufOutput implements PackOutput
     {
         assertNotStarted();
         buf = requireNonNull( newBuf );
+        chunkCount = 0;
         startNewChunk( 0 );
     }
 
@@ -135,8 +137,17 @@ public class ChunkAwareByteBufOutput implements PackOutput
         }
     }
 
+    /**
+     * @return the amount of chunks written for the message started last.
+     */
+    public int chunkCount()
+    {
+        return chunkCount;
+    }
+
     private void startNewChunk( int index )
     {
+        chunkCount++;
         currentChunkStartIndex = index;
         BoltProtocolUtil.writeEmptyChunkHeader( buf );
         currentChunkSize = CHUNK_HEADER_SIZE_BYTES;
@@ -29,10 +29,11 @@ import org.neo4j.driver.internal.async.connection.BoltProtocolUtil;
 import org.neo4j.driver.internal.logging.ChannelActivityLogger;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.MessageFormat;
-import org.neo4j.driver.Logger;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.Logging;
 
 import static io.netty.buffer.ByteBufUtil.hexDump;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.poolId;
 
 public class OutboundMessageHandler extends MessageToMessageEncoder<Message>
 {
@@ -40,14 +41,16 @@ public class OutboundMessageHandler extends MessageToMessageEncoder<Message>
     private final ChunkAwareByteBufOutput output;
     private final MessageFormat.Writer writer;
     private final Logging logging;
+    private final MetricsListener metricsListener;
 
-    private Logger log;
+    private ChannelActivityLogger log;
 
-    public OutboundMessageHandler( MessageFormat messageFormat, Logging logging )
+    public OutboundMessageHandler( MessageFormat messageFormat, Logging logging, MetricsListener metricsListener )
     {
         this.output = new ChunkAwareByteBufOutput();
         this.writer = messageFormat.newWriter( output );
         this.logging = logging;
+        this.metricsListener = metricsListener;
     }
 
     @Override
@@ -88,6 +91,22 @@ public class OutboundMessageHandler extends MessageToMessageEncoder<Message>
         }
 
         BoltProtocolUtil.writeMessageBoundary( messageBuf );
+        String poolId = poolId( ctx.channel() );
+        if ( poolId != null )
+        {
+            metricsListener.afterMessageSent( poolId, msg.signature(), messageBuf.readableBytes(), output.chunkCount() );
+        }
         out.add( messageBuf );
     }
+
+    @Override
+    public void flush( ChannelHandlerContext ctx ) throws Exception
+    {
+        String poolId = poolId( ctx.channel() );
+        if ( poolId != null )
+        {
+            metricsListener.afterFlush( poolId );
+        }
+        super.flush( ctx );
+    }
 }
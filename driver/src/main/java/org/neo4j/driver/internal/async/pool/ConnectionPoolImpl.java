@@ -21,14 +21,17 @@ package org.neo4j.driver.internal.async.pool;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
 
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -41,6 +44,9 @@ import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
+import org.neo4j.driver.internal.diagnostics.DiagnosticsCollector;
+import org.neo4j.driver.internal.diagnostics.InFlightQuery;
+import org.neo4j.driver.internal.logging.SlowQueryLogger;
 import org.neo4j.driver.internal.metrics.ListenerEvent;
 import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.spi.Connection;
@@ -50,6 +56,11 @@ import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.net.ServerAddress;
 
 import static java.lang.String.format;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.connectionId;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.inFlightQuery;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.lastUsedTimestamp;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.serverAddress;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setAcquisitionNanos;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setAuthorizationStateListener;
 import static org.neo4j.driver.internal.util.Futures.combineErrors;
 import static org.neo4j.driver.internal.util.Futures.completeWithNullIfNoError;
@@ -68,17 +79,18 @@ public class ConnectionPoolImpl implements ConnectionPool
     private final boolean ownsEventLoopGroup;
 
     private final ReadWriteLock addressToPoolLock = new ReentrantReadWriteLock();
-    private final Map<BoltServerAddress,ExtendedChannelPool> addressToPool = new HashMap<>();
+    // mutated under the write lock, concurrent so that diagnostics can read it without locking
+    private final Map<BoltServerAddress,ExtendedChannelPool> addressToPool = new ConcurrentHashMap<>();
     private final AtomicBoolean closed = new AtomicBoolean();
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
     private final ConnectionFactory connectionFactory;
 
-    public ConnectionPoolImpl( ChannelConnector connector, Bootstrap bootstrap, PoolSettings settings, MetricsListener metricsListener, Logging logging,
-                               Clock clock, boolean ownsEventLoopGroup )
+    public ConnectionPoolImpl( ChannelConnector connector, Bootstrap bootstrap, PoolSettings settings, MetricsListener metricsListener,
+                               SlowQueryLogger slowQueryLogger, Logging logging, Clock clock, boolean ownsEventLoopGroup )
     {
         this( connector, bootstrap, new NettyChannelTracker( metricsListener, bootstrap.config().group().next(), logging ),
-              new NettyChannelHealthChecker( settings, clock, logging ), settings, metricsListener, logging,
-              clock, ownsEventLoopGroup, new NetworkConnectionFactory( clock, metricsListener, logging ) );
+              new NettyChannelHealthChecker( settings, clock, logging, metricsListener ), settings, metricsListener, logging,
+              clock, ownsEventLoopGroup, new NetworkConnectionFactory( clock, metricsListener, slowQueryLogger, logging ) );
     }
 
     protected ConnectionPoolImpl( ChannelConnector connector, Bootstrap bootstrap, NettyChannelTracker nettyChannelTracker,
@@ -107,6 +119,7 @@ public class ConnectionPoolImpl implements ConnectionPool
 
         ListenerEvent acquireEvent = metricsListener.createListenerEvent();
         metricsListener.beforeAcquiringOrCreating( pool.id(), acquireEvent );
+        long acquisitionStartNanos = System.nanoTime();
         CompletionStage<Channel> channelFuture = pool.acquire();
 
         return channelFuture.handle( ( channel, error ) ->
@@ -116,9 +129,12 @@ public class ConnectionPoolImpl implements ConnectionPool
                 processAcquisitionError( pool, address, error );
                 assertNotClosed( address, channel, pool );
                 setAuthorizationStateListener( channel, channelHealthChecker );
+                setAcquisitionNanos( channel, System.nanoTime() - acquisitionStartNanos );
                 Connection connection = connectionFactory.createConnection( channel, pool );
 
                 metricsListener.afterAcquiredOrCreated( pool.id(), acquireEvent );
+                // a channel that has never been released back to the pool was created for this acquisition
+                metricsListener.afterAcquiredConnection( pool.id(), lastUsedTimestamp( channel ) == null );
                 return connection;
             }
             finally
@@ -171,6 +187,37 @@ public class ConnectionPoolImpl implements ConnectionPool
         return nettyChannelTracker.idleChannelCount( address );
     }
 
+    @Override
+    public void collectDiagnostics( DiagnosticsCollector collector )
+    {
+        for ( BoltServerAddress address : addressToPool.keySet() )
+        {
+            collector.connectionPool( address, inUseConnections( address ), idleConnections( address ) );
+        }
+
+        Map<EventExecutor,Integer> eventLoopToConnectionCount = new IdentityHashMap<>();
+        for ( Channel channel : nettyChannelTracker.channels() )
+        {
+            eventLoopToConnectionCount.merge( channel.eventLoop(), 1, Integer::sum );
+            InFlightQuery inFlightQuery = inFlightQuery( channel );
+            if ( inFlightQuery != null )
+            {
+                collector.inFlightQuery( inFlightQuery, serverAddress( channel ), connectionId( channel ) );
+            }
+        }
+
+        if ( ownsEventLoopGroup )
+        {
+            int index = 0;
+            for ( EventExecutor eventLoop : bootstrap.config().group() )
+            {
+                // reading the thread name of an event loop may block, the position in the group identifies it instead
+                int pendingTasks = eventLoop instanceof SingleThreadEventExecutor ? ((SingleThreadEventExecutor) eventLoop).pendingTasks() : -1;
+                collector.eventLoop( "eventLoop-" + index++, pendingTasks, eventLoopToConnectionCount.getOrDefault( eventLoop, 0 ) );
+            }
+        }
+    }
+
     @Override
     public CompletionStage<Void> close()
     {
@@ -187,6 +234,7 @@ public class ConnectionPoolImpl implements ConnectionPool
                                               ( ignored, pollCloseError ) ->
                                               {
                                                   addressToPool.clear();
+                                                  connector.close();
                                                   if ( !ownsEventLoopGroup )
                                                   {
                                                       completeWithNullIfNoError( closeFuture, pollCloseError );
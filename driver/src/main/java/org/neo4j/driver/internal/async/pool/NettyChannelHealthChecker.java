@@ -32,11 +32,14 @@ import org.neo4j.driver.exceptions.AuthorizationExpiredException;
 import org.neo4j.driver.internal.async.connection.AuthorizationStateListener;
 import org.neo4j.driver.internal.handlers.PingResponseHandler;
 import org.neo4j.driver.internal.messaging.request.ResetMessage;
+import org.neo4j.driver.internal.metrics.ListenerEvent;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.util.Clock;
 
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.creationTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.lastUsedTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.messageDispatcher;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.poolId;
 
 public class NettyChannelHealthChecker implements ChannelHealthChecker, AuthorizationStateListener
 {
@@ -44,13 +47,15 @@ public class NettyChannelHealthChecker implements ChannelHealthChecker, Authoriz
     private final Clock clock;
     private final Logging logging;
     private final Logger log;
+    private final MetricsListener metricsListener;
     private final AtomicReference<Optional<Long>> minCreationTimestampMillisOpt;
 
-    public NettyChannelHealthChecker( PoolSettings poolSettings, Clock clock, Logging logging )
+    public NettyChannelHealthChecker( PoolSettings poolSettings, Clock clock, Logging logging, MetricsListener metricsListener )
     {
         this.poolSettings = poolSettings;
         this.clock = clock;
         this.logging = logging;
+        this.metricsListener = metricsListener;
         this.log = logging.getLog( getClass() );
         this.minCreationTimestampMillisOpt = new AtomicReference<>( Optional.empty() );
     }
@@ -131,6 +136,10 @@ public class NettyChannelHealthChecker implements ChannelHealthChecker, Authoriz
     private Future<Boolean> ping( Channel channel )
     {
         Promise<Boolean> result = channel.eventLoop().newPromise();
+        String poolId = poolId( channel );
+        ListenerEvent<?> healthCheckEvent = metricsListener.createListenerEvent();
+        metricsListener.beforeHealthCheck( poolId, healthCheckEvent );
+        result.addListener( future -> metricsListener.afterHealthCheck( poolId, healthCheckEvent, Boolean.TRUE.equals( future.getNow() ) ) );
         messageDispatcher( channel ).enqueue( new PingResponseHandler( result, channel, logging ) );
         channel.writeAndFlush( ResetMessage.RESET, channel.voidPromise() );
         return result;
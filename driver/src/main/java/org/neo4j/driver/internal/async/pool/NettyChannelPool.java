@@ -49,6 +49,8 @@ public class NettyChannelPool implements ExtendedChannelPool
     private static final boolean RELEASE_HEALTH_CHECK = false;
 
     private final FixedChannelPool delegate;
+    private final NettyChannelTracker handler;
+    private final int maxConnections;
     private final AtomicBoolean closed = new AtomicBoolean( false );
     private final String id;
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
@@ -60,6 +62,8 @@ public class NettyChannelPool implements ExtendedChannelPool
         requireNonNull( connector );
         requireNonNull( handler );
         this.id = poolId( address );
+        this.handler = handler;
+        this.maxConnections = maxConnections;
         this.delegate = new FixedChannelPool( bootstrap, handler, healthCheck, FixedChannelPool.AcquireTimeoutAction.FAIL, acquireTimeoutMillis, maxConnections,
                 MAX_PENDING_ACQUIRES, RELEASE_HEALTH_CHECK )
         {
@@ -105,7 +109,13 @@ public class NettyChannelPool implements ExtendedChannelPool
     @Override
     public CompletionStage<Channel> acquire()
     {
-        return asCompletionStage( delegate.acquire() );
+        if ( delegate.acquiredChannelCount() < maxConnections )
+        {
+            return asCompletionStage( delegate.acquire() );
+        }
+        // all connections are in use, so the acquisition is queued until a connection is released or the acquisition timeout is reached
+        ListenerEvent waitEvent = handler.channelAcquisitionWaiting( id );
+        return asCompletionStage( delegate.acquire() ).whenComplete( ( channel, error ) -> handler.channelAcquisitionWaited( id, waitEvent ) );
     }
 
     @Override
@@ -25,8 +25,10 @@ import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.pool.ChannelPoolHandler;
 import io.netty.util.concurrent.EventExecutor;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
@@ -142,6 +144,18 @@ public class NettyChannelTracker implements ChannelPoolHandler
         return creatingEvent;
     }
 
+    public ListenerEvent channelAcquisitionWaiting( String poolId )
+    {
+        ListenerEvent waitEvent = metricsListener.createListenerEvent();
+        metricsListener.beforeWaitingToAcquire( poolId, waitEvent );
+        return waitEvent;
+    }
+
+    public void channelAcquisitionWaited( String poolId, ListenerEvent waitEvent )
+    {
+        metricsListener.afterWaitingToAcquire( poolId, waitEvent );
+    }
+
     public void channelFailedToCreate( String poolId )
     {
         metricsListener.afterFailedToCreate( poolId );
@@ -163,6 +177,14 @@ public class NettyChannelTracker implements ChannelPoolHandler
         return retrieveInReadLock( () -> addressToIdleChannelCount.getOrDefault( address, 0 ) );
     }
 
+    /**
+     * @return a live view of all open channels.
+     */
+    public Set<Channel> channels()
+    {
+        return Collections.unmodifiableSet( allChannels );
+    }
+
     public void prepareToCloseChannels()
     {
         for ( Channel channel : allChannels )
@@ -22,6 +22,7 @@ import io.netty.channel.Channel;
 
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.async.NetworkConnection;
+import org.neo4j.driver.internal.logging.SlowQueryLogger;
 import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.Clock;
@@ -30,18 +31,20 @@ public class NetworkConnectionFactory implements ConnectionFactory
 {
     private final Clock clock;
     private final MetricsListener metricsListener;
+    private final SlowQueryLogger slowQueryLogger;
     private final Logging logging;
 
-    public NetworkConnectionFactory( Clock clock, MetricsListener metricsListener, Logging logging )
+    public NetworkConnectionFactory( Clock clock, MetricsListener metricsListener, SlowQueryLogger slowQueryLogger, Logging logging )
     {
         this.clock = clock;
         this.metricsListener = metricsListener;
+        this.slowQueryLogger = slowQueryLogger;
         this.logging = logging;
     }
 
     @Override
     public Connection createConnection( Channel channel, ExtendedChannelPool pool )
     {
-        return new NetworkConnection( channel, pool, clock, metricsListener, logging );
+        return new NetworkConnection( channel, pool, clock, metricsListener, slowQueryLogger, logging );
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster;
+
+import java.net.UnknownHostException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.neo4j.driver.Bookmark;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.DatabaseName;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.internal.util.Clock;
+
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Rediscovery that refreshes routing tables of other databases together with the one being looked up.
+ * <p>
+ * Whenever a routing table is refreshed, routing tables of other databases that are stale or about to become stale are looked up over the same
+ * router connection in a single pipelined batch. This keeps the number of rediscovery round trips low when the driver is used with many
+ * databases hosted on the same cluster. Each batched database is looked up with the bookmarks of its own most recent lookup.
+ */
+public class BatchingRediscovery implements Rediscovery
+{
+    static final long BATCHED_REFRESH_LOOKAHEAD_MS = SECONDS.toMillis( 30 );
+    static final int MAX_BATCHED_DATABASES = 64;
+
+    private final Rediscovery delegate;
+    private final Map<DatabaseName,RoutingTableHandler> routingTableHandlers;
+    private final Clock clock;
+
+    public BatchingRediscovery( Rediscovery delegate, Map<DatabaseName,RoutingTableHandler> routingTableHandlers, Clock clock )
+    {
+        this.delegate = delegate;
+        this.routingTableHandlers = routingTableHandlers;
+        this.clock = clock;
+    }
+
+    @Override
+    public CompletionStage<ClusterCompositionLookupResult> lookupClusterComposition( RoutingTable routingTable, ConnectionPool connectionPool,
+                                                                                     Set<Bookmark> bookmarks, String impersonatedUser )
+    {
+        Map<DatabaseName,Set<Bookmark>> batchedDatabases = impersonatedUser == null ? batchedDatabases( routingTable.database() ) : emptyMap();
+        if ( batchedDatabases.isEmpty() )
+        {
+            return delegate.lookupClusterComposition( routingTable, connectionPool, bookmarks, impersonatedUser );
+        }
+
+        return delegate.lookupClusterCompositions( routingTable, connectionPool, bookmarks, batchedDatabases )
+                       .thenApply( compositionLookupResult ->
+                                   {
+                                       // batched tables are applied first, the routing table that triggered the lookup is updated afterwards and
+                                       // purges aged routing tables and unused connection pools once for the whole batch
+                                       compositionLookupResult.getBatchedCompositions().forEach( this::updateRoutingTable );
+                                       return compositionLookupResult;
+                                   } );
+    }
+
+    @Override
+    public List<BoltServerAddress> resolve() throws UnknownHostException
+    {
+        return delegate.resolve();
+    }
+
+    private Map<DatabaseName,Set<Bookmark>> batchedDatabases( DatabaseName databaseName )
+    {
+        long refreshBefore = clock.millis() + BATCHED_REFRESH_LOOKAHEAD_MS;
+        Map<DatabaseName,Set<Bookmark>> batchedDatabases = new LinkedHashMap<>();
+        for ( Map.Entry<DatabaseName,RoutingTableHandler> entry : routingTableHandlers.entrySet() )
+        {
+            if ( batchedDatabases.size() >= MAX_BATCHED_DATABASES )
+            {
+                break;
+            }
+            DatabaseName name = entry.getKey();
+            RoutingTableHandler handler = entry.getValue();
+            // the default database is resolved by the server and cannot be requested by name
+            if ( !name.equals( databaseName ) && name.databaseName().isPresent() && handler.routingTable().expirationTimestamp() < refreshBefore )
+            {
+                batchedDatabases.put( name, handler.rediscoveryBookmarks() );
+            }
+        }
+        return batchedDatabases;
+    }
+
+    private void updateRoutingTable( DatabaseName databaseName, ClusterComposition composition )
+    {
+        RoutingTableHandler handler = routingTableHandlers.get( databaseName );
+        if ( handler != null )
+        {
+            handler.updateBatchedRoutingTable( composition );
+        }
+    }
+}
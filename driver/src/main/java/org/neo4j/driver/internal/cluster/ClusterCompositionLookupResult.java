@@ -18,10 +18,13 @@
  */
 package org.neo4j.driver.internal.cluster;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.DatabaseName;
 
 public class ClusterCompositionLookupResult
 {
@@ -29,15 +32,24 @@ public class ClusterCompositionLookupResult
 
     private final Set<BoltServerAddress> resolvedInitialRouters;
 
+    private final Map<DatabaseName,ClusterComposition> batchedCompositions;
+
     public ClusterCompositionLookupResult( ClusterComposition composition )
     {
         this( composition, null );
     }
 
     public ClusterCompositionLookupResult( ClusterComposition composition, Set<BoltServerAddress> resolvedInitialRouters )
+    {
+        this( composition, resolvedInitialRouters, Collections.emptyMap() );
+    }
+
+    public ClusterCompositionLookupResult( ClusterComposition composition, Set<BoltServerAddress> resolvedInitialRouters,
+                                           Map<DatabaseName,ClusterComposition> batchedCompositions )
     {
         this.composition = composition;
         this.resolvedInitialRouters = resolvedInitialRouters;
+        this.batchedCompositions = batchedCompositions;
     }
 
     public ClusterComposition getClusterComposition()
@@ -49,4 +61,12 @@ public class ClusterCompositionLookupResult
     {
         return Optional.ofNullable( resolvedInitialRouters );
     }
+
+    /**
+     * @return cluster compositions of other databases that were fetched together with the composition of the looked up database.
+     */
+    public Map<DatabaseName,ClusterComposition> getBatchedCompositions()
+    {
+        return batchedCompositions;
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.internal.cluster;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
@@ -25,8 +26,30 @@ import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.spi.Connection;
 
+import static java.util.Collections.singletonMap;
+
 public interface ClusterCompositionProvider
 {
     CompletionStage<ClusterComposition> getClusterComposition( Connection connection, DatabaseName databaseName, Set<Bookmark> bookmarks,
                                                                String impersonatedUser );
+
+    /**
+     * Fetches cluster compositions of multiple databases using a single connection.
+     * <p>
+     * The first database is the one the lookup is performed for, its failure fails the returned stage. The remaining databases are looked up on a
+     * best-effort basis and are absent from the result when their lookup fails. Implementations that cannot batch lookups only fetch the first database.
+     *
+     * @param connection          the connection to use.
+     * @param bookmarksByDatabase the databases to look up, in lookup order, with the bookmarks that are presented to the server for each of them, must
+     *                            not be empty.
+     * @return cluster compositions by database name.
+     */
+    default CompletionStage<Map<DatabaseName,ClusterComposition>> getClusterCompositions( Connection connection,
+                                                                                         Map<DatabaseName,Set<Bookmark>> bookmarksByDatabase )
+    {
+        Map.Entry<DatabaseName,Set<Bookmark>> first = bookmarksByDatabase.entrySet().iterator().next();
+        DatabaseName databaseName = first.getKey();
+        return getClusterComposition( connection, databaseName, first.getValue(), null )
+                .thenApply( composition -> singletonMap( databaseName, composition ) );
+    }
 }
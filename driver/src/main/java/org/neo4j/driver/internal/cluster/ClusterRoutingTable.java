@@ -45,24 +45,36 @@ public class ClusterRoutingTable implements RoutingTable
     private final DatabaseName databaseName;
     private final Clock clock;
     private final Set<BoltServerAddress> disused = new HashSet<>();
+    private final ServerAddressInterner addressInterner;
 
     private long expirationTimestamp;
     private boolean preferInitialRouter = true;
     private List<BoltServerAddress> readers = Collections.emptyList();
     private List<BoltServerAddress> writers = Collections.emptyList();
     private List<BoltServerAddress> routers = Collections.emptyList();
+    private volatile RoutingTableSnapshot snapshot;
 
     public ClusterRoutingTable( DatabaseName ofDatabase, Clock clock, BoltServerAddress... routingAddresses )
     {
-        this( ofDatabase, clock );
+        this( ofDatabase, clock, (ServerAddressInterner) null );
         routers = Collections.unmodifiableList( asList( routingAddresses ) );
+        publishSnapshot();
     }
 
-    private ClusterRoutingTable( DatabaseName ofDatabase, Clock clock )
+    /**
+     * Creates a routing table that shares its addresses with other routing tables using the same interner.
+     *
+     * @param ofDatabase      the database of this routing table.
+     * @param clock           the clock.
+     * @param addressInterner the interner used to canonicalize addresses and address lists.
+     */
+    public ClusterRoutingTable( DatabaseName ofDatabase, Clock clock, ServerAddressInterner addressInterner )
     {
         this.databaseName = ofDatabase;
         this.clock = clock;
+        this.addressInterner = addressInterner;
         this.expirationTimestamp = clock.millis() - 1;
+        publishSnapshot();
     }
 
     @Override
@@ -97,6 +109,7 @@ public class ClusterRoutingTable implements RoutingTable
             routers = newWithReusedAddresses( routers, disused, cluster.routers() );
             disused.clear();
             preferInitialRouter = !cluster.hasWriters();
+            publishSnapshot();
         } );
     }
 
@@ -109,6 +122,7 @@ public class ClusterRoutingTable implements RoutingTable
             readers = newWithoutAddressIfPresent( readers, address );
             writers = newWithoutAddressIfPresent( writers, address );
             disused.add( address );
+            publishSnapshot();
         } );
     }
 
@@ -157,13 +171,18 @@ public class ClusterRoutingTable implements RoutingTable
         {
             writers = newWithoutAddressIfPresent( writers, toRemove );
             disused.add( toRemove );
+            publishSnapshot();
         } );
     }
 
     @Override
     public void replaceRouterIfPresent( BoltServerAddress oldRouter, BoltServerAddress newRouter )
     {
-        executeWithLock( tableLock.writeLock(), () -> routers = newWithAddressReplacedIfPresent( routers, oldRouter, newRouter ) );
+        executeWithLock( tableLock.writeLock(), () ->
+        {
+            routers = newWithAddressReplacedIfPresent( routers, oldRouter, newRouter );
+            publishSnapshot();
+        } );
     }
 
     @Override
@@ -178,6 +197,12 @@ public class ClusterRoutingTable implements RoutingTable
         return executeWithLock( tableLock.readLock(), () -> expirationTimestamp );
     }
 
+    @Override
+    public RoutingTableSnapshot snapshot()
+    {
+        return snapshot;
+    }
+
     @Override
     public String toString()
     {
@@ -186,6 +211,11 @@ public class ClusterRoutingTable implements RoutingTable
                         expirationTimestamp, clock.millis(), routers, writers, readers, databaseName.description() ) );
     }
 
+    private void publishSnapshot()
+    {
+        snapshot = new RoutingTableSnapshot( databaseName, expirationTimestamp, routers, readers, writers );
+    }
+
     private List<BoltServerAddress> newWithoutAddressIfPresent( List<BoltServerAddress> addresses, BoltServerAddress addressToSkip )
     {
         List<BoltServerAddress> newList = new ArrayList<>( addresses.size() );
@@ -217,7 +247,7 @@ public class ClusterRoutingTable implements RoutingTable
                                                 .filter( address -> newAddresses.remove( toBoltServerAddress( address ) ) )
                                                 .collect( Collectors.toCollection( () -> new ArrayList<>( newAddresses.size() ) ) );
         newList.addAll( newAddresses );
-        return Collections.unmodifiableList( newList );
+        return addressInterner != null ? addressInterner.intern( newList ) : Collections.unmodifiableList( newList );
     }
 
     private BoltServerAddress toBoltServerAddress( BoltServerAddress address )
@@ -20,11 +20,13 @@ package org.neo4j.driver.internal.cluster;
 
 import java.net.UnknownHostException;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 
 /**
@@ -46,5 +48,25 @@ public interface Rediscovery
     CompletionStage<ClusterCompositionLookupResult> lookupClusterComposition( RoutingTable routingTable, ConnectionPool connectionPool, Set<Bookmark> bookmarks,
                                                                               String impersonatedUser );
 
+    /**
+     * Fetches cluster composition using the provided routing table and piggybacks lookups for other databases on the same router connection.
+     * <p>
+     * Compositions of the batched databases are fetched on a best-effort basis and returned via {@link ClusterCompositionLookupResult#getBatchedCompositions()}.
+     * Implementations that do not support batching only fetch the composition of the given routing table.
+     *
+     * @param routingTable     the routing table for cluster composition lookup
+     * @param connectionPool   the connection pool for connection acquisition
+     * @param bookmarks        the bookmarks that are presented to the server
+     * @param batchedDatabases other databases to look up using the same router connection, with the bookmarks that are presented to the server for
+     *                         each of them
+     * @return cluster composition lookup result
+     */
+    default CompletionStage<ClusterCompositionLookupResult> lookupClusterCompositions( RoutingTable routingTable, ConnectionPool connectionPool,
+                                                                                       Set<Bookmark> bookmarks,
+                                                                                       Map<DatabaseName,Set<Bookmark>> batchedDatabases )
+    {
+        return lookupClusterComposition( routingTable, connectionPool, bookmarks, null );
+    }
+
     List<BoltServerAddress> resolve() throws UnknownHostException;
 }
@@ -19,14 +19,18 @@
 package org.neo4j.driver.internal.cluster;
 
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Logger;
@@ -38,6 +42,7 @@ import org.neo4j.driver.exceptions.FatalDiscoveryException;
 import org.neo4j.driver.exceptions.SecurityException;
 import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.DomainNameResolver;
 import org.neo4j.driver.internal.ImpersonationUtil;
 import org.neo4j.driver.internal.ResolvedBoltServerAddress;
@@ -47,6 +52,7 @@ import org.neo4j.driver.net.ServerAddress;
 import org.neo4j.driver.net.ServerAddressResolver;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -90,18 +96,32 @@ public class RediscoveryImpl implements Rediscovery
     @Override
     public CompletionStage<ClusterCompositionLookupResult> lookupClusterComposition( RoutingTable routingTable, ConnectionPool connectionPool,
                                                                                      Set<Bookmark> bookmarks, String impersonatedUser )
+    {
+        return lookupClusterComposition( routingTable, connectionPool, bookmarks, impersonatedUser, new CompositionBatch( emptyMap() ) );
+    }
+
+    @Override
+    public CompletionStage<ClusterCompositionLookupResult> lookupClusterCompositions( RoutingTable routingTable, ConnectionPool connectionPool,
+                                                                                      Set<Bookmark> bookmarks, Map<DatabaseName,Set<Bookmark>> batchedDatabases )
+    {
+        return lookupClusterComposition( routingTable, connectionPool, bookmarks, null, new CompositionBatch( batchedDatabases ) );
+    }
+
+    private CompletionStage<ClusterCompositionLookupResult> lookupClusterComposition( RoutingTable routingTable, ConnectionPool connectionPool,
+                                                                                      Set<Bookmark> bookmarks, String impersonatedUser,
+                                                                                      CompositionBatch batch )
     {
         CompletableFuture<ClusterCompositionLookupResult> result = new CompletableFuture<>();
         // if we failed discovery, we will chain all errors into this one.
         ServiceUnavailableException baseError = new ServiceUnavailableException( String.format( NO_ROUTERS_AVAILABLE, routingTable.database().description() ) );
-        lookupClusterComposition( routingTable, connectionPool, result, bookmarks, impersonatedUser, baseError );
+        lookupClusterComposition( routingTable, connectionPool, result, bookmarks, impersonatedUser, baseError, batch );
         return result;
     }
 
     private void lookupClusterComposition( RoutingTable routingTable, ConnectionPool pool, CompletableFuture<ClusterCompositionLookupResult> result,
-                                           Set<Bookmark> bookmarks, String impersonatedUser, Throwable baseError )
+                                           Set<Bookmark> bookmarks, String impersonatedUser, Throwable baseError, CompositionBatch batch )
     {
-        lookup( routingTable, pool, bookmarks, impersonatedUser, baseError )
+        lookup( routingTable, pool, bookmarks, impersonatedUser, baseError, batch )
                 .whenComplete(
                         ( compositionLookupResult, completionError ) ->
                         {
@@ -122,17 +142,17 @@ public class RediscoveryImpl implements Rediscovery
     }
 
     private CompletionStage<ClusterCompositionLookupResult> lookup( RoutingTable routingTable, ConnectionPool connectionPool, Set<Bookmark> bookmarks,
-                                                                    String impersonatedUser, Throwable baseError )
+                                                                    String impersonatedUser, Throwable baseError, CompositionBatch batch )
     {
         CompletionStage<ClusterCompositionLookupResult> compositionStage;
 
         if ( routingTable.preferInitialRouter() )
         {
-            compositionStage = lookupOnInitialRouterThenOnKnownRouters( routingTable, connectionPool, bookmarks, impersonatedUser, baseError );
+            compositionStage = lookupOnInitialRouterThenOnKnownRouters( routingTable, connectionPool, bookmarks, impersonatedUser, baseError, batch );
         }
         else
         {
-            compositionStage = lookupOnKnownRoutersThenOnInitialRouter( routingTable, connectionPool, bookmarks, impersonatedUser, baseError );
+            compositionStage = lookupOnKnownRoutersThenOnInitialRouter( routingTable, connectionPool, bookmarks, impersonatedUser, baseError, batch );
         }
 
         return compositionStage;
@@ -140,10 +160,10 @@ public class RediscoveryImpl implements Rediscovery
 
     private CompletionStage<ClusterCompositionLookupResult> lookupOnKnownRoutersThenOnInitialRouter( RoutingTable routingTable, ConnectionPool connectionPool,
                                                                                                      Set<Bookmark> bookmarks, String impersonatedUser,
-                                                                                                     Throwable baseError )
+                                                                                                     Throwable baseError, CompositionBatch batch )
     {
         Set<BoltServerAddress> seenServers = new HashSet<>();
-        return lookupOnKnownRouters( routingTable, connectionPool, seenServers, bookmarks, impersonatedUser, baseError )
+        return lookupOnKnownRouters( routingTable, connectionPool, seenServers, bookmarks, impersonatedUser, baseError, batch )
                 .thenCompose(
                         compositionLookupResult ->
                         {
@@ -152,16 +172,16 @@ public class RediscoveryImpl implements Rediscovery
                                 return completedFuture(
                                         compositionLookupResult );
                             }
-                            return lookupOnInitialRouter( routingTable, connectionPool, seenServers, bookmarks, impersonatedUser, baseError );
+                            return lookupOnInitialRouter( routingTable, connectionPool, seenServers, bookmarks, impersonatedUser, baseError, batch );
                         } );
     }
 
     private CompletionStage<ClusterCompositionLookupResult> lookupOnInitialRouterThenOnKnownRouters( RoutingTable routingTable, ConnectionPool connectionPool,
                                                                                                      Set<Bookmark> bookmarks, String impersonatedUser,
-                                                                                                     Throwable baseError )
+                                                                                                     Throwable baseError, CompositionBatch batch )
     {
         Set<BoltServerAddress> seenServers = emptySet();
-        return lookupOnInitialRouter( routingTable, connectionPool, seenServers, bookmarks, impersonatedUser, baseError )
+        return lookupOnInitialRouter( routingTable, connectionPool, seenServers, bookmarks, impersonatedUser, baseError, batch )
                 .thenCompose(
                         compositionLookupResult ->
                         {
@@ -170,13 +190,13 @@ public class RediscoveryImpl implements Rediscovery
                                 return completedFuture(
                                         compositionLookupResult );
                             }
-                            return lookupOnKnownRouters( routingTable, connectionPool, new HashSet<>(), bookmarks, impersonatedUser, baseError );
+                            return lookupOnKnownRouters( routingTable, connectionPool, new HashSet<>(), bookmarks, impersonatedUser, baseError, batch );
                         } );
     }
 
     private CompletionStage<ClusterCompositionLookupResult> lookupOnKnownRouters( RoutingTable routingTable, ConnectionPool connectionPool,
                                                                                   Set<BoltServerAddress> seenServers, Set<Bookmark> bookmarks,
-                                                                                  String impersonatedUser, Throwable baseError )
+                                                                                  String impersonatedUser, Throwable baseError, CompositionBatch batch )
     {
         CompletableFuture<ClusterComposition> result = completedWithNull();
         for ( BoltServerAddress address : routingTable.routers() )
@@ -191,57 +211,58 @@ public class RediscoveryImpl implements Rediscovery
                                 }
                                 else
                                 {
-                                    return lookupOnRouter( address, true, routingTable, connectionPool, seenServers, bookmarks, impersonatedUser, baseError );
+                                    return lookupOnRouter( address, true, routingTable, connectionPool, seenServers, bookmarks, impersonatedUser, baseError, batch );
                                 }
                             } );
         }
-        return result.thenApply( composition -> composition != null ? new ClusterCompositionLookupResult( composition ) : null );
+        return result.thenApply( composition -> composition != null ? new ClusterCompositionLookupResult( composition, null, batch.compositions ) : null );
     }
 
     private CompletionStage<ClusterCompositionLookupResult> lookupOnInitialRouter( RoutingTable routingTable, ConnectionPool connectionPool,
                                                                                    Set<BoltServerAddress> seenServers, Set<Bookmark> bookmarks,
-                                                                                   String impersonatedUser, Throwable baseError )
+                                                                                   String impersonatedUser, Throwable baseError, CompositionBatch batch )
     {
-        List<BoltServerAddress> resolvedRouters;
-        try
-        {
-            resolvedRouters = resolve();
-        }
-        catch ( Throwable error )
-        {
-            return failedFuture( error );
-        }
-        Set<BoltServerAddress> resolvedRouterSet = new HashSet<>( resolvedRouters );
-        resolvedRouters.removeAll( seenServers );
+        return resolveAsync().thenCompose(
+                resolvedRouters ->
+                {
+                    Set<BoltServerAddress> resolvedRouterSet = new HashSet<>( resolvedRouters );
+                    resolvedRouters.removeAll( seenServers );
 
-        CompletableFuture<ClusterComposition> result = completedWithNull();
-        for ( BoltServerAddress address : resolvedRouters )
-        {
-            result = result.thenCompose(
-                    composition ->
+                    CompletableFuture<ClusterComposition> result = completedWithNull();
+                    for ( BoltServerAddress address : resolvedRouters )
                     {
-                        if ( composition != null )
-                        {
-                            return completedFuture( composition );
-                        }
-                        return lookupOnRouter( address, false, routingTable, connectionPool, null, bookmarks, impersonatedUser, baseError );
-                    } );
-        }
-        return result.thenApply( composition -> composition != null ? new ClusterCompositionLookupResult( composition, resolvedRouterSet ) : null );
+                        result = result.thenCompose(
+                                composition ->
+                                {
+                                    if ( composition != null )
+                                    {
+                                        return completedFuture( composition );
+                                    }
+                                    return lookupOnRouter( address, false, routingTable, connectionPool, null, bookmarks, impersonatedUser, baseError,
+                                                           batch );
+                                } );
+                    }
+                    return result.thenApply(
+                            composition -> composition != null ? new ClusterCompositionLookupResult( composition, resolvedRouterSet, batch.compositions )
+                                                               : null );
+                } );
     }
 
     private CompletionStage<ClusterComposition> lookupOnRouter( BoltServerAddress routerAddress, boolean resolveAddress, RoutingTable routingTable,
                                                                 ConnectionPool connectionPool, Set<BoltServerAddress> seenServers, Set<Bookmark> bookmarks,
-                                                                String impersonatedUser, Throwable baseError )
+                                                                String impersonatedUser, Throwable baseError, CompositionBatch batch )
     {
         CompletableFuture<BoltServerAddress> addressFuture = CompletableFuture.completedFuture( routerAddress );
 
         return addressFuture
-                .thenApply( address -> resolveAddress ? resolveByDomainNameOrThrowCompletionException( address, routingTable ) : address )
+                .thenCompose( address -> resolveAddress ? resolveByDomainName( address, routingTable ) : completedFuture( address ) )
                 .thenApply( address -> addAndReturn( seenServers, address ) )
                 .thenCompose( connectionPool::acquire )
                 .thenApply( connection -> ImpersonationUtil.ensureImpersonationSupport( connection, impersonatedUser ) )
-                .thenCompose( connection -> provider.getClusterComposition( connection, routingTable.database(), bookmarks, impersonatedUser ) )
+                .thenCompose( connection -> batch.isEmpty()
+                                            ? provider.getClusterComposition( connection, routingTable.database(), bookmarks, impersonatedUser )
+                                            : provider.getClusterCompositions( connection, batch.bookmarksByDatabase( routingTable.database(), bookmarks ) )
+                                                      .thenApply( compositions -> batch.complete( routingTable.database(), compositions ) ) )
                 .handle( ( response, error ) ->
                          {
                              Throwable cause = Futures.completionExceptionCause( error );
@@ -332,6 +353,55 @@ public class RediscoveryImpl implements Rediscovery
         return resolvedAddresses;
     }
 
+    private CompletionStage<List<BoltServerAddress>> resolveAsync()
+    {
+        List<CompletableFuture<ResolvedBoltServerAddress>> lookups = new ArrayList<>();
+        try
+        {
+            for ( ServerAddress serverAddress : resolver.resolve( initialRouter ) )
+            {
+                lookups.add( resolveAllByDomainNameAsync( serverAddress ).toCompletableFuture() );
+            }
+        }
+        catch ( Throwable error )
+        {
+            return failedFuture( error );
+        }
+
+        return CompletableFuture.allOf( lookups.toArray( new CompletableFuture[0] ) ).handle(
+                ( ignored, ignoredError ) ->
+                {
+                    List<BoltServerAddress> resolvedAddresses = new LinkedList<>();
+                    Throwable exception = null;
+                    for ( CompletableFuture<ResolvedBoltServerAddress> lookup : lookups )
+                    {
+                        try
+                        {
+                            lookup.join().unicastStream().forEach( resolvedAddresses::add );
+                        }
+                        catch ( CompletionException e )
+                        {
+                            Throwable cause = Futures.completionExceptionCause( e );
+                            if ( exception == null )
+                            {
+                                exception = cause;
+                            }
+                            else
+                            {
+                                exception.addSuppressed( cause );
+                            }
+                        }
+                    }
+
+                    // give up only if there are no addresses to work with at all
+                    if ( resolvedAddresses.isEmpty() && exception != null )
+                    {
+                        throw new CompletionException( exception );
+                    }
+                    return resolvedAddresses;
+                } );
+    }
+
     private <T> T addAndReturn( Collection<T> collection, T element )
     {
         if ( collection != null )
@@ -341,26 +411,64 @@ public class RediscoveryImpl implements Rediscovery
         return element;
     }
 
-    private BoltServerAddress resolveByDomainNameOrThrowCompletionException( BoltServerAddress address, RoutingTable routingTable )
+    private CompletionStage<BoltServerAddress> resolveByDomainName( BoltServerAddress address, RoutingTable routingTable )
     {
-        try
-        {
-            ResolvedBoltServerAddress resolvedAddress = resolveAllByDomainName( address );
-            routingTable.replaceRouterIfPresent( address, resolvedAddress );
-            return resolvedAddress.unicastStream()
-                                  .findFirst()
-                                  .orElseThrow(
-                                          () -> new IllegalStateException(
-                                                  "Unexpected condition, the ResolvedBoltServerAddress must always have at least one unicast address" ) );
-        }
-        catch ( Throwable e )
-        {
-            throw new CompletionException( e );
-        }
+        return resolveAllByDomainNameAsync( address ).thenApply(
+                resolvedAddress ->
+                {
+                    routingTable.replaceRouterIfPresent( address, resolvedAddress );
+                    return resolvedAddress.unicastStream()
+                                          .findFirst()
+                                          .orElseThrow(
+                                                  () -> new IllegalStateException(
+                                                          "Unexpected condition, the ResolvedBoltServerAddress must always have at least one unicast address" ) );
+                } );
+    }
+
+    private CompletionStage<ResolvedBoltServerAddress> resolveAllByDomainNameAsync( ServerAddress address )
+    {
+        return domainNameResolver.resolveAsync( address.host() )
+                                 .thenApply( addresses -> new ResolvedBoltServerAddress( address.host(), address.port(), addresses ) );
     }
 
     private ResolvedBoltServerAddress resolveAllByDomainName( ServerAddress address ) throws UnknownHostException
     {
         return new ResolvedBoltServerAddress( address.host(), address.port(), domainNameResolver.resolve( address.host() ) );
     }
+
+    private static class CompositionBatch
+    {
+        private final Map<DatabaseName,Set<Bookmark>> databases;
+        private final Map<DatabaseName,ClusterComposition> compositions = new ConcurrentHashMap<>();
+
+        private CompositionBatch( Map<DatabaseName,Set<Bookmark>> databases )
+        {
+            this.databases = databases;
+        }
+
+        private boolean isEmpty()
+        {
+            return databases.isEmpty();
+        }
+
+        private Map<DatabaseName,Set<Bookmark>> bookmarksByDatabase( DatabaseName databaseName, Set<Bookmark> bookmarks )
+        {
+            Map<DatabaseName,Set<Bookmark>> bookmarksByDatabase = new LinkedHashMap<>();
+            bookmarksByDatabase.put( databaseName, bookmarks );
+            databases.forEach( bookmarksByDatabase::putIfAbsent );
+            return bookmarksByDatabase;
+        }
+
+        private ClusterComposition complete( DatabaseName databaseName, Map<DatabaseName,ClusterComposition> fetchedCompositions )
+        {
+            fetchedCompositions.forEach( ( name, composition ) ->
+                                         {
+                                             if ( !name.equals( databaseName ) )
+                                             {
+                                                 compositions.put( name, composition );
+                                             }
+                                         } );
+            return fetchedCompositions.get( databaseName );
+        }
+    }
 }
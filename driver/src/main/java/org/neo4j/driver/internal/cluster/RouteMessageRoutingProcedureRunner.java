@@ -19,7 +19,9 @@
 package org.neo4j.driver.internal.cluster;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -80,6 +82,44 @@ public class RouteMessageRoutingProcedureRunner implements RoutingProcedureRunne
                 .thenCompose( routingProcedureResponse -> directConnection.release().thenApply( ignore -> routingProcedureResponse ) );
     }
 
+    /**
+     * Pipelines ROUTE messages for multiple databases over a single connection. The messages are written in the given order with a single flush and
+     * the connection is released once all responses have arrived.
+     * <p>
+     * Each ROUTE message carries the bookmarks of its own database. A failure for one of the databases causes the server to ignore the messages that
+     * follow it, those are reported as failed responses.
+     *
+     * @param connection          the connection to use, must support the ROUTE message.
+     * @param bookmarksByDatabase the databases to look up with the bookmarks used to query the routing information of each of them, must not be empty.
+     * @return the responses in the iteration order of the given databases.
+     */
+    public CompletionStage<List<RoutingProcedureResponse>> runBatch( Connection connection, Map<DatabaseName,Set<Bookmark>> bookmarksByDatabase )
+    {
+        List<CompletableFuture<RoutingProcedureResponse>> responses = new ArrayList<>( bookmarksByDatabase.size() );
+        for ( Map.Entry<DatabaseName,Set<Bookmark>> entry : bookmarksByDatabase.entrySet() )
+        {
+            DatabaseName databaseName = entry.getKey();
+            CompletableFuture<Map<String,Value>> completableFuture = createCompletableFuture.get();
+            RouteMessage message = new RouteMessage( routingContext, entry.getValue(), databaseName.databaseName().orElse( null ), null );
+            RouteMessageResponseHandler handler = new RouteMessageResponseHandler( completableFuture );
+            if ( responses.size() == bookmarksByDatabase.size() - 1 )
+            {
+                connection.writeAndFlush( message, handler );
+            }
+            else
+            {
+                connection.write( message, handler );
+            }
+            responses.add( completableFuture
+                                   .thenApply( routingTable -> new RoutingProcedureResponse( getQuery( databaseName ),
+                                                                                             singletonList( toRecord( routingTable ) ) ) )
+                                   .exceptionally( throwable -> new RoutingProcedureResponse( getQuery( databaseName ), throwable.getCause() ) ) );
+        }
+        return CompletableFuture.allOf( responses.toArray( new CompletableFuture<?>[0] ) )
+                                .thenCompose( ignored -> connection.release() )
+                                .thenApply( ignored -> responses.stream().map( CompletableFuture::join ).collect( Collectors.toList() ) );
+    }
+
     private Record toRecord( Map<String,Value> routingTable )
     {
         return new InternalRecord( new ArrayList<>( routingTable.keySet() ), routingTable.values().toArray( new Value[0] ) );
@@ -18,12 +18,17 @@
  */
 package org.neo4j.driver.internal.cluster;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.Bookmark;
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.exceptions.ProtocolException;
@@ -33,6 +38,7 @@ import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.Clock;
 
 import static java.lang.String.format;
+import static org.neo4j.driver.internal.util.Futures.completionExceptionCause;
 import static org.neo4j.driver.internal.messaging.request.MultiDatabaseUtil.supportsMultiDatabase;
 import static org.neo4j.driver.internal.messaging.request.MultiDatabaseUtil.supportsRouteMessage;
 
@@ -41,21 +47,23 @@ public class RoutingProcedureClusterCompositionProvider implements ClusterCompos
     private static final String PROTOCOL_ERROR_MESSAGE = "Failed to parse '%s' result received from server due to ";
 
     private final Clock clock;
+    private final Logger log;
     private final RoutingProcedureRunner singleDatabaseRoutingProcedureRunner;
     private final RoutingProcedureRunner multiDatabaseRoutingProcedureRunner;
-    private final RoutingProcedureRunner routeMessageRoutingProcedureRunner;
+    private final RouteMessageRoutingProcedureRunner routeMessageRoutingProcedureRunner;
 
-    public RoutingProcedureClusterCompositionProvider( Clock clock, RoutingContext routingContext )
+    public RoutingProcedureClusterCompositionProvider( Clock clock, RoutingContext routingContext, Logging logging )
     {
         this( clock, new SingleDatabaseRoutingProcedureRunner( routingContext ), new MultiDatabasesRoutingProcedureRunner( routingContext ),
-              new RouteMessageRoutingProcedureRunner( routingContext ) );
+              new RouteMessageRoutingProcedureRunner( routingContext ), logging );
     }
 
     RoutingProcedureClusterCompositionProvider( Clock clock, SingleDatabaseRoutingProcedureRunner singleDatabaseRoutingProcedureRunner,
                                                 MultiDatabasesRoutingProcedureRunner multiDatabaseRoutingProcedureRunner,
-                                                RouteMessageRoutingProcedureRunner routeMessageRoutingProcedureRunner )
+                                                RouteMessageRoutingProcedureRunner routeMessageRoutingProcedureRunner, Logging logging )
     {
         this.clock = clock;
+        this.log = logging.getLog( getClass() );
         this.singleDatabaseRoutingProcedureRunner = singleDatabaseRoutingProcedureRunner;
         this.multiDatabaseRoutingProcedureRunner = multiDatabaseRoutingProcedureRunner;
         this.routeMessageRoutingProcedureRunner = routeMessageRoutingProcedureRunner;
@@ -84,6 +92,41 @@ public class RoutingProcedureClusterCompositionProvider implements ClusterCompos
                      .thenApply( this::processRoutingResponse );
     }
 
+    @Override
+    public CompletionStage<Map<DatabaseName,ClusterComposition>> getClusterCompositions( Connection connection,
+                                                                                        Map<DatabaseName,Set<Bookmark>> bookmarksByDatabase )
+    {
+        if ( bookmarksByDatabase.size() == 1 || !supportsRouteMessage( connection ) )
+        {
+            return ClusterCompositionProvider.super.getClusterCompositions( connection, bookmarksByDatabase );
+        }
+
+        List<DatabaseName> databaseNames = new ArrayList<>( bookmarksByDatabase.keySet() );
+        return routeMessageRoutingProcedureRunner.runBatch( connection, bookmarksByDatabase )
+                                                 .thenApply( responses -> processBatchedRoutingResponses( databaseNames, responses ) );
+    }
+
+    private Map<DatabaseName,ClusterComposition> processBatchedRoutingResponses( List<DatabaseName> databaseNames, List<RoutingProcedureResponse> responses )
+    {
+        Map<DatabaseName,ClusterComposition> compositions = new LinkedHashMap<>();
+        compositions.put( databaseNames.get( 0 ), processRoutingResponse( responses.get( 0 ) ) );
+        for ( int i = 1; i < responses.size(); i++ )
+        {
+            DatabaseName databaseName = databaseNames.get( i );
+            try
+            {
+                compositions.put( databaseName, processRoutingResponse( responses.get( i ) ) );
+            }
+            catch ( CompletionException | ProtocolException e )
+            {
+                // batched databases are refreshed on their own when they are used next
+                log.debug( "Failed to look up the routing table for database '%s' in a batch: %s", databaseName.description(),
+                           completionExceptionCause( e ) );
+            }
+        }
+        return compositions;
+    }
+
     private ClusterComposition processRoutingResponse( RoutingProcedureResponse response )
     {
         if ( !response.isSuccess() )
@@ -27,6 +27,7 @@ public class RoutingSettings
 
     private final RoutingContext routingContext;
     private final long routingTablePurgeDelayMs;
+    private final boolean routingTableSharing;
 
     public RoutingSettings( long routingTablePurgeDelayMs )
     {
@@ -34,14 +35,20 @@ public class RoutingSettings
     }
 
     public RoutingSettings( long routingTablePurgeDelayMs, RoutingContext routingContext )
+    {
+        this( routingTablePurgeDelayMs, routingContext, false );
+    }
+
+    public RoutingSettings( long routingTablePurgeDelayMs, RoutingContext routingContext, boolean routingTableSharing )
     {
         this.routingContext = routingContext;
         this.routingTablePurgeDelayMs = routingTablePurgeDelayMs;
+        this.routingTableSharing = routingTableSharing;
     }
 
     public RoutingSettings withRoutingContext( RoutingContext newRoutingContext )
     {
-        return new RoutingSettings( routingTablePurgeDelayMs, newRoutingContext );
+        return new RoutingSettings( routingTablePurgeDelayMs, newRoutingContext, routingTableSharing );
     }
 
     public RoutingContext routingContext()
@@ -53,4 +60,9 @@ public class RoutingSettings
     {
         return routingTablePurgeDelayMs;
     }
+
+    public boolean routingTableSharing()
+    {
+        return routingTableSharing;
+    }
 }
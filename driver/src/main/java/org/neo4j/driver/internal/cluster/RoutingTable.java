@@ -74,4 +74,11 @@ public interface RoutingTable
     boolean preferInitialRouter();
 
     long expirationTimestamp();
+
+    /**
+     * Returns the addresses and the expiration time of this routing table as of its last change, without waiting for concurrent updates.
+     *
+     * @return the immutable snapshot of this routing table.
+     */
+    RoutingTableSnapshot snapshot();
 }
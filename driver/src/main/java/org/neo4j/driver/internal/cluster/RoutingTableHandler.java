@@ -21,6 +21,7 @@ package org.neo4j.driver.internal.cluster;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
+import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.RoutingErrorHandler;
 import org.neo4j.driver.internal.async.ConnectionContext;
@@ -35,5 +36,21 @@ public interface RoutingTableHandler extends RoutingErrorHandler
 
     CompletionStage<RoutingTable> updateRoutingTable( ClusterCompositionLookupResult compositionLookupResult );
 
+    /**
+     * Updates the routing table with a cluster composition looked up in a batch together with the routing table of another database.
+     * <p>
+     * Aged routing tables and connection pools of removed servers are not purged, the handler that triggered the batched lookup does that once for the
+     * whole batch.
+     *
+     * @param composition the looked up cluster composition.
+     */
+    void updateBatchedRoutingTable( ClusterComposition composition );
+
     RoutingTable routingTable();
+
+    /**
+     * @return the bookmarks presented to the server by the most recent lookup of the routing table, used when the routing table is looked up in a
+     * batch triggered by another database.
+     */
+    Set<Bookmark> rediscoveryBookmarks();
 }
@@ -18,17 +18,20 @@
  */
 package org.neo4j.driver.internal.cluster;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
+import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.async.ConnectionContext;
+import org.neo4j.driver.internal.cluster.loadbalancing.CircuitBreakers;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.util.Futures;
 
@@ -40,13 +43,15 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler
     private final DatabaseName databaseName;
     private final RoutingTableRegistry routingTableRegistry;
     private volatile CompletableFuture<RoutingTable> refreshRoutingTableFuture;
+    private volatile Set<Bookmark> rediscoveryBookmarks = Collections.emptySet();
     private final ConnectionPool connectionPool;
+    private final CircuitBreakers circuitBreakers;
     private final Rediscovery rediscovery;
     private final Logger log;
     private final long routingTablePurgeDelayMs;
     private final Set<BoltServerAddress> resolvedInitialRouters = new HashSet<>();
 
-    public RoutingTableHandlerImpl( RoutingTable routingTable, Rediscovery rediscovery, ConnectionPool connectionPool,
+    public RoutingTableHandlerImpl( RoutingTable routingTable, Rediscovery rediscovery, ConnectionPool connectionPool, CircuitBreakers circuitBreakers,
                                     RoutingTableRegistry routingTableRegistry,
                                     Logging logging, long routingTablePurgeDelayMs )
     {
@@ -54,6 +59,7 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler
         this.databaseName = routingTable.database();
         this.rediscovery = rediscovery;
         this.connectionPool = connectionPool;
+        this.circuitBreakers = circuitBreakers;
         this.routingTableRegistry = routingTableRegistry;
         this.log = logging.getLog( getClass() );
         this.routingTablePurgeDelayMs = routingTablePurgeDelayMs;
@@ -87,6 +93,7 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler
 
             CompletableFuture<RoutingTable> resultFuture = new CompletableFuture<>();
             refreshRoutingTableFuture = resultFuture;
+            rediscoveryBookmarks = context.rediscoveryBookmarks();
 
             rediscovery.lookupClusterComposition( routingTable, connectionPool, context.rediscoveryBookmarks(), null )
                        .whenComplete( ( composition, completionError ) ->
@@ -132,6 +139,23 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler
         }
     }
 
+    @Override
+    public Set<Bookmark> rediscoveryBookmarks()
+    {
+        return rediscoveryBookmarks;
+    }
+
+    @Override
+    public synchronized void updateBatchedRoutingTable( ClusterComposition composition )
+    {
+        // a refresh happening concurrently produces a routing table that is at least as recent
+        if ( refreshRoutingTableFuture == null && composition.expirationTimestamp() >= routingTable.expirationTimestamp() )
+        {
+            routingTable.update( composition );
+            log.debug( "Updated routing table for database '%s' in a batched lookup. %s", databaseName.description(), routingTable );
+        }
+    }
+
     private synchronized void freshClusterCompositionFetched( ClusterCompositionLookupResult compositionLookupResult )
     {
         try
@@ -152,6 +176,7 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler
                     } );
             addressesToRetain.addAll( resolvedInitialRouters );
             connectionPool.retainAll( addressesToRetain );
+            circuitBreakers.retainAll( addressesToRetain );
 
             log.debug( "Updated routing table for database '%s'. %s", databaseName.description(), routingTable );
 
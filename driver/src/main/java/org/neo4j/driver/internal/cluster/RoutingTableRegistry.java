@@ -25,6 +25,7 @@ import java.util.concurrent.CompletionStage;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.async.ConnectionContext;
+import org.neo4j.driver.internal.diagnostics.DiagnosticsCollector;
 
 /**
  * A generic interface to access all routing tables as a whole.
@@ -61,4 +62,11 @@ public interface RoutingTableRegistry
      * @return the routing table handler for the requested database name
      */
     Optional<RoutingTableHandler> getRoutingTableHandler( DatabaseName databaseName );
+
+    /**
+     * Adds the routing tables of all databases to a diagnostics snapshot.
+     *
+     * @param collector the collector of the snapshot.
+     */
+    void collectDiagnostics( DiagnosticsCollector collector );
 }
@@ -36,6 +36,8 @@ import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.DatabaseNameUtil;
 import org.neo4j.driver.internal.async.ConnectionContext;
+import org.neo4j.driver.internal.cluster.loadbalancing.CircuitBreakers;
+import org.neo4j.driver.internal.diagnostics.DiagnosticsCollector;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.util.Clock;
 import org.neo4j.driver.internal.util.Futures;
@@ -54,8 +56,26 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry
 
     public RoutingTableRegistryImpl( ConnectionPool connectionPool, Rediscovery rediscovery, Clock clock, Logging logging, long routingTablePurgeDelayMs )
     {
-        this( new ConcurrentHashMap<>(), new RoutingTableHandlerFactory( connectionPool, rediscovery, clock, logging, routingTablePurgeDelayMs ), clock,
-              connectionPool, rediscovery, logging );
+        this( connectionPool, rediscovery, clock, logging, routingTablePurgeDelayMs, false, CircuitBreakers.disabled( connectionPool, clock, logging ) );
+    }
+
+    public RoutingTableRegistryImpl( ConnectionPool connectionPool, Rediscovery rediscovery, Clock clock, Logging logging, long routingTablePurgeDelayMs,
+                                     boolean routingTableSharing, CircuitBreakers circuitBreakers )
+    {
+        this( new ConcurrentHashMap<>(), connectionPool, rediscovery, clock, logging, routingTablePurgeDelayMs, routingTableSharing, circuitBreakers );
+    }
+
+    private RoutingTableRegistryImpl( ConcurrentMap<DatabaseName,RoutingTableHandler> routingTableHandlers, ConnectionPool connectionPool,
+                                      Rediscovery rediscovery, Clock clock, Logging logging, long routingTablePurgeDelayMs, boolean routingTableSharing,
+                                      CircuitBreakers circuitBreakers )
+    {
+        this( routingTableHandlers, routingTableSharing
+                                    ? new RoutingTableHandlerFactory( connectionPool, circuitBreakers,
+                                                                      new BatchingRediscovery( rediscovery, routingTableHandlers, clock ), clock,
+                                                                      logging, routingTablePurgeDelayMs, new ServerAddressInterner() )
+                                    : new RoutingTableHandlerFactory( connectionPool, circuitBreakers, rediscovery, clock, logging,
+                                                                      routingTablePurgeDelayMs ),
+              clock, connectionPool, rediscovery, logging );
     }
 
     RoutingTableRegistryImpl( ConcurrentMap<DatabaseName,RoutingTableHandler> routingTableHandlers, RoutingTableHandlerFactory factory, Clock clock,
@@ -206,6 +226,15 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry
         return Optional.ofNullable( routingTableHandlers.get( databaseName ) );
     }
 
+    @Override
+    public void collectDiagnostics( DiagnosticsCollector collector )
+    {
+        for ( RoutingTableHandler tableHandler : routingTableHandlers.values() )
+        {
+            collector.routingTable( tableHandler.routingTable() );
+        }
+    }
+
     // For tests
     public boolean contains( DatabaseName databaseName )
     {
@@ -226,24 +255,37 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry
     static class RoutingTableHandlerFactory
     {
         private final ConnectionPool connectionPool;
+        private final CircuitBreakers circuitBreakers;
         private final Rediscovery rediscovery;
         private final Logging logging;
         private final Clock clock;
         private final long routingTablePurgeDelayMs;
+        private final ServerAddressInterner addressInterner;
+
+        RoutingTableHandlerFactory( ConnectionPool connectionPool, CircuitBreakers circuitBreakers, Rediscovery rediscovery, Clock clock, Logging logging,
+                                    long routingTablePurgeDelayMs )
+        {
+            this( connectionPool, circuitBreakers, rediscovery, clock, logging, routingTablePurgeDelayMs, null );
+        }
 
-        RoutingTableHandlerFactory( ConnectionPool connectionPool, Rediscovery rediscovery, Clock clock, Logging logging, long routingTablePurgeDelayMs )
+        RoutingTableHandlerFactory( ConnectionPool connectionPool, CircuitBreakers circuitBreakers, Rediscovery rediscovery, Clock clock, Logging logging,
+                                    long routingTablePurgeDelayMs, ServerAddressInterner addressInterner )
         {
             this.connectionPool = connectionPool;
+            this.circuitBreakers = circuitBreakers;
             this.rediscovery = rediscovery;
             this.clock = clock;
             this.logging = logging;
             this.routingTablePurgeDelayMs = routingTablePurgeDelayMs;
+            this.addressInterner = addressInterner;
         }
 
         RoutingTableHandler newInstance( DatabaseName databaseName, RoutingTableRegistry allTables )
         {
-            ClusterRoutingTable routingTable = new ClusterRoutingTable( databaseName, clock );
-            return new RoutingTableHandlerImpl( routingTable, rediscovery, connectionPool, allTables, logging, routingTablePurgeDelayMs );
+            ClusterRoutingTable routingTable = addressInterner != null
+                                               ? new ClusterRoutingTable( databaseName, clock, addressInterner )
+                                               : new ClusterRoutingTable( databaseName, clock );
+            return new RoutingTableHandlerImpl( routingTable, rediscovery, connectionPool, circuitBreakers, allTables, logging, routingTablePurgeDelayMs );
         }
     }
 
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster;
+
+import java.util.List;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.DatabaseName;
+
+/**
+ * The addresses and the expiration time of a {@link RoutingTable} at one point in time. Routing tables publish a new snapshot on every change, so
+ * reading one never waits for concurrent updates.
+ */
+public final class RoutingTableSnapshot
+{
+    private final DatabaseName database;
+    private final long expirationTimestamp;
+    private final List<BoltServerAddress> routers;
+    private final List<BoltServerAddress> readers;
+    private final List<BoltServerAddress> writers;
+
+    RoutingTableSnapshot( DatabaseName database, long expirationTimestamp, List<BoltServerAddress> routers, List<BoltServerAddress> readers,
+                          List<BoltServerAddress> writers )
+    {
+        this.database = database;
+        this.expirationTimestamp = expirationTimestamp;
+        this.routers = routers;
+        this.readers = readers;
+        this.writers = writers;
+    }
+
+    public DatabaseName database()
+    {
+        return database;
+    }
+
+    public long expirationTimestamp()
+    {
+        return expirationTimestamp;
+    }
+
+    public List<BoltServerAddress> routers()
+    {
+        return routers;
+    }
+
+    public List<BoltServerAddress> readers()
+    {
+        return readers;
+    }
+
+    public List<BoltServerAddress> writers()
+    {
+        return writers;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+
+/**
+ * Canonicalizes server addresses and address lists shared by the routing tables of different databases.
+ * <p>
+ * Databases hosted on the same cluster usually report identical readers, writers and routers. When routing tables are shared, all of them reference
+ * the same {@link BoltServerAddress} instances and the same immutable address lists instead of keeping a private copy per database.
+ * <p>
+ * Entries are weakly referenced and disappear once no routing table uses them anymore.
+ */
+public class ServerAddressInterner
+{
+    private final Map<BoltServerAddress,WeakReference<BoltServerAddress>> addresses = new WeakHashMap<>();
+    private final Map<List<BoltServerAddress>,WeakReference<List<BoltServerAddress>>> addressLists = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance of the given address. Only plain {@link BoltServerAddress} instances are interned, resolved addresses are
+     * specific to the routing table that resolved them and are returned as is.
+     *
+     * @param address the address to intern.
+     * @return the canonical instance equal to the given address.
+     */
+    public synchronized BoltServerAddress intern( BoltServerAddress address )
+    {
+        if ( !BoltServerAddress.class.equals( address.getClass() ) )
+        {
+            return address;
+        }
+        return internEntry( addresses, address );
+    }
+
+    /**
+     * Returns the canonical unmodifiable list equal to the given one. Addresses of a newly interned list are interned as well.
+     *
+     * @param addressList the list to intern.
+     * @return the canonical unmodifiable list equal to the given list.
+     */
+    public synchronized List<BoltServerAddress> intern( List<BoltServerAddress> addressList )
+    {
+        if ( addressList.isEmpty() )
+        {
+            return Collections.emptyList();
+        }
+        WeakReference<List<BoltServerAddress>> reference = addressLists.get( addressList );
+        List<BoltServerAddress> canonical = reference == null ? null : reference.get();
+        if ( canonical == null )
+        {
+            List<BoltServerAddress> internedAddresses = new ArrayList<>( addressList.size() );
+            for ( BoltServerAddress address : addressList )
+            {
+                internedAddresses.add( intern( address ) );
+            }
+            canonical = Collections.unmodifiableList( internedAddresses );
+            addressLists.put( canonical, new WeakReference<>( canonical ) );
+        }
+        return canonical;
+    }
+
+    synchronized int size()
+    {
+        return addresses.size() + addressLists.size();
+    }
+
+    private static <T> T internEntry( Map<T,WeakReference<T>> entries, T value )
+    {
+        WeakReference<T> reference = entries.get( value );
+        T canonical = reference == null ? null : reference.get();
+        if ( canonical == null )
+        {
+            entries.put( value, new WeakReference<>( value ) );
+            canonical = value;
+        }
+        return canonical;
+    }
+}
@@ -34,13 +34,13 @@ import org.neo4j.driver.exceptions.FatalDiscoveryException;
 import org.neo4j.driver.internal.BookmarksHolder;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.async.connection.DirectConnection;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizePolicy;
 import org.neo4j.driver.internal.messaging.BoltProtocolVersion;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.Futures;
 
 import static org.neo4j.driver.Values.parameters;
 import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
-import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
 
 /**
  * This implementation of the {@link RoutingProcedureRunner} works with single database versions of Neo4j calling
@@ -93,7 +93,7 @@ public class SingleDatabaseRoutingProcedureRunner implements RoutingProcedureRun
     CompletionStage<List<Record>> runProcedure( Connection connection, Query procedure, BookmarksHolder bookmarksHolder )
     {
         return connection.protocol()
-                         .runInAutoCommitTransaction( connection, procedure, bookmarksHolder, TransactionConfig.empty(), UNLIMITED_FETCH_SIZE )
+                         .runInAutoCommitTransaction( connection, procedure, bookmarksHolder, TransactionConfig.empty(), FetchSizePolicy.UNLIMITED )
                          .asyncResult().thenCompose( ResultCursor::listAsync );
     }
 
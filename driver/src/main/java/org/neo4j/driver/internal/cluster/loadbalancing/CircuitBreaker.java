@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import org.neo4j.driver.internal.util.Clock;
+
+/**
+ * Circuit breaker guarding a single server.
+ * <p>
+ * The breaker keeps the outcomes of the most recent connection attempts in a fixed size window. It opens when the failure rate in the window reaches
+ * the configured threshold, which takes the server out of load balancing. After the open duration has elapsed the breaker moves to the half-open
+ * state, in which a single probe decides whether the breaker closes again or stays open for another period.
+ * <p>
+ * This class is thread-safe.
+ */
+public class CircuitBreaker
+{
+    public enum State
+    {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final CircuitBreakerSettings settings;
+    private final Clock clock;
+    private final boolean[] outcomes;
+
+    private State state = State.CLOSED;
+    private int outcomeIndex;
+    private int calls;
+    private int failures;
+    private long openedAt;
+    private long openedCount;
+
+    CircuitBreaker( CircuitBreakerSettings settings, Clock clock )
+    {
+        this.settings = settings;
+        this.clock = clock;
+        this.outcomes = new boolean[settings.windowSize()];
+    }
+
+    /**
+     * @return {@code true} if requests are allowed to go to the server, {@code false} otherwise.
+     */
+    public synchronized boolean allowsRequests()
+    {
+        return state == State.CLOSED;
+    }
+
+    /**
+     * Moves an open breaker to the half-open state once the open duration has elapsed.
+     *
+     * @return {@code true} if the breaker has just become half-open and the caller is responsible for probing the server.
+     */
+    synchronized boolean tryHalfOpen()
+    {
+        if ( state == State.OPEN && clock.millis() - openedAt >= settings.openDurationMs() )
+        {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records the outcome of a connection attempt or a probe.
+     *
+     * @param success {@code true} if the attempt succeeded.
+     * @return the new state if the state has changed, {@code null} otherwise.
+     */
+    synchronized State record( boolean success )
+    {
+        switch ( state )
+        {
+        case HALF_OPEN:
+            return success ? close() : open();
+        case CLOSED:
+            recordInWindow( success );
+            if ( calls >= settings.minimumCalls() && failures * 100 >= settings.failureRateThreshold() * calls )
+            {
+                return open();
+            }
+            return null;
+        default:
+            // late outcomes of attempts started before the breaker opened do not change anything
+            return null;
+        }
+    }
+
+    public synchronized State state()
+    {
+        return state;
+    }
+
+    public synchronized long openedCount()
+    {
+        return openedCount;
+    }
+
+    private void recordInWindow( boolean success )
+    {
+        boolean failure = !success;
+        if ( calls == outcomes.length )
+        {
+            if ( outcomes[outcomeIndex] )
+            {
+                failures--;
+            }
+        }
+        else
+        {
+            calls++;
+        }
+        outcomes[outcomeIndex] = failure;
+        if ( failure )
+        {
+            failures++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+    }
+
+    private State open()
+    {
+        state = State.OPEN;
+        openedAt = clock.millis();
+        openedCount++;
+        return state;
+    }
+
+    private State close()
+    {
+        state = State.CLOSED;
+        calls = 0;
+        failures = 0;
+        outcomeIndex = 0;
+        return state;
+    }
+
+    @Override
+    public synchronized String toString()
+    {
+        return "CircuitBreaker{state=" + state + ", calls=" + calls + ", failures=" + failures + '}';
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+public class CircuitBreakerSettings
+{
+    public static final int DEFAULT_WINDOW_SIZE = 20;
+    public static final int DEFAULT_MINIMUM_CALLS = 5;
+    public static final int DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+    public static final long DEFAULT_OPEN_DURATION_MS = SECONDS.toMillis( 30 );
+
+    public static final CircuitBreakerSettings DEFAULT = new CircuitBreakerSettings( true, DEFAULT_WINDOW_SIZE, DEFAULT_MINIMUM_CALLS,
+                                                                                     DEFAULT_FAILURE_RATE_THRESHOLD, DEFAULT_OPEN_DURATION_MS );
+    public static final CircuitBreakerSettings DISABLED = new CircuitBreakerSettings( false, DEFAULT_WINDOW_SIZE, DEFAULT_MINIMUM_CALLS,
+                                                                                      DEFAULT_FAILURE_RATE_THRESHOLD, DEFAULT_OPEN_DURATION_MS );
+
+    private final boolean enabled;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationMs;
+
+    /**
+     * @param enabled              whether circuit breakers are used at all.
+     * @param windowSize           the number of most recent connection attempts the failure rate is computed from.
+     * @param minimumCalls         the number of attempts needed in the window before the failure rate is evaluated.
+     * @param failureRateThreshold the failure rate in percent at and above which the circuit opens.
+     * @param openDurationMs       how long the circuit stays open before a probe is sent to the server.
+     */
+    public CircuitBreakerSettings( boolean enabled, int windowSize, int minimumCalls, int failureRateThreshold, long openDurationMs )
+    {
+        this.enabled = enabled;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min( minimumCalls, windowSize );
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMs = openDurationMs;
+    }
+
+    public boolean enabled()
+    {
+        return enabled;
+    }
+
+    public int windowSize()
+    {
+        return windowSize;
+    }
+
+    public int minimumCalls()
+    {
+        return minimumCalls;
+    }
+
+    public int failureRateThreshold()
+    {
+        return failureRateThreshold;
+    }
+
+    public long openDurationMs()
+    {
+        return openDurationMs;
+    }
+}
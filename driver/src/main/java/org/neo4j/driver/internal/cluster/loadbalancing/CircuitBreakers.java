@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
+import org.neo4j.driver.internal.metrics.MetricsListener;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.internal.util.Clock;
+
+import static org.neo4j.driver.internal.util.Futures.completionExceptionCause;
+
+/**
+ * Registry of {@link CircuitBreaker}s, one per server address.
+ * <p>
+ * Breakers are created lazily on the first failure towards an address, so servers that never fail cost nothing, and are dropped together with the
+ * connection pools of addresses that are no longer in any routing table. Once an open breaker has waited for its open duration, {@link
+ * #probeIfDue(List)} sends a single probe, a RESET round trip, to the server in the background, while the address stays excluded from load balancing
+ * until the probe succeeds.
+ */
+public class CircuitBreakers
+{
+    private final CircuitBreakerSettings settings;
+    private final ConnectionPool connectionPool;
+    private final Clock clock;
+    private final MetricsListener metricsListener;
+    private final Logger log;
+    private final ConcurrentMap<BoltServerAddress,CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public CircuitBreakers( CircuitBreakerSettings settings, ConnectionPool connectionPool, Clock clock, MetricsListener metricsListener, Logging logging )
+    {
+        this.settings = settings;
+        this.connectionPool = connectionPool;
+        this.clock = clock;
+        this.metricsListener = metricsListener;
+        this.log = logging.getLog( getClass() );
+    }
+
+    /**
+     * @param connectionPool the connection pool.
+     * @param clock          the clock.
+     * @param logging        the logging.
+     * @return breakers that allow all requests.
+     */
+    public static CircuitBreakers disabled( ConnectionPool connectionPool, Clock clock, Logging logging )
+    {
+        return new CircuitBreakers( CircuitBreakerSettings.DISABLED, connectionPool, clock, DevNullMetricsListener.INSTANCE, logging );
+    }
+
+    public boolean enabled()
+    {
+        return settings.enabled();
+    }
+
+    /**
+     * Checks if requests are allowed to go to the given address.
+     *
+     * @param address the address to check.
+     * @return {@code true} if the address can be used for load balancing, {@code false} otherwise.
+     */
+    public boolean allowsRequests( BoltServerAddress address )
+    {
+        if ( !settings.enabled() )
+        {
+            return true;
+        }
+        CircuitBreaker breaker = breakers.get( address );
+        return breaker == null || breaker.allowsRequests();
+    }
+
+    /**
+     * Starts a probe for each of the given addresses whose breaker has been open for its open duration.
+     *
+     * @param addresses the addresses about to be considered for load balancing.
+     */
+    public void probeIfDue( List<BoltServerAddress> addresses )
+    {
+        if ( !settings.enabled() || breakers.isEmpty() )
+        {
+            return;
+        }
+        for ( BoltServerAddress address : addresses )
+        {
+            CircuitBreaker breaker = breakers.get( address );
+            if ( breaker != null && breaker.tryHalfOpen() )
+            {
+                log.info( "Circuit breaker for %s is half-open, probing the server", address );
+                metricsListener.afterCircuitBreakerHalfOpened( address );
+                probe( address, breaker );
+            }
+        }
+    }
+
+    /**
+     * Drops the breakers of all addresses except the given ones.
+     *
+     * @param addressesToRetain the addresses that are still part of a routing table.
+     */
+    public void retainAll( Set<BoltServerAddress> addressesToRetain )
+    {
+        breakers.keySet().retainAll( addressesToRetain );
+    }
+
+    public void onSuccess( BoltServerAddress address )
+    {
+        if ( settings.enabled() )
+        {
+            CircuitBreaker breaker = breakers.get( address );
+            if ( breaker != null )
+            {
+                handleStateChange( address, breaker.record( true ) );
+            }
+        }
+    }
+
+    public void onFailure( BoltServerAddress address )
+    {
+        if ( settings.enabled() )
+        {
+            CircuitBreaker breaker = breakers.computeIfAbsent( address, ignored -> new CircuitBreaker( settings, clock ) );
+            handleStateChange( address, breaker.record( false ) );
+        }
+    }
+
+    /**
+     * @param address the address.
+     * @return the state of the breaker of the given address.
+     */
+    public CircuitBreaker.State state( BoltServerAddress address )
+    {
+        CircuitBreaker breaker = breakers.get( address );
+        return breaker == null ? CircuitBreaker.State.CLOSED : breaker.state();
+    }
+
+    private void probe( BoltServerAddress address, CircuitBreaker breaker )
+    {
+        // an idle pooled connection proves nothing about the server, a RESET round trip does
+        connectionPool.acquire( address )
+                      .thenCompose( connection -> connection.reset().whenComplete( ( ignored, error ) -> connection.release() ) )
+                      .whenComplete( ( ignored, error ) ->
+                                     {
+                                         if ( error != null )
+                                         {
+                                             log.debug( "Circuit breaker probe of %s failed: %s", address, completionExceptionCause( error ) );
+                                         }
+                                         handleStateChange( address, breaker.record( error == null ) );
+                                     } );
+    }
+
+    private void handleStateChange( BoltServerAddress address, CircuitBreaker.State newState )
+    {
+        if ( newState == CircuitBreaker.State.OPEN )
+        {
+            log.warn( "Circuit breaker for %s opened, the server is excluded from load balancing for %s ms", address, settings.openDurationMs() );
+            metricsListener.afterCircuitBreakerOpened( address );
+        }
+        else if ( newState == CircuitBreaker.State.CLOSED )
+        {
+            log.info( "Circuit breaker for %s closed, the server is used for load balancing again", address );
+            metricsListener.afterCircuitBreakerClosed( address );
+        }
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.internal.cluster.loadbalancing;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.neo4j.driver.Logger;
@@ -29,6 +30,8 @@ import org.neo4j.driver.internal.spi.ConnectionPool;
  * Load balancing strategy that finds server with the least amount of active (checked out of the pool) connections from given readers or writers. It finds a
  * start index for iteration in a round-robin fashion. This is done to prevent choosing same first address over and over when all addresses have the same amount
  * of active connections.
+ * <p>
+ * When circuit breakers are given, addresses with an open circuit are skipped unless all given addresses have an open circuit.
  */
 public class LeastConnectedLoadBalancingStrategy implements LoadBalancingStrategy
 {
@@ -36,24 +39,67 @@ public class LeastConnectedLoadBalancingStrategy implements LoadBalancingStrateg
     private final RoundRobinArrayIndex writersIndex = new RoundRobinArrayIndex();
 
     private final ConnectionPool connectionPool;
+    private final CircuitBreakers circuitBreakers;
     private final Logger log;
 
     public LeastConnectedLoadBalancingStrategy( ConnectionPool connectionPool, Logging logging )
+    {
+        this( connectionPool, null, logging );
+    }
+
+    public LeastConnectedLoadBalancingStrategy( ConnectionPool connectionPool, CircuitBreakers circuitBreakers, Logging logging )
     {
         this.connectionPool = connectionPool;
+        this.circuitBreakers = circuitBreakers;
         this.log = logging.getLog( getClass() );
     }
 
     @Override
     public BoltServerAddress selectReader( List<BoltServerAddress> knownReaders )
     {
-        return select( knownReaders, readersIndex, "reader" );
+        return select( withoutOpenCircuits( knownReaders ), readersIndex, "reader" );
     }
 
     @Override
     public BoltServerAddress selectWriter( List<BoltServerAddress> knownWriters )
     {
-        return select( knownWriters, writersIndex, "writer" );
+        return select( withoutOpenCircuits( knownWriters ), writersIndex, "writer" );
+    }
+
+    private List<BoltServerAddress> withoutOpenCircuits( List<BoltServerAddress> addresses )
+    {
+        if ( circuitBreakers == null || !circuitBreakers.enabled() )
+        {
+            return addresses;
+        }
+
+        List<BoltServerAddress> allowed = null;
+        for ( int i = 0; i < addresses.size(); i++ )
+        {
+            BoltServerAddress address = addresses.get( i );
+            if ( circuitBreakers.allowsRequests( address ) )
+            {
+                if ( allowed != null )
+                {
+                    allowed.add( address );
+                }
+            }
+            else if ( allowed == null )
+            {
+                allowed = new ArrayList<>( addresses.subList( 0, i ) );
+            }
+        }
+
+        if ( allowed == null )
+        {
+            return addresses;
+        }
+        if ( allowed.isEmpty() )
+        {
+            log.trace( "All addresses %s have an open circuit, ignoring circuit breakers", addresses );
+            return addresses;
+        }
+        return allowed;
     }
 
     private BoltServerAddress select( List<BoltServerAddress> addresses, RoundRobinArrayIndex addressesIndex,
@@ -33,6 +33,7 @@ import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.exceptions.SessionExpiredException;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DomainNameResolver;
+import org.neo4j.driver.internal.RoutingErrorHandler;
 import org.neo4j.driver.internal.async.ConnectionContext;
 import org.neo4j.driver.internal.async.connection.RoutingConnection;
 import org.neo4j.driver.internal.cluster.ClusterCompositionProvider;
@@ -43,6 +44,7 @@ import org.neo4j.driver.internal.cluster.RoutingSettings;
 import org.neo4j.driver.internal.cluster.RoutingTable;
 import org.neo4j.driver.internal.cluster.RoutingTableRegistry;
 import org.neo4j.driver.internal.cluster.RoutingTableRegistryImpl;
+import org.neo4j.driver.internal.diagnostics.DiagnosticsCollector;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
@@ -73,30 +75,48 @@ public class LoadBalancer implements ConnectionProvider
     private final EventExecutorGroup eventExecutorGroup;
     private final Logger log;
     private final Rediscovery rediscovery;
+    private final CircuitBreakers circuitBreakers;
 
     public LoadBalancer( BoltServerAddress initialRouter, RoutingSettings settings, ConnectionPool connectionPool,
                          EventExecutorGroup eventExecutorGroup, Clock clock, Logging logging,
                          LoadBalancingStrategy loadBalancingStrategy, ServerAddressResolver resolver, DomainNameResolver domainNameResolver )
+    {
+        this( initialRouter, settings, connectionPool, eventExecutorGroup, clock, logging, loadBalancingStrategy, resolver, domainNameResolver,
+              CircuitBreakers.disabled( connectionPool, clock, logging ) );
+    }
+
+    public LoadBalancer( BoltServerAddress initialRouter, RoutingSettings settings, ConnectionPool connectionPool,
+                         EventExecutorGroup eventExecutorGroup, Clock clock, Logging logging,
+                         LoadBalancingStrategy loadBalancingStrategy, ServerAddressResolver resolver, DomainNameResolver domainNameResolver,
+                         CircuitBreakers circuitBreakers )
     {
         this( connectionPool, createRediscovery( initialRouter, resolver, settings, clock, logging, requireNonNull( domainNameResolver ) ),
-              settings, loadBalancingStrategy, eventExecutorGroup, clock, logging );
+              settings, loadBalancingStrategy, eventExecutorGroup, clock, logging, circuitBreakers );
     }
 
     private LoadBalancer( ConnectionPool connectionPool, Rediscovery rediscovery, RoutingSettings settings, LoadBalancingStrategy loadBalancingStrategy,
-                          EventExecutorGroup eventExecutorGroup, Clock clock, Logging logging )
+                          EventExecutorGroup eventExecutorGroup, Clock clock, Logging logging, CircuitBreakers circuitBreakers )
     {
-        this( connectionPool, createRoutingTables( connectionPool, rediscovery, settings, clock, logging ), rediscovery, loadBalancingStrategy,
-              eventExecutorGroup, logging );
+        this( connectionPool, createRoutingTables( connectionPool, rediscovery, settings, clock, logging, circuitBreakers ), rediscovery,
+              loadBalancingStrategy, eventExecutorGroup, logging, circuitBreakers );
     }
 
     LoadBalancer( ConnectionPool connectionPool, RoutingTableRegistry routingTables, Rediscovery rediscovery, LoadBalancingStrategy loadBalancingStrategy,
                   EventExecutorGroup eventExecutorGroup, Logging logging )
+    {
+        this( connectionPool, routingTables, rediscovery, loadBalancingStrategy, eventExecutorGroup, logging,
+              CircuitBreakers.disabled( connectionPool, Clock.SYSTEM, logging ) );
+    }
+
+    LoadBalancer( ConnectionPool connectionPool, RoutingTableRegistry routingTables, Rediscovery rediscovery, LoadBalancingStrategy loadBalancingStrategy,
+                  EventExecutorGroup eventExecutorGroup, Logging logging, CircuitBreakers circuitBreakers )
     {
         this.connectionPool = connectionPool;
         this.routingTables = routingTables;
         this.rediscovery = rediscovery;
         this.loadBalancingStrategy = loadBalancingStrategy;
         this.eventExecutorGroup = eventExecutorGroup;
+        this.circuitBreakers = circuitBreakers;
         this.log = logging.getLog( getClass() );
     }
 
@@ -108,7 +128,8 @@ public class LoadBalancer implements ConnectionProvider
                                     .thenApply( connection -> new RoutingConnection( connection,
                                                                                      Futures.joinNowOrElseThrow( context.databaseNameFuture(),
                                                                                                                  PENDING_DATABASE_NAME_EXCEPTION_SUPPLIER ),
-                                                                                     context.mode(), context.impersonatedUser(), handler ) ) );
+                                                                                     context.mode(), context.impersonatedUser(),
+                                                                                     errorHandler( handler ) ) ) );
     }
 
     @Override
@@ -175,11 +196,41 @@ public class LoadBalancer implements ConnectionProvider
         } );
     }
 
+    @Override
+    public void collectDiagnostics( DiagnosticsCollector collector )
+    {
+        routingTables.collectDiagnostics( collector );
+        connectionPool.collectDiagnostics( collector );
+    }
+
     public RoutingTableRegistry getRoutingTableRegistry()
     {
         return routingTables;
     }
 
+    private RoutingErrorHandler errorHandler( RoutingErrorHandler handler )
+    {
+        if ( !circuitBreakers.enabled() )
+        {
+            return handler;
+        }
+        return new RoutingErrorHandler()
+        {
+            @Override
+            public void onConnectionFailure( BoltServerAddress address )
+            {
+                circuitBreakers.onFailure( address );
+                handler.onConnectionFailure( address );
+            }
+
+            @Override
+            public void onWriteFailure( BoltServerAddress address )
+            {
+                handler.onWriteFailure( address );
+            }
+        };
+    }
+
     private CompletionStage<Boolean> supportsMultiDb( BoltServerAddress address )
     {
         return connectionPool.acquire( address ).thenCompose(
@@ -201,6 +252,7 @@ public class LoadBalancer implements ConnectionProvider
     private void acquire( AccessMode mode, RoutingTable routingTable, CompletableFuture<Connection> result, List<Throwable> attemptErrors )
     {
         List<BoltServerAddress> addresses = getAddressesByMode( mode, routingTable );
+        circuitBreakers.probeIfDue( addresses );
         BoltServerAddress address = selectAddress( mode, addresses );
 
         if ( address == null )
@@ -220,6 +272,7 @@ public class LoadBalancer implements ConnectionProvider
             {
                 if ( error instanceof ServiceUnavailableException )
                 {
+                    circuitBreakers.onFailure( address );
                     String attemptMessage = format( CONNECTION_ACQUISITION_ATTEMPT_FAILURE_MESSAGE, address );
                     log.warn( attemptMessage );
                     log.debug( attemptMessage, error );
@@ -234,6 +287,7 @@ public class LoadBalancer implements ConnectionProvider
             }
             else
             {
+                circuitBreakers.onSuccess( address );
                 result.complete( connection );
             }
         } );
@@ -266,15 +320,17 @@ public class LoadBalancer implements ConnectionProvider
     }
 
     private static RoutingTableRegistry createRoutingTables( ConnectionPool connectionPool, Rediscovery rediscovery, RoutingSettings settings, Clock clock,
-                                                             Logging logging )
+                                                             Logging logging, CircuitBreakers circuitBreakers )
     {
-        return new RoutingTableRegistryImpl( connectionPool, rediscovery, clock, logging, settings.routingTablePurgeDelayMs() );
+        return new RoutingTableRegistryImpl( connectionPool, rediscovery, clock, logging, settings.routingTablePurgeDelayMs(), settings.routingTableSharing(),
+                                             circuitBreakers );
     }
 
     private static Rediscovery createRediscovery( BoltServerAddress initialRouter, ServerAddressResolver resolver,
                                                   RoutingSettings settings, Clock clock, Logging logging, DomainNameResolver domainNameResolver )
     {
-        ClusterCompositionProvider clusterCompositionProvider = new RoutingProcedureClusterCompositionProvider( clock, settings.routingContext() );
+        ClusterCompositionProvider clusterCompositionProvider =
+                new RoutingProcedureClusterCompositionProvider( clock, settings.routingContext(), logging );
         return new RediscoveryImpl( initialRouter, clusterCompositionProvider, resolver, logging, domainNameResolver );
     }
 
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+
+/**
+ * Load balancing strategy that prefers readers located in the same zone as the client. Readers in other zones are only used when none of the local
+ * readers is usable, which is the case when their connection pools are exhausted or their circuit breakers are open. The final choice among the
+ * preferred readers is made by the delegate strategy. Writers are always selected by the delegate strategy, since there is usually only one.
+ */
+public class LocalityAwareLoadBalancingStrategy implements LoadBalancingStrategy
+{
+    private final LoadBalancingStrategy delegate;
+    private final String clientZone;
+    private final ServerZones serverZones;
+    private final ConnectionPool connectionPool;
+    private final int maxConnectionPoolSize;
+    private final CircuitBreakers circuitBreakers;
+    private final Logger log;
+
+    public LocalityAwareLoadBalancingStrategy( LoadBalancingStrategy delegate, String clientZone, ServerZones serverZones, ConnectionPool connectionPool,
+                                               int maxConnectionPoolSize, CircuitBreakers circuitBreakers, Logging logging )
+    {
+        this.delegate = delegate;
+        this.clientZone = clientZone;
+        this.serverZones = serverZones;
+        this.connectionPool = connectionPool;
+        this.maxConnectionPoolSize = maxConnectionPoolSize;
+        this.circuitBreakers = circuitBreakers;
+        this.log = logging.getLog( getClass() );
+    }
+
+    @Override
+    public BoltServerAddress selectReader( List<BoltServerAddress> knownReaders )
+    {
+        List<BoltServerAddress> localReaders = usableLocalAddresses( knownReaders );
+        if ( localReaders.isEmpty() )
+        {
+            log.trace( "No usable reader found in zone '%s', selecting among all readers", clientZone );
+            return delegate.selectReader( knownReaders );
+        }
+        return delegate.selectReader( localReaders );
+    }
+
+    @Override
+    public BoltServerAddress selectWriter( List<BoltServerAddress> knownWriters )
+    {
+        return delegate.selectWriter( knownWriters );
+    }
+
+    private List<BoltServerAddress> usableLocalAddresses( List<BoltServerAddress> addresses )
+    {
+        List<BoltServerAddress> localAddresses = new ArrayList<>( addresses.size() );
+        for ( BoltServerAddress address : addresses )
+        {
+            if ( clientZone.equals( serverZones.zoneOf( address ) ) && isUsable( address ) )
+            {
+                localAddresses.add( address );
+            }
+        }
+        return localAddresses;
+    }
+
+    private boolean isUsable( BoltServerAddress address )
+    {
+        return connectionPool.inUseConnections( address ) < maxConnectionPoolSize && circuitBreakers.allowsRequests( address );
+    }
+}
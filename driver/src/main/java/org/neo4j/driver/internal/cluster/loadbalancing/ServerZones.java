@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+
+/**
+ * Maps server addresses to availability zones using address patterns.
+ * <p>
+ * Patterns are matched against the host of an address, or against {@code host:port} when the pattern contains a colon. The only supported wildcard
+ * is {@code *}, which matches any sequence of characters. Patterns are evaluated in iteration order of the given map and the first match wins.
+ */
+public class ServerZones
+{
+    private static final String UNKNOWN_ZONE = "";
+
+    private final List<ZonePattern> patterns = new ArrayList<>();
+    private final ConcurrentMap<BoltServerAddress,String> zonesByAddress = new ConcurrentHashMap<>();
+
+    public ServerZones( Map<String,String> zonesByAddressPattern )
+    {
+        zonesByAddressPattern.forEach( ( pattern, zone ) -> patterns.add( new ZonePattern( pattern, zone ) ) );
+    }
+
+    /**
+     * @param address the address.
+     * @return the zone of the given address or {@code null} when no pattern matches the address.
+     */
+    public String zoneOf( BoltServerAddress address )
+    {
+        String zone = zonesByAddress.computeIfAbsent( address, this::lookupZone );
+        return zone.equals( UNKNOWN_ZONE ) ? null : zone;
+    }
+
+    private String lookupZone( BoltServerAddress address )
+    {
+        for ( ZonePattern pattern : patterns )
+        {
+            if ( pattern.matches( address ) )
+            {
+                return pattern.zone;
+            }
+        }
+        return UNKNOWN_ZONE;
+    }
+
+    private static class ZonePattern
+    {
+        final Pattern pattern;
+        final boolean includesPort;
+        final String zone;
+
+        ZonePattern( String glob, String zone )
+        {
+            StringBuilder regex = new StringBuilder();
+            String[] parts = glob.split( "\\*", -1 );
+            for ( int i = 0; i < parts.length; i++ )
+            {
+                if ( i > 0 )
+                {
+                    regex.append( ".*" );
+                }
+                regex.append( Pattern.quote( parts[i] ) );
+            }
+            this.pattern = Pattern.compile( regex.toString(), Pattern.CASE_INSENSITIVE );
+            this.includesPort = glob.contains( ":" );
+            this.zone = zone;
+        }
+
+        boolean matches( BoltServerAddress address )
+        {
+            String value = includesPort ? address.host() + ":" + address.port() : address.host();
+            return pattern.matcher( value ).matches();
+        }
+    }
+}
@@ -18,12 +18,25 @@
  */
 package org.neo4j.driver.internal.cursor;
 
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 
+import org.neo4j.driver.Record;
 import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.internal.FailableCursor;
 
 public interface AsyncResultCursor extends ResultCursor, FailableCursor
 {
     CompletableFuture<AsyncResultCursor> mapSuccessfulRunCompletionAsync();
+
+    /**
+     * Moves records that have already been received into the given queue without blocking.
+     * Used by the blocking API to hand off records in batches instead of completing a future per record. At most as many records as the low
+     * watermark of the fetch size are moved at once, so records buffered by the caller count towards the records the driver keeps in memory.
+     *
+     * @param sink       the queue to move records to.
+     * @param maxRecords the maximum number of records to move.
+     * @return the number of moved records, {@code 0} when no records are buffered or the cursor has been consumed.
+     */
+    int drainBufferedRecords( Queue<Record> sink, int maxRecords );
 }
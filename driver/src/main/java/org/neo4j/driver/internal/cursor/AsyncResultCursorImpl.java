@@ -18,14 +18,19 @@
  */
 package org.neo4j.driver.internal.cursor;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.neo4j.driver.Columns;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
+import org.neo4j.driver.internal.InternalColumns;
 import org.neo4j.driver.internal.handlers.PullAllResponseHandler;
 import org.neo4j.driver.internal.handlers.RunResponseHandler;
 import org.neo4j.driver.internal.util.Futures;
@@ -33,6 +38,8 @@ import org.neo4j.driver.summary.ResultSummary;
 
 public class AsyncResultCursorImpl implements AsyncResultCursor
 {
+    private static final int DRAIN_BATCH_SIZE = 1000;
+
     private final Throwable runError;
     private final RunResponseHandler runHandler;
     private final PullAllResponseHandler pullAllHandler;
@@ -68,6 +75,12 @@ public class AsyncResultCursorImpl implements AsyncResultCursor
         return pullAllHandler.peekAsync();
     }
 
+    @Override
+    public int drainBufferedRecords( Queue<Record> sink, int maxRecords )
+    {
+        return pullAllHandler.drainRecords( sink, maxRecords );
+    }
+
     @Override
     public CompletionStage<Record> singleAsync()
     {
@@ -112,6 +125,37 @@ public class AsyncResultCursorImpl implements AsyncResultCursor
         return pullAllHandler.listAsync( mapFunction );
     }
 
+    @Override
+    public CompletionStage<Columns> collectColumnsAsync()
+    {
+        InternalColumns.Builder columns = new InternalColumns.Builder( keys() );
+        Queue<Record> batch = new ArrayDeque<>();
+        Runnable addBatch = () ->
+        {
+            for ( Record record = batch.poll(); record != null; record = batch.poll() )
+            {
+                columns.add( record );
+            }
+        };
+        CompletableFuture<Void> resultFuture = new CompletableFuture<>();
+        internalDrainAsync( batch, Integer.MAX_VALUE, addBatch, resultFuture );
+        return resultFuture.thenApply( ignore -> columns.build() );
+    }
+
+    @Override
+    public CompletionStage<List<Record>> takeAsync( int limit )
+    {
+        if ( limit < 0 )
+        {
+            return Futures.failedFuture( new IllegalArgumentException( "Limit must not be negative: " + limit ) );
+        }
+        Queue<Record> records = new ArrayDeque<>( Math.min( limit, DRAIN_BATCH_SIZE ) + 1 );
+        CompletableFuture<Void> resultFuture = new CompletableFuture<>();
+        internalDrainAsync( records, limit, () -> {}, resultFuture );
+        // consuming discards the rest of the result on the server and drops records that are already on their way
+        return resultFuture.thenCompose( ignore -> consumeAsync() ).thenApply( ignore -> new ArrayList<>( records ) );
+    }
+
     @Override
     public CompletionStage<Boolean> isOpenAsync()
     {
@@ -165,6 +209,49 @@ public class AsyncResultCursorImpl implements AsyncResultCursor
         } );
     }
 
+    /**
+     * Moves records into the sink until it holds {@code limit} records or the stream ends. All records that are already buffered are taken at once and
+     * the completion listener below only runs when nothing has arrived yet, so it runs once per received batch instead of once per record.
+     */
+    private void internalDrainAsync( Queue<Record> sink, int limit, Runnable afterDrain, CompletableFuture<Void> resultFuture )
+    {
+        try
+        {
+            while ( sink.size() < limit && drainBufferedRecords( sink, Math.min( limit - sink.size(), DRAIN_BATCH_SIZE ) ) > 0 )
+            {
+                afterDrain.run();
+            }
+        }
+        catch ( Throwable drainError )
+        {
+            // the listener below would swallow the error and leave the result incomplete
+            resultFuture.completeExceptionally( drainError );
+            return;
+        }
+        if ( sink.size() >= limit )
+        {
+            resultFuture.complete( null );
+            return;
+        }
+
+        peekAsync().whenCompleteAsync( ( record, completionError ) ->
+        {
+            Throwable error = Futures.completionExceptionCause( completionError );
+            if ( error != null )
+            {
+                resultFuture.completeExceptionally( error );
+            }
+            else if ( record != null )
+            {
+                internalDrainAsync( sink, limit, afterDrain, resultFuture );
+            }
+            else
+            {
+                resultFuture.complete( null );
+            }
+        } );
+    }
+
     @Override
     public CompletableFuture<AsyncResultCursor> mapSuccessfulRunCompletionAsync()
     {
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cursor;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.summary.ResultSummary;
+
+/**
+ * Decouples the demand signalled by a reactive subscriber from the PULL requests sent to the server.
+ * <p>
+ * Records are always pulled in batches of at least the minimum pull size, records received beyond the current demand are buffered until they are
+ * requested. The next batch is pulled ahead of time, as soon as the records that are buffered or still in flight drop below 30% of the minimum pull size,
+ * so that subscribers requesting records one by one do not cause a round trip per request.
+ */
+public class DemandShapingRxResultCursor implements RxResultCursor
+{
+    private static final double PREFETCH_THRESHOLD = 0.3;
+
+    private final RxResultCursor delegate;
+    private final long minimumPullSize;
+    private final long prefetchThreshold;
+    private final Lock lock = new ReentrantLock();
+    // serializes delivery to the record consumer, which happens without holding the lock
+    private final AtomicInteger deliveries = new AtomicInteger();
+
+    private final Queue<Record> records = new ArrayDeque<>();
+    private BiConsumer<Record,Throwable> recordConsumer;
+    private long demand;
+    private long inFlight;
+    private boolean unbounded;
+    private boolean cancelled;
+    private boolean terminated;
+    private boolean terminationDelivered;
+    private Throwable terminationError;
+
+    DemandShapingRxResultCursor( RxResultCursor delegate, long minimumPullSize )
+    {
+        this.delegate = delegate;
+        this.minimumPullSize = minimumPullSize;
+        this.prefetchThreshold = (long) (minimumPullSize * PREFETCH_THRESHOLD);
+    }
+
+    /**
+     * Applies demand shaping to the given cursor.
+     *
+     * @param cursor          the cursor.
+     * @param minimumPullSize the minimum number of records to pull at once, demand shaping is disabled when not greater than {@code 1}.
+     * @return the cursor with demand shaping applied, or the given cursor when disabled.
+     */
+    public static RxResultCursor withMinimumPullSize( RxResultCursor cursor, long minimumPullSize )
+    {
+        return minimumPullSize > 1 ? new DemandShapingRxResultCursor( cursor, minimumPullSize ) : cursor;
+    }
+
+    @Override
+    public List<String> keys()
+    {
+        return delegate.keys();
+    }
+
+    @Override
+    public void installRecordConsumer( BiConsumer<Record,Throwable> recordConsumer )
+    {
+        lock.lock();
+        try
+        {
+            if ( this.recordConsumer == null )
+            {
+                this.recordConsumer = recordConsumer;
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        delegate.installRecordConsumer( this::handleRecord );
+    }
+
+    @Override
+    public void request( long n )
+    {
+        boolean requestAll = false;
+        lock.lock();
+        try
+        {
+            if ( n == Long.MAX_VALUE )
+            {
+                requestAll = !unbounded && !terminated && !cancelled;
+                unbounded = true;
+                demand = Long.MAX_VALUE;
+            }
+            else
+            {
+                demand = addCapped( demand, n );
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        if ( requestAll )
+        {
+            delegate.request( Long.MAX_VALUE );
+        }
+        // decide on pulling ahead before the buffered records are handed out to satisfy this request
+        pullMore();
+        deliver();
+    }
+
+    @Override
+    public void cancel()
+    {
+        lock.lock();
+        try
+        {
+            cancelled = true;
+            records.clear();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        delegate.cancel();
+    }
+
+    @Override
+    public CompletionStage<ResultSummary> summaryAsync()
+    {
+        return delegate.summaryAsync();
+    }
+
+    @Override
+    public boolean isDone()
+    {
+        return delegate.isDone();
+    }
+
+    @Override
+    public Throwable getRunError()
+    {
+        return delegate.getRunError();
+    }
+
+    @Override
+    public CompletionStage<Throwable> discardAllFailureAsync()
+    {
+        return delegate.discardAllFailureAsync();
+    }
+
+    @Override
+    public CompletionStage<Throwable> pullAllFailureAsync()
+    {
+        return delegate.pullAllFailureAsync();
+    }
+
+    private void handleRecord( Record record, Throwable error )
+    {
+        lock.lock();
+        try
+        {
+            if ( record != null )
+            {
+                inFlight = Math.max( 0, inFlight - 1 );
+                if ( !cancelled )
+                {
+                    records.add( record );
+                }
+            }
+            else
+            {
+                terminated = true;
+                terminationError = error;
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        deliver();
+        if ( record != null )
+        {
+            pullMore();
+        }
+    }
+
+    private void pullMore()
+    {
+        long toPull;
+        lock.lock();
+        try
+        {
+            if ( unbounded || terminated || cancelled || demand == 0 )
+            {
+                return;
+            }
+            long available = inFlight + records.size();
+            if ( available - demand >= prefetchThreshold )
+            {
+                return;
+            }
+            toPull = Math.max( minimumPullSize, demand - available );
+            // counted before the request is sent, records may arrive before request returns
+            inFlight = addCapped( inFlight, toPull );
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        delegate.request( toPull );
+    }
+
+    private void deliver()
+    {
+        if ( deliveries.getAndIncrement() != 0 )
+        {
+            // the thread that is already delivering will pick up the new state
+            return;
+        }
+
+        int missed = 1;
+        do
+        {
+            Record record;
+            while ( (record = nextDeliverableRecord()) != null )
+            {
+                recordConsumer.accept( record, null );
+            }
+
+            if ( takeTermination() )
+            {
+                recordConsumer.accept( null, terminationError );
+            }
+
+            missed = deliveries.addAndGet( -missed );
+        }
+        while ( missed != 0 );
+    }
+
+    private Record nextDeliverableRecord()
+    {
+        lock.lock();
+        try
+        {
+            if ( recordConsumer == null || demand == 0 || records.isEmpty() )
+            {
+                return null;
+            }
+            if ( !unbounded )
+            {
+                demand--;
+            }
+            return records.poll();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private boolean takeTermination()
+    {
+        lock.lock();
+        try
+        {
+            if ( recordConsumer != null && terminated && !terminationDelivered && records.isEmpty() )
+            {
+                terminationDelivered = true;
+                return true;
+            }
+            return false;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private static long addCapped( long a, long b )
+    {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+}
@@ -19,11 +19,13 @@
 package org.neo4j.driver.internal.cursor;
 
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.neo4j.driver.Columns;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.summary.ResultSummary;
 
@@ -66,6 +68,12 @@ public class DisposableAsyncResultCursor implements AsyncResultCursor
         return assertNotDisposed().thenCompose( ignored -> delegate.peekAsync() );
     }
 
+    @Override
+    public int drainBufferedRecords( Queue<Record> sink, int maxRecords )
+    {
+        return isDisposed ? 0 : delegate.drainBufferedRecords( sink, maxRecords );
+    }
+
     @Override
     public CompletionStage<Record> singleAsync()
     {
@@ -90,6 +98,24 @@ public class DisposableAsyncResultCursor implements AsyncResultCursor
         return assertNotDisposed().thenCompose( ignored -> delegate.listAsync( mapFunction ) );
     }
 
+    @Override
+    public <T> CompletionStage<List<T>> listAsync( Class<T> type )
+    {
+        return assertNotDisposed().thenCompose( ignored -> delegate.listAsync( type ) );
+    }
+
+    @Override
+    public CompletionStage<Columns> collectColumnsAsync()
+    {
+        return assertNotDisposed().thenCompose( ignored -> delegate.collectColumnsAsync() );
+    }
+
+    @Override
+    public CompletionStage<List<Record>> takeAsync( int limit )
+    {
+        return assertNotDisposed().thenCompose( ignored -> delegate.takeAsync( limit ) );
+    }
+
     @Override
     public CompletionStage<Boolean> isOpenAsync()
     {
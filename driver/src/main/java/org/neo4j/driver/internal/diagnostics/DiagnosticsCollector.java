@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.diagnostics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.diagnostics.ConnectionPoolDiagnostics;
+import org.neo4j.driver.diagnostics.DriverDiagnostics;
+import org.neo4j.driver.diagnostics.EventLoopDiagnostics;
+import org.neo4j.driver.diagnostics.InFlightQueryDiagnostics;
+import org.neo4j.driver.diagnostics.RoutingTableDiagnostics;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.cluster.RoutingTable;
+import org.neo4j.driver.internal.cluster.RoutingTableSnapshot;
+import org.neo4j.driver.internal.util.Clock;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Collects the parts of a {@link DriverDiagnostics} snapshot from the components of a driver. Not thread safe, a collector is used by a single
+ * thread to take a single snapshot.
+ */
+public class DiagnosticsCollector
+{
+    private final Clock clock;
+    private final long nowNanos = System.nanoTime();
+    private final List<RoutingTableDiagnostics> routingTables = new ArrayList<>();
+    private final List<ConnectionPoolDiagnostics> connectionPools = new ArrayList<>();
+    private final List<InFlightQueryDiagnostics> inFlightQueries = new ArrayList<>();
+    private final List<EventLoopDiagnostics> eventLoops = new ArrayList<>();
+    private long retries;
+    private long retriesExhausted;
+    private long retriesRejected;
+
+    public DiagnosticsCollector( Clock clock )
+    {
+        this.clock = clock;
+    }
+
+    public void routingTable( RoutingTable routingTable )
+    {
+        RoutingTableSnapshot table = routingTable.snapshot();
+        routingTables.add( new InternalDriverDiagnostics.RoutingTableSnapshot( table.database().description(), table.expirationTimestamp(),
+                                                                               addresses( table.routers() ), addresses( table.readers() ),
+                                                                               addresses( table.writers() ) ) );
+    }
+
+    public void connectionPool( BoltServerAddress address, int inUse, int idle )
+    {
+        connectionPools.add( new InternalDriverDiagnostics.ConnectionPoolSnapshot( address.toString(), inUse, idle ) );
+    }
+
+    public void inFlightQuery( InFlightQuery query, BoltServerAddress address, String connectionId )
+    {
+        long ageMillis = TimeUnit.NANOSECONDS.toMillis( Math.max( 0, nowNanos - query.startNanos() ) );
+        inFlightQueries.add( new InternalDriverDiagnostics.InFlightQuerySnapshot( query.query(), query.database(), String.valueOf( address ), connectionId,
+                                                                                  ageMillis ) );
+    }
+
+    public void eventLoop( String name, int pendingTasks, int connections )
+    {
+        eventLoops.add( new InternalDriverDiagnostics.EventLoopSnapshot( name, pendingTasks, connections ) );
+    }
+
+    public void retries( long retries, long retriesExhausted, long retriesRejected )
+    {
+        this.retries += retries;
+        this.retriesExhausted += retriesExhausted;
+        this.retriesRejected += retriesRejected;
+    }
+
+    public DriverDiagnostics snapshot()
+    {
+        return new InternalDriverDiagnostics( clock.millis(), routingTables, connectionPools, inFlightQueries, eventLoops,
+                                              new InternalDriverDiagnostics.RetrySnapshot( retries, retriesExhausted, retriesRejected ) );
+    }
+
+    private static List<String> addresses( List<BoltServerAddress> addresses )
+    {
+        return addresses.stream().map( BoltServerAddress::toString ).collect( toList() );
+    }
+}
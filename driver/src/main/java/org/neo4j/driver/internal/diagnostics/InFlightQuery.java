@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.diagnostics;
+
+/**
+ * A query whose RUN message has been written to a channel and whose result has not been fully received yet.
+ */
+public final class InFlightQuery
+{
+    private final String query;
+    private final String database;
+    private final long startNanos;
+
+    public InFlightQuery( String query, String database, long startNanos )
+    {
+        this.query = query;
+        this.database = database;
+        this.startNanos = startNanos;
+    }
+
+    public String query()
+    {
+        return query;
+    }
+
+    /**
+     * @return the database of the query, or {@code null} for the default database.
+     */
+    public String database()
+    {
+        return database;
+    }
+
+    /**
+     * @return the value of {@link System#nanoTime()} when the query was sent.
+     */
+    public long startNanos()
+    {
+        return startNanos;
+    }
+}
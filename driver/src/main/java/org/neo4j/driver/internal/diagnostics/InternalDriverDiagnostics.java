@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.diagnostics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.neo4j.driver.diagnostics.ConnectionPoolDiagnostics;
+import org.neo4j.driver.diagnostics.DriverDiagnostics;
+import org.neo4j.driver.diagnostics.EventLoopDiagnostics;
+import org.neo4j.driver.diagnostics.InFlightQueryDiagnostics;
+import org.neo4j.driver.diagnostics.RetryDiagnostics;
+import org.neo4j.driver.diagnostics.RoutingTableDiagnostics;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+public class InternalDriverDiagnostics implements DriverDiagnostics
+{
+    private final long timestamp;
+    private final List<RoutingTableDiagnostics> routingTables;
+    private final List<ConnectionPoolDiagnostics> connectionPools;
+    private final List<InFlightQueryDiagnostics> inFlightQueries;
+    private final List<EventLoopDiagnostics> eventLoops;
+    private final RetryDiagnostics retries;
+
+    InternalDriverDiagnostics( long timestamp, List<RoutingTableDiagnostics> routingTables, List<ConnectionPoolDiagnostics> connectionPools,
+                               List<InFlightQueryDiagnostics> inFlightQueries, List<EventLoopDiagnostics> eventLoops, RetryDiagnostics retries )
+    {
+        this.timestamp = timestamp;
+        this.routingTables = copy( routingTables );
+        this.connectionPools = copy( connectionPools );
+        this.inFlightQueries = copy( inFlightQueries );
+        this.eventLoops = copy( eventLoops );
+        this.retries = retries;
+    }
+
+    /**
+     * Creates a snapshot without any parts and with retry counters of {@code -1}, for drivers that can not take snapshots of their state.
+     *
+     * @return an empty snapshot taken now.
+     */
+    public static DriverDiagnostics empty()
+    {
+        return new InternalDriverDiagnostics( System.currentTimeMillis(), emptyList(), emptyList(), emptyList(), emptyList(),
+                                              new RetrySnapshot( -1, -1, -1 ) );
+    }
+
+    @Override
+    public long timestamp()
+    {
+        return timestamp;
+    }
+
+    @Override
+    public List<RoutingTableDiagnostics> routingTables()
+    {
+        return routingTables;
+    }
+
+    @Override
+    public List<ConnectionPoolDiagnostics> connectionPools()
+    {
+        return connectionPools;
+    }
+
+    @Override
+    public List<InFlightQueryDiagnostics> inFlightQueries()
+    {
+        return inFlightQueries;
+    }
+
+    @Override
+    public List<EventLoopDiagnostics> eventLoops()
+    {
+        return eventLoops;
+    }
+
+    @Override
+    public RetryDiagnostics retries()
+    {
+        return retries;
+    }
+
+    @Override
+    public String toJson()
+    {
+        StringBuilder json = new StringBuilder( 512 );
+        json.append( "{\"timestamp\":" ).append( timestamp );
+
+        json.append( ",\"routingTables\":[" );
+        for ( int i = 0; i < routingTables.size(); i++ )
+        {
+            RoutingTableDiagnostics table = routingTables.get( i );
+            json.append( i == 0 ? "{" : ",{" );
+            appendField( json, "database", table.database() ).append( ",\"expirationTimestamp\":" ).append( table.expirationTimestamp() );
+            json.append( ",\"routers\":" );
+            appendStrings( json, table.routers() );
+            json.append( ",\"readers\":" );
+            appendStrings( json, table.readers() );
+            json.append( ",\"writers\":" );
+            appendStrings( json, table.writers() );
+            json.append( '}' );
+        }
+
+        json.append( "],\"connectionPools\":[" );
+        for ( int i = 0; i < connectionPools.size(); i++ )
+        {
+            ConnectionPoolDiagnostics pool = connectionPools.get( i );
+            json.append( i == 0 ? "{" : ",{" );
+            appendField( json, "address", pool.address() ).append( ",\"inUse\":" ).append( pool.inUse() ).append( ",\"idle\":" ).append( pool.idle() );
+            json.append( '}' );
+        }
+
+        json.append( "],\"inFlightQueries\":[" );
+        for ( int i = 0; i < inFlightQueries.size(); i++ )
+        {
+            InFlightQueryDiagnostics query = inFlightQueries.get( i );
+            json.append( i == 0 ? "{" : ",{" );
+            appendField( json, "query", query.query() ).append( ',' );
+            appendField( json, "database", query.database() ).append( ',' );
+            appendField( json, "address", query.address() ).append( ',' );
+            appendField( json, "connectionId", query.connectionId() ).append( ",\"ageMillis\":" ).append( query.ageMillis() );
+            json.append( '}' );
+        }
+
+        json.append( "],\"eventLoops\":[" );
+        for ( int i = 0; i < eventLoops.size(); i++ )
+        {
+            EventLoopDiagnostics eventLoop = eventLoops.get( i );
+            json.append( i == 0 ? "{" : ",{" );
+            appendField( json, "name", eventLoop.name() ).append( ",\"pendingTasks\":" ).append( eventLoop.pendingTasks() )
+                                                          .append( ",\"connections\":" ).append( eventLoop.connections() );
+            json.append( '}' );
+        }
+
+        json.append( "],\"retries\":{\"retries\":" ).append( retries.retries() )
+            .append( ",\"retriesExhausted\":" ).append( retries.retriesExhausted() )
+            .append( ",\"retriesRejected\":" ).append( retries.retriesRejected() ).append( "}}" );
+        return json.toString();
+    }
+
+    @Override
+    public String toString()
+    {
+        return toJson();
+    }
+
+    private static StringBuilder appendField( StringBuilder json, String name, String value )
+    {
+        json.append( '"' ).append( name ).append( "\":" );
+        return appendString( json, value );
+    }
+
+    private static void appendStrings( StringBuilder json, List<String> values )
+    {
+        json.append( '[' );
+        for ( int i = 0; i < values.size(); i++ )
+        {
+            if ( i > 0 )
+            {
+                json.append( ',' );
+            }
+            appendString( json, values.get( i ) );
+        }
+        json.append( ']' );
+    }
+
+    private static StringBuilder appendString( StringBuilder json, String value )
+    {
+        if ( value == null )
+        {
+            return json.append( "null" );
+        }
+        json.append( '"' );
+        for ( int i = 0; i < value.length(); i++ )
+        {
+            char c = value.charAt( i );
+            switch ( c )
+            {
+            case '"':
+                json.append( "\\\"" );
+                break;
+            case '\\':
+                json.append( "\\\\" );
+                break;
+            case '\n':
+                json.append( "\\n" );
+                break;
+            case '\r':
+                json.append( "\\r" );
+                break;
+            case '\t':
+                json.append( "\\t" );
+                break;
+            default:
+                if ( c < 0x20 )
+                {
+                    json.append( String.format( "\\u%04x", (int) c ) );
+                }
+                else
+                {
+                    json.append( c );
+                }
+            }
+        }
+        return json.append( '"' );
+    }
+
+    private static <T> List<T> copy( List<T> list )
+    {
+        return unmodifiableList( new ArrayList<>( list ) );
+    }
+
+    static class RoutingTableSnapshot implements RoutingTableDiagnostics
+    {
+        private final String database;
+        private final long expirationTimestamp;
+        private final List<String> routers;
+        private final List<String> readers;
+        private final List<String> writers;
+
+        RoutingTableSnapshot( String database, long expirationTimestamp, List<String> routers, List<String> readers, List<String> writers )
+        {
+            this.database = database;
+            this.expirationTimestamp = expirationTimestamp;
+            this.routers = copy( routers );
+            this.readers = copy( readers );
+            this.writers = copy( writers );
+        }
+
+        @Override
+        public String database()
+        {
+            return database;
+        }
+
+        @Override
+        public long expirationTimestamp()
+        {
+            return expirationTimestamp;
+        }
+
+        @Override
+        public List<String> routers()
+        {
+            return routers;
+        }
+
+        @Override
+        public List<String> readers()
+        {
+            return readers;
+        }
+
+        @Override
+        public List<String> writers()
+        {
+            return writers;
+        }
+    }
+
+    static class ConnectionPoolSnapshot implements ConnectionPoolDiagnostics
+    {
+        private final String address;
+        private final int inUse;
+        private final int idle;
+
+        ConnectionPoolSnapshot( String address, int inUse, int idle )
+        {
+            this.address = address;
+            this.inUse = inUse;
+            this.idle = idle;
+        }
+
+        @Override
+        public String address()
+        {
+            return address;
+        }
+
+        @Override
+        public int inUse()
+        {
+            return inUse;
+        }
+
+        @Override
+        public int idle()
+        {
+            return idle;
+        }
+    }
+
+    static class InFlightQuerySnapshot implements InFlightQueryDiagnostics
+    {
+        private final String query;
+        private final String database;
+        private final String address;
+        private final String connectionId;
+        private final long ageMillis;
+
+        InFlightQuerySnapshot( String query, String database, String address, String connectionId, long ageMillis )
+        {
+            this.query = query;
+            this.database = database;
+            this.address = address;
+            this.connectionId = connectionId;
+            this.ageMillis = ageMillis;
+        }
+
+        @Override
+        public String query()
+        {
+            return query;
+        }
+
+        @Override
+        public String database()
+        {
+            return database;
+        }
+
+        @Override
+        public String address()
+        {
+            return address;
+        }
+
+        @Override
+        public String connectionId()
+        {
+            return connectionId;
+        }
+
+        @Override
+        public long ageMillis()
+        {
+            return ageMillis;
+        }
+    }
+
+    static class EventLoopSnapshot implements EventLoopDiagnostics
+    {
+        private final String name;
+        private final int pendingTasks;
+        private final int connections;
+
+        EventLoopSnapshot( String name, int pendingTasks, int connections )
+        {
+            this.name = name;
+            this.pendingTasks = pendingTasks;
+            this.connections = connections;
+        }
+
+        @Override
+        public String name()
+        {
+            return name;
+        }
+
+        @Override
+        public int pendingTasks()
+        {
+            return pendingTasks;
+        }
+
+        @Override
+        public int connections()
+        {
+            return connections;
+        }
+    }
+
+    static class RetrySnapshot implements RetryDiagnostics
+    {
+        private final long retries;
+        private final long retriesExhausted;
+        private final long retriesRejected;
+
+        RetrySnapshot( long retries, long retriesExhausted, long retriesRejected )
+        {
+            this.retries = retries;
+            this.retriesExhausted = retriesExhausted;
+            this.retriesRejected = retriesRejected;
+        }
+
+        @Override
+        public long retries()
+        {
+            return retries;
+        }
+
+        @Override
+        public long retriesExhausted()
+        {
+            return retriesExhausted;
+        }
+
+        @Override
+        public long retriesRejected()
+        {
+            return retriesRejected;
+        }
+    }
+}
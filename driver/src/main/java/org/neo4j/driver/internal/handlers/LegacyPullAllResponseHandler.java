@@ -33,6 +33,7 @@ import org.neo4j.driver.Value;
 import org.neo4j.driver.exceptions.Neo4jException;
 import org.neo4j.driver.internal.InternalRecord;
 import org.neo4j.driver.internal.messaging.request.PullAllMessage;
+import org.neo4j.driver.internal.metrics.QueryExecution;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.internal.util.Iterables;
@@ -41,6 +42,7 @@ import org.neo4j.driver.summary.ResultSummary;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 import static org.neo4j.driver.internal.util.Futures.failedFuture;
@@ -69,10 +71,16 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler
     private Throwable failure;
     private ResultSummary summary;
 
-    private boolean ignoreRecords;
+    // volatile so that the inbound message reader can check it for every record without taking the monitor
+    private volatile boolean ignoreRecords;
     private CompletableFuture<Record> recordFuture;
     private CompletableFuture<Throwable> failureFuture;
 
+    // only updated and read on the event loop of the connection, see onRecordSize and onRecordDecodeTime
+    private long receivedRecords;
+    private long receivedBytes;
+    private long decodeNanos;
+
     public LegacyPullAllResponseHandler(Query query, RunResponseHandler runResponseHandler, Connection connection, MetadataExtractor metadataExtractor,
                                         PullResponseCompletionListener completionListener )
     {
@@ -109,6 +117,7 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler
 
             completeRecordFuture( null );
             completeFailureFuture( null );
+            afterQueryCompleted( true );
         }
         else
         {
@@ -139,6 +148,26 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler
                 failure = error;
             }
         }
+        afterQueryCompleted( false );
+    }
+
+    @Override
+    public boolean isDiscardingRecords()
+    {
+        return ignoreRecords;
+    }
+
+    @Override
+    public void onRecordSize( int sizeInBytes )
+    {
+        receivedRecords++;
+        receivedBytes += sizeInBytes;
+    }
+
+    @Override
+    public void onRecordDecodeTime( long decodeNanos )
+    {
+        this.decodeNanos += decodeNanos;
     }
 
     @Override
@@ -194,10 +223,24 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler
         return peekAsync().thenApply( ignore -> dequeueRecord() );
     }
 
+    @Override
+    public synchronized int drainRecords( Queue<Record> sink, int maxRecords )
+    {
+        int drained = 0;
+        while ( drained < maxRecords && !records.isEmpty() )
+        {
+            sink.add( dequeueRecord() );
+            drained++;
+        }
+        return drained;
+    }
+
     public synchronized CompletionStage<ResultSummary> consumeAsync()
     {
         ignoreRecords = true;
         records.clear();
+        // records are no longer delivered to onRecord, complete a pending peek right away
+        completeRecordFuture( null );
         return pullAllFailureAsync().thenApply( error ->
         {
             if ( error != null )
@@ -348,6 +391,23 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler
         return false;
     }
 
+    private void afterQueryCompleted( boolean successful )
+    {
+        connection.afterResultCompleted();
+        if ( connection.isQueryExecutionObserved() )
+        {
+            connection.afterQueryCompleted( queryExecution( successful ) );
+        }
+    }
+
+    private QueryExecution queryExecution( boolean successful )
+    {
+        long resultAvailableAfter = summary == null ? -1 : summary.resultAvailableAfter( MILLISECONDS );
+        long resultConsumedAfter = summary == null ? -1 : summary.resultConsumedAfter( MILLISECONDS );
+        return new QueryExecution( successful, runResponseHandler.runRoundTripNanos(), resultAvailableAfter, resultConsumedAfter, decodeNanos,
+                                   receivedRecords, receivedBytes, query, runResponseHandler.nanosSinceRun() );
+    }
+
     private ResultSummary extractResultSummary( Map<String,Value> metadata )
     {
         long resultAvailableAfter = runResponseHandler.resultAvailableAfter();
@@ -19,6 +19,7 @@
 package org.neo4j.driver.internal.handlers;
 
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
@@ -38,5 +39,14 @@ public interface PullAllResponseHandler extends ResponseHandler
 
     CompletionStage<Throwable> pullAllFailureAsync();
 
+    /**
+     * Moves records that have already been received into the given queue without waiting for more records to arrive.
+     *
+     * @param sink       the queue to move records to.
+     * @param maxRecords the maximum number of records to move.
+     * @return the number of moved records, {@code 0} when no records are buffered.
+     */
+    int drainRecords( Queue<Record> sink, int maxRecords );
+
     void prePopulateRecords();
 }
@@ -23,6 +23,7 @@ import org.neo4j.driver.internal.BookmarksHolder;
 import org.neo4j.driver.internal.async.UnmanagedTransaction;
 import org.neo4j.driver.internal.handlers.pulln.AutoPullResponseHandler;
 import org.neo4j.driver.internal.handlers.pulln.BasicPullResponseHandler;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizePolicy;
 import org.neo4j.driver.internal.handlers.pulln.PullResponseHandler;
 import org.neo4j.driver.internal.messaging.v3.BoltProtocolV3;
 import org.neo4j.driver.internal.spi.Connection;
@@ -39,11 +40,11 @@ public class PullHandlers
     }
 
     public static PullAllResponseHandler newBoltV4AutoPullHandler( Query query, RunResponseHandler runHandler, Connection connection,
-                                                                   BookmarksHolder bookmarksHolder, UnmanagedTransaction tx, long fetchSize )
+                                                                   BookmarksHolder bookmarksHolder, UnmanagedTransaction tx, FetchSizePolicy fetchSizePolicy )
     {
         PullResponseCompletionListener completionListener = createPullResponseCompletionListener( connection, bookmarksHolder, tx );
 
-        return new AutoPullResponseHandler( query, runHandler, connection, BoltProtocolV3.METADATA_EXTRACTOR, completionListener, fetchSize );
+        return new AutoPullResponseHandler( query, runHandler, connection, BoltProtocolV3.METADATA_EXTRACTOR, completionListener, fetchSizePolicy );
     }
 
     public static PullResponseHandler newBoltV4BasicPullHandler( Query query, RunResponseHandler runHandler, Connection connection,
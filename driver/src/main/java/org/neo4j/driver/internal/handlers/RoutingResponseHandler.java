@@ -69,6 +69,24 @@ public class RoutingResponseHandler implements ResponseHandler
         delegate.onRecord( fields );
     }
 
+    @Override
+    public void onRecordSize( int sizeInBytes )
+    {
+        delegate.onRecordSize( sizeInBytes );
+    }
+
+    @Override
+    public void onRecordDecodeTime( long decodeNanos )
+    {
+        delegate.onRecordDecodeTime( decodeNanos );
+    }
+
+    @Override
+    public boolean isDiscardingRecords()
+    {
+        return delegate.isDiscardingRecords();
+    }
+
     @Override
     public boolean canManageAutoRead()
     {
@@ -38,6 +38,8 @@ public class RunResponseHandler implements ResponseHandler
 
     private QueryKeys queryKeys = QueryKeys.empty();
     private long resultAvailableAfter = -1;
+    private final long runStartNanos;
+    private long runRoundTripNanos = -1;
 
     private final Connection connection;
     private final UnmanagedTransaction tx;
@@ -48,11 +50,13 @@ public class RunResponseHandler implements ResponseHandler
         this.metadataExtractor = metadataExtractor;
         this.connection = connection;
         this.tx = tx;
+        this.runStartNanos = connection.isQueryExecutionObserved() ? System.nanoTime() : -1;
     }
 
     @Override
     public void onSuccess( Map<String,Value> metadata )
     {
+        measureRunRoundTrip();
         queryKeys = metadataExtractor.extractQueryKeys( metadata );
         resultAvailableAfter = metadataExtractor.extractResultAvailableAfter( metadata );
         queryId = metadataExtractor.extractQueryId( metadata );
@@ -63,6 +67,7 @@ public class RunResponseHandler implements ResponseHandler
     @Override
     public void onFailure( Throwable error )
     {
+        measureRunRoundTrip();
         if ( tx != null )
         {
             tx.markTerminated( error );
@@ -84,6 +89,14 @@ public class RunResponseHandler implements ResponseHandler
         throw new UnsupportedOperationException();
     }
 
+    private void measureRunRoundTrip()
+    {
+        if ( runStartNanos >= 0 )
+        {
+            runRoundTripNanos = System.nanoTime() - runStartNanos;
+        }
+    }
+
     public QueryKeys queryKeys()
     {
         return queryKeys;
@@ -94,6 +107,33 @@ public class RunResponseHandler implements ResponseHandler
         return resultAvailableAfter;
     }
 
+    /**
+     * @return the time in nanoseconds between creating this handler, right before RUN is written, and receiving the RUN response, or {@code -1} if
+     * the response has not been received or the query execution is not observed, see {@link Connection#isQueryExecutionObserved()}.
+     */
+    public long runRoundTripNanos()
+    {
+        return runRoundTripNanos;
+    }
+
+    /**
+     * @return the value of {@link System#nanoTime()} when this handler was created, right before RUN is written, or {@code -1} if the query
+     * execution is not observed.
+     */
+    public long runStartNanos()
+    {
+        return runStartNanos;
+    }
+
+    /**
+     * @return the time in nanoseconds since this handler was created, right before RUN is written, or {@code -1} if the query execution is not
+     * observed.
+     */
+    public long nanosSinceRun()
+    {
+        return runStartNanos < 0 ? -1 : System.nanoTime() - runStartNanos;
+    }
+
     public long queryId()
     {
         return queryId;
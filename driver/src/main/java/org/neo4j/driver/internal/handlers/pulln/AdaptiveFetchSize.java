@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.handlers.pulln;
+
+/**
+ * Computes the number of records to request with each PULL message of a result from the observed size of the records and the speed of the consumer.
+ * <p>
+ * The first batch is small, since nothing is known about the records yet. Afterwards every batch is limited so that the records of one batch and the
+ * records still buffered from the previous batch fit into the memory budget of the result. Within that limit the batch grows when the consumer had to
+ * wait for records and shrinks when the consumer could not keep up with the records arriving. A consumer that takes records in batches is judged by
+ * the number of records that were waiting for it when it came back, not by the number left after it took them.
+ * <p>
+ * This class is not thread-safe, it is guarded by the owning response handler.
+ */
+public class AdaptiveFetchSize
+{
+    static final long INITIAL_FETCH_SIZE = 100;
+    static final long MIN_FETCH_SIZE = 10;
+    static final long MAX_FETCH_SIZE = 100_000;
+
+    private final long memoryBudgetBytes;
+
+    private long fetchSize = INITIAL_FETCH_SIZE;
+    private long receivedRecords;
+    private long receivedBytes;
+    private boolean consumerStarved;
+    private boolean consumerLagging;
+
+    public AdaptiveFetchSize( long memoryBudgetBytes )
+    {
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    public void recordReceived( int sizeInBytes )
+    {
+        receivedRecords++;
+        receivedBytes += sizeInBytes;
+    }
+
+    /**
+     * Signals that the consumer asked for a record while no record was buffered.
+     */
+    public void consumerStarved()
+    {
+        consumerStarved = true;
+    }
+
+    /**
+     * Signals that records were buffered faster than the consumer processed them.
+     */
+    public void consumerLagging()
+    {
+        consumerLagging = true;
+    }
+
+    /**
+     * Signals that the consumer came back for records while the given number of records was buffered. Many buffered records mean the consumer is
+     * lagging, unless it had to wait for records since the last PULL message, in which case they arrived in a burst while it was waiting.
+     *
+     * @param bufferedRecords the number of buffered records before the consumer took any of them.
+     */
+    public void consumerDemand( int bufferedRecords )
+    {
+        if ( !consumerStarved && bufferedRecords > fetchSize / 2 )
+        {
+            consumerLagging = true;
+        }
+    }
+
+    /**
+     * @return the number of records to request with the next PULL message.
+     */
+    public long next()
+    {
+        long size = fetchSize;
+        if ( consumerLagging )
+        {
+            size = size / 2;
+        }
+        else if ( consumerStarved )
+        {
+            size = size * 2;
+        }
+        consumerLagging = false;
+        consumerStarved = false;
+
+        size = Math.max( MIN_FETCH_SIZE, Math.min( MAX_FETCH_SIZE, size ) );
+        if ( receivedRecords > 0 )
+        {
+            long averageRecordBytes = Math.max( 1, receivedBytes / receivedRecords );
+            // leave room for the records still buffered from the previous batch
+            size = Math.min( size, memoryBudgetBytes / 2 / averageRecordBytes );
+        }
+
+        fetchSize = Math.max( 1, size );
+        return fetchSize;
+    }
+
+    /**
+     * @return the number of records requested with the last PULL message.
+     */
+    public long current()
+    {
+        return fetchSize;
+    }
+}
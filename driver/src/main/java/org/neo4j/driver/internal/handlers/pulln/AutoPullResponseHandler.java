@@ -40,6 +40,7 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 import static org.neo4j.driver.internal.util.Futures.failedFuture;
+import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
 
 /**
  * Built on top of {@link BasicPullResponseHandler} to be able to pull in batches.
@@ -48,9 +49,10 @@ import static org.neo4j.driver.internal.util.Futures.failedFuture;
 public class AutoPullResponseHandler extends BasicPullResponseHandler implements PullAllResponseHandler
 {
     private static final Queue<Record> UNINITIALIZED_RECORDS = Iterables.emptyQueue();
-    private final long fetchSize;
-    private final long lowRecordWatermark;
-    private final long highRecordWatermark;
+    private final AdaptiveFetchSize adaptiveFetchSize;
+    private long fetchSize;
+    private long lowRecordWatermark;
+    private long highRecordWatermark;
 
     // initialized lazily when first record arrives
     private Queue<Record> records = UNINITIALIZED_RECORDS;
@@ -63,9 +65,25 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
     private CompletableFuture<ResultSummary> summaryFuture;
 
     public AutoPullResponseHandler(Query query, RunResponseHandler runResponseHandler, Connection connection, MetadataExtractor metadataExtractor,
-                                   PullResponseCompletionListener completionListener, long fetchSize )
+                                   PullResponseCompletionListener completionListener, FetchSizePolicy fetchSizePolicy )
     {
         super(query, runResponseHandler, connection, metadataExtractor, completionListener );
+        if ( fetchSizePolicy.isAdaptive() )
+        {
+            this.adaptiveFetchSize = new AdaptiveFetchSize( fetchSizePolicy.memoryBudgetBytes() );
+            updateFetchSize( adaptiveFetchSize.current() );
+        }
+        else
+        {
+            this.adaptiveFetchSize = null;
+            updateFetchSize( fetchSizePolicy.fetchSize() );
+        }
+
+        installRecordAndSummaryConsumers();
+    }
+
+    private void updateFetchSize( long fetchSize )
+    {
         this.fetchSize = fetchSize;
 
         //For pull everything ensure conditions for disabling auto pull are never met
@@ -79,8 +97,33 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
             this.highRecordWatermark = (long) (fetchSize * 0.7);
             this.lowRecordWatermark = (long) (fetchSize * 0.3);
         }
+    }
 
-        installRecordAndSummaryConsumers();
+    private void requestNextBatch()
+    {
+        if ( adaptiveFetchSize != null )
+        {
+            updateFetchSize( adaptiveFetchSize.next() );
+        }
+        request( fetchSize );
+    }
+
+    @Override
+    public void onRecordSize( int sizeInBytes )
+    {
+        super.onRecordSize( sizeInBytes );
+        if ( adaptiveFetchSize != null )
+        {
+            lock.lock();
+            try
+            {
+                adaptiveFetchSize.recordReceived( sizeInBytes );
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
     }
 
     private void installRecordAndSummaryConsumers()
@@ -114,7 +157,7 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
             {
                 if ( isAutoPullEnabled )
                 {
-                    request( fetchSize );
+                    requestNextBatch();
                 }
             }
         } );
@@ -129,7 +172,12 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
         }
     }
 
-    public synchronized CompletionStage<Record> peekAsync()
+    public CompletionStage<Record> peekAsync()
+    {
+        return executeWithLock( lock, this::peekRecord );
+    }
+
+    private CompletionStage<Record> peekRecord()
     {
         Record record = records.peek();
         if ( record == null )
@@ -142,6 +190,10 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
             if ( recordFuture == null )
             {
                 recordFuture = new CompletableFuture<>();
+                if ( adaptiveFetchSize != null )
+                {
+                    adaptiveFetchSize.consumerStarved();
+                }
             }
             return recordFuture;
         }
@@ -151,39 +203,65 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
         }
     }
 
-    public synchronized CompletionStage<Record> nextAsync()
+    public CompletionStage<Record> nextAsync()
     {
-        return peekAsync().thenApply( ignore -> dequeueRecord() );
+        return executeWithLock( lock, () -> peekRecord().thenApply( ignore -> executeWithLock( lock, this::dequeueRecord ) ) );
     }
 
-    public synchronized CompletionStage<ResultSummary> consumeAsync()
+    @Override
+    public int drainRecords( Queue<Record> sink, int maxRecords )
     {
-        records.clear();
-        if ( isDone() )
+        return executeWithLock( lock, () ->
         {
-            return completedWithValueIfNoFailure( summary );
-        }
-        else
+            if ( adaptiveFetchSize != null )
+            {
+                // judge the consumer by the depth of the queue before the drain, draining may already request the next batch
+                adaptiveFetchSize.consumerDemand( records.size() );
+            }
+            // records handed out are still held by the consumer, so never hand out more than the low watermark at once, otherwise the consumer
+            // holds a full batch while the next one is already requested
+            long limit = Math.min( maxRecords, Math.max( 1, lowRecordWatermark ) );
+            int drained = 0;
+            while ( drained < limit && !records.isEmpty() )
+            {
+                sink.add( dequeueRecord() );
+                drained++;
+            }
+            return drained;
+        } );
+    }
+
+    public CompletionStage<ResultSummary> consumeAsync()
+    {
+        return executeWithLock( lock, () ->
         {
-            cancel();
-            if ( summaryFuture == null )
+            records.clear();
+            if ( isDone() )
             {
-                summaryFuture = new CompletableFuture<>();
+                return completedWithValueIfNoFailure( summary );
             }
+            else
+            {
+                cancel();
+                if ( summaryFuture == null )
+                {
+                    summaryFuture = new CompletableFuture<>();
+                }
 
-            return summaryFuture;
-        }
+                return summaryFuture;
+            }
+        } );
     }
 
-    public synchronized <T> CompletionStage<List<T>> listAsync( Function<Record,T> mapFunction )
+    public <T> CompletionStage<List<T>> listAsync( Function<Record,T> mapFunction )
     {
-        return pullAllAsync().thenApply( summary -> recordsAsList( mapFunction ) );
+        return executeWithLock( lock, () -> pullAllAsync().thenApply( summary -> executeWithLock( lock, () -> recordsAsList( mapFunction ) ) ) );
     }
 
     @Override
-    public synchronized CompletionStage<Throwable> pullAllFailureAsync()
+    public CompletionStage<Throwable> pullAllFailureAsync()
     {
-        return pullAllAsync().handle( ( ignore, error ) -> error );
+        return executeWithLock( lock, () -> pullAllAsync().handle( ( ignore, error ) -> error ) );
     }
 
     @Override
@@ -192,7 +270,12 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
         request( fetchSize );
     }
 
-    private synchronized CompletionStage<ResultSummary> pullAllAsync()
+    long fetchSize()
+    {
+        return fetchSize;
+    }
+
+    private CompletionStage<ResultSummary> pullAllAsync()
     {
         if ( isDone() )
         {
@@ -222,6 +305,10 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
         // too many records in the queue, pause auto request gathering
         if ( records.size() > highRecordWatermark )
         {
+            if ( isAutoPullEnabled && adaptiveFetchSize != null )
+            {
+                adaptiveFetchSize.consumerLagging();
+            }
             isAutoPullEnabled = false;
         }
     }
@@ -235,7 +322,7 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
             //if not in streaming state we need to restart streaming
             if ( state() != State.STREAMING_STATE )
             {
-                request( fetchSize );
+                requestNextBatch();
             }
             isAutoPullEnabled = true;
         }
@@ -19,6 +19,8 @@
 package org.neo4j.driver.internal.handlers.pulln;
 
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 
 import org.neo4j.driver.Query;
@@ -29,6 +31,7 @@ import org.neo4j.driver.internal.InternalRecord;
 import org.neo4j.driver.internal.handlers.PullResponseCompletionListener;
 import org.neo4j.driver.internal.handlers.RunResponseHandler;
 import org.neo4j.driver.internal.messaging.request.PullMessage;
+import org.neo4j.driver.internal.metrics.QueryExecution;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.MetadataExtractor;
 import org.neo4j.driver.internal.value.BooleanValue;
@@ -37,11 +40,16 @@ import org.neo4j.driver.summary.ResultSummary;
 import static java.lang.String.format;
 import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
 import static org.neo4j.driver.internal.messaging.request.DiscardMessage.newDiscardAllMessage;
+import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
 
 /**
  * Provides basic handling of pull responses from sever. The state is managed by {@link State}.
+ * <p>
+ * State is guarded by {@link #lock} rather than by the object monitor so that threads waiting for records do not pin
+ * the carrier thread when they are virtual threads.
  */
 public class BasicPullResponseHandler implements PullResponseHandler
 {
@@ -49,13 +57,21 @@ public class BasicPullResponseHandler implements PullResponseHandler
     protected final RunResponseHandler runResponseHandler;
     protected final MetadataExtractor metadataExtractor;
     protected final Connection connection;
+    protected final Lock lock = new ReentrantLock();
     private final PullResponseCompletionListener completionListener;
 
     private State state;
+    // mirrors the cancelled state so that the inbound message reader can check it for every record without taking the lock
+    private volatile boolean discardingRecords;
     private long toRequest;
     private BiConsumer<Record,Throwable> recordConsumer = null;
     private BiConsumer<ResultSummary,Throwable> summaryConsumer = null;
 
+    // only updated and read on the event loop of the connection, see onRecordSize and onRecordDecodeTime
+    private long receivedRecords;
+    private long receivedBytes;
+    private long decodeNanos;
+
     public BasicPullResponseHandler( Query query, RunResponseHandler runResponseHandler,
                                      Connection connection, MetadataExtractor metadataExtractor,
                                      PullResponseCompletionListener completionListener )
@@ -70,38 +86,78 @@ public class BasicPullResponseHandler implements PullResponseHandler
     }
 
     @Override
-    public synchronized void onSuccess( Map<String,Value> metadata )
+    public void onSuccess( Map<String,Value> metadata )
     {
-        assertRecordAndSummaryConsumerInstalled();
-        state.onSuccess( this, metadata );
+        executeWithLock( lock, () ->
+        {
+            assertRecordAndSummaryConsumerInstalled();
+            state.onSuccess( this, metadata );
+        } );
     }
 
     @Override
-    public synchronized void onFailure( Throwable error )
+    public void onFailure( Throwable error )
     {
-        assertRecordAndSummaryConsumerInstalled();
-        state.onFailure( this, error );
+        executeWithLock( lock, () ->
+        {
+            assertRecordAndSummaryConsumerInstalled();
+            state.onFailure( this, error );
+        } );
     }
 
     @Override
-    public synchronized void onRecord( Value[] fields )
+    public void onRecord( Value[] fields )
     {
-        assertRecordAndSummaryConsumerInstalled();
-        state.onRecord( this, fields );
+        // invoked for every record, so locked explicitly to not allocate a lambda per record
+        lock.lock();
+        try
+        {
+            assertRecordAndSummaryConsumerInstalled();
+            state.onRecord( this, fields );
+        }
+        finally
+        {
+            lock.unlock();
+        }
     }
 
     @Override
-    public synchronized void request( long size )
+    public void onRecordSize( int sizeInBytes )
     {
-        assertRecordAndSummaryConsumerInstalled();
-        state.request( this, size );
+        receivedRecords++;
+        receivedBytes += sizeInBytes;
     }
 
     @Override
-    public synchronized void cancel()
+    public void onRecordDecodeTime( long decodeNanos )
     {
-        assertRecordAndSummaryConsumerInstalled();
-        state.cancel( this );
+        this.decodeNanos += decodeNanos;
+    }
+
+    @Override
+    public boolean isDiscardingRecords()
+    {
+        return discardingRecords;
+    }
+
+    @Override
+    public void request( long size )
+    {
+        executeWithLock( lock, () ->
+        {
+            assertRecordAndSummaryConsumerInstalled();
+            state.request( this, size );
+        } );
+    }
+
+    @Override
+    public void cancel()
+    {
+        executeWithLock( lock, () ->
+        {
+            assertRecordAndSummaryConsumerInstalled();
+            state.cancel( this );
+        } );
     }
 
     protected void completeWithFailure( Throwable error )
@@ -155,23 +211,29 @@ public class BasicPullResponseHandler implements PullResponseHandler
     }
 
     @Override
-    public synchronized void installSummaryConsumer( BiConsumer<ResultSummary,Throwable> summaryConsumer )
+    public void installSummaryConsumer( BiConsumer<ResultSummary,Throwable> summaryConsumer )
     {
-        if ( this.summaryConsumer != null )
+        executeWithLock( lock, () ->
         {
-            throw new IllegalStateException( "Summary consumer already installed." );
-        }
-        this.summaryConsumer = summaryConsumer;
+            if ( this.summaryConsumer != null )
+            {
+                throw new IllegalStateException( "Summary consumer already installed." );
+            }
+            this.summaryConsumer = summaryConsumer;
+        } );
     }
 
     @Override
-    public synchronized void installRecordConsumer( BiConsumer<Record,Throwable> recordConsumer )
+    public void installRecordConsumer( BiConsumer<Record,Throwable> recordConsumer )
     {
-        if ( this.recordConsumer != null )
+        executeWithLock( lock, () ->
         {
-            throw new IllegalStateException( "Record consumer already installed." );
-        }
-        this.recordConsumer = recordConsumer;
+            if ( this.recordConsumer != null )
+            {
+                throw new IllegalStateException( "Record consumer already installed." );
+            }
+            this.recordConsumer = recordConsumer;
+        } );
     }
 
     protected boolean isDone()
@@ -230,6 +292,19 @@ public class BasicPullResponseHandler implements PullResponseHandler
         // record consumer use (null, null) to identify the end of record stream
         recordConsumer.accept( null, error );
         dispose();
+        connection.afterResultCompleted();
+        if ( connection.isQueryExecutionObserved() )
+        {
+            connection.afterQueryCompleted( queryExecution( summary, error ) );
+        }
+    }
+
+    private QueryExecution queryExecution( ResultSummary summary, Throwable error )
+    {
+        long resultAvailableAfter = summary == null ? -1 : summary.resultAvailableAfter( MILLISECONDS );
+        long resultConsumedAfter = summary == null ? -1 : summary.resultConsumedAfter( MILLISECONDS );
+        return new QueryExecution( error == null, runResponseHandler.runRoundTripNanos(), resultAvailableAfter, resultConsumedAfter, decodeNanos,
+                                   receivedRecords, receivedBytes, query, runResponseHandler.nanosSinceRun() );
     }
 
     private void dispose()
@@ -247,6 +322,7 @@ public class BasicPullResponseHandler implements PullResponseHandler
     protected void state( State state )
     {
         this.state = state;
+        this.discardingRecords = state == State.CANCELLED_STATE;
     }
 
     enum State
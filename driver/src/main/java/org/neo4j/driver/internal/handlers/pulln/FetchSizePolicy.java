@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.handlers.pulln;
+
+import java.util.Objects;
+
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.assertValidFetchSize;
+
+/**
+ * Decides how many records a result obtained via {@link org.neo4j.driver.Session} or {@link org.neo4j.driver.async.AsyncSession} requests with each
+ * PULL message: either a fixed fetch size, or a size adapted to the records and the consumer within a memory budget, see {@link AdaptiveFetchSize}.
+ */
+public final class FetchSizePolicy
+{
+    public static final FetchSizePolicy UNLIMITED = new FetchSizePolicy( UNLIMITED_FETCH_SIZE, 0 );
+
+    private final long fetchSize;
+    private final long memoryBudgetBytes;
+
+    private FetchSizePolicy( long fetchSize, long memoryBudgetBytes )
+    {
+        this.fetchSize = fetchSize;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    /**
+     * @param fetchSize the number of records to request with each PULL message, or {@link FetchSizeUtil#UNLIMITED_FETCH_SIZE} to request all.
+     * @return a policy requesting the given number of records with each PULL message.
+     */
+    public static FetchSizePolicy fixed( long fetchSize )
+    {
+        return new FetchSizePolicy( assertValidFetchSize( fetchSize ), 0 );
+    }
+
+    /**
+     * @param memoryBudgetBytes the approximate number of bytes of records that may be buffered for each result.
+     * @return a policy adapting the number of records requested with each PULL message within the given memory budget.
+     */
+    public static FetchSizePolicy adaptive( long memoryBudgetBytes )
+    {
+        if ( memoryBudgetBytes <= 0 )
+        {
+            throw new IllegalArgumentException( "The adaptive fetch size memory budget may not be 0 or negative: " + memoryBudgetBytes );
+        }
+        return new FetchSizePolicy( AdaptiveFetchSize.INITIAL_FETCH_SIZE, memoryBudgetBytes );
+    }
+
+    public boolean isAdaptive()
+    {
+        return memoryBudgetBytes > 0;
+    }
+
+    /**
+     * @return the fixed fetch size, or the size of the first batch when the fetch size is adaptive.
+     */
+    public long fetchSize()
+    {
+        return fetchSize;
+    }
+
+    /**
+     * @return the memory budget in bytes of each result when the fetch size is adaptive, {@code 0} otherwise.
+     */
+    public long memoryBudgetBytes()
+    {
+        return memoryBudgetBytes;
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( this == o )
+        {
+            return true;
+        }
+        if ( o == null || getClass() != o.getClass() )
+        {
+            return false;
+        }
+        FetchSizePolicy that = (FetchSizePolicy) o;
+        return fetchSize == that.fetchSize && memoryBudgetBytes == that.memoryBudgetBytes;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash( fetchSize, memoryBudgetBytes );
+    }
+
+    @Override
+    public String toString()
+    {
+        return isAdaptive() ? "FetchSizePolicy{adaptive, memoryBudgetBytes=" + memoryBudgetBytes + '}' : "FetchSizePolicy{fetchSize=" + fetchSize + '}';
+    }
+}
@@ -22,6 +22,13 @@ import org.neo4j.driver.Logger;
 
 import static java.util.Objects.requireNonNull;
 
+/**
+ * Logger that rewrites messages before passing them to a delegate.
+ * <p>
+ * Besides the {@link Logger} methods, it offers fixed arity {@code debug} and {@code trace} methods. They are selected by the compiler for calls
+ * with up to two parameters and check the log level before allocating the parameter array, which keeps per-message logging on network threads
+ * free of garbage when the level is disabled.
+ */
 public abstract class ReformattedLogger implements Logger
 {
     private final Logger delegate;
@@ -64,6 +71,30 @@ public abstract class ReformattedLogger implements Logger
         }
     }
 
+    public void debug( String message )
+    {
+        if ( isDebugEnabled() )
+        {
+            delegate.debug( reformat( message ) );
+        }
+    }
+
+    public void debug( String message, Object param )
+    {
+        if ( isDebugEnabled() )
+        {
+            delegate.debug( reformat( message ), param );
+        }
+    }
+
+    public void debug( String message, Object param1, Object param2 )
+    {
+        if ( isDebugEnabled() )
+        {
+            delegate.debug( reformat( message ), param1, param2 );
+        }
+    }
+
     @Override
     public void debug( String message, Throwable throwable )
     {
@@ -82,6 +113,14 @@ public abstract class ReformattedLogger implements Logger
         }
     }
 
+    public void trace( String message, Object param )
+    {
+        if ( isTraceEnabled() )
+        {
+            delegate.trace( reformat( message ), param );
+        }
+    }
+
     @Override
     public boolean isTraceEnabled()
     {
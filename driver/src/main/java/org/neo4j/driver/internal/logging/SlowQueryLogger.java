@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.logging;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.Config;
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.metrics.QueryExecution;
+import org.neo4j.driver.internal.util.Clock;
+
+import static java.lang.String.format;
+
+/**
+ * Logs queries that took longer than a configured threshold, see {@link Config.ConfigBuilder#withSlowQueryLogging(long, TimeUnit)}.
+ * <p>
+ * A query is slow when either the time reported by the server, see {@link QueryExecution#serverNanos()}, or the time to acquire the connection
+ * and complete the RUN round trip exceeds the threshold. The server time includes the time the server waited for PULL requests when the result
+ * is fetched in batches, so applications that consume results slowly can make queries look slow. Queries below the threshold only cost two
+ * comparisons. Slow queries are logged at most a configured number of times per second, slow queries above that rate are counted and reported
+ * with the next logged query.
+ */
+public class SlowQueryLogger
+{
+    public static final SlowQueryLogger DISABLED = new SlowQueryLogger( 0, 1, false, Clock.SYSTEM, DevNullLogging.DEV_NULL_LOGGING );
+
+    static final String REDACTED = "<redacted>";
+    static final int MAX_PARAMETER_LENGTH = 64;
+
+    private final long thresholdNanos;
+    private final int logsPerSecond;
+    private final boolean logParameters;
+    private final Clock clock;
+    private final Logger log;
+
+    private long currentSecond = -1;
+    private int loggedInCurrentSecond;
+    private long suppressed;
+
+    public SlowQueryLogger( long thresholdMillis, int logsPerSecond, boolean logParameters, Clock clock, Logging logging )
+    {
+        this.thresholdNanos = thresholdMillis > 0 ? TimeUnit.MILLISECONDS.toNanos( thresholdMillis ) : Long.MAX_VALUE;
+        this.logsPerSecond = logsPerSecond;
+        this.logParameters = logParameters;
+        this.clock = clock;
+        this.log = logging.getLog( getClass() );
+    }
+
+    public static SlowQueryLogger create( Config config, Clock clock )
+    {
+        if ( config.slowQueryThresholdMillis() <= 0 )
+        {
+            return DISABLED;
+        }
+        return new SlowQueryLogger( config.slowQueryThresholdMillis(), config.slowQueryLogsPerSecond(), config.slowQueryParametersLogged(), clock,
+                                    config.logging() );
+    }
+
+    /**
+     * Logs the given execution if it was slow.
+     *
+     * @param execution     the completed query execution.
+     * @param serverAddress the address of the server that executed the query.
+     * @param acquireNanos  the time in nanoseconds it took to acquire the connection, or {@code -1} if unknown or not caused by this query.
+     */
+    public void afterQueryCompleted( QueryExecution execution, BoltServerAddress serverAddress, long acquireNanos )
+    {
+        if ( execution.serverNanos() < thresholdNanos && clientNanos( execution, acquireNanos ) < thresholdNanos )
+        {
+            return;
+        }
+        long previouslySuppressed = tryAcquirePermit();
+        if ( previouslySuppressed < 0 )
+        {
+            return;
+        }
+        log.warn( "%s", message( execution, serverAddress, acquireNanos, previouslySuppressed ) );
+    }
+
+    private static long clientNanos( QueryExecution execution, long acquireNanos )
+    {
+        long runRoundTripNanos = execution.runRoundTripNanos();
+        return runRoundTripNanos < 0 ? -1 : Math.max( 0, acquireNanos ) + runRoundTripNanos;
+    }
+
+    /**
+     * @return the number of slow queries not logged since the last logged one, or {@code -1} if this query must not be logged.
+     */
+    private synchronized long tryAcquirePermit()
+    {
+        long second = TimeUnit.MILLISECONDS.toSeconds( clock.millis() );
+        if ( second != currentSecond )
+        {
+            currentSecond = second;
+            loggedInCurrentSecond = 0;
+        }
+        if ( loggedInCurrentSecond >= logsPerSecond )
+        {
+            suppressed++;
+            return -1;
+        }
+        loggedInCurrentSecond++;
+        long previouslySuppressed = suppressed;
+        suppressed = 0;
+        return previouslySuppressed;
+    }
+
+    private String message( QueryExecution execution, BoltServerAddress serverAddress, long acquireNanos, long previouslySuppressed )
+    {
+        Query query = execution.query();
+        StringBuilder message = new StringBuilder( 256 );
+        message.append( format( "Slow query took %s on the server (acquire: %s, run: %s, stream: %s), %d records received, successful: %s, " +
+                                "database: %s, server: %s", millis( execution.serverNanos() ), millis( acquireNanos ), millis( execution.runRoundTripNanos() ),
+                                millis( execution.streamNanos() ), execution.records(), execution.successful(), execution.database(),
+                                serverAddress ) );
+        if ( query != null )
+        {
+            message.append( ", query: '" ).append( query.text() ).append( "', parameters: " );
+            appendParameters( message, query.parameters() );
+        }
+        if ( previouslySuppressed > 0 )
+        {
+            message.append( format( " (%d slow queries were not logged due to the rate limit)", previouslySuppressed ) );
+        }
+        return message.toString();
+    }
+
+    private void appendParameters( StringBuilder message, Value parameters )
+    {
+        message.append( '{' );
+        boolean first = true;
+        for ( String key : parameters.keys() )
+        {
+            if ( !first )
+            {
+                message.append( ", " );
+            }
+            first = false;
+            message.append( key ).append( ": " );
+            if ( logParameters )
+            {
+                String value = parameters.get( key ).toString();
+                message.append( value.length() > MAX_PARAMETER_LENGTH ? value.substring( 0, MAX_PARAMETER_LENGTH ) + "..." : value );
+            }
+            else
+            {
+                message.append( REDACTED );
+            }
+        }
+        message.append( '}' );
+    }
+
+    private static String millis( long nanos )
+    {
+        return nanos < 0 ? "unknown" : TimeUnit.NANOSECONDS.toMillis( nanos ) + "ms";
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.mapping;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.neo4j.driver.Record;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Maps records to instances of a Java type. The type is introspected once per JVM, the column indexes are resolved when the first record of a result is
+ * mapped and reused for all records with the same keys.
+ *
+ * @param <T> the mapped type
+ */
+public final class RecordMapper<T> implements Function<Record,T>
+{
+    private final TypeMapping<T> mapping;
+    private volatile TypeMapping.Binding<T> binding;
+
+    private RecordMapper( TypeMapping<T> mapping )
+    {
+        this.mapping = mapping;
+    }
+
+    public static <T> RecordMapper<T> of( Class<T> type )
+    {
+        requireNonNull( type, "Type must not be null" );
+        return new RecordMapper<>( TypeMapping.of( type ) );
+    }
+
+    @Override
+    public T apply( Record record )
+    {
+        List<String> keys = record.keys();
+        TypeMapping.Binding<T> current = binding;
+        if ( current == null || !current.matches( keys ) )
+        {
+            current = mapping.bind( keys );
+            binding = current;
+        }
+        return current.map( record );
+    }
+}
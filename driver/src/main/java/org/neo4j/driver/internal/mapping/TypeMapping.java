@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.mapping;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.ClientException;
+
+import static java.lang.String.format;
+
+/**
+ * Describes how instances of a type are created from record values. Mappings are created once per type using reflection and then cached, the per-record
+ * work is done with {@link MethodHandle}s only.
+ * <p>
+ * Java records are created with their canonical constructor, where every record component has to be present as a column. Other types need a no-argument
+ * constructor and are populated via setters or non-final fields, properties without a matching column are left untouched. Only the constructor and the
+ * members of properties that match a column are made accessible, which happens when the mapping is first bound to such a column.
+ *
+ * @param <T> the mapped type
+ */
+final class TypeMapping<T>
+{
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType( Object.class, Object[].class );
+    private static final MethodType SETTER_TYPE = MethodType.methodType( void.class, Object.class, Object.class );
+    private static final Method GET_RECORD_COMPONENTS = findGetRecordComponents();
+
+    private static final ClassValue<TypeMapping<?>> MAPPINGS = new ClassValue<TypeMapping<?>>()
+    {
+        @Override
+        protected TypeMapping<?> computeValue( Class<?> type )
+        {
+            return create( type );
+        }
+    };
+
+    private final Class<T> type;
+    private final MethodHandle constructor;
+    private final Property[] parameters;
+    private final Property[] properties;
+
+    private TypeMapping( Class<T> type, MethodHandle constructor, Property[] parameters, Property[] properties )
+    {
+        this.type = type;
+        this.constructor = constructor;
+        this.parameters = parameters;
+        this.properties = properties;
+    }
+
+    @SuppressWarnings( "unchecked" )
+    static <T> TypeMapping<T> of( Class<T> type )
+    {
+        return (TypeMapping<T>) MAPPINGS.get( type );
+    }
+
+    /**
+     * Resolve the column indexes of all mapped properties.
+     *
+     * @param keys the keys of the records that will be mapped.
+     * @return a binding that maps records with the given keys.
+     * @throws ClientException if a constructor parameter has no matching column or a column can not be converted to its property.
+     */
+    Binding<T> bind( List<String> keys )
+    {
+        int[] parameterIndexes = new int[parameters.length];
+        for ( int i = 0; i < parameters.length; i++ )
+        {
+            parameterIndexes[i] = keys.indexOf( parameters[i].name );
+            if ( parameterIndexes[i] < 0 )
+            {
+                throw new ClientException(
+                        format( "Can not map records with keys %s to %s, there is no column for '%s'", keys, type.getName(), parameters[i].name ) );
+            }
+        }
+
+        List<Property> boundProperties = new ArrayList<>();
+        List<Integer> propertyIndexes = new ArrayList<>();
+        for ( Property property : properties )
+        {
+            int index = keys.indexOf( property.name );
+            if ( index >= 0 )
+            {
+                if ( property.converter == null )
+                {
+                    throw new ClientException(
+                            format( "Can not map column '%s' to %s, the property type %s is not supported", property.name, type.getName(),
+                                    property.type.getName() ) );
+                }
+                property.resolveSetter( type );
+                boundProperties.add( property );
+                propertyIndexes.add( index );
+            }
+        }
+
+        return new Binding<>( keys, this, parameterIndexes, boundProperties.toArray( new Property[0] ),
+                              propertyIndexes.stream().mapToInt( Integer::intValue ).toArray() );
+    }
+
+    private static <T> TypeMapping<T> create( Class<T> type )
+    {
+        if ( type.isPrimitive() || type.isArray() || type.isInterface() || Modifier.isAbstract( type.getModifiers() ) )
+        {
+            throw new ClientException( format( "Records can not be mapped to %s, it is not a concrete class", type.getName() ) );
+        }
+
+        Object[] components = recordComponents( type );
+        if ( components != null )
+        {
+            return createForRecord( type, components );
+        }
+
+        Constructor<T> constructor;
+        try
+        {
+            constructor = type.getDeclaredConstructor();
+        }
+        catch ( NoSuchMethodException e )
+        {
+            throw new ClientException( format( "Records can not be mapped to %s, it must be a record or have a no-argument constructor", type.getName() ) );
+        }
+        return new TypeMapping<>( type, constructorHandle( constructor ), new Property[0], properties( type ) );
+    }
+
+    private static <T> TypeMapping<T> createForRecord( Class<T> type, Object[] components )
+    {
+        Property[] parameters = new Property[components.length];
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        for ( int i = 0; i < components.length; i++ )
+        {
+            String name = (String) invoke( components[i], "getName" );
+            Class<?> parameterType = (Class<?>) invoke( components[i], "getType" );
+            Function<Value,Object> converter = ValueConverters.converterFor( parameterType );
+            if ( converter == null )
+            {
+                throw new ClientException(
+                        format( "Records can not be mapped to %s, the type %s of component '%s' is not supported", type.getName(), parameterType.getName(),
+                                name ) );
+            }
+            parameters[i] = new Property( name, parameterType, converter, null );
+            parameterTypes[i] = parameterType;
+        }
+
+        try
+        {
+            return new TypeMapping<>( type, constructorHandle( type.getDeclaredConstructor( parameterTypes ) ), parameters, new Property[0] );
+        }
+        catch ( NoSuchMethodException e )
+        {
+            throw new ClientException( format( "Records can not be mapped to %s, its canonical constructor was not found", type.getName() ) );
+        }
+    }
+
+    private static Property[] properties( Class<?> type )
+    {
+        Map<String,Property> properties = new LinkedHashMap<>();
+        for ( Class<?> current = type; current != Object.class; current = current.getSuperclass() )
+        {
+            for ( Field field : current.getDeclaredFields() )
+            {
+                int modifiers = field.getModifiers();
+                if ( !Modifier.isStatic( modifiers ) && !Modifier.isFinal( modifiers ) && !Modifier.isTransient( modifiers ) && !field.isSynthetic() &&
+                     !properties.containsKey( field.getName() ) )
+                {
+                    properties.put( field.getName(), new Property( field.getName(), field.getType(), ValueConverters.converterFor( field.getType() ),
+                                                                   field ) );
+                }
+            }
+        }
+
+        for ( Method method : type.getMethods() )
+        {
+            String methodName = method.getName();
+            if ( methodName.length() > 3 && methodName.startsWith( "set" ) && method.getParameterCount() == 1 && !Modifier.isStatic( method.getModifiers() ) )
+            {
+                String name = Character.toLowerCase( methodName.charAt( 3 ) ) + methodName.substring( 4 );
+                Class<?> propertyType = method.getParameterTypes()[0];
+                properties.put( name, new Property( name, propertyType, ValueConverters.converterFor( propertyType ), method ) );
+            }
+        }
+        return properties.values().toArray( new Property[0] );
+    }
+
+    private static MethodHandle constructorHandle( Constructor<?> constructor )
+    {
+        return unreflect( constructor, constructor.getDeclaringClass() ).asSpreader( Object[].class, constructor.getParameterCount() )
+                                                                         .asType( CONSTRUCTOR_TYPE );
+    }
+
+    /**
+     * Members that are accessible as declared are used as they are, others are made accessible first.
+     */
+    private static MethodHandle unreflect( AccessibleObject member, Class<?> type )
+    {
+        try
+        {
+            return unreflectAccessible( member );
+        }
+        catch ( IllegalAccessException ignored )
+        {
+            // not accessible as declared, try to make it accessible below
+        }
+
+        try
+        {
+            member.setAccessible( true );
+            return unreflectAccessible( member );
+        }
+        catch ( IllegalAccessException | RuntimeException e )
+        {
+            throw new ClientException(
+                    format( "Records can not be mapped to %s, %s is not accessible. Make it public or open its package to the driver", type.getName(),
+                            member ), e );
+        }
+    }
+
+    private static MethodHandle unreflectAccessible( AccessibleObject member ) throws IllegalAccessException
+    {
+        if ( member instanceof Constructor )
+        {
+            return LOOKUP.unreflectConstructor( (Constructor<?>) member );
+        }
+        else if ( member instanceof Field )
+        {
+            return LOOKUP.unreflectSetter( (Field) member );
+        }
+        return LOOKUP.unreflect( (Method) member );
+    }
+
+    /**
+     * Java records can not be referenced directly while the driver targets Java 8, so they are detected through {@code Class#getRecordComponents()} when
+     * running on a JVM that supports them.
+     */
+    private static Method findGetRecordComponents()
+    {
+        try
+        {
+            return Class.class.getMethod( "getRecordComponents" );
+        }
+        catch ( NoSuchMethodException e )
+        {
+            return null;
+        }
+    }
+
+    private static Object[] recordComponents( Class<?> type )
+    {
+        return GET_RECORD_COMPONENTS == null ? null : (Object[]) invoke( type, GET_RECORD_COMPONENTS );
+    }
+
+    private static Object invoke( Object target, String methodName )
+    {
+        try
+        {
+            return invoke( target, target.getClass().getMethod( methodName ) );
+        }
+        catch ( NoSuchMethodException e )
+        {
+            throw new IllegalStateException( e );
+        }
+    }
+
+    private static Object invoke( Object target, Method method )
+    {
+        try
+        {
+            return method.invoke( target );
+        }
+        catch ( ReflectiveOperationException e )
+        {
+            throw new IllegalStateException( e );
+        }
+    }
+
+    private static final class Property
+    {
+        final String name;
+        final Class<?> type;
+        final Function<Value,Object> converter;
+        final AccessibleObject member;
+        volatile MethodHandle setter;
+
+        Property( String name, Class<?> type, Function<Value,Object> converter, AccessibleObject member )
+        {
+            this.name = name;
+            this.type = type;
+            this.converter = converter;
+            this.member = member;
+        }
+
+        void resolveSetter( Class<?> mappedType )
+        {
+            if ( setter == null )
+            {
+                setter = unreflect( member, mappedType ).asType( SETTER_TYPE );
+            }
+        }
+
+        Object convert( Value value )
+        {
+            if ( value.isNull() )
+            {
+                if ( type.isPrimitive() )
+                {
+                    throw new ClientException( format( "Can not map null value of '%s' to primitive type %s", name, type.getName() ) );
+                }
+                return null;
+            }
+            return converter.apply( value );
+        }
+    }
+
+    /**
+     * A mapping with column indexes resolved for a specific list of keys.
+     *
+     * @param <T> the mapped type
+     */
+    static final class Binding<T>
+    {
+        private final List<String> keys;
+        private final TypeMapping<T> mapping;
+        private final int[] parameterIndexes;
+        private final Property[] properties;
+        private final int[] propertyIndexes;
+
+        private Binding( List<String> keys, TypeMapping<T> mapping, int[] parameterIndexes, Property[] properties, int[] propertyIndexes )
+        {
+            this.keys = keys;
+            this.mapping = mapping;
+            this.parameterIndexes = parameterIndexes;
+            this.properties = properties;
+            this.propertyIndexes = propertyIndexes;
+        }
+
+        boolean matches( List<String> otherKeys )
+        {
+            return keys == otherKeys || keys.equals( otherKeys );
+        }
+
+        T map( Record record )
+        {
+            Property[] parameters = mapping.parameters;
+            Object[] arguments = new Object[parameters.length];
+            for ( int i = 0; i < parameters.length; i++ )
+            {
+                arguments[i] = parameters[i].convert( record.get( parameterIndexes[i] ) );
+            }
+
+            try
+            {
+                Object instance = (Object) mapping.constructor.invokeExact( arguments );
+                for ( int i = 0; i < properties.length; i++ )
+                {
+                    Object value = properties[i].convert( record.get( propertyIndexes[i] ) );
+                    properties[i].setter.invokeExact( instance, value );
+                }
+                return mapping.type.cast( instance );
+            }
+            catch ( RuntimeException | Error e )
+            {
+                throw e;
+            }
+            catch ( Throwable e )
+            {
+                throw new ClientException( format( "Failed to create an instance of %s", mapping.type.getName() ), e );
+            }
+        }
+    }
+}
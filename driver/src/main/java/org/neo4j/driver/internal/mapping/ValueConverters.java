@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.mapping;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.types.IsoDuration;
+import org.neo4j.driver.types.Node;
+import org.neo4j.driver.types.Path;
+import org.neo4j.driver.types.Point;
+import org.neo4j.driver.types.Relationship;
+
+/**
+ * Conversions from {@link Value} to the Java types supported as properties of mapped types.
+ */
+final class ValueConverters
+{
+    private static final Map<Class<?>,Function<Value,Object>> CONVERTERS = new HashMap<>();
+
+    static
+    {
+        CONVERTERS.put( Value.class, value -> value );
+        CONVERTERS.put( Object.class, Value::asObject );
+        CONVERTERS.put( String.class, Value::asString );
+        CONVERTERS.put( Long.class, Value::asLong );
+        CONVERTERS.put( long.class, Value::asLong );
+        CONVERTERS.put( Integer.class, Value::asInt );
+        CONVERTERS.put( int.class, Value::asInt );
+        CONVERTERS.put( Double.class, Value::asDouble );
+        CONVERTERS.put( double.class, Value::asDouble );
+        CONVERTERS.put( Float.class, Value::asFloat );
+        CONVERTERS.put( float.class, Value::asFloat );
+        CONVERTERS.put( Boolean.class, Value::asBoolean );
+        CONVERTERS.put( boolean.class, Value::asBoolean );
+        CONVERTERS.put( byte[].class, Value::asByteArray );
+        CONVERTERS.put( List.class, Value::asList );
+        CONVERTERS.put( Map.class, Value::asMap );
+        CONVERTERS.put( Node.class, Value::asNode );
+        CONVERTERS.put( Relationship.class, Value::asRelationship );
+        CONVERTERS.put( Path.class, Value::asPath );
+        CONVERTERS.put( LocalDate.class, Value::asLocalDate );
+        CONVERTERS.put( OffsetTime.class, Value::asOffsetTime );
+        CONVERTERS.put( LocalTime.class, Value::asLocalTime );
+        CONVERTERS.put( LocalDateTime.class, Value::asLocalDateTime );
+        CONVERTERS.put( OffsetDateTime.class, Value::asOffsetDateTime );
+        CONVERTERS.put( ZonedDateTime.class, Value::asZonedDateTime );
+        CONVERTERS.put( IsoDuration.class, Value::asIsoDuration );
+        CONVERTERS.put( Point.class, Value::asPoint );
+    }
+
+    private ValueConverters()
+    {
+    }
+
+    /**
+     * Find a conversion to the given type. {@code null} values are not passed to the returned function.
+     *
+     * @param type the target type.
+     * @return conversion from a non-null value to the given type or {@code null} if the type is not supported.
+     */
+    @SuppressWarnings( {"unchecked", "rawtypes"} )
+    static Function<Value,Object> converterFor( Class<?> type )
+    {
+        Function<Value,Object> converter = CONVERTERS.get( type );
+        if ( converter == null && type.isEnum() )
+        {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) type;
+            converter = value -> enumValue( enumType, value.asString() );
+        }
+        return converter;
+    }
+
+    @SuppressWarnings( {"unchecked", "rawtypes"} )
+    private static Object enumValue( Class<? extends Enum> type, String name )
+    {
+        try
+        {
+            return Enum.valueOf( type, name );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new ClientException( String.format( "'%s' is not a constant of %s", name, type.getName() ) );
+        }
+    }
+}
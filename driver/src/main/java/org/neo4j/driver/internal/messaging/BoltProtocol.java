@@ -35,6 +35,7 @@ import org.neo4j.driver.internal.BookmarksHolder;
 import org.neo4j.driver.internal.async.UnmanagedTransaction;
 import org.neo4j.driver.internal.cluster.RoutingContext;
 import org.neo4j.driver.internal.cursor.ResultCursorFactory;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizePolicy;
 import org.neo4j.driver.internal.messaging.v3.BoltProtocolV3;
 import org.neo4j.driver.internal.messaging.v4.BoltProtocolV4;
 import org.neo4j.driver.internal.messaging.v41.BoltProtocolV41;
@@ -104,11 +105,11 @@ public interface BoltProtocol
      * @param query           the cypher to execute.
      * @param bookmarksHolder the bookmarksHolder that keeps track of the current bookmarks and can be updated with a new bookmark.
      * @param config          the transaction config for the implicitly started auto-commit transaction.
-     * @param fetchSize       the record fetch size for PULL message.
+     * @param fetchSizePolicy the record fetch size policy for PULL messages.
      * @return stage with cursor.
      */
     ResultCursorFactory runInAutoCommitTransaction( Connection connection, Query query, BookmarksHolder bookmarksHolder, TransactionConfig config,
-                                                    long fetchSize );
+                                                    FetchSizePolicy fetchSizePolicy );
 
     /**
      * Execute the given query in a running unmanaged transaction, i.e. {@link Transaction#run(Query)}.
@@ -116,10 +117,10 @@ public interface BoltProtocol
      * @param connection the network connection to use.
      * @param query      the cypher to execute.
      * @param tx         the transaction which executes the query.
-     * @param fetchSize  the record fetch size for PULL message.
+     * @param fetchSizePolicy the record fetch size policy for PULL messages.
      * @return stage with cursor.
      */
-    ResultCursorFactory runInUnmanagedTransaction( Connection connection, Query query, UnmanagedTransaction tx, long fetchSize );
+    ResultCursorFactory runInUnmanagedTransaction( Connection connection, Query query, UnmanagedTransaction tx, FetchSizePolicy fetchSizePolicy );
 
     /**
      * Returns the protocol version. It can be used for version specific error messages.
@@ -29,6 +29,17 @@ public interface ResponseMessageHandler
 
     void handleRecordMessage( Value[] fields ) throws IOException;
 
+    /**
+     * Asked before the fields of a RECORD message are decoded. When this returns {@code true} the message is dropped without decoding its fields and
+     * {@link #handleRecordMessage(Value[])} is not called.
+     *
+     * @return {@code true} if the next RECORD message is not needed.
+     */
+    default boolean skipRecordMessage()
+    {
+        return false;
+    }
+
     void handleFailureMessage( String code, String message ) throws IOException;
 
     void handleIgnoredMessage() throws IOException;
@@ -90,6 +90,11 @@ public class CommonMessageReader implements MessageFormat.Reader
 
     private void unpackRecordMessage( ResponseMessageHandler output ) throws IOException
     {
+        if ( output.skipRecordMessage() )
+        {
+            // the whole message is buffered, leaving its fields unread drops them
+            return;
+        }
         Value[] fields = unpacker.unpackArray();
         output.handleRecordMessage( fields );
     }
@@ -43,6 +43,7 @@ import org.neo4j.driver.internal.handlers.NoOpResponseHandler;
 import org.neo4j.driver.internal.handlers.PullAllResponseHandler;
 import org.neo4j.driver.internal.handlers.RollbackTxResponseHandler;
 import org.neo4j.driver.internal.handlers.RunResponseHandler;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizePolicy;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.BoltProtocolVersion;
 import org.neo4j.driver.internal.messaging.MessageFormat;
@@ -146,24 +147,24 @@ public class BoltProtocolV3 implements BoltProtocol
 
     @Override
     public ResultCursorFactory runInAutoCommitTransaction( Connection connection, Query query, BookmarksHolder bookmarksHolder,
-                                                           TransactionConfig config, long fetchSize )
+                                                           TransactionConfig config, FetchSizePolicy fetchSizePolicy )
     {
         verifyDatabaseNameBeforeTransaction( connection.databaseName() );
         RunWithMetadataMessage runMessage =
                 autoCommitTxRunMessage( query, config, connection.databaseName(), connection.mode(), bookmarksHolder.getBookmarks(),
                                         connection.impersonatedUser() );
-        return buildResultCursorFactory( connection, query, bookmarksHolder, null, runMessage, fetchSize );
+        return buildResultCursorFactory( connection, query, bookmarksHolder, null, runMessage, fetchSizePolicy );
     }
 
     @Override
-    public ResultCursorFactory runInUnmanagedTransaction( Connection connection, Query query, UnmanagedTransaction tx, long fetchSize )
+    public ResultCursorFactory runInUnmanagedTransaction( Connection connection, Query query, UnmanagedTransaction tx, FetchSizePolicy fetchSizePolicy )
     {
         RunWithMetadataMessage runMessage = unmanagedTxRunMessage( query );
-        return buildResultCursorFactory( connection, query, BookmarksHolder.NO_OP, tx, runMessage, fetchSize );
+        return buildResultCursorFactory( connection, query, BookmarksHolder.NO_OP, tx, runMessage, fetchSizePolicy );
     }
 
     protected ResultCursorFactory buildResultCursorFactory( Connection connection, Query query, BookmarksHolder bookmarksHolder,
-                                                            UnmanagedTransaction tx, RunWithMetadataMessage runMessage, long ignored )
+                                                            UnmanagedTransaction tx, RunWithMetadataMessage runMessage, FetchSizePolicy ignored )
     {
         CompletableFuture<Void> runFuture = new CompletableFuture<>();
         RunResponseHandler runHandler = new RunResponseHandler( runFuture, METADATA_EXTRACTOR, connection, tx );
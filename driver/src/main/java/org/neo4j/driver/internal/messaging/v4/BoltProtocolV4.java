@@ -28,6 +28,7 @@ import org.neo4j.driver.internal.cursor.ResultCursorFactory;
 import org.neo4j.driver.internal.cursor.ResultCursorFactoryImpl;
 import org.neo4j.driver.internal.handlers.PullAllResponseHandler;
 import org.neo4j.driver.internal.handlers.RunResponseHandler;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizePolicy;
 import org.neo4j.driver.internal.handlers.pulln.PullResponseHandler;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.BoltProtocolVersion;
@@ -52,12 +53,12 @@ public class BoltProtocolV4 extends BoltProtocolV3
 
     @Override
     protected ResultCursorFactory buildResultCursorFactory( Connection connection, Query query, BookmarksHolder bookmarksHolder,
-                                                            UnmanagedTransaction tx, RunWithMetadataMessage runMessage, long fetchSize )
+                                                            UnmanagedTransaction tx, RunWithMetadataMessage runMessage, FetchSizePolicy fetchSizePolicy )
     {
         CompletableFuture<Void> runFuture = new CompletableFuture<>();
         RunResponseHandler runHandler = new RunResponseHandler( runFuture, METADATA_EXTRACTOR, connection, tx );
 
-        PullAllResponseHandler pullAllHandler = newBoltV4AutoPullHandler( query, runHandler, connection, bookmarksHolder, tx, fetchSize );
+        PullAllResponseHandler pullAllHandler = newBoltV4AutoPullHandler( query, runHandler, connection, bookmarksHolder, tx, fetchSizePolicy );
         PullResponseHandler pullHandler = newBoltV4BasicPullHandler( query, runHandler, connection, bookmarksHolder, tx );
 
         return new ResultCursorFactoryImpl( connection, runMessage, runHandler, runFuture, pullHandler, pullAllHandler );
@@ -64,6 +64,42 @@ interface ConnectionPoolMetricsListener
      */
     void afterTimedOutToAcquireOrCreate();
 
+    /**
+     * Before an acquisition starts to wait for a connection to be released, because the pool has reached its maximum size.
+     *
+     * @param waitEvent
+     */
+    void beforeWaiting( ListenerEvent<?> waitEvent );
+
+    /**
+     * After an acquisition stopped waiting for a connection, regardless whether it got one or not.
+     *
+     * @param waitEvent
+     */
+    void afterWaiting( ListenerEvent<?> waitEvent );
+
+    /**
+     * After a connection is acquired or created successfully.
+     *
+     * @param newConnection {@code true} if the connection was created for this acquisition, {@code false} if it was idle in the pool.
+     */
+    void afterAcquiredConnection( boolean newConnection );
+
+    /**
+     * Before an idle connection is tested with a round trip to the server.
+     *
+     * @param healthCheckEvent
+     */
+    void beforeHealthCheck( ListenerEvent<?> healthCheckEvent );
+
+    /**
+     * After an idle connection has been tested with a round trip to the server.
+     *
+     * @param healthCheckEvent
+     * @param healthy          {@code true} if the connection passed the test.
+     */
+    void afterHealthCheck( ListenerEvent<?> healthCheckEvent, boolean healthy );
+
     /**
      * After a connection is acquired from the pool.
      *
@@ -77,5 +113,43 @@ interface ConnectionPoolMetricsListener
      * @param inUseEvent
      */
     void released( ListenerEvent<?> inUseEvent );
+
+    /**
+     * After the circuit breaker guarding the server of the pool opened.
+     */
+    void afterCircuitBreakerOpened();
+
+    /**
+     * After the circuit breaker guarding the server of the pool became half-open.
+     */
+    void afterCircuitBreakerHalfOpened();
+
+    /**
+     * After the circuit breaker guarding the server of the pool closed.
+     */
+    void afterCircuitBreakerClosed();
+
+    /**
+     * After a Bolt message was encoded to be written to a connection of the pool.
+     *
+     * @param signature the signature of the message.
+     * @param bytes     the size of the message in bytes, including chunk headers.
+     * @param chunks    the amount of chunks the message was split into.
+     */
+    void afterMessageSent( byte signature, int bytes, int chunks );
+
+    /**
+     * After a Bolt message was read from a connection of the pool.
+     *
+     * @param signature the signature of the message.
+     * @param bytes     the size of the message in bytes, including chunk headers.
+     * @param chunks    the amount of chunks the message was split into.
+     */
+    void afterMessageReceived( byte signature, int bytes, int chunks );
+
+    /**
+     * After a connection of the pool was flushed.
+     */
+    void afterFlush();
 }
 
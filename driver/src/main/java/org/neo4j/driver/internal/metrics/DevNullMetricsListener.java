@@ -76,6 +76,96 @@ public enum DevNullMetricsListener implements MetricsListener
     {
     }
 
+    @Override
+    public void beforeWaitingToAcquire( String poolId, ListenerEvent<?> waitEvent )
+    {
+    }
+
+    @Override
+    public void afterWaitingToAcquire( String poolId, ListenerEvent<?> waitEvent )
+    {
+    }
+
+    @Override
+    public void afterAcquiredConnection( String poolId, boolean newConnection )
+    {
+    }
+
+    @Override
+    public void beforeHealthCheck( String poolId, ListenerEvent<?> healthCheckEvent )
+    {
+    }
+
+    @Override
+    public void afterHealthCheck( String poolId, ListenerEvent<?> healthCheckEvent, boolean healthy )
+    {
+    }
+
+    @Override
+    public void afterCircuitBreakerOpened( ServerAddress serverAddress )
+    {
+    }
+
+    @Override
+    public void afterCircuitBreakerHalfOpened( ServerAddress serverAddress )
+    {
+    }
+
+    @Override
+    public void afterCircuitBreakerClosed( ServerAddress serverAddress )
+    {
+    }
+
+    @Override
+    public void afterDomainNameResolution( boolean cacheHit, boolean success )
+    {
+    }
+
+    @Override
+    public void afterRetryScheduled( String cause )
+    {
+    }
+
+    @Override
+    public void afterRetryBackoff( long backoffMillis )
+    {
+    }
+
+    @Override
+    public void afterRetryRejected( String cause )
+    {
+    }
+
+    @Override
+    public void afterQueryCompleted( QueryExecution execution )
+    {
+    }
+
+    @Override
+    public void afterMessageSent( String poolId, byte signature, int bytes, int chunks )
+    {
+    }
+
+    @Override
+    public void afterMessageReceived( String poolId, byte signature, int bytes, int chunks )
+    {
+    }
+
+    @Override
+    public void afterFlush( String poolId )
+    {
+    }
+
+    @Override
+    public void afterEventLoopProbe( String eventLoopId, long lagNanos )
+    {
+    }
+
+    @Override
+    public void afterEventLoopBlocked( String eventLoopId )
+    {
+    }
+
     @Override
     public ListenerEvent<?> createListenerEvent()
     {
@@ -92,6 +182,16 @@ public enum DevNullMetricsListener implements MetricsListener
     {
     }
 
+    @Override
+    public void registerEventLoopMetrics( String eventLoopId, IntSupplier pendingTasksSupplier, IntSupplier activeConnectionsSupplier )
+    {
+    }
+
+    @Override
+    public void removeEventLoopMetrics( String eventLoopId )
+    {
+    }
+
     @Override
     public String toString()
     {
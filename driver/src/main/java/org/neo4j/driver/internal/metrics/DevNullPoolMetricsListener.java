@@ -71,4 +71,59 @@ enum DevNullPoolMetricsListener implements ConnectionPoolMetricsListener
     public void released( ListenerEvent<?> inUseEvent )
     {
     }
+
+    @Override
+    public void beforeWaiting( ListenerEvent<?> waitEvent )
+    {
+    }
+
+    @Override
+    public void afterWaiting( ListenerEvent<?> waitEvent )
+    {
+    }
+
+    @Override
+    public void afterAcquiredConnection( boolean newConnection )
+    {
+    }
+
+    @Override
+    public void beforeHealthCheck( ListenerEvent<?> healthCheckEvent )
+    {
+    }
+
+    @Override
+    public void afterHealthCheck( ListenerEvent<?> healthCheckEvent, boolean healthy )
+    {
+    }
+
+    @Override
+    public void afterCircuitBreakerOpened()
+    {
+    }
+
+    @Override
+    public void afterCircuitBreakerHalfOpened()
+    {
+    }
+
+    @Override
+    public void afterCircuitBreakerClosed()
+    {
+    }
+
+    @Override
+    public void afterMessageSent( byte signature, int bytes, int chunks )
+    {
+    }
+
+    @Override
+    public void afterMessageReceived( byte signature, int bytes, int chunks )
+    {
+    }
+
+    @Override
+    public void afterFlush()
+    {
+    }
 }
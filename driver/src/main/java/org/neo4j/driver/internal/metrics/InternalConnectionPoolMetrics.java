@@ -18,9 +18,11 @@
  */
 package org.neo4j.driver.internal.metrics;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.IntSupplier;
 
 import org.neo4j.driver.ConnectionPoolMetrics;
@@ -30,6 +32,10 @@ import static java.lang.String.format;
 
 final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, ConnectionPoolMetricsListener
 {
+    private static final String CIRCUIT_CLOSED = "CLOSED";
+    private static final String CIRCUIT_OPEN = "OPEN";
+    private static final String CIRCUIT_HALF_OPEN = "HALF_OPEN";
+
     private final ServerAddress address;
     private final IntSupplier inUseSupplier;
     private final IntSupplier idleSupplier;
@@ -46,11 +52,28 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
     private final AtomicLong acquired = new AtomicLong();
     private final AtomicLong timedOutToAcquire = new AtomicLong();
 
-    private final AtomicLong totalAcquisitionTime = new AtomicLong();
-    private final AtomicLong totalConnectionTime = new AtomicLong();
-    private final AtomicLong totalInUseTime = new AtomicLong();
-
-    private final AtomicLong totalInUseCount = new AtomicLong();
+    // waiting = waitedToAcquire that are still waiting
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicLong acquiredNew = new AtomicLong();
+    private final AtomicLong acquiredIdle = new AtomicLong();
+    private final AtomicLong failedHealthChecks = new AtomicLong();
+
+    private final LatencyHistogram acquisitionTimes = new LatencyHistogram();
+    private final LatencyHistogram connectionTimes = new LatencyHistogram();
+    private final LatencyHistogram inUseTimes = new LatencyHistogram();
+    private final LatencyHistogram waitTimes = new LatencyHistogram();
+    private final LatencyHistogram healthCheckTimes = new LatencyHistogram();
+
+    private final AtomicReference<String> circuitBreakerState = new AtomicReference<>( CIRCUIT_CLOSED );
+    private final AtomicLong circuitBreakerOpened = new AtomicLong();
+
+    private final AtomicLong bytesSent = new AtomicLong();
+    private final AtomicLong bytesReceived = new AtomicLong();
+    private final AtomicLong chunksSent = new AtomicLong();
+    private final AtomicLong chunksReceived = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final MessageCounts messagesSent = new MessageCounts();
+    private final MessageCounts messagesReceived = new MessageCounts();
     private final String id;
 
     InternalConnectionPoolMetrics( String poolId, ServerAddress address, IntSupplier inUseSupplier, IntSupplier idleSupplier )
@@ -86,7 +109,7 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
         creating.decrementAndGet();
         long sample = ((TimeRecorderListenerEvent) connEvent).getSample();
 
-        totalConnectionTime.addAndGet( sample );
+        connectionTimes.record( sample );
     }
 
     @Override
@@ -114,7 +137,7 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
         acquired.incrementAndGet();
         long sample = ((TimeRecorderListenerEvent) acquireEvent).getSample();
 
-        totalAcquisitionTime.addAndGet( sample );
+        acquisitionTimes.record( sample );
     }
 
     @Override
@@ -123,6 +146,46 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
         timedOutToAcquire.incrementAndGet();
     }
 
+    @Override
+    public void beforeWaiting( ListenerEvent<?> waitEvent )
+    {
+        waitEvent.start();
+        waiting.incrementAndGet();
+    }
+
+    @Override
+    public void afterWaiting( ListenerEvent<?> waitEvent )
+    {
+        waiting.decrementAndGet();
+        long sample = ((TimeRecorderListenerEvent) waitEvent).getSample();
+
+        waitTimes.record( sample );
+    }
+
+    @Override
+    public void afterAcquiredConnection( boolean newConnection )
+    {
+        (newConnection ? acquiredNew : acquiredIdle).incrementAndGet();
+    }
+
+    @Override
+    public void beforeHealthCheck( ListenerEvent<?> healthCheckEvent )
+    {
+        healthCheckEvent.start();
+    }
+
+    @Override
+    public void afterHealthCheck( ListenerEvent<?> healthCheckEvent, boolean healthy )
+    {
+        if ( !healthy )
+        {
+            failedHealthChecks.incrementAndGet();
+        }
+        long sample = ((TimeRecorderListenerEvent) healthCheckEvent).getSample();
+
+        healthCheckTimes.record( sample );
+    }
+
     @Override
     public void acquired( ListenerEvent<?> inUseEvent )
     {
@@ -132,10 +195,50 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
     @Override
     public void released( ListenerEvent<?> inUseEvent )
     {
-        totalInUseCount.incrementAndGet();
         long sample = ((TimeRecorderListenerEvent) inUseEvent).getSample();
 
-        totalInUseTime.addAndGet( sample );
+        inUseTimes.record( sample );
+    }
+
+    @Override
+    public void afterCircuitBreakerOpened()
+    {
+        circuitBreakerOpened.incrementAndGet();
+        circuitBreakerState.set( CIRCUIT_OPEN );
+    }
+
+    @Override
+    public void afterCircuitBreakerHalfOpened()
+    {
+        circuitBreakerState.set( CIRCUIT_HALF_OPEN );
+    }
+
+    @Override
+    public void afterCircuitBreakerClosed()
+    {
+        circuitBreakerState.set( CIRCUIT_CLOSED );
+    }
+
+    @Override
+    public void afterMessageSent( byte signature, int bytes, int chunks )
+    {
+        messagesSent.increment( signature );
+        bytesSent.addAndGet( bytes );
+        chunksSent.addAndGet( chunks );
+    }
+
+    @Override
+    public void afterMessageReceived( byte signature, int bytes, int chunks )
+    {
+        messagesReceived.increment( signature );
+        bytesReceived.addAndGet( bytes );
+        chunksReceived.addAndGet( chunks );
+    }
+
+    @Override
+    public void afterFlush()
+    {
+        flushes.incrementAndGet();
     }
 
     @Override
@@ -183,25 +286,91 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
     @Override
     public long totalAcquisitionTime()
     {
-        return totalAcquisitionTime.get();
+        return acquisitionTimes.sum();
     }
 
     @Override
     public long totalConnectionTime()
     {
-        return totalConnectionTime.get();
+        return connectionTimes.sum();
     }
 
     @Override
     public long totalInUseTime()
     {
-        return totalInUseTime.get();
+        return inUseTimes.sum();
     }
 
     @Override
     public long totalInUseCount()
     {
-        return totalInUseCount.get();
+        return inUseTimes.count();
+    }
+
+    @Override
+    public long acquisitionTimePercentile( double percentile )
+    {
+        return acquisitionTimes.snapshot().percentile( percentile );
+    }
+
+    @Override
+    public long connectionTimePercentile( double percentile )
+    {
+        return connectionTimes.snapshot().percentile( percentile );
+    }
+
+    @Override
+    public long inUseTimePercentile( double percentile )
+    {
+        return inUseTimes.snapshot().percentile( percentile );
+    }
+
+    @Override
+    public int waitingToAcquire()
+    {
+        return waiting.get();
+    }
+
+    @Override
+    public long waitedToAcquire()
+    {
+        return waitTimes.count();
+    }
+
+    @Override
+    public long waitTimePercentile( double percentile )
+    {
+        return waitTimes.snapshot().percentile( percentile );
+    }
+
+    @Override
+    public long acquiredNewConnections()
+    {
+        return acquiredNew.get();
+    }
+
+    @Override
+    public long acquiredIdleConnections()
+    {
+        return acquiredIdle.get();
+    }
+
+    @Override
+    public long healthChecks()
+    {
+        return healthCheckTimes.count();
+    }
+
+    @Override
+    public long failedHealthChecks()
+    {
+        return failedHealthChecks.get();
+    }
+
+    @Override
+    public long healthCheckTimePercentile( double percentile )
+    {
+        return healthCheckTimes.snapshot().percentile( percentile );
     }
 
     @Override
@@ -222,15 +391,82 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
         return this.acquired.get();
     }
 
+    @Override
+    public String circuitBreakerState()
+    {
+        return circuitBreakerState.get();
+    }
+
+    @Override
+    public long circuitBreakerOpened()
+    {
+        return circuitBreakerOpened.get();
+    }
+
+    @Override
+    public long bytesSent()
+    {
+        return bytesSent.get();
+    }
+
+    @Override
+    public long bytesReceived()
+    {
+        return bytesReceived.get();
+    }
+
+    @Override
+    public Map<String,Long> messagesSent()
+    {
+        return messagesSent.snapshot();
+    }
+
+    @Override
+    public Map<String,Long> messagesReceived()
+    {
+        return messagesReceived.snapshot();
+    }
+
+    @Override
+    public long chunksSent()
+    {
+        return chunksSent.get();
+    }
+
+    @Override
+    public long chunksReceived()
+    {
+        return chunksReceived.get();
+    }
+
+    @Override
+    public long flushes()
+    {
+        return flushes.get();
+    }
+
     @Override
     public String toString()
     {
         return format( "%s=[created=%s, closed=%s, creating=%s, failedToCreate=%s, acquiring=%s, acquired=%s, " +
-                       "timedOutToAcquire=%s, inUse=%s, idle=%s, " +
-                       "totalAcquisitionTime=%s, totalConnectionTime=%s, totalInUseTime=%s, totalInUseCount=%s]",
+                       "timedOutToAcquire=%s, inUse=%s, idle=%s, waitingToAcquire=%s, waitedToAcquire=%s, " +
+                       "acquiredNewConnections=%s, acquiredIdleConnections=%s, healthChecks=%s, failedHealthChecks=%s, " +
+                       "totalAcquisitionTime=%s, totalConnectionTime=%s, totalInUseTime=%s, totalInUseCount=%s, " +
+                       "acquisitionTime=%s, connectionTime=%s, inUseTime=%s, waitTime=%s, healthCheckTime=%s, " +
+                       "bytesSent=%s, bytesReceived=%s, messagesSent=%s, messagesReceived=%s, chunksSent=%s, chunksReceived=%s, flushes=%s]",
                        id(), created(), closed(), creating(), failedToCreate(), acquiring(), acquired(),
-                       timedOutToAcquire(), inUse(), idle(),
-                       totalAcquisitionTime(), totalConnectionTime(), totalInUseTime(), totalInUseCount() );
+                       timedOutToAcquire(), inUse(), idle(), waitingToAcquire(), waitedToAcquire(),
+                       acquiredNewConnections(), acquiredIdleConnections(), healthChecks(), failedHealthChecks(),
+                       totalAcquisitionTime(), totalConnectionTime(), totalInUseTime(), totalInUseCount(),
+                       percentiles( acquisitionTimes ), percentiles( connectionTimes ), percentiles( inUseTimes ),
+                       percentiles( waitTimes ), percentiles( healthCheckTimes ),
+                       bytesSent(), bytesReceived(), messagesSent(), messagesReceived(), chunksSent(), chunksReceived(), flushes() );
+    }
+
+    private static String percentiles( LatencyHistogram histogram )
+    {
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        return format( "[p50=%s, p99=%s, p999=%s]", snapshot.percentile( 0.5 ), snapshot.percentile( 0.99 ), snapshot.percentile( 0.999 ) );
     }
 
     // This method is for testing purposes only
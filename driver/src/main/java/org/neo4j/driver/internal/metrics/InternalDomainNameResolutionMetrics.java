@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.neo4j.driver.DomainNameResolutionMetrics;
+
+import static java.lang.String.format;
+
+final class InternalDomainNameResolutionMetrics implements DomainNameResolutionMetrics
+{
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    void afterResolution( boolean cacheHit, boolean success )
+    {
+        (cacheHit ? cacheHits : cacheMisses).incrementAndGet();
+        if ( !success )
+        {
+            failures.incrementAndGet();
+        }
+    }
+
+    @Override
+    public long cacheHits()
+    {
+        return cacheHits.get();
+    }
+
+    @Override
+    public long cacheMisses()
+    {
+        return cacheMisses.get();
+    }
+
+    @Override
+    public long failures()
+    {
+        return failures.get();
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "[cacheHits=%s, cacheMisses=%s, failures=%s]", cacheHits(), cacheMisses(), failures() );
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+import org.neo4j.driver.EventLoopMetrics;
+
+import static java.lang.String.format;
+
+final class InternalEventLoopMetrics implements EventLoopMetrics, EventLoopMetricsListener
+{
+    private final String id;
+    private final IntSupplier pendingTasksSupplier;
+    private final IntSupplier activeConnectionsSupplier;
+
+    private final AtomicLong schedulingLagNanos = new AtomicLong();
+    private final AtomicLong maxSchedulingLagNanos = new AtomicLong();
+    private final AtomicLong blockedDetections = new AtomicLong();
+
+    InternalEventLoopMetrics( String eventLoopId, IntSupplier pendingTasksSupplier, IntSupplier activeConnectionsSupplier )
+    {
+        Objects.requireNonNull( eventLoopId );
+        Objects.requireNonNull( pendingTasksSupplier );
+        Objects.requireNonNull( activeConnectionsSupplier );
+
+        this.id = eventLoopId;
+        this.pendingTasksSupplier = pendingTasksSupplier;
+        this.activeConnectionsSupplier = activeConnectionsSupplier;
+    }
+
+    @Override
+    public void afterProbe( long lagNanos )
+    {
+        schedulingLagNanos.set( lagNanos );
+        maxSchedulingLagNanos.accumulateAndGet( lagNanos, Math::max );
+    }
+
+    @Override
+    public void afterBlocked()
+    {
+        blockedDetections.incrementAndGet();
+    }
+
+    @Override
+    public String id()
+    {
+        return id;
+    }
+
+    @Override
+    public int pendingTasks()
+    {
+        return pendingTasksSupplier.getAsInt();
+    }
+
+    @Override
+    public int activeConnections()
+    {
+        return activeConnectionsSupplier.getAsInt();
+    }
+
+    @Override
+    public long schedulingLag()
+    {
+        return TimeUnit.NANOSECONDS.toMillis( schedulingLagNanos.get() );
+    }
+
+    @Override
+    public long maxSchedulingLag()
+    {
+        return TimeUnit.NANOSECONDS.toMillis( maxSchedulingLagNanos.get() );
+    }
+
+    @Override
+    public long blockedDetections()
+    {
+        return blockedDetections.get();
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "%s=[pendingTasks=%s, activeConnections=%s, schedulingLag=%s, maxSchedulingLag=%s, blockedDetections=%s]",
+                       id(), pendingTasks(), activeConnections(), schedulingLag(), maxSchedulingLag(), blockedDetections() );
+    }
+}
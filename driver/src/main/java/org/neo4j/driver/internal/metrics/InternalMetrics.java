@@ -22,12 +22,16 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntSupplier;
 
 import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.DomainNameResolutionMetrics;
+import org.neo4j.driver.EventLoopMetrics;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.Metrics;
+import org.neo4j.driver.QueryMetrics;
 import org.neo4j.driver.internal.util.Clock;
 import org.neo4j.driver.net.ServerAddress;
 
@@ -37,6 +41,12 @@ import static java.util.Collections.unmodifiableCollection;
 final class InternalMetrics implements Metrics, MetricsListener
 {
     private final Map<String,ConnectionPoolMetrics> connectionPoolMetrics;
+    private final Map<String,EventLoopMetrics> eventLoopMetrics = new ConcurrentHashMap<>();
+    private final InternalDomainNameResolutionMetrics domainNameResolutionMetrics = new InternalDomainNameResolutionMetrics();
+    private final Map<String,AtomicLong> retriesByCause = new ConcurrentHashMap<>();
+    private final AtomicLong retryBackoffMillis = new AtomicLong();
+    private final AtomicLong retriesRejected = new AtomicLong();
+    private final Map<String,QueryMetrics> queryMetrics = new ConcurrentHashMap<>();
     private final Clock clock;
     private final Logger log;
 
@@ -60,6 +70,18 @@ final class InternalMetrics implements Metrics, MetricsListener
         this.connectionPoolMetrics.remove( id );
     }
 
+    @Override
+    public void registerEventLoopMetrics( String eventLoopId, IntSupplier pendingTasksSupplier, IntSupplier activeConnectionsSupplier )
+    {
+        this.eventLoopMetrics.put( eventLoopId, new InternalEventLoopMetrics( eventLoopId, pendingTasksSupplier, activeConnectionsSupplier ) );
+    }
+
+    @Override
+    public void removeEventLoopMetrics( String eventLoopId )
+    {
+        this.eventLoopMetrics.remove( eventLoopId );
+    }
+
     @Override
     public void beforeCreating( String poolId, ListenerEvent<?> creatingEvent )
     {
@@ -120,6 +142,114 @@ final class InternalMetrics implements Metrics, MetricsListener
         poolMetrics( poolId ).afterTimedOutToAcquireOrCreate();
     }
 
+    @Override
+    public void beforeWaitingToAcquire( String poolId, ListenerEvent<?> waitEvent )
+    {
+        poolMetrics( poolId ).beforeWaiting( waitEvent );
+    }
+
+    @Override
+    public void afterWaitingToAcquire( String poolId, ListenerEvent<?> waitEvent )
+    {
+        poolMetrics( poolId ).afterWaiting( waitEvent );
+    }
+
+    @Override
+    public void afterAcquiredConnection( String poolId, boolean newConnection )
+    {
+        poolMetrics( poolId ).afterAcquiredConnection( newConnection );
+    }
+
+    @Override
+    public void beforeHealthCheck( String poolId, ListenerEvent<?> healthCheckEvent )
+    {
+        poolMetrics( poolId ).beforeHealthCheck( healthCheckEvent );
+    }
+
+    @Override
+    public void afterHealthCheck( String poolId, ListenerEvent<?> healthCheckEvent, boolean healthy )
+    {
+        poolMetrics( poolId ).afterHealthCheck( healthCheckEvent, healthy );
+    }
+
+    @Override
+    public void afterCircuitBreakerOpened( ServerAddress serverAddress )
+    {
+        poolMetrics( serverAddress ).afterCircuitBreakerOpened();
+    }
+
+    @Override
+    public void afterCircuitBreakerHalfOpened( ServerAddress serverAddress )
+    {
+        poolMetrics( serverAddress ).afterCircuitBreakerHalfOpened();
+    }
+
+    @Override
+    public void afterCircuitBreakerClosed( ServerAddress serverAddress )
+    {
+        poolMetrics( serverAddress ).afterCircuitBreakerClosed();
+    }
+
+    @Override
+    public void afterDomainNameResolution( boolean cacheHit, boolean success )
+    {
+        domainNameResolutionMetrics.afterResolution( cacheHit, success );
+    }
+
+    @Override
+    public void afterRetryScheduled( String cause )
+    {
+        retriesByCause.computeIfAbsent( cause, ignored -> new AtomicLong() ).incrementAndGet();
+    }
+
+    @Override
+    public void afterRetryBackoff( long backoffMillis )
+    {
+        retryBackoffMillis.addAndGet( backoffMillis );
+    }
+
+    @Override
+    public void afterRetryRejected( String cause )
+    {
+        retriesRejected.incrementAndGet();
+    }
+
+    @Override
+    public void afterQueryCompleted( QueryExecution execution )
+    {
+        queryMetrics( execution.database(), execution.accessMode() ).afterQueryCompleted( execution );
+    }
+
+    @Override
+    public void afterMessageSent( String poolId, byte signature, int bytes, int chunks )
+    {
+        wirePoolMetrics( poolId ).afterMessageSent( signature, bytes, chunks );
+    }
+
+    @Override
+    public void afterMessageReceived( String poolId, byte signature, int bytes, int chunks )
+    {
+        wirePoolMetrics( poolId ).afterMessageReceived( signature, bytes, chunks );
+    }
+
+    @Override
+    public void afterFlush( String poolId )
+    {
+        wirePoolMetrics( poolId ).afterFlush();
+    }
+
+    @Override
+    public void afterEventLoopProbe( String eventLoopId, long lagNanos )
+    {
+        eventLoopMetricsListener( eventLoopId ).afterProbe( lagNanos );
+    }
+
+    @Override
+    public void afterEventLoopBlocked( String eventLoopId )
+    {
+        eventLoopMetricsListener( eventLoopId ).afterBlocked();
+    }
+
     @Override
     public ListenerEvent<?> createListenerEvent()
     {
@@ -132,10 +262,61 @@ final class InternalMetrics implements Metrics, MetricsListener
         return unmodifiableCollection( this.connectionPoolMetrics.values() );
     }
 
+    @Override
+    public Collection<EventLoopMetrics> eventLoopMetrics()
+    {
+        return unmodifiableCollection( this.eventLoopMetrics.values() );
+    }
+
+    @Override
+    public DomainNameResolutionMetrics domainNameResolutionMetrics()
+    {
+        return domainNameResolutionMetrics;
+    }
+
+    @Override
+    public Collection<QueryMetrics> queryMetrics()
+    {
+        return unmodifiableCollection( this.queryMetrics.values() );
+    }
+
     @Override
     public String toString()
     {
-        return format( "PoolMetrics=%s", connectionPoolMetrics );
+        return format( "PoolMetrics=%s, DomainNameResolution=%s, " +
+                       "Retries=[byCause=%s, backoffMillis=%s, rejected=%s], QueryMetrics=%s, EventLoopMetrics=%s",
+                       connectionPoolMetrics, domainNameResolutionMetrics,
+                       retriesByCause, retryBackoffMillis.get(), retriesRejected.get(), queryMetrics.values(), eventLoopMetrics.values() );
+    }
+
+    InternalQueryMetrics queryMetrics( String database, String accessMode )
+    {
+        String key = database + "/" + accessMode;
+        QueryMetrics metrics = queryMetrics.get( key );
+        if ( metrics == null )
+        {
+            metrics = queryMetrics.computeIfAbsent( key, ignored -> new InternalQueryMetrics( database, accessMode ) );
+        }
+        return (InternalQueryMetrics) metrics;
+    }
+
+    private ConnectionPoolMetricsListener poolMetrics( ServerAddress serverAddress )
+    {
+        for ( ConnectionPoolMetrics poolMetrics : this.connectionPoolMetrics.values() )
+        {
+            if ( ((InternalConnectionPoolMetrics) poolMetrics).getAddress().equals( serverAddress ) )
+            {
+                return (InternalConnectionPoolMetrics) poolMetrics;
+            }
+        }
+        return DevNullPoolMetricsListener.INSTANCE;
+    }
+
+    // invoked for every message, so a missing pool is not logged as the pool of a closing channel may already be removed
+    private ConnectionPoolMetricsListener wirePoolMetrics( String poolId )
+    {
+        ConnectionPoolMetrics poolMetrics = this.connectionPoolMetrics.get( poolId );
+        return poolMetrics == null ? DevNullPoolMetricsListener.INSTANCE : (InternalConnectionPoolMetrics) poolMetrics;
     }
 
     private ConnectionPoolMetricsListener poolMetrics( String poolId )
@@ -148,4 +329,10 @@ final class InternalMetrics implements Metrics, MetricsListener
         }
         return poolMetrics;
     }
+
+    private EventLoopMetricsListener eventLoopMetricsListener( String eventLoopId )
+    {
+        EventLoopMetricsListener eventLoopMetrics = (EventLoopMetricsListener) this.eventLoopMetrics.get( eventLoopId );
+        return eventLoopMetrics == null ? DevNullEventLoopMetricsListener.INSTANCE : eventLoopMetrics;
+    }
 }
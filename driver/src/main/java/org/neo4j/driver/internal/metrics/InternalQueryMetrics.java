@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.neo4j.driver.QueryMetrics;
+
+import static java.lang.String.format;
+
+/**
+ * Aggregates the executions of queries against one database with one access mode.
+ */
+final class InternalQueryMetrics implements QueryMetrics
+{
+    private final String database;
+    private final String accessMode;
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final LatencyHistogram runTimes = new LatencyHistogram();
+    private final LatencyHistogram resultAvailableAfterTimes = new LatencyHistogram();
+    private final LatencyHistogram resultConsumedAfterTimes = new LatencyHistogram();
+    private final LatencyHistogram decodeTimes = new LatencyHistogram();
+    private final LatencyHistogram records = new LatencyHistogram();
+    private final LatencyHistogram bytes = new LatencyHistogram();
+
+    InternalQueryMetrics( String database, String accessMode )
+    {
+        this.database = database;
+        this.accessMode = accessMode;
+    }
+
+    void afterQueryCompleted( QueryExecution execution )
+    {
+        (execution.successful() ? completed : failed).incrementAndGet();
+        if ( execution.runRoundTripNanos() >= 0 )
+        {
+            runTimes.record( TimeUnit.NANOSECONDS.toMillis( execution.runRoundTripNanos() ) );
+        }
+        recordIfPresent( resultAvailableAfterTimes, execution.resultAvailableAfterMillis() );
+        recordIfPresent( resultConsumedAfterTimes, execution.resultConsumedAfterMillis() );
+        decodeTimes.record( TimeUnit.NANOSECONDS.toMicros( execution.decodeNanos() ) );
+        records.record( execution.records() );
+        bytes.record( execution.bytes() );
+    }
+
+    @Override
+    public String database()
+    {
+        return database;
+    }
+
+    @Override
+    public String accessMode()
+    {
+        return accessMode;
+    }
+
+    @Override
+    public long completed()
+    {
+        return completed.get();
+    }
+
+    @Override
+    public long failed()
+    {
+        return failed.get();
+    }
+
+    @Override
+    public long runTimePercentile( double percentile )
+    {
+        return runTimes.snapshot().percentile( percentile );
+    }
+
+    @Override
+    public long resultAvailableAfterPercentile( double percentile )
+    {
+        return resultAvailableAfterTimes.snapshot().percentile( percentile );
+    }
+
+    @Override
+    public long resultConsumedAfterPercentile( double percentile )
+    {
+        return resultConsumedAfterTimes.snapshot().percentile( percentile );
+    }
+
+    @Override
+    public long decodeTimePercentile( double percentile )
+    {
+        return decodeTimes.snapshot().percentile( percentile );
+    }
+
+    @Override
+    public long recordsPercentile( double percentile )
+    {
+        return records.snapshot().percentile( percentile );
+    }
+
+    @Override
+    public long bytesPercentile( double percentile )
+    {
+        return bytes.snapshot().percentile( percentile );
+    }
+
+    long totalRecords()
+    {
+        return records.sum();
+    }
+
+    long totalBytes()
+    {
+        return bytes.sum();
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "[database=%s, accessMode=%s, completed=%s, failed=%s, totalRecords=%s, totalBytes=%s, runTime=%s, resultAvailableAfter=%s, " +
+                       "resultConsumedAfter=%s, decodeTime=%s, records=%s, bytes=%s]", database, accessMode, completed(), failed(), totalRecords(),
+                       totalBytes(), percentiles( runTimes ), percentiles( resultAvailableAfterTimes ), percentiles( resultConsumedAfterTimes ),
+                       percentiles( decodeTimes ), percentiles( records ), percentiles( bytes ) );
+    }
+
+    private static void recordIfPresent( LatencyHistogram histogram, long value )
+    {
+        if ( value >= 0 )
+        {
+            histogram.record( value );
+        }
+    }
+
+    private static String percentiles( LatencyHistogram histogram )
+    {
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        return format( "[p50=%s, p99=%s]", snapshot.percentile( 0.5 ), snapshot.percentile( 0.99 ) );
+    }
+}
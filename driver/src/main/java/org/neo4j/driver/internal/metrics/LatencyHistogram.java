@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.lang.String.format;
+
+/**
+ * A lock-free histogram of non-negative values, such as durations in milliseconds or result sizes.
+ * <p>
+ * Values are counted in log-linear buckets: values below 64 are counted exactly, larger values in buckets of 32 per power of two, which bounds
+ * the relative error of a percentile to about 3%. Values above {@link #MAX_VALUE}, about 795 days in milliseconds, are counted as {@link #MAX_VALUE}.
+ * <p>
+ * Recording threads are spread over at most four stripes by thread id so that concurrent recordings rarely update the same counters. A stripe takes
+ * 8 KiB and is allocated on first use, so a histogram recorded by a single thread stays small. A {@link Snapshot} sums all stripes without stopping
+ * recording threads, so values recorded concurrently with a snapshot may or may not be part of it.
+ */
+final class LatencyHistogram
+{
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 35;
+    static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private static final int COUNT_INDEX = BUCKET_COUNT;
+    private static final int SUM_INDEX = BUCKET_COUNT + 1;
+    private static final int STRIPE_LENGTH = BUCKET_COUNT + 2;
+    private static final int MAX_STRIPES = 4;
+    private static final int STRIPE_COUNT = stripeCount( Runtime.getRuntime().availableProcessors() );
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>( STRIPE_COUNT );
+
+    void record( long value )
+    {
+        long sample = Math.max( 0, value );
+        AtomicLongArray stripe = stripe();
+        stripe.getAndIncrement( bucketIndex( Math.min( sample, MAX_VALUE ) ) );
+        stripe.getAndIncrement( COUNT_INDEX );
+        stripe.getAndAdd( SUM_INDEX, sample );
+    }
+
+    long count()
+    {
+        return sumOfStripes( COUNT_INDEX );
+    }
+
+    long sum()
+    {
+        return sumOfStripes( SUM_INDEX );
+    }
+
+    Snapshot snapshot()
+    {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for ( int i = 0; i < STRIPE_COUNT; i++ )
+        {
+            AtomicLongArray stripe = stripes.get( i );
+            if ( stripe != null )
+            {
+                for ( int bucket = 0; bucket < BUCKET_COUNT; bucket++ )
+                {
+                    long bucketCount = stripe.get( bucket );
+                    counts[bucket] += bucketCount;
+                    count += bucketCount;
+                }
+            }
+        }
+        return new Snapshot( counts, count );
+    }
+
+    static int bucketIndex( long value )
+    {
+        int exponent = 63 - Long.numberOfLeadingZeros( value );
+        int shift = Math.max( 0, exponent - SUB_BUCKET_BITS );
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long highestValueInBucket( int index )
+    {
+        int shift = Math.max( 0, (index >>> SUB_BUCKET_BITS) - 1 );
+        long mantissa = index - ((long) shift << SUB_BUCKET_BITS);
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    private AtomicLongArray stripe()
+    {
+        int index = (int) Thread.currentThread().getId() & (STRIPE_COUNT - 1);
+        AtomicLongArray stripe = stripes.get( index );
+        if ( stripe == null )
+        {
+            stripes.compareAndSet( index, null, new AtomicLongArray( STRIPE_LENGTH ) );
+            stripe = stripes.get( index );
+        }
+        return stripe;
+    }
+
+    private long sumOfStripes( int index )
+    {
+        long sum = 0;
+        for ( int i = 0; i < STRIPE_COUNT; i++ )
+        {
+            AtomicLongArray stripe = stripes.get( i );
+            if ( stripe != null )
+            {
+                sum += stripe.get( index );
+            }
+        }
+        return sum;
+    }
+
+    private static int stripeCount( int processors )
+    {
+        // a power of two, so that the stripe of a thread can be selected by masking its id
+        int wanted = Math.max( 1, Math.min( processors, MAX_STRIPES ) );
+        int stripes = Integer.highestOneBit( wanted );
+        return stripes < wanted ? stripes << 1 : stripes;
+    }
+
+    static final class Snapshot
+    {
+        private final long[] counts;
+        private final long count;
+
+        private Snapshot( long[] counts, long count )
+        {
+            this.counts = counts;
+            this.count = count;
+        }
+
+        long count()
+        {
+            return count;
+        }
+
+        /**
+         * @param percentile the percentile between {@code 0} and {@code 1}.
+         * @return the highest value that is equivalent to the value at the given percentile, {@code 0} if no values were recorded.
+         */
+        long percentile( double percentile )
+        {
+            if ( percentile < 0 || percentile > 1 || Double.isNaN( percentile ) )
+            {
+                throw new IllegalArgumentException( format( "Percentile must be between 0 and 1, but was %s", percentile ) );
+            }
+            if ( count == 0 )
+            {
+                return 0;
+            }
+            long rank = Math.max( 1, (long) Math.ceil( percentile * count ) );
+            long seen = 0;
+            for ( int bucket = 0; bucket < counts.length; bucket++ )
+            {
+                seen += counts[bucket];
+                if ( seen >= rank )
+                {
+                    return highestValueInBucket( bucket );
+                }
+            }
+            return MAX_VALUE;
+        }
+    }
+}
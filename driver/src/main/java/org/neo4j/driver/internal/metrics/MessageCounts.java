@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.neo4j.driver.internal.messaging.request.BeginMessage;
+import org.neo4j.driver.internal.messaging.request.CommitMessage;
+import org.neo4j.driver.internal.messaging.request.DiscardMessage;
+import org.neo4j.driver.internal.messaging.request.GoodbyeMessage;
+import org.neo4j.driver.internal.messaging.request.HelloMessage;
+import org.neo4j.driver.internal.messaging.request.PullMessage;
+import org.neo4j.driver.internal.messaging.request.ResetMessage;
+import org.neo4j.driver.internal.messaging.request.RollbackMessage;
+import org.neo4j.driver.internal.messaging.request.RouteMessage;
+import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
+import org.neo4j.driver.internal.messaging.response.FailureMessage;
+import org.neo4j.driver.internal.messaging.response.IgnoredMessage;
+import org.neo4j.driver.internal.messaging.response.RecordMessage;
+import org.neo4j.driver.internal.messaging.response.SuccessMessage;
+
+import static java.lang.String.format;
+
+/**
+ * Counts Bolt messages by their signature. Request and response signatures do not overlap, so one instance can count messages of one direction.
+ */
+final class MessageCounts
+{
+    private static final int SIGNATURES = 256;
+    private static final String[] NAMES = new String[SIGNATURES];
+
+    static
+    {
+        NAMES[HelloMessage.SIGNATURE] = "HELLO";
+        NAMES[GoodbyeMessage.SIGNATURE] = "GOODBYE";
+        NAMES[ResetMessage.SIGNATURE] = "RESET";
+        NAMES[RunWithMetadataMessage.SIGNATURE] = "RUN";
+        NAMES[BeginMessage.SIGNATURE] = "BEGIN";
+        NAMES[CommitMessage.SIGNATURE] = "COMMIT";
+        NAMES[RollbackMessage.SIGNATURE] = "ROLLBACK";
+        NAMES[DiscardMessage.SIGNATURE] = "DISCARD";
+        NAMES[PullMessage.SIGNATURE] = "PULL";
+        NAMES[RouteMessage.SIGNATURE] = "ROUTE";
+        NAMES[SuccessMessage.SIGNATURE] = "SUCCESS";
+        NAMES[RecordMessage.SIGNATURE] = "RECORD";
+        NAMES[IgnoredMessage.SIGNATURE] = "IGNORED";
+        NAMES[FailureMessage.SIGNATURE] = "FAILURE";
+    }
+
+    private final AtomicLongArray counts = new AtomicLongArray( SIGNATURES );
+
+    void increment( byte signature )
+    {
+        counts.incrementAndGet( index( signature ) );
+    }
+
+    long total()
+    {
+        long total = 0;
+        for ( int i = 0; i < SIGNATURES; i++ )
+        {
+            total += counts.get( i );
+        }
+        return total;
+    }
+
+    Map<String,Long> snapshot()
+    {
+        Map<String,Long> snapshot = new LinkedHashMap<>();
+        for ( int i = 0; i < SIGNATURES; i++ )
+        {
+            long count = counts.get( i );
+            if ( count > 0 )
+            {
+                snapshot.put( name( (byte) i ), count );
+            }
+        }
+        return Collections.unmodifiableMap( snapshot );
+    }
+
+    static int index( byte signature )
+    {
+        return signature & 0xFF;
+    }
+
+    static String name( byte signature )
+    {
+        String name = NAMES[index( signature )];
+        return name != null ? name : format( "0x%02X", signature );
+    }
+}
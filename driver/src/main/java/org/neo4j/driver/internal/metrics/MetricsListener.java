@@ -82,6 +82,47 @@ public interface MetricsListener
      */
     void afterTimedOutToAcquireOrCreate( String poolId );
 
+    /**
+     * Before an acquisition starts to wait for a netty channel to be released back to the pool, because the pool has reached its maximum size.
+     *
+     * @param poolId    the id of the pool where the netty channel lives.
+     * @param waitEvent a pool listener event registered in pool for this wait.
+     */
+    void beforeWaitingToAcquire( String poolId, ListenerEvent<?> waitEvent );
+
+    /**
+     * After an acquisition stopped waiting for a netty channel to be released back to the pool, regardless whether it got one or not.
+     *
+     * @param poolId    the id of the pool where the netty channel lives.
+     * @param waitEvent a pool listener event registered in pool for this wait.
+     */
+    void afterWaitingToAcquire( String poolId, ListenerEvent<?> waitEvent );
+
+    /**
+     * After acquiring or creating a netty channel from pool successfully.
+     *
+     * @param poolId        the id of the pool where the netty channel lives.
+     * @param newConnection {@code true} if the netty channel was created for this acquisition, {@code false} if it was idle in the pool.
+     */
+    void afterAcquiredConnection( String poolId, boolean newConnection );
+
+    /**
+     * Before an idle netty channel is tested with a round trip to the server.
+     *
+     * @param poolId           the id of the pool where the netty channel lives.
+     * @param healthCheckEvent a pool listener event registered in pool for this test.
+     */
+    void beforeHealthCheck( String poolId, ListenerEvent<?> healthCheckEvent );
+
+    /**
+     * After an idle netty channel has been tested with a round trip to the server.
+     *
+     * @param poolId           the id of the pool where the netty channel lives.
+     * @param healthCheckEvent a pool listener event registered in pool for this test.
+     * @param healthy          {@code true} if the netty channel passed the test.
+     */
+    void afterHealthCheck( String poolId, ListenerEvent<?> healthCheckEvent, boolean healthy );
+
     /**
      * After acquiring or creating a new netty channel from pool successfully.
      *
@@ -98,9 +139,112 @@ public interface MetricsListener
      */
     void afterConnectionReleased( String poolId, ListenerEvent<?> inUseEvent );
 
+    /**
+     * After the circuit breaker guarding the given server opened. The server is excluded from load balancing until the breaker closes.
+     *
+     * @param serverAddress the address of the server.
+     */
+    void afterCircuitBreakerOpened( ServerAddress serverAddress );
+
+    /**
+     * After the circuit breaker guarding the given server became half-open and a probe was sent to the server.
+     *
+     * @param serverAddress the address of the server.
+     */
+    void afterCircuitBreakerHalfOpened( ServerAddress serverAddress );
+
+    /**
+     * After the circuit breaker guarding the given server closed.
+     *
+     * @param serverAddress the address of the server.
+     */
+    void afterCircuitBreakerClosed( ServerAddress serverAddress );
+
+    /**
+     * After a domain name was resolved by the driver.
+     *
+     * @param cacheHit {@code true} if the result was served from the domain name cache.
+     * @param success  {@code true} if the name was resolved to at least one address.
+     */
+    void afterDomainNameResolution( boolean cacheHit, boolean success );
+
+    /**
+     * After a failed transaction function was scheduled to be retried.
+     *
+     * @param cause the code of the error that failed the transaction function, or the simple name of its class if it has no code.
+     */
+    void afterRetryScheduled( String cause );
+
+    /**
+     * After the backoff before a retry of a transaction function elapsed.
+     *
+     * @param backoffMillis the time spent in backoff in milliseconds.
+     */
+    void afterRetryBackoff( long backoffMillis );
+
+    /**
+     * After a failed transaction function was not retried because the driver-wide retry budget was exhausted.
+     *
+     * @param cause the code of the error that failed the transaction function, or the simple name of its class if it has no code.
+     */
+    void afterRetryRejected( String cause );
+
+    /**
+     * After the result of a query has been fully received or failed.
+     *
+     * @param execution the measurements taken while executing the query, tagged with its database and access mode.
+     */
+    void afterQueryCompleted( QueryExecution execution );
+
+    /**
+     * After a Bolt message was encoded to be written to a netty channel.
+     *
+     * @param poolId    the id of the pool where the netty channel lives.
+     * @param signature the signature of the message.
+     * @param bytes     the size of the message in bytes, including chunk headers.
+     * @param chunks    the amount of chunks the message was split into.
+     */
+    void afterMessageSent( String poolId, byte signature, int bytes, int chunks );
+
+    /**
+     * After a Bolt message was read from a netty channel.
+     *
+     * @param poolId    the id of the pool where the netty channel lives.
+     * @param signature the signature of the message.
+     * @param bytes     the size of the message in bytes, including chunk headers.
+     * @param chunks    the amount of chunks the message was split into.
+     */
+    void afterMessageReceived( String poolId, byte signature, int bytes, int chunks );
+
+    /**
+     * After a netty channel was flushed.
+     *
+     * @param poolId the id of the pool where the netty channel lives.
+     */
+    void afterFlush( String poolId );
+
+    /**
+     * After the probe task periodically scheduled on an event loop was executed.
+     *
+     * @param eventLoopId the id of the event loop.
+     * @param lagNanos    how late the probe task was executed in nanoseconds.
+     */
+    void afterEventLoopProbe( String eventLoopId, long lagNanos );
+
+    /**
+     * After an event loop was detected to be blocked for longer than the configured threshold.
+     *
+     * @param eventLoopId the id of the event loop.
+     */
+    void afterEventLoopBlocked( String eventLoopId );
+
     ListenerEvent<?> createListenerEvent();
 
     void registerPoolMetrics( String poolId, ServerAddress serverAddress, IntSupplier inUseSupplier, IntSupplier idleSupplier );
 
     void removePoolMetrics( String poolId );
+
+    void registerEventLoopMetrics( String eventLoopId, IntSupplier pendingTasksSupplier, IntSupplier activeConnectionsSupplier );
+
+    void removeEventLoopMetrics( String eventLoopId );
 }
@@ -25,9 +25,13 @@ import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.IntSupplier;
 
 import org.neo4j.driver.ConnectionPoolMetrics;
@@ -35,6 +39,8 @@ import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.net.ServerAddress;
 
 import static java.lang.String.format;
+import static org.neo4j.driver.internal.metrics.MicrometerPercentiles.PERCENTILES;
+import static org.neo4j.driver.internal.metrics.MicrometerPercentiles.timePercentile;
 
 final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsListener, ConnectionPoolMetrics
 {
@@ -49,11 +55,28 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
     public static final String ACQUISITION = PREFIX + ".acquisition";
     public static final String CREATION = PREFIX + ".creation";
     public static final String USAGE = PREFIX + ".usage";
+    public static final String CIRCUIT_STATE = PREFIX + ".circuit.state";
+    public static final String CIRCUIT_OPENED = PREFIX + ".circuit.opened";
+    public static final String BYTES_SENT = PREFIX + ".bytes.sent";
+    public static final String BYTES_RECEIVED = PREFIX + ".bytes.received";
+    public static final String MESSAGES_SENT = PREFIX + ".messages.sent";
+    public static final String MESSAGES_RECEIVED = PREFIX + ".messages.received";
+    public static final String CHUNKS_SENT = PREFIX + ".chunks.sent";
+    public static final String CHUNKS_RECEIVED = PREFIX + ".chunks.received";
+    public static final String FLUSHES = PREFIX + ".flushes";
+    public static final String WAITING = PREFIX + ".waiting";
+    public static final String WAIT = PREFIX + ".wait";
+    public static final String ACQUIRED = PREFIX + ".acquired";
+    public static final String HEALTH_CHECK = PREFIX + ".health.check";
+    public static final String HEALTH_CHECK_FAILED = HEALTH_CHECK + ".failed";
+
+    private static final String[] CIRCUIT_STATES = {"CLOSED", "OPEN", "HALF_OPEN"};
 
     private final IntSupplier inUseSupplier;
     private final IntSupplier idleSupplier;
 
     private final String id;
+    private final ServerAddress address;
 
     private final AtomicInteger creating = new AtomicInteger();
     private final Counter failedToCreate;
@@ -63,6 +86,24 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
     private final Timer totalAcquisitionTimer;
     private final Timer totalConnectionTimer;
     private final Timer totalInUseTimer;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Counter acquiredNew;
+    private final Counter acquiredIdle;
+    private final Timer healthCheckTimer;
+    private final Counter failedHealthChecks;
+    private final AtomicInteger circuitBreakerState = new AtomicInteger();
+    private final Counter circuitBreakerOpened;
+    private final MeterRegistry registry;
+    private final Iterable<Tag> tags;
+    private final Counter bytesSent;
+    private final Counter bytesReceived;
+    private final Counter chunksSent;
+    private final Counter chunksReceived;
+    private final Counter flushes;
+    // counters per message signature are registered on first use, racing registrations return the same counter
+    private final AtomicReferenceArray<Counter> messagesSent = new AtomicReferenceArray<>( 256 );
+    private final AtomicReferenceArray<Counter> messagesReceived = new AtomicReferenceArray<>( 256 );
 
     MicrometerConnectionPoolMetrics( String poolId, ServerAddress address, IntSupplier inUseSupplier, IntSupplier idleSupplier, MeterRegistry registry )
     {
@@ -78,6 +119,7 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
         Objects.requireNonNull( registry );
 
         this.id = poolId;
+        this.address = address;
         this.inUseSupplier = inUseSupplier;
         this.idleSupplier = idleSupplier;
         String host = address instanceof BoltServerAddress ? ((BoltServerAddress) address).connectionHost() : address.host();
@@ -91,9 +133,24 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
         closed = Counter.builder( CLOSED ).tags( tags ).register( registry );
         Gauge.builder( ACQUIRING, acquiring, AtomicInteger::get ).tags( tags ).register( registry );
         timedOutToAcquire = Counter.builder( ACQUISITION_TIMEOUT ).tags( tags ).register( registry );
-        totalAcquisitionTimer = Timer.builder( ACQUISITION ).tags( tags ).register( registry );
-        totalConnectionTimer = Timer.builder( CREATION ).tags( tags ).register( registry );
-        totalInUseTimer = Timer.builder( USAGE ).tags( tags ).register( registry );
+        totalAcquisitionTimer = Timer.builder( ACQUISITION ).tags( tags ).publishPercentiles( PERCENTILES ).register( registry );
+        totalConnectionTimer = Timer.builder( CREATION ).tags( tags ).publishPercentiles( PERCENTILES ).register( registry );
+        totalInUseTimer = Timer.builder( USAGE ).tags( tags ).publishPercentiles( PERCENTILES ).register( registry );
+        Gauge.builder( CIRCUIT_STATE, circuitBreakerState, AtomicInteger::get ).tags( tags ).register( registry );
+        circuitBreakerOpened = Counter.builder( CIRCUIT_OPENED ).tags( tags ).register( registry );
+        this.registry = registry;
+        this.tags = tags;
+        bytesSent = Counter.builder( BYTES_SENT ).tags( tags ).baseUnit( "bytes" ).register( registry );
+        bytesReceived = Counter.builder( BYTES_RECEIVED ).tags( tags ).baseUnit( "bytes" ).register( registry );
+        chunksSent = Counter.builder( CHUNKS_SENT ).tags( tags ).register( registry );
+        chunksReceived = Counter.builder( CHUNKS_RECEIVED ).tags( tags ).register( registry );
+        flushes = Counter.builder( FLUSHES ).tags( tags ).register( registry );
+        Gauge.builder( WAITING, waiting, AtomicInteger::get ).tags( tags ).register( registry );
+        waitTimer = Timer.builder( WAIT ).tags( tags ).publishPercentiles( PERCENTILES ).register( registry );
+        acquiredNew = Counter.builder( ACQUIRED ).tags( tags ).tag( "source", "new" ).register( registry );
+        acquiredIdle = Counter.builder( ACQUIRED ).tags( tags ).tag( "source", "idle" ).register( registry );
+        healthCheckTimer = Timer.builder( HEALTH_CHECK ).tags( tags ).publishPercentiles( PERCENTILES ).register( registry );
+        failedHealthChecks = Counter.builder( HEALTH_CHECK_FAILED ).tags( tags ).register( registry );
     }
 
     @Override
@@ -150,6 +207,44 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
         timedOutToAcquire.increment();
     }
 
+    @Override
+    public void beforeWaiting( ListenerEvent<?> waitEvent )
+    {
+        waitEvent.start();
+        waiting.incrementAndGet();
+    }
+
+    @Override
+    public void afterWaiting( ListenerEvent<?> waitEvent )
+    {
+        waiting.decrementAndGet();
+        Timer.Sample sample = ((MicrometerTimerListenerEvent) waitEvent).getSample();
+        sample.stop( waitTimer );
+    }
+
+    @Override
+    public void afterAcquiredConnection( boolean newConnection )
+    {
+        (newConnection ? acquiredNew : acquiredIdle).increment();
+    }
+
+    @Override
+    public void beforeHealthCheck( ListenerEvent<?> healthCheckEvent )
+    {
+        healthCheckEvent.start();
+    }
+
+    @Override
+    public void afterHealthCheck( ListenerEvent<?> healthCheckEvent, boolean healthy )
+    {
+        Timer.Sample sample = ((MicrometerTimerListenerEvent) healthCheckEvent).getSample();
+        sample.stop( healthCheckTimer );
+        if ( !healthy )
+        {
+            failedHealthChecks.increment();
+        }
+    }
+
     @Override
     public void acquired( ListenerEvent<?> inUseEvent )
     {
@@ -163,6 +258,47 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
         sample.stop( totalInUseTimer );
     }
 
+    @Override
+    public void afterCircuitBreakerOpened()
+    {
+        circuitBreakerOpened.increment();
+        circuitBreakerState.set( 1 );
+    }
+
+    @Override
+    public void afterCircuitBreakerHalfOpened()
+    {
+        circuitBreakerState.set( 2 );
+    }
+
+    @Override
+    public void afterCircuitBreakerClosed()
+    {
+        circuitBreakerState.set( 0 );
+    }
+
+    @Override
+    public void afterMessageSent( byte signature, int bytes, int chunks )
+    {
+        messageCounter( messagesSent, MESSAGES_SENT, signature ).increment();
+        bytesSent.increment( bytes );
+        chunksSent.increment( chunks );
+    }
+
+    @Override
+    public void afterMessageReceived( byte signature, int bytes, int chunks )
+    {
+        messageCounter( messagesReceived, MESSAGES_RECEIVED, signature ).increment();
+        bytesReceived.increment( bytes );
+        chunksReceived.increment( chunks );
+    }
+
+    @Override
+    public void afterFlush()
+    {
+        flushes.increment();
+    }
+
     @Override
     public String id()
     {
@@ -247,6 +383,126 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
         return totalInUseTimer.count();
     }
 
+    @Override
+    public long acquisitionTimePercentile( double percentile )
+    {
+        return timePercentile( totalAcquisitionTimer, percentile, TimeUnit.MILLISECONDS );
+    }
+
+    @Override
+    public long connectionTimePercentile( double percentile )
+    {
+        return timePercentile( totalConnectionTimer, percentile, TimeUnit.MILLISECONDS );
+    }
+
+    @Override
+    public long inUseTimePercentile( double percentile )
+    {
+        return timePercentile( totalInUseTimer, percentile, TimeUnit.MILLISECONDS );
+    }
+
+    @Override
+    public int waitingToAcquire()
+    {
+        return waiting.get();
+    }
+
+    @Override
+    public long waitedToAcquire()
+    {
+        return waitTimer.count();
+    }
+
+    @Override
+    public long waitTimePercentile( double percentile )
+    {
+        return timePercentile( waitTimer, percentile, TimeUnit.MILLISECONDS );
+    }
+
+    @Override
+    public long acquiredNewConnections()
+    {
+        return count( acquiredNew );
+    }
+
+    @Override
+    public long acquiredIdleConnections()
+    {
+        return count( acquiredIdle );
+    }
+
+    @Override
+    public long healthChecks()
+    {
+        return healthCheckTimer.count();
+    }
+
+    @Override
+    public long failedHealthChecks()
+    {
+        return count( failedHealthChecks );
+    }
+
+    @Override
+    public long healthCheckTimePercentile( double percentile )
+    {
+        return timePercentile( healthCheckTimer, percentile, TimeUnit.MILLISECONDS );
+    }
+
+    @Override
+    public String circuitBreakerState()
+    {
+        return CIRCUIT_STATES[circuitBreakerState.get()];
+    }
+
+    @Override
+    public long circuitBreakerOpened()
+    {
+        return count( circuitBreakerOpened );
+    }
+
+    @Override
+    public long bytesSent()
+    {
+        return count( bytesSent );
+    }
+
+    @Override
+    public long bytesReceived()
+    {
+        return count( bytesReceived );
+    }
+
+    @Override
+    public Map<String,Long> messagesSent()
+    {
+        return counts( messagesSent );
+    }
+
+    @Override
+    public Map<String,Long> messagesReceived()
+    {
+        return counts( messagesReceived );
+    }
+
+    @Override
+    public long chunksSent()
+    {
+        return count( chunksSent );
+    }
+
+    @Override
+    public long chunksReceived()
+    {
+        return count( chunksReceived );
+    }
+
+    @Override
+    public long flushes()
+    {
+        return count( flushes );
+    }
+
     @Override
     public String toString()
     {
@@ -258,6 +514,37 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
                        totalAcquisitionTime(), totalConnectionTime(), totalInUseTime(), totalInUseCount() );
     }
 
+    ServerAddress address()
+    {
+        return address;
+    }
+
+    private Counter messageCounter( AtomicReferenceArray<Counter> counters, String name, byte signature )
+    {
+        int index = MessageCounts.index( signature );
+        Counter counter = counters.get( index );
+        if ( counter == null )
+        {
+            counter = Counter.builder( name ).tags( tags ).tag( "type", MessageCounts.name( signature ) ).register( registry );
+            counters.set( index, counter );
+        }
+        return counter;
+    }
+
+    private Map<String,Long> counts( AtomicReferenceArray<Counter> counters )
+    {
+        Map<String,Long> counts = new LinkedHashMap<>();
+        for ( int i = 0; i < counters.length(); i++ )
+        {
+            Counter counter = counters.get( i );
+            if ( counter != null )
+            {
+                counts.put( MessageCounts.name( (byte) i ), count( counter ) );
+            }
+        }
+        return Collections.unmodifiableMap( counts );
+    }
+
     private long count( Counter counter )
     {
         return (long) counter.count();
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.neo4j.driver.DomainNameResolutionMetrics;
+
+final class MicrometerDomainNameResolutionMetrics implements DomainNameResolutionMetrics
+{
+    public static final String DOMAIN_NAME_RESOLUTION = "neo4j.driver.dns.resolutions";
+
+    private final Counter hitSuccesses;
+    private final Counter hitFailures;
+    private final Counter missSuccesses;
+    private final Counter missFailures;
+
+    MicrometerDomainNameResolutionMetrics( MeterRegistry registry )
+    {
+        this.hitSuccesses = counter( registry, true, true );
+        this.hitFailures = counter( registry, true, false );
+        this.missSuccesses = counter( registry, false, true );
+        this.missFailures = counter( registry, false, false );
+    }
+
+    void afterResolution( boolean cacheHit, boolean success )
+    {
+        if ( cacheHit )
+        {
+            (success ? hitSuccesses : hitFailures).increment();
+        }
+        else
+        {
+            (success ? missSuccesses : missFailures).increment();
+        }
+    }
+
+    @Override
+    public long cacheHits()
+    {
+        return (long) (hitSuccesses.count() + hitFailures.count());
+    }
+
+    @Override
+    public long cacheMisses()
+    {
+        return (long) (missSuccesses.count() + missFailures.count());
+    }
+
+    @Override
+    public long failures()
+    {
+        return (long) (hitFailures.count() + missFailures.count());
+    }
+
+    private static Counter counter( MeterRegistry registry, boolean cacheHit, boolean success )
+    {
+        return Counter.builder( DOMAIN_NAME_RESOLUTION )
+                      .tag( "cache", cacheHit ? "hit" : "miss" )
+                      .tag( "outcome", success ? "success" : "failure" )
+                      .register( registry );
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+import org.neo4j.driver.EventLoopMetrics;
+
+import static java.lang.String.format;
+
+final class MicrometerEventLoopMetrics implements EventLoopMetricsListener, EventLoopMetrics
+{
+    public static final String PREFIX = "neo4j.driver.eventloop";
+    public static final String PENDING_TASKS = PREFIX + ".pending.tasks";
+    public static final String ACTIVE_CONNECTIONS = PREFIX + ".connections.active";
+    public static final String SCHEDULING_LAG = PREFIX + ".scheduling.lag";
+    public static final String BLOCKED = PREFIX + ".blocked";
+
+    private final String id;
+    private final IntSupplier pendingTasksSupplier;
+    private final IntSupplier activeConnectionsSupplier;
+
+    private final Timer schedulingLag;
+    private final Counter blockedDetections;
+    private final AtomicLong lastSchedulingLagNanos = new AtomicLong();
+    private final AtomicLong maxSchedulingLagNanos = new AtomicLong();
+
+    MicrometerEventLoopMetrics( String eventLoopId, IntSupplier pendingTasksSupplier, IntSupplier activeConnectionsSupplier, MeterRegistry registry )
+    {
+        Objects.requireNonNull( eventLoopId );
+        Objects.requireNonNull( pendingTasksSupplier );
+        Objects.requireNonNull( activeConnectionsSupplier );
+        Objects.requireNonNull( registry );
+
+        this.id = eventLoopId;
+        this.pendingTasksSupplier = pendingTasksSupplier;
+        this.activeConnectionsSupplier = activeConnectionsSupplier;
+        Iterable<Tag> tags = Tags.of( "eventloop", eventLoopId );
+
+        Gauge.builder( PENDING_TASKS, this::pendingTasks ).tags( tags ).register( registry );
+        Gauge.builder( ACTIVE_CONNECTIONS, this::activeConnections ).tags( tags ).register( registry );
+        schedulingLag = Timer.builder( SCHEDULING_LAG ).tags( tags ).publishPercentileHistogram().register( registry );
+        blockedDetections = Counter.builder( BLOCKED ).tags( tags ).register( registry );
+    }
+
+    @Override
+    public void afterProbe( long lagNanos )
+    {
+        lastSchedulingLagNanos.set( lagNanos );
+        maxSchedulingLagNanos.accumulateAndGet( lagNanos, Math::max );
+        schedulingLag.record( lagNanos, TimeUnit.NANOSECONDS );
+    }
+
+    @Override
+    public void afterBlocked()
+    {
+        blockedDetections.increment();
+    }
+
+    @Override
+    public String id()
+    {
+        return id;
+    }
+
+    @Override
+    public int pendingTasks()
+    {
+        return pendingTasksSupplier.getAsInt();
+    }
+
+    @Override
+    public int activeConnections()
+    {
+        return activeConnectionsSupplier.getAsInt();
+    }
+
+    @Override
+    public long schedulingLag()
+    {
+        return TimeUnit.NANOSECONDS.toMillis( lastSchedulingLagNanos.get() );
+    }
+
+    @Override
+    public long maxSchedulingLag()
+    {
+        return TimeUnit.NANOSECONDS.toMillis( maxSchedulingLagNanos.get() );
+    }
+
+    @Override
+    public long blockedDetections()
+    {
+        return (long) blockedDetections.count();
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "%s=[pendingTasks=%s, activeConnections=%s, schedulingLag=%s, maxSchedulingLag=%s, blockedDetections=%s]",
+                       id(), pendingTasks(), activeConnections(), schedulingLag(), maxSchedulingLag(), blockedDetections() );
+    }
+}
@@ -18,27 +18,41 @@
  */
 package org.neo4j.driver.internal.metrics;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.IntSupplier;
 
 import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.DomainNameResolutionMetrics;
+import org.neo4j.driver.EventLoopMetrics;
 import org.neo4j.driver.Metrics;
+import org.neo4j.driver.QueryMetrics;
 import org.neo4j.driver.net.ServerAddress;
 
 final class MicrometerMetrics implements Metrics, MetricsListener
 {
+    public static final String RETRIES = "neo4j.driver.retries";
+    public static final String RETRY_BACKOFF = RETRIES + ".backoff";
+    public static final String RETRIES_REJECTED = RETRIES + ".rejected";
+
     private final MeterRegistry meterRegistry;
     private final Map<String,ConnectionPoolMetrics> connectionPoolMetrics;
+    private final Map<String,EventLoopMetrics> eventLoopMetrics = new ConcurrentHashMap<>();
+    private final MicrometerDomainNameResolutionMetrics domainNameResolutionMetrics;
+    private final Map<String,QueryMetrics> queryMetrics = new ConcurrentHashMap<>();
 
     public MicrometerMetrics( MeterRegistry meterRegistry )
     {
         this.meterRegistry = meterRegistry;
         this.connectionPoolMetrics = new ConcurrentHashMap<>();
+        this.domainNameResolutionMetrics = new MicrometerDomainNameResolutionMetrics( meterRegistry );
     }
 
     @Override
@@ -47,6 +61,24 @@ final class MicrometerMetrics implements Metrics, MetricsListener
         return Collections.unmodifiableCollection( this.connectionPoolMetrics.values() );
     }
 
+    @Override
+    public Collection<EventLoopMetrics> eventLoopMetrics()
+    {
+        return Collections.unmodifiableCollection( this.eventLoopMetrics.values() );
+    }
+
+    @Override
+    public DomainNameResolutionMetrics domainNameResolutionMetrics()
+    {
+        return domainNameResolutionMetrics;
+    }
+
+    @Override
+    public Collection<QueryMetrics> queryMetrics()
+    {
+        return Collections.unmodifiableCollection( this.queryMetrics.values() );
+    }
+
     @Override
     public void beforeCreating( String poolId, ListenerEvent<?> creatingEvent )
     {
@@ -107,6 +139,114 @@ final class MicrometerMetrics implements Metrics, MetricsListener
         poolMetricsListener( poolId ).released( inUseEvent );
     }
 
+    @Override
+    public void beforeWaitingToAcquire( String poolId, ListenerEvent<?> waitEvent )
+    {
+        poolMetricsListener( poolId ).beforeWaiting( waitEvent );
+    }
+
+    @Override
+    public void afterWaitingToAcquire( String poolId, ListenerEvent<?> waitEvent )
+    {
+        poolMetricsListener( poolId ).afterWaiting( waitEvent );
+    }
+
+    @Override
+    public void afterAcquiredConnection( String poolId, boolean newConnection )
+    {
+        poolMetricsListener( poolId ).afterAcquiredConnection( newConnection );
+    }
+
+    @Override
+    public void beforeHealthCheck( String poolId, ListenerEvent<?> healthCheckEvent )
+    {
+        poolMetricsListener( poolId ).beforeHealthCheck( healthCheckEvent );
+    }
+
+    @Override
+    public void afterHealthCheck( String poolId, ListenerEvent<?> healthCheckEvent, boolean healthy )
+    {
+        poolMetricsListener( poolId ).afterHealthCheck( healthCheckEvent, healthy );
+    }
+
+    @Override
+    public void afterCircuitBreakerOpened( ServerAddress serverAddress )
+    {
+        poolMetricsListener( serverAddress ).afterCircuitBreakerOpened();
+    }
+
+    @Override
+    public void afterCircuitBreakerHalfOpened( ServerAddress serverAddress )
+    {
+        poolMetricsListener( serverAddress ).afterCircuitBreakerHalfOpened();
+    }
+
+    @Override
+    public void afterCircuitBreakerClosed( ServerAddress serverAddress )
+    {
+        poolMetricsListener( serverAddress ).afterCircuitBreakerClosed();
+    }
+
+    @Override
+    public void afterDomainNameResolution( boolean cacheHit, boolean success )
+    {
+        domainNameResolutionMetrics.afterResolution( cacheHit, success );
+    }
+
+    @Override
+    public void afterRetryScheduled( String cause )
+    {
+        Counter.builder( RETRIES ).tag( "cause", cause ).register( meterRegistry ).increment();
+    }
+
+    @Override
+    public void afterRetryBackoff( long backoffMillis )
+    {
+        Timer.builder( RETRY_BACKOFF ).register( meterRegistry ).record( backoffMillis, TimeUnit.MILLISECONDS );
+    }
+
+    @Override
+    public void afterRetryRejected( String cause )
+    {
+        Counter.builder( RETRIES_REJECTED ).tag( "cause", cause ).register( meterRegistry ).increment();
+    }
+
+    @Override
+    public void afterQueryCompleted( QueryExecution execution )
+    {
+        queryMetricsListener( execution.database(), execution.accessMode() ).afterQueryCompleted( execution );
+    }
+
+    @Override
+    public void afterMessageSent( String poolId, byte signature, int bytes, int chunks )
+    {
+        poolMetricsListener( poolId ).afterMessageSent( signature, bytes, chunks );
+    }
+
+    @Override
+    public void afterMessageReceived( String poolId, byte signature, int bytes, int chunks )
+    {
+        poolMetricsListener( poolId ).afterMessageReceived( signature, bytes, chunks );
+    }
+
+    @Override
+    public void afterFlush( String poolId )
+    {
+        poolMetricsListener( poolId ).afterFlush();
+    }
+
+    @Override
+    public void afterEventLoopProbe( String eventLoopId, long lagNanos )
+    {
+        eventLoopMetricsListener( eventLoopId ).afterProbe( lagNanos );
+    }
+
+    @Override
+    public void afterEventLoopBlocked( String eventLoopId )
+    {
+        eventLoopMetricsListener( eventLoopId ).afterBlocked();
+    }
+
     @Override
     public ListenerEvent<?> createListenerEvent()
     {
@@ -131,6 +271,42 @@ final class MicrometerMetrics implements Metrics, MetricsListener
         this.connectionPoolMetrics.remove( poolId );
     }
 
+    @Override
+    public void registerEventLoopMetrics( String eventLoopId, IntSupplier pendingTasksSupplier, IntSupplier activeConnectionsSupplier )
+    {
+        this.eventLoopMetrics.put( eventLoopId, new MicrometerEventLoopMetrics( eventLoopId, pendingTasksSupplier, activeConnectionsSupplier, this.meterRegistry ) );
+    }
+
+    @Override
+    public void removeEventLoopMetrics( String eventLoopId )
+    {
+        this.eventLoopMetrics.remove( eventLoopId );
+    }
+
+    private MicrometerQueryMetrics queryMetricsListener( String database, String accessMode )
+    {
+        // meters are registered once per database and access mode, later queries only look them up here
+        String key = database + "/" + accessMode;
+        QueryMetrics metrics = queryMetrics.get( key );
+        if ( metrics == null )
+        {
+            metrics = queryMetrics.computeIfAbsent( key, ignored -> new MicrometerQueryMetrics( database, accessMode, meterRegistry ) );
+        }
+        return (MicrometerQueryMetrics) metrics;
+    }
+
+    private ConnectionPoolMetricsListener poolMetricsListener( ServerAddress serverAddress )
+    {
+        for ( ConnectionPoolMetrics poolMetrics : this.connectionPoolMetrics.values() )
+        {
+            if ( poolMetrics instanceof MicrometerConnectionPoolMetrics && ((MicrometerConnectionPoolMetrics) poolMetrics).address().equals( serverAddress ) )
+            {
+                return (ConnectionPoolMetricsListener) poolMetrics;
+            }
+        }
+        return DevNullPoolMetricsListener.INSTANCE;
+    }
+
     private ConnectionPoolMetricsListener poolMetricsListener( String poolId )
     {
         ConnectionPoolMetricsListener poolMetrics = (ConnectionPoolMetricsListener) this.connectionPoolMetrics.get( poolId );
@@ -140,4 +316,10 @@ final class MicrometerMetrics implements Metrics, MetricsListener
         }
         return poolMetrics;
     }
+
+    private EventLoopMetricsListener eventLoopMetricsListener( String eventLoopId )
+    {
+        EventLoopMetricsListener eventLoopMetrics = (EventLoopMetricsListener) this.eventLoopMetrics.get( eventLoopId );
+        return eventLoopMetrics == null ? DevNullEventLoopMetricsListener.INSTANCE : eventLoopMetrics;
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Answers percentiles of Micrometer timers and distribution summaries from the percentiles Micrometer computes for them.
+ * <p>
+ * Micrometer only computes the {@link #PERCENTILES} a meter was registered with, over its distribution statistic expiry. A requested percentile is answered
+ * with the next computed percentile that is not lower, or with the maximum when it is higher than all computed percentiles.
+ */
+final class MicrometerPercentiles
+{
+    static final double[] PERCENTILES = {0.5, 0.75, 0.9, 0.95, 0.99, 0.999};
+
+    private MicrometerPercentiles()
+    {
+    }
+
+    static long timePercentile( Timer timer, double percentile, TimeUnit unit )
+    {
+        HistogramSnapshot snapshot = snapshot( timer.takeSnapshot(), percentile );
+        if ( snapshot == null )
+        {
+            return 0;
+        }
+        ValueAtPercentile value = valueAt( snapshot, percentile );
+        return (long) Math.ceil( value == null ? snapshot.max( unit ) : value.value( unit ) );
+    }
+
+    static long amountPercentile( DistributionSummary summary, double percentile )
+    {
+        HistogramSnapshot snapshot = snapshot( summary.takeSnapshot(), percentile );
+        if ( snapshot == null )
+        {
+            return 0;
+        }
+        ValueAtPercentile value = valueAt( snapshot, percentile );
+        return (long) Math.ceil( value == null ? snapshot.max() : value.value() );
+    }
+
+    private static HistogramSnapshot snapshot( HistogramSnapshot snapshot, double percentile )
+    {
+        if ( percentile < 0 || percentile > 1 || Double.isNaN( percentile ) )
+        {
+            throw new IllegalArgumentException( format( "Percentile must be between 0 and 1, but was %s", percentile ) );
+        }
+        return snapshot.count() == 0 ? null : snapshot;
+    }
+
+    private static ValueAtPercentile valueAt( HistogramSnapshot snapshot, double percentile )
+    {
+        for ( ValueAtPercentile value : snapshot.percentileValues() )
+        {
+            if ( value.percentile() >= percentile )
+            {
+                return value;
+            }
+        }
+        return null;
+    }
+}
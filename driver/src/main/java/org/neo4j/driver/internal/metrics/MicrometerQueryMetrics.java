@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.QueryMetrics;
+
+import static java.lang.String.format;
+import static org.neo4j.driver.internal.metrics.MicrometerPercentiles.PERCENTILES;
+import static org.neo4j.driver.internal.metrics.MicrometerPercentiles.amountPercentile;
+import static org.neo4j.driver.internal.metrics.MicrometerPercentiles.timePercentile;
+
+/**
+ * Records the executions of queries against one database with one access mode. All meters are registered once, when the first query completes.
+ */
+final class MicrometerQueryMetrics implements QueryMetrics
+{
+    public static final String PREFIX = "neo4j.driver.queries";
+    public static final String RUN = PREFIX + ".run";
+    public static final String RESULT_AVAILABLE_AFTER = PREFIX + ".result.available.after";
+    public static final String RESULT_CONSUMED_AFTER = PREFIX + ".result.consumed.after";
+    public static final String DECODE = PREFIX + ".decode";
+    public static final String RECORDS = PREFIX + ".records";
+    public static final String BYTES = PREFIX + ".bytes";
+
+    private final String database;
+    private final String accessMode;
+    private final Counter completed;
+    private final Counter failed;
+    private final Timer runTimer;
+    private final Timer resultAvailableAfterTimer;
+    private final Timer resultConsumedAfterTimer;
+    private final Timer decodeTimer;
+    private final DistributionSummary records;
+    private final DistributionSummary bytes;
+
+    MicrometerQueryMetrics( String database, String accessMode, MeterRegistry registry )
+    {
+        this.database = database;
+        this.accessMode = accessMode;
+        Tags tags = Tags.of( "database", database, "mode", accessMode );
+        completed = Counter.builder( PREFIX ).tags( tags ).tag( "outcome", "success" ).register( registry );
+        failed = Counter.builder( PREFIX ).tags( tags ).tag( "outcome", "failure" ).register( registry );
+        runTimer = timer( RUN, tags, registry );
+        resultAvailableAfterTimer = timer( RESULT_AVAILABLE_AFTER, tags, registry );
+        resultConsumedAfterTimer = timer( RESULT_CONSUMED_AFTER, tags, registry );
+        decodeTimer = timer( DECODE, tags, registry );
+        records = DistributionSummary.builder( RECORDS ).tags( tags ).publishPercentiles( PERCENTILES ).register( registry );
+        bytes = DistributionSummary.builder( BYTES ).tags( tags ).baseUnit( "bytes" ).publishPercentiles( PERCENTILES ).register( registry );
+    }
+
+    void afterQueryCompleted( QueryExecution execution )
+    {
+        (execution.successful() ? completed : failed).increment();
+        recordIfPresent( runTimer, execution.runRoundTripNanos(), TimeUnit.NANOSECONDS );
+        recordIfPresent( resultAvailableAfterTimer, execution.resultAvailableAfterMillis(), TimeUnit.MILLISECONDS );
+        recordIfPresent( resultConsumedAfterTimer, execution.resultConsumedAfterMillis(), TimeUnit.MILLISECONDS );
+        decodeTimer.record( execution.decodeNanos(), TimeUnit.NANOSECONDS );
+        records.record( execution.records() );
+        bytes.record( execution.bytes() );
+    }
+
+    @Override
+    public String database()
+    {
+        return database;
+    }
+
+    @Override
+    public String accessMode()
+    {
+        return accessMode;
+    }
+
+    @Override
+    public long completed()
+    {
+        return (long) completed.count();
+    }
+
+    @Override
+    public long failed()
+    {
+        return (long) failed.count();
+    }
+
+    @Override
+    public long runTimePercentile( double percentile )
+    {
+        return timePercentile( runTimer, percentile, TimeUnit.MILLISECONDS );
+    }
+
+    @Override
+    public long resultAvailableAfterPercentile( double percentile )
+    {
+        return timePercentile( resultAvailableAfterTimer, percentile, TimeUnit.MILLISECONDS );
+    }
+
+    @Override
+    public long resultConsumedAfterPercentile( double percentile )
+    {
+        return timePercentile( resultConsumedAfterTimer, percentile, TimeUnit.MILLISECONDS );
+    }
+
+    @Override
+    public long decodeTimePercentile( double percentile )
+    {
+        return timePercentile( decodeTimer, percentile, TimeUnit.MICROSECONDS );
+    }
+
+    @Override
+    public long recordsPercentile( double percentile )
+    {
+        return amountPercentile( records, percentile );
+    }
+
+    @Override
+    public long bytesPercentile( double percentile )
+    {
+        return amountPercentile( bytes, percentile );
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "[database=%s, accessMode=%s, completed=%s, failed=%s]", database, accessMode, completed(), failed() );
+    }
+
+    private static Timer timer( String name, Tags tags, MeterRegistry registry )
+    {
+        return Timer.builder( name ).tags( tags ).publishPercentiles( PERCENTILES ).register( registry );
+    }
+
+    private static void recordIfPresent( Timer timer, long amount, TimeUnit unit )
+    {
+        if ( amount >= 0 )
+        {
+            timer.record( amount, unit );
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.internal.DatabaseName;
+
+import static java.lang.String.format;
+
+/**
+ * Measurements taken while executing a single query, reported to {@link MetricsListener#afterQueryCompleted(QueryExecution)} once the result
+ * has been fully received or failed.
+ * <p>
+ * Server reported timings are {@code -1} when the server did not report them.
+ */
+public final class QueryExecution
+{
+    static final String UNKNOWN = "unknown";
+
+    private final boolean successful;
+    private final long runRoundTripNanos;
+    private final long resultAvailableAfterMillis;
+    private final long resultConsumedAfterMillis;
+    private final long decodeNanos;
+    private final long records;
+    private final long bytes;
+    private final Query query;
+    private final long totalNanos;
+    private final String database;
+    private final String accessMode;
+
+    public QueryExecution( boolean successful, long runRoundTripNanos, long resultAvailableAfterMillis, long resultConsumedAfterMillis, long decodeNanos,
+                           long records, long bytes )
+    {
+        this( successful, runRoundTripNanos, resultAvailableAfterMillis, resultConsumedAfterMillis, decodeNanos, records, bytes, null, -1 );
+    }
+
+    public QueryExecution( boolean successful, long runRoundTripNanos, long resultAvailableAfterMillis, long resultConsumedAfterMillis, long decodeNanos,
+                           long records, long bytes, Query query, long totalNanos )
+    {
+        this( successful, runRoundTripNanos, resultAvailableAfterMillis, resultConsumedAfterMillis, decodeNanos, records, bytes, query, totalNanos,
+              UNKNOWN, UNKNOWN );
+    }
+
+    private QueryExecution( boolean successful, long runRoundTripNanos, long resultAvailableAfterMillis, long resultConsumedAfterMillis, long decodeNanos,
+                            long records, long bytes, Query query, long totalNanos, String database, String accessMode )
+    {
+        this.successful = successful;
+        this.runRoundTripNanos = runRoundTripNanos;
+        this.resultAvailableAfterMillis = resultAvailableAfterMillis;
+        this.resultConsumedAfterMillis = resultConsumedAfterMillis;
+        this.decodeNanos = decodeNanos;
+        this.records = records;
+        this.bytes = bytes;
+        this.query = query;
+        this.totalNanos = totalNanos;
+        this.database = database;
+        this.accessMode = accessMode;
+    }
+
+    /**
+     * Tags this execution with the database and access mode the query was executed with.
+     *
+     * @param databaseName the database the query was executed against.
+     * @param mode         the access mode of the connection.
+     * @return a copy of this execution carrying the given tags.
+     */
+    public QueryExecution withTarget( DatabaseName databaseName, AccessMode mode )
+    {
+        String database = databaseName == null ? UNKNOWN : databaseName.description();
+        String accessMode = mode == null ? UNKNOWN : mode.name();
+        return new QueryExecution( successful, runRoundTripNanos, resultAvailableAfterMillis, resultConsumedAfterMillis, decodeNanos, records, bytes,
+                                   query, totalNanos, database, accessMode );
+    }
+
+    public boolean successful()
+    {
+        return successful;
+    }
+
+    /**
+     * @return the time in nanoseconds between sending RUN and receiving its response, or {@code -1} if RUN did not complete.
+     */
+    public long runRoundTripNanos()
+    {
+        return runRoundTripNanos;
+    }
+
+    public long resultAvailableAfterMillis()
+    {
+        return resultAvailableAfterMillis;
+    }
+
+    public long resultConsumedAfterMillis()
+    {
+        return resultConsumedAfterMillis;
+    }
+
+    /**
+     * @return the time in nanoseconds the driver spent decoding the received records.
+     */
+    public long decodeNanos()
+    {
+        return decodeNanos;
+    }
+
+    public long records()
+    {
+        return records;
+    }
+
+    /**
+     * @return the size in bytes of the received records as read from the network.
+     */
+    public long bytes()
+    {
+        return bytes;
+    }
+
+    /**
+     * @return the executed query, or {@code null} if unknown.
+     */
+    public Query query()
+    {
+        return query;
+    }
+
+    /**
+     * @return the time in nanoseconds between sending RUN and receiving the last message of the result, or {@code -1} if unknown.
+     */
+    public long totalNanos()
+    {
+        return totalNanos;
+    }
+
+    /**
+     * @return the time in nanoseconds the server reported for producing and consuming the result, the RUN round trip when the server did not
+     * report it, or {@code -1} if unknown. Unlike {@link #totalNanos()} this does not include network latency, but like it, it includes the time
+     * the server waited for PULL requests when the result is fetched in batches.
+     */
+    public long serverNanos()
+    {
+        if ( resultAvailableAfterMillis >= 0 )
+        {
+            return TimeUnit.MILLISECONDS.toNanos( resultAvailableAfterMillis + Math.max( 0, resultConsumedAfterMillis ) );
+        }
+        return runRoundTripNanos;
+    }
+
+    /**
+     * @return the time in nanoseconds between receiving the RUN response and the last message of the result, or {@code -1} if unknown.
+     */
+    public long streamNanos()
+    {
+        return totalNanos < 0 || runRoundTripNanos < 0 ? -1 : totalNanos - runRoundTripNanos;
+    }
+
+    public String database()
+    {
+        return database;
+    }
+
+    public String accessMode()
+    {
+        return accessMode;
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "QueryExecution=[database=%s, accessMode=%s, successful=%s, runRoundTripNanos=%s, resultAvailableAfterMillis=%s, " +
+                       "resultConsumedAfterMillis=%s, decodeNanos=%s, records=%s, bytes=%s, totalNanos=%s]", database, accessMode, successful,
+                       runRoundTripNanos, resultAvailableAfterMillis, resultConsumedAfterMillis, decodeNanos, records, bytes, totalNanos );
+    }
+}
@@ -103,7 +103,7 @@ abstract class AbstractReactiveSession<S>
                                                  tx -> closeTransaction( tx, true ),
                                                  ( tx, error ) -> closeTransaction( tx, false ),
                                                  ( tx ) -> closeTransaction( tx, false ) );
-        return session.retryLogic().retryRx( repeatableWork );
+        return session.retryLogic().retryRx( repeatableWork, session.span() );
     }
 
     private <T> void releaseConnectionBeforeReturning( CompletableFuture<T> returnFuture, Throwable completionError )
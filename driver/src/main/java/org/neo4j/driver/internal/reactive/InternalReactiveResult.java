@@ -22,7 +22,9 @@ import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
 
@@ -37,11 +39,24 @@ import static reactor.core.publisher.FluxSink.OverflowStrategy.IGNORE;
 
 public class InternalReactiveResult implements ReactiveResult
 {
+    static final int PUBLISHING_BUFFER_SIZE = 256;
+
     private final RxResultCursor cursor;
+    private final Scheduler publishingScheduler;
 
     public InternalReactiveResult( RxResultCursor cursor )
+    {
+        this( cursor, null );
+    }
+
+    /**
+     * @param cursor              the cursor of the result.
+     * @param publishingScheduler the scheduler to publish records and the summary on, {@code null} to publish on the network IO thread.
+     */
+    public InternalReactiveResult( RxResultCursor cursor, Scheduler publishingScheduler )
     {
         this.cursor = cursor;
+        this.publishingScheduler = publishingScheduler;
     }
 
     @Override
@@ -53,7 +68,7 @@ public class InternalReactiveResult implements ReactiveResult
     @Override
     public Publisher<Record> records()
     {
-        return Flux.create(
+        return publishOn( Flux.create(
                 sink ->
                 {
 
@@ -67,13 +82,36 @@ public class InternalReactiveResult implements ReactiveResult
                         sink.onCancel( cursor::cancel );
                         sink.onRequest( cursor::request );
                     }
-                }, IGNORE );
+                }, IGNORE ), PUBLISHING_BUFFER_SIZE );
+    }
+
+    @Override
+    public Publisher<List<Record>> recordBatches( int batchSize )
+    {
+        if ( batchSize <= 0 )
+        {
+            throw new IllegalArgumentException( "Batch size must be greater than 0, but was: " + batchSize );
+        }
+        return publishOn( Flux.create(
+                sink ->
+                {
+                    if ( cursor.isDone() )
+                    {
+                        sink.error( newResultConsumedError() );
+                    }
+                    else
+                    {
+                        cursor.installRecordConsumer( createRecordBatchConsumer( sink, batchSize ) );
+                        sink.onCancel( cursor::cancel );
+                        sink.onRequest( n -> cursor.request( recordDemand( n, batchSize ) ) );
+                    }
+                }, IGNORE ), batchPrefetch( batchSize ) );
     }
 
     @Override
     public Publisher<ResultSummary> consume()
     {
-        return Mono.create(
+        Mono<ResultSummary> summaryPublisher = Mono.create(
                 sink -> cursor.summaryAsync()
                               .whenComplete(
                                       ( summary, summaryCompletionError ) ->
@@ -88,6 +126,7 @@ public class InternalReactiveResult implements ReactiveResult
                                               sink.error( error );
                                           }
                                       } ) );
+        return publishingScheduler != null ? summaryPublisher.publishOn( publishingScheduler ) : summaryPublisher;
     }
 
     @Override
@@ -96,6 +135,79 @@ public class InternalReactiveResult implements ReactiveResult
         return Mono.just( !cursor.isDone() );
     }
 
+    /**
+     * Moves publishing off the network IO thread when a publishing scheduler is configured. Elements are handed off through a bounded queue, which
+     * requests more elements from upstream as the subscriber drains it.
+     *
+     * @param publisher the publisher.
+     * @param prefetch  the capacity of the queue in elements.
+     */
+    private <T> Flux<T> publishOn( Flux<T> publisher, int prefetch )
+    {
+        return publishingScheduler != null ? publisher.publishOn( publishingScheduler, prefetch ) : publisher;
+    }
+
+    /**
+     * @return the number of batches to buffer when publishing on a scheduler, so that the buffered batches hold about as many records as
+     * {@link #records()} buffers.
+     */
+    static int batchPrefetch( int batchSize )
+    {
+        return Math.max( 1, PUBLISHING_BUFFER_SIZE / batchSize );
+    }
+
+    private static long recordDemand( long batches, int batchSize )
+    {
+        return batches > Long.MAX_VALUE / batchSize ? Long.MAX_VALUE : batches * batchSize;
+    }
+
+    /**
+     * Defines how a subscriber shall consume record batches. Records are collected until the batch is full or the record stream terminates. The same
+     * reference rules as for {@link #createRecordConsumer(FluxSink)} apply.
+     *
+     * @param sink      the subscriber
+     * @param batchSize the maximum number of records in a batch
+     * @return a record consumer.
+     */
+    private BiConsumer<Record,Throwable> createRecordBatchConsumer( FluxSink<List<Record>> sink, int batchSize )
+    {
+        return new BiConsumer<Record,Throwable>()
+        {
+            private List<Record> batch = new ArrayList<>( batchSize );
+
+            @Override
+            public void accept( Record r, Throwable e )
+            {
+                if ( r != null )
+                {
+                    batch.add( r );
+                    if ( batch.size() == batchSize )
+                    {
+                        List<Record> fullBatch = batch;
+                        batch = new ArrayList<>( batchSize );
+                        sink.next( fullBatch );
+                    }
+                    return;
+                }
+
+                // records received before termination are still delivered
+                if ( !batch.isEmpty() )
+                {
+                    sink.next( batch );
+                    batch = new ArrayList<>( 0 );
+                }
+                if ( e != null )
+                {
+                    sink.error( e );
+                }
+                else
+                {
+                    sink.complete();
+                }
+            }
+        };
+    }
+
     /**
      * Defines how a subscriber shall consume records. A record consumer holds a reference to a subscriber. A publisher and/or a subscription who holds a
      * reference to this consumer shall release the reference to this object after subscription is done or cancelled so that the subscriber can be garbage
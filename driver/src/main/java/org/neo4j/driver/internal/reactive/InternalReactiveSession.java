@@ -20,6 +20,7 @@ package org.neo4j.driver.internal.reactive;
 
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -40,15 +41,27 @@ import org.neo4j.driver.reactive.ReactiveTransactionCallback;
 
 public class InternalReactiveSession extends AbstractReactiveSession<ReactiveTransaction> implements ReactiveSession, BaseReactiveQueryRunner
 {
+    private final Scheduler publishingScheduler;
+
     public InternalReactiveSession( NetworkSession session )
+    {
+        this( session, null );
+    }
+
+    /**
+     * @param session             the network session.
+     * @param publishingScheduler the scheduler to publish result records on, {@code null} to publish on the network IO thread.
+     */
+    public InternalReactiveSession( NetworkSession session, Scheduler publishingScheduler )
     {
         super( session );
+        this.publishingScheduler = publishingScheduler;
     }
 
     @Override
     ReactiveTransaction createTransaction( UnmanagedTransaction unmanagedTransaction )
     {
-        return new InternalReactiveTransaction( unmanagedTransaction );
+        return new InternalReactiveTransaction( unmanagedTransaction, publishingScheduler );
     }
 
     @Override
@@ -108,7 +121,7 @@ public class InternalReactiveSession extends AbstractReactiveSession<ReactiveTra
                                  }
                                  return publisher;
                              } )
-                   .map( InternalReactiveResult::new );
+                   .map( cursor -> new InternalReactiveResult( cursor, publishingScheduler ) );
     }
 
     @Override
@@ -20,6 +20,7 @@ package org.neo4j.driver.internal.reactive;
 
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.concurrent.CompletionStage;
 
@@ -32,9 +33,17 @@ import org.neo4j.driver.reactive.ReactiveTransaction;
 
 public class InternalReactiveTransaction extends AbstractReactiveTransaction implements ReactiveTransaction, BaseReactiveQueryRunner
 {
+    private final Scheduler publishingScheduler;
+
     protected InternalReactiveTransaction( UnmanagedTransaction tx )
+    {
+        this( tx, null );
+    }
+
+    protected InternalReactiveTransaction( UnmanagedTransaction tx, Scheduler publishingScheduler )
     {
         super( tx );
+        this.publishingScheduler = publishingScheduler;
     }
 
     @Override
@@ -66,6 +75,6 @@ public class InternalReactiveTransaction extends AbstractReactiveTransaction imp
                                  }
                                  return publisher;
                              } )
-                   .map( InternalReactiveResult::new );
+                   .map( cursor -> new InternalReactiveResult( cursor, publishingScheduler ) );
     }
 }
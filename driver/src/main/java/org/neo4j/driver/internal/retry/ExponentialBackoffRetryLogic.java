@@ -34,6 +34,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 import org.neo4j.driver.Logger;
@@ -41,8 +42,12 @@ import org.neo4j.driver.Logging;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.Neo4jException;
 import org.neo4j.driver.exceptions.RetryableException;
+import org.neo4j.driver.internal.diagnostics.DiagnosticsCollector;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.util.Clock;
 import org.neo4j.driver.internal.util.Futures;
+import org.neo4j.driver.tracing.DriverTracer;
+import org.neo4j.driver.tracing.TraceSpan;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -62,16 +67,23 @@ public class ExponentialBackoffRetryLogic implements RetryLogic
     private final EventExecutorGroup eventExecutorGroup;
     private final Clock clock;
     private final Logger log;
+    private final DriverTracer tracer;
+    private final RetryBudget retryBudget;
+    private final MetricsListener metricsListener;
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder retriesExhausted = new LongAdder();
+    private final LongAdder retriesRejected = new LongAdder();
 
     public ExponentialBackoffRetryLogic( RetrySettings settings, EventExecutorGroup eventExecutorGroup, Clock clock,
-            Logging logging )
+            Logging logging, DriverTracer tracer, MetricsListener metricsListener )
     {
         this( settings.maxRetryTimeMs(), INITIAL_RETRY_DELAY_MS, RETRY_DELAY_MULTIPLIER, RETRY_DELAY_JITTER_FACTOR,
-                eventExecutorGroup, clock, logging );
+                eventExecutorGroup, clock, logging, tracer, RetryBudget.create( settings ), metricsListener );
     }
 
-    ExponentialBackoffRetryLogic( long maxRetryTimeMs, long initialRetryDelayMs, double multiplier,
-            double jitterFactor, EventExecutorGroup eventExecutorGroup, Clock clock, Logging logging )
+    ExponentialBackoffRetryLogic( long maxRetryTimeMs, long initialRetryDelayMs, double multiplier, double jitterFactor,
+            EventExecutorGroup eventExecutorGroup, Clock clock, Logging logging, DriverTracer tracer, RetryBudget retryBudget,
+            MetricsListener metricsListener )
     {
         this.maxRetryTimeMs = maxRetryTimeMs;
         this.initialRetryDelayMs = initialRetryDelayMs;
@@ -80,12 +92,21 @@ public class ExponentialBackoffRetryLogic implements RetryLogic
         this.eventExecutorGroup = eventExecutorGroup;
         this.clock = clock;
         this.log = logging.getLog( getClass() );
+        this.tracer = tracer;
+        this.retryBudget = retryBudget;
+        this.metricsListener = metricsListener;
 
         verifyAfterConstruction();
     }
 
     @Override
     public <T> T retry( Supplier<T> work )
+    {
+        return retry( work, null );
+    }
+
+    @Override
+    public <T> T retry( Supplier<T> work, TraceSpan parent )
     {
         List<Throwable> errors = null;
         long startTime = -1;
@@ -95,7 +116,9 @@ public class ExponentialBackoffRetryLogic implements RetryLogic
         {
             try
             {
-                return work.get();
+                T result = work.get();
+                retryBudget.onSuccess();
+                return result;
             }
             catch ( Throwable throwable )
             {
@@ -109,14 +132,23 @@ public class ExponentialBackoffRetryLogic implements RetryLogic
                     }
 
                     long elapsedTime = currentTime - startTime;
-                    if ( elapsedTime < maxRetryTimeMs )
+                    if ( canScheduleRetry( error, elapsedTime ) )
                     {
                         long delayWithJitterMs = computeDelayWithJitter( nextDelayMs );
                         log.warn( "Transaction failed and will be retried in " + delayWithJitterMs + "ms", error );
 
-                        sleep( delayWithJitterMs );
-                        nextDelayMs = (long) (nextDelayMs * multiplier);
                         errors = recordError( error, errors );
+                        TraceSpan span = startRetrySpan( parent, error, errors.size(), delayWithJitterMs );
+                        long backoffStartNanos = System.nanoTime();
+                        try
+                        {
+                            sleep( delayWithJitterMs );
+                        }
+                        finally
+                        {
+                            endBackoff( span, backoffStartNanos );
+                        }
+                        nextDelayMs = (long) (nextDelayMs * multiplier);
                         continue;
                     }
                 }
@@ -130,16 +162,28 @@ public class ExponentialBackoffRetryLogic implements RetryLogic
 
     @Override
     public <T> CompletionStage<T> retryAsync( Supplier<CompletionStage<T>> work )
+    {
+        return retryAsync( work, null );
+    }
+
+    @Override
+    public <T> CompletionStage<T> retryAsync( Supplier<CompletionStage<T>> work, TraceSpan parent )
     {
         CompletableFuture<T> resultFuture = new CompletableFuture<>();
-        executeWorkInEventLoop( resultFuture, work );
+        executeWorkInEventLoop( resultFuture, work, parent );
         return resultFuture;
     }
 
     @Override
     public <T> Publisher<T> retryRx( Publisher<T> work )
     {
-        return Flux.from( work ).retryWhen( exponentialBackoffRetryRx() );
+        return retryRx( work, null );
+    }
+
+    @Override
+    public <T> Publisher<T> retryRx( Publisher<T> work, TraceSpan parent )
+    {
+        return Flux.from( work ).retryWhen( exponentialBackoffRetryRx( parent ) ).doOnComplete( retryBudget::onSuccess );
     }
 
     protected boolean canRetryOn( Throwable error )
@@ -164,7 +208,7 @@ public class ExponentialBackoffRetryLogic implements RetryLogic
         return error;
     }
 
-    private Retry exponentialBackoffRetryRx()
+    private Retry exponentialBackoffRetryRx( TraceSpan parent )
     {
         return Retry.from( retrySignals -> retrySignals.flatMap( retrySignal -> Mono.deferContextual(
                 contextView ->
@@ -187,7 +231,7 @@ public class ExponentialBackoffRetryLogic implements RetryLogic
                         long nextDelayMs = contextView.getOrDefault( "nextDelayMs", initialRetryDelayMs );
 
                         long elapsedTime = currentTime - startTime;
-                        if ( elapsedTime < maxRetryTimeMs )
+                        if ( canScheduleRetry( error, elapsedTime ) )
                         {
                             long delayWithJitterMs = computeDelayWithJitter( nextDelayMs );
                             log.warn( "Reactive transaction failed and is scheduled to retry in " + delayWithJitterMs + "ms", error );
@@ -202,7 +246,10 @@ public class ExponentialBackoffRetryLogic implements RetryLogic
                                     "startTime", startTime,
                                     "nextDelayMs", nextDelayMs
                             );
-                            return Mono.just( context ).delayElement( Duration.ofMillis( delayWithJitterMs ), Schedulers.fromExecutorService( eventExecutor ) );
+                            TraceSpan span = startRetrySpan( parent, error, errors.size(), delayWithJitterMs );
+                            long backoffStartNanos = System.nanoTime();
+                            return Mono.just( context ).delayElement( Duration.ofMillis( delayWithJitterMs ), Schedulers.fromExecutorService( eventExecutor ) )
+                                       .doFinally( signal -> endBackoff( span, backoffStartNanos ) );
                         }
                     }
                     addSuppressed( throwable, errors );
@@ -211,16 +258,16 @@ public class ExponentialBackoffRetryLogic implements RetryLogic
                 } ) ) );
     }
 
-    private <T> void executeWorkInEventLoop( CompletableFuture<T> resultFuture, Supplier<CompletionStage<T>> work )
+    private <T> void executeWorkInEventLoop( CompletableFuture<T> resultFuture, Supplier<CompletionStage<T>> work, TraceSpan parent )
     {
         // this is the very first time we execute given work
         EventExecutor eventExecutor = eventExecutorGroup.next();
 
-        eventExecutor.execute( () -> executeWork( resultFuture, work, -1, initialRetryDelayMs, null ) );
+        eventExecutor.execute( () -> executeWork( resultFuture, work, -1, initialRetryDelayMs, null, parent ) );
     }
 
     private <T> void retryWorkInEventLoop( CompletableFuture<T> resultFuture, Supplier<CompletionStage<T>> work,
-            Throwable error, long startTime, long delayMs, List<Throwable> errors )
+            Throwable error, long startTime, long delayMs, List<Throwable> errors, TraceSpan parent )
     {
         // work has failed before, we need to schedule retry with the given delay
         EventExecutor eventExecutor = eventExecutorGroup.next();
@@ -228,15 +275,18 @@ public class ExponentialBackoffRetryLogic implements RetryLogic
         long delayWithJitterMs = computeDelayWithJitter( delayMs );
         log.warn( "Async transaction failed and is scheduled to retry in " + delayWithJitterMs + "ms", error );
 
+        TraceSpan span = startRetrySpan( parent, error, errors.size(), delayWithJitterMs );
+        long backoffStartNanos = System.nanoTime();
         eventExecutor.schedule( () ->
         {
+            endBackoff( span, backoffStartNanos );
             long newRetryDelayMs = (long) (delayMs * multiplier);
-            executeWork( resultFuture, work, startTime, newRetryDelayMs, errors );
+            executeWork( resultFuture, work, startTime, newRetryDelayMs, errors, parent );
         }, delayWithJitterMs, TimeUnit.MILLISECONDS );
     }
 
     private <T> void executeWork( CompletableFuture<T> resultFuture, Supplier<CompletionStage<T>> work,
-            long startTime, long retryDelayMs, List<Throwable> errors )
+            long startTime, long retryDelayMs, List<Throwable> errors, TraceSpan parent )
     {
         CompletionStage<T> workStage;
         try
@@ -246,7 +296,7 @@ public class ExponentialBackoffRetryLogic implements RetryLogic
         catch ( Throwable error )
         {
             // work failed in a sync way, attempt to schedule a retry
-            retryOnError( resultFuture, work, startTime, retryDelayMs, error, errors );
+            retryOnError( resultFuture, work, startTime, retryDelayMs, error, errors, parent );
             return;
         }
 
@@ -256,17 +306,18 @@ public class ExponentialBackoffRetryLogic implements RetryLogic
             if ( error != null )
             {
                 // work failed in async way, attempt to schedule a retry
-                retryOnError( resultFuture, work, startTime, retryDelayMs, error, errors );
+                retryOnError( resultFuture, work, startTime, retryDelayMs, error, errors, parent );
             }
             else
             {
+                retryBudget.onSuccess();
                 resultFuture.complete( result );
             }
         } );
     }
 
     private <T> void retryOnError( CompletableFuture<T> resultFuture, Supplier<CompletionStage<T>> work, long startTime, long retryDelayMs, Throwable throwable,
-            List<Throwable> errors )
+            List<Throwable> errors, TraceSpan parent )
     {
         Throwable error = extractPossibleTerminationCause( throwable );
         if ( canRetryOn( error ) )
@@ -278,10 +329,10 @@ public class ExponentialBackoffRetryLogic implements RetryLogic
             }
 
             long elapsedTime = currentTime - startTime;
-            if ( elapsedTime < maxRetryTimeMs )
+            if ( canScheduleRetry( error, elapsedTime ) )
             {
                 errors = recordError( error, errors );
-                retryWorkInEventLoop( resultFuture, work, error, startTime, retryDelayMs, errors );
+                retryWorkInEventLoop( resultFuture, work, error, startTime, retryDelayMs, errors, parent );
                 return;
             }
         }
@@ -290,6 +341,61 @@ public class ExponentialBackoffRetryLogic implements RetryLogic
         resultFuture.completeExceptionally( throwable );
     }
 
+    @Override
+    public void collectDiagnostics( DiagnosticsCollector collector )
+    {
+        collector.retries( retries.sum(), retriesExhausted.sum(), retriesRejected.sum() );
+    }
+
+    /**
+     * Decides if a retryable error is retried, which requires retry time left and a token from the retry budget.
+     */
+    private boolean canScheduleRetry( Throwable error, long elapsedTimeMs )
+    {
+        if ( elapsedTimeMs >= maxRetryTimeMs )
+        {
+            retriesExhausted.increment();
+            return false;
+        }
+        if ( !retryBudget.tryAcquire() )
+        {
+            retriesRejected.increment();
+            metricsListener.afterRetryRejected( retryCause( error ) );
+            log.debug( "Transaction failed and will not be retried because the retry budget is exhausted: %s", error );
+            return false;
+        }
+        return true;
+    }
+
+    private TraceSpan startRetrySpan( TraceSpan parent, Throwable error, int attempt, long delayMs )
+    {
+        // every scheduled retry starts a span
+        retries.increment();
+        metricsListener.afterRetryScheduled( retryCause( error ) );
+        TraceSpan span = tracer.startSpan( DriverTracer.RETRY, parent )
+                               .setAttribute( "retry.attempt", attempt )
+                               .setAttribute( "retry.delay.ms", delayMs );
+        if ( error instanceof Neo4jException )
+        {
+            span.setAttribute( "error.code", ((Neo4jException) error).code() );
+        }
+        span.recordError( error );
+        return span;
+    }
+
+    private void endBackoff( TraceSpan span, long backoffStartNanos )
+    {
+        span.end();
+        metricsListener.afterRetryBackoff( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - backoffStartNanos ) );
+    }
+
+    private static String retryCause( Throwable error )
+    {
+        // errors created by the driver itself have no meaningful code
+        String code = error instanceof Neo4jException ? ((Neo4jException) error).code() : null;
+        return code == null || "N/A".equals( code ) ? error.getClass().getSimpleName() : code;
+    }
+
     private long computeDelayWithJitter( long delayMs )
     {
         if ( delayMs > MAX_RETRY_DELAY )
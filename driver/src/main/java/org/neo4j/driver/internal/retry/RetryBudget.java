@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Driver-wide token bucket limiting retries of transaction functions to a fraction of the successful ones.
+ * <p>
+ * The bucket starts full. Every retry takes a token and every successful transaction function adds {@code ratio} tokens, up to the capacity of the
+ * bucket. Retries are rejected while the bucket is empty, so a cluster that fails most transactions, e.g. during a leader election, does not receive a
+ * retry for each of them. Tokens are kept in thousandths to support fractional ratios without locking.
+ */
+public class RetryBudget
+{
+    public static final RetryBudget UNLIMITED = new RetryBudget( 0, 0 );
+
+    private static final long TOKEN = 1000;
+
+    private final long capacity;
+    private final long deposit;
+    private final AtomicLong tokens;
+
+    RetryBudget( int maxTokens, double ratio )
+    {
+        this.capacity = maxTokens * TOKEN;
+        this.deposit = Math.max( 1, Math.round( ratio * TOKEN ) );
+        this.tokens = new AtomicLong( capacity );
+    }
+
+    public static RetryBudget create( RetrySettings settings )
+    {
+        return settings.retryBudgetMaxTokens() > 0 ? new RetryBudget( settings.retryBudgetMaxTokens(), settings.retryBudgetRatio() ) : UNLIMITED;
+    }
+
+    /**
+     * Takes a token for a retry.
+     *
+     * @return {@code true} if the retry is allowed, {@code false} if the budget is exhausted.
+     */
+    public boolean tryAcquire()
+    {
+        if ( this == UNLIMITED )
+        {
+            return true;
+        }
+        while ( true )
+        {
+            long current = tokens.get();
+            if ( current < TOKEN )
+            {
+                return false;
+            }
+            if ( tokens.compareAndSet( current, current - TOKEN ) )
+            {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Adds tokens for a successful transaction function.
+     */
+    public void onSuccess()
+    {
+        if ( this == UNLIMITED )
+        {
+            return;
+        }
+        while ( true )
+        {
+            long current = tokens.get();
+            if ( current >= capacity || tokens.compareAndSet( current, Math.min( capacity, current + deposit ) ) )
+            {
+                return;
+            }
+        }
+    }
+
+    double availableTokens()
+    {
+        return (double) tokens.get() / TOKEN;
+    }
+}
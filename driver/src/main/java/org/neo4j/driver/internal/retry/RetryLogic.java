@@ -23,6 +23,9 @@ import org.reactivestreams.Publisher;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
+import org.neo4j.driver.internal.diagnostics.DiagnosticsCollector;
+import org.neo4j.driver.tracing.TraceSpan;
+
 public interface RetryLogic
 {
     <T> T retry( Supplier<T> work );
@@ -30,4 +33,26 @@ public interface RetryLogic
     <T> CompletionStage<T> retryAsync( Supplier<CompletionStage<T>> work );
 
     <T> Publisher<T> retryRx( Publisher<T> work );
+
+    /**
+     * Adds the retry counters to a diagnostics snapshot.
+     *
+     * @param collector the collector of the snapshot.
+     */
+    void collectDiagnostics( DiagnosticsCollector collector );
+
+    default <T> T retry( Supplier<T> work, TraceSpan parent )
+    {
+        return retry( work );
+    }
+
+    default <T> CompletionStage<T> retryAsync( Supplier<CompletionStage<T>> work, TraceSpan parent )
+    {
+        return retryAsync( work );
+    }
+
+    default <T> Publisher<T> retryRx( Publisher<T> work, TraceSpan parent )
+    {
+        return retryRx( work );
+    }
 }
@@ -28,14 +28,39 @@ public final class RetrySettings implements Serializable
             new RetrySettings( ExponentialBackoffRetryLogic.DEFAULT_MAX_RETRY_TIME_MS );
 
     private final long maxRetryTimeMs;
+    private final int retryBudgetMaxTokens;
+    private final double retryBudgetRatio;
 
     public RetrySettings( long maxRetryTimeMs )
+    {
+        this( maxRetryTimeMs, 0, 0 );
+    }
+
+    public RetrySettings( long maxRetryTimeMs, int retryBudgetMaxTokens, double retryBudgetRatio )
     {
         this.maxRetryTimeMs = maxRetryTimeMs;
+        this.retryBudgetMaxTokens = retryBudgetMaxTokens;
+        this.retryBudgetRatio = retryBudgetRatio;
     }
 
     public long maxRetryTimeMs()
     {
         return maxRetryTimeMs;
     }
+
+    /**
+     * @return the capacity of the retry budget, {@code 0} when retries are not limited by a budget.
+     */
+    public int retryBudgetMaxTokens()
+    {
+        return retryBudgetMaxTokens;
+    }
+
+    /**
+     * @return the amount of tokens every successful transaction function adds to the retry budget.
+     */
+    public double retryBudgetRatio()
+    {
+        return retryBudgetRatio;
+    }
 }
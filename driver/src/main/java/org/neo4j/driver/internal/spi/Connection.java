@@ -25,6 +25,7 @@ import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.metrics.QueryExecution;
 
 import static java.lang.String.format;
 
@@ -72,4 +73,31 @@ public interface Connection
     }
 
     void flush();
+
+    /**
+     * Tells if the executions of queries on this connection are observed by metrics or slow query logging. Response handlers only collect the
+     * measurements of a query into a {@link QueryExecution} and report them with {@link #afterQueryCompleted(QueryExecution)} when they are.
+     *
+     * @return {@code true} if query executions are observed.
+     */
+    default boolean isQueryExecutionObserved()
+    {
+        return false;
+    }
+
+    /**
+     * Reports that the result of the last query run on this connection has been fully received or failed.
+     */
+    default void afterResultCompleted()
+    {
+    }
+
+    /**
+     * Reports the measurements taken while executing a query on this connection to the driver metrics.
+     *
+     * @param execution the measurements of the query execution.
+     */
+    default void afterQueryCompleted( QueryExecution execution )
+    {
+    }
 }
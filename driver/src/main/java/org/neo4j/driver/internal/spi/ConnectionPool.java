@@ -22,6 +22,7 @@ import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.diagnostics.DiagnosticsCollector;
 import org.neo4j.driver.net.ServerAddress;
 
 public interface ConnectionPool
@@ -39,4 +40,11 @@ public interface ConnectionPool
     CompletionStage<Void> close();
 
     boolean isOpen( BoltServerAddress address );
+
+    /**
+     * Adds the connection pools, in-flight queries and event loops to a diagnostics snapshot.
+     *
+     * @param collector the collector of the snapshot.
+     */
+    void collectDiagnostics( DiagnosticsCollector collector );
 }
@@ -21,6 +21,7 @@ package org.neo4j.driver.internal.spi;
 import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.internal.async.ConnectionContext;
+import org.neo4j.driver.internal.diagnostics.DiagnosticsCollector;
 
 /**
  * Interface defines a layer used by the driver to obtain connections. It is meant to be the only component that
@@ -38,4 +39,11 @@ public interface ConnectionProvider
     CompletionStage<Void> close();
 
     CompletionStage<Boolean> supportsMultiDb();
+
+    /**
+     * Adds the routing tables and the state of the underlying connection pool to a diagnostics snapshot.
+     *
+     * @param collector the collector of the snapshot.
+     */
+    void collectDiagnostics( DiagnosticsCollector collector );
 }
@@ -31,6 +31,40 @@ public interface ResponseHandler
 
     void onRecord( Value[] fields );
 
+    /**
+     * Called right before {@link #onRecord(Value[])} with the size of the RECORD message as received from the network.
+     * <p>
+     * Implementations can use the size to estimate the memory consumed by buffered records.
+     *
+     * @param sizeInBytes the size of the message in bytes.
+     */
+    default void onRecordSize( int sizeInBytes )
+    {
+    }
+
+    /**
+     * Called right before {@link #onRecord(Value[])} with the time it took to decode the RECORD message.
+     * <p>
+     * Implementations can use the time to report the cost of decoding results in the driver metrics.
+     *
+     * @param decodeNanos the time in nanoseconds spent decoding the message.
+     */
+    default void onRecordDecodeTime( long decodeNanos )
+    {
+    }
+
+    /**
+     * Tells whether this response handler currently drops received records, for example because the result has been consumed or cancelled.
+     * <p>
+     * RECORD messages received while this returns {@code true} are skipped without decoding them and {@link #onRecord(Value[])} is not called.
+     *
+     * @return {@code true} if records are discarded.
+     */
+    default boolean isDiscardingRecords()
+    {
+        return false;
+    }
+
     /**
      * Tells whether this response handler is able to manage auto-read of the underlying connection using {@link Connection#enableAutoRead()} and
      * {@link Connection#disableAutoRead()}.
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.tracing;
+
+import org.neo4j.driver.tracing.DriverTracer;
+import org.neo4j.driver.tracing.TraceSpan;
+
+public enum DevNullTracer implements DriverTracer, TraceSpan
+{
+    INSTANCE;
+
+    @Override
+    public TraceSpan startSpan( String name, TraceSpan parent )
+    {
+        return this;
+    }
+
+    @Override
+    public TraceSpan setAttribute( String key, String value )
+    {
+        return this;
+    }
+
+    @Override
+    public TraceSpan setAttribute( String key, long value )
+    {
+        return this;
+    }
+
+    @Override
+    public void recordError( Throwable error )
+    {
+    }
+
+    @Override
+    public void end()
+    {
+    }
+}
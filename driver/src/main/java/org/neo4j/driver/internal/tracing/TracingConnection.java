@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.tracing;
+
+import java.util.concurrent.CompletionStage;
+
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.DatabaseName;
+import org.neo4j.driver.internal.messaging.BoltProtocol;
+import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.messaging.request.BeginMessage;
+import org.neo4j.driver.internal.messaging.request.CommitMessage;
+import org.neo4j.driver.internal.messaging.request.DiscardMessage;
+import org.neo4j.driver.internal.messaging.request.PullMessage;
+import org.neo4j.driver.internal.messaging.request.RollbackMessage;
+import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
+import org.neo4j.driver.internal.metrics.QueryExecution;
+import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.spi.ResponseHandler;
+import org.neo4j.driver.tracing.DriverTracer;
+import org.neo4j.driver.tracing.TraceSpan;
+
+/**
+ * A connection acquired by a session when tracing is enabled. It creates a span for the round trip of every message of a query or transaction,
+ * from writing the message until its response is received, as child of the span of the session.
+ */
+public class TracingConnection implements Connection
+{
+    private final Connection delegate;
+    private final DriverTracer tracer;
+    private final TraceSpan parent;
+
+    public TracingConnection( Connection delegate, DriverTracer tracer, TraceSpan parent )
+    {
+        this.delegate = delegate;
+        this.tracer = tracer;
+        this.parent = parent;
+    }
+
+    public Connection connection()
+    {
+        return delegate;
+    }
+
+    @Override
+    public boolean isOpen()
+    {
+        return delegate.isOpen();
+    }
+
+    @Override
+    public void enableAutoRead()
+    {
+        delegate.enableAutoRead();
+    }
+
+    @Override
+    public void disableAutoRead()
+    {
+        delegate.disableAutoRead();
+    }
+
+    @Override
+    public void write( Message message, ResponseHandler handler )
+    {
+        delegate.write( message, traced( message, handler ) );
+    }
+
+    @Override
+    public void write( Message message1, ResponseHandler handler1, Message message2, ResponseHandler handler2 )
+    {
+        delegate.write( message1, traced( message1, handler1 ), message2, traced( message2, handler2 ) );
+    }
+
+    @Override
+    public void writeAndFlush( Message message, ResponseHandler handler )
+    {
+        delegate.writeAndFlush( message, traced( message, handler ) );
+    }
+
+    @Override
+    public void writeAndFlush( Message message1, ResponseHandler handler1, Message message2, ResponseHandler handler2 )
+    {
+        delegate.writeAndFlush( message1, traced( message1, handler1 ), message2, traced( message2, handler2 ) );
+    }
+
+    @Override
+    public CompletionStage<Void> reset()
+    {
+        return delegate.reset();
+    }
+
+    @Override
+    public CompletionStage<Void> release()
+    {
+        return delegate.release();
+    }
+
+    @Override
+    public void terminateAndRelease( String reason )
+    {
+        delegate.terminateAndRelease( reason );
+    }
+
+    @Override
+    public String serverAgent()
+    {
+        return delegate.serverAgent();
+    }
+
+    @Override
+    public BoltServerAddress serverAddress()
+    {
+        return delegate.serverAddress();
+    }
+
+    @Override
+    public BoltProtocol protocol()
+    {
+        return delegate.protocol();
+    }
+
+    @Override
+    public AccessMode mode()
+    {
+        return delegate.mode();
+    }
+
+    @Override
+    public DatabaseName databaseName()
+    {
+        return delegate.databaseName();
+    }
+
+    @Override
+    public String impersonatedUser()
+    {
+        return delegate.impersonatedUser();
+    }
+
+    @Override
+    public void flush()
+    {
+        delegate.flush();
+    }
+
+    @Override
+    public boolean isQueryExecutionObserved()
+    {
+        return delegate.isQueryExecutionObserved();
+    }
+
+    @Override
+    public void afterResultCompleted()
+    {
+        delegate.afterResultCompleted();
+    }
+
+    @Override
+    public void afterQueryCompleted( QueryExecution execution )
+    {
+        delegate.afterQueryCompleted( execution );
+    }
+
+    private ResponseHandler traced( Message message, ResponseHandler handler )
+    {
+        String spanName = spanName( message );
+        if ( spanName == null )
+        {
+            return handler;
+        }
+        TraceSpan span = tracer.startSpan( spanName, parent ).setAttribute( "server.address", delegate.serverAddress().toString() );
+        if ( message instanceof RunWithMetadataMessage )
+        {
+            span.setAttribute( "db.statement", ((RunWithMetadataMessage) message).query() );
+        }
+        return new TracingResponseHandler( handler, span );
+    }
+
+    private static String spanName( Message message )
+    {
+        switch ( message.signature() )
+        {
+        case BeginMessage.SIGNATURE:
+            return DriverTracer.BEGIN;
+        case RunWithMetadataMessage.SIGNATURE:
+            return DriverTracer.RUN;
+        case PullMessage.SIGNATURE:
+            return DriverTracer.PULL;
+        case DiscardMessage.SIGNATURE:
+            return DriverTracer.DISCARD;
+        case CommitMessage.SIGNATURE:
+            return DriverTracer.COMMIT;
+        case RollbackMessage.SIGNATURE:
+            return DriverTracer.ROLLBACK;
+        default:
+            return null;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.tracing;
+
+import java.util.Map;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.spi.ResponseHandler;
+import org.neo4j.driver.tracing.TraceSpan;
+
+/**
+ * Ends the span of a message when its response is received, before the response is passed on to the actual handler.
+ */
+public class TracingResponseHandler implements ResponseHandler
+{
+    private final ResponseHandler delegate;
+    private final TraceSpan span;
+    // only accessed by the event loop thread of the connection
+    private long records;
+
+    public TracingResponseHandler( ResponseHandler delegate, TraceSpan span )
+    {
+        this.delegate = delegate;
+        this.span = span;
+    }
+
+    @Override
+    public void onSuccess( Map<String,Value> metadata )
+    {
+        if ( records > 0 )
+        {
+            span.setAttribute( "records", records );
+        }
+        Value hasMore = metadata.get( "has_more" );
+        if ( hasMore != null )
+        {
+            span.setAttribute( "has_more", String.valueOf( hasMore.asBoolean() ) );
+        }
+        span.end();
+        delegate.onSuccess( metadata );
+    }
+
+    @Override
+    public void onFailure( Throwable error )
+    {
+        span.recordError( error );
+        span.end();
+        delegate.onFailure( error );
+    }
+
+    @Override
+    public void onRecord( Value[] fields )
+    {
+        records++;
+        delegate.onRecord( fields );
+    }
+
+    @Override
+    public void onRecordSize( int sizeInBytes )
+    {
+        delegate.onRecordSize( sizeInBytes );
+    }
+
+    @Override
+    public void onRecordDecodeTime( long decodeNanos )
+    {
+        delegate.onRecordDecodeTime( decodeNanos );
+    }
+
+    @Override
+    public boolean isDiscardingRecords()
+    {
+        return delegate.isDiscardingRecords();
+    }
+
+    @Override
+    public boolean canManageAutoRead()
+    {
+        return delegate.canManageAutoRead();
+    }
+
+    @Override
+    public void disableAutoReadManagement()
+    {
+        delegate.disableAutoReadManagement();
+    }
+}
@@ -21,6 +21,7 @@ package org.neo4j.driver.reactive;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -64,7 +65,8 @@ public interface ReactiveResult
      * the execution is finished, the {@link Subscriber} will be notified with a termination signal (complete or error).
      * <p>
      * The record publishing event by default runs in an Network IO thread, as a result no blocking operation is allowed in this thread. Otherwise network IO
-     * might be blocked by application logic.
+     * might be blocked by application logic. Records can be published on an application provided executor instead using
+     * {@link org.neo4j.driver.SessionConfig.Builder#withRecordPublishingExecutor(java.util.concurrent.Executor)}.
      * <p>
      * This publisher can only be subscribed by one {@link Subscriber} once.
      * <p>
@@ -75,6 +77,30 @@ public interface ReactiveResult
      */
     Publisher<Record> records();
 
+    /**
+     * Returns a cold unicast publisher of record batches.
+     * <p>
+     * This publisher behaves like {@link #records()}, except that records are published as lists of up to {@code batchSize} records. Every batch requested by
+     * the {@link Subscriber} is translated to a request of {@code batchSize} records from the server, so a batch usually corresponds to a single round trip.
+     * Only the last batch may contain fewer records. This avoids a signal per record for subscribers that process records in chunks anyway.
+     * <p>
+     * This publisher can only be subscribed by one {@link Subscriber} once and can not be combined with {@link #records()} on the same result.
+     * <p>
+     * The default implementation buffers the records published by {@link #records()} into batches, without changing the requests to the server.
+     *
+     * @param batchSize the maximum number of records in a batch, must be greater than {@code 0}.
+     * @return a cold unicast publisher of record batches.
+     * @throws IllegalArgumentException if the batch size is not greater than {@code 0}.
+     */
+    default Publisher<List<Record>> recordBatches( int batchSize )
+    {
+        if ( batchSize <= 0 )
+        {
+            throw new IllegalArgumentException( "Batch size must be greater than 0, but was: " + batchSize );
+        }
+        return Flux.from( records() ).buffer( batchSize );
+    }
+
     /**
      * Returns a cold publisher of result summary which arrives after all records.
      * <p>
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.tracing;
+
+import org.neo4j.driver.Config;
+import org.neo4j.driver.internal.tracing.DevNullTracer;
+import org.neo4j.driver.util.Experimental;
+
+/**
+ * A tracer receives the spans of the work performed by the driver, such as acquiring connections, the round trips of the messages of queries and
+ * transactions, and the delays between retries of transaction functions. Spans form a tree rooted at the span of a session, so the time spent
+ * waiting for a connection, on the wire and in retries can be told apart for every session.
+ * <p>
+ * The driver creates the following spans:
+ * <ul>
+ * <li>{@value #SESSION} from opening until closing a session.</li>
+ * <li>{@value #CONNECTION_ACQUISITION} while a session acquires a connection.</li>
+ * <li>{@value #BEGIN}, {@value #RUN}, {@value #PULL}, {@value #DISCARD}, {@value #COMMIT} and {@value #ROLLBACK} from writing the message until its
+ * response is received. A span is created for every batch of records pulled.</li>
+ * <li>{@value #RETRY} while a failed transaction function waits to be retried.</li>
+ * </ul>
+ * The span model maps directly to OpenTelemetry: a tracer adapter can start an OpenTelemetry span with the parent of the given span as parent and
+ * end it when the driver ends the span. Spans are started and ended on the threads of the driver, including its event loop threads, so
+ * implementations must be thread-safe and must not block.
+ *
+ * @see Config.ConfigBuilder#withTracer(DriverTracer)
+ */
+@Experimental
+public interface DriverTracer
+{
+    String SESSION = "neo4j.session";
+    String CONNECTION_ACQUISITION = "neo4j.connection.acquisition";
+    String BEGIN = "neo4j.transaction.begin";
+    String RUN = "neo4j.query.run";
+    String PULL = "neo4j.query.pull";
+    String DISCARD = "neo4j.query.discard";
+    String COMMIT = "neo4j.transaction.commit";
+    String ROLLBACK = "neo4j.transaction.rollback";
+    String RETRY = "neo4j.transaction.retry";
+
+    /**
+     * Start a new span.
+     *
+     * @param name   the name of the span.
+     * @param parent the parent of the span, {@code null} for a root span.
+     * @return the started span, never {@code null}.
+     */
+    TraceSpan startSpan( String name, TraceSpan parent );
+
+    /**
+     * Returns a tracer that ignores all spans. This is the default tracer of the driver.
+     *
+     * @return a tracer that ignores all spans.
+     */
+    static DriverTracer noop()
+    {
+        return DevNullTracer.INSTANCE;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.tracing;
+
+import org.neo4j.driver.util.Experimental;
+
+/**
+ * A span of work traced by a {@link DriverTracer}. Every span is ended exactly once by the driver, attributes and errors are only set before that.
+ *
+ */
+@Experimental
+public interface TraceSpan
+{
+    /**
+     * Set an attribute of this span, for example {@code db.name}.
+     *
+     * @param key   the key of the attribute.
+     * @param value the value of the attribute.
+     * @return this span.
+     */
+    TraceSpan setAttribute( String key, String value );
+
+    /**
+     * Set an attribute of this span, for example the amount of records pulled.
+     *
+     * @param key   the key of the attribute.
+     * @param value the value of the attribute.
+     * @return this span.
+     */
+    TraceSpan setAttribute( String key, long value );
+
+    /**
+     * Record that the work of this span failed.
+     *
+     * @param error the error.
+     */
+    void recordError( Throwable error );
+
+    /**
+     * End this span.
+     */
+    void end();
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.neo4j.driver.internal.InternalRecord;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.neo4j.driver.Values.value;
+
+class ColumnHandleTest
+{
+    @Test
+    void shouldResolveIndexInKeys()
+    {
+        ColumnHandle handle = ColumnHandle.of( "b" );
+
+        assertEquals( "b", handle.key() );
+        assertEquals( 1, handle.index( asList( "a", "b" ) ) );
+        assertEquals( 0, handle.index( asList( "b", "a" ) ) );
+        assertEquals( -1, handle.index( asList( "x", "y" ) ) );
+    }
+
+    @Test
+    void shouldRememberIndexForSameKeys()
+    {
+        List<String> keys = new ArrayList<>( asList( "a", "b" ) );
+        ColumnHandle handle = ColumnHandle.of( "b" );
+        assertEquals( 1, handle.index( keys ) );
+
+        // lists of result keys never change, a changed list shows that the index is not searched again
+        keys.add( 0, "c" );
+
+        assertEquals( 1, handle.index( keys ) );
+    }
+
+    @Test
+    void shouldReadRecordsOfDifferentResults()
+    {
+        ColumnHandle handle = ColumnHandle.of( "name" );
+        Record first = new InternalRecord( asList( "id", "name" ), new Value[]{value( 1 ), value( "a" )} );
+        Record second = new InternalRecord( asList( "name" ), new Value[]{value( "b" )} );
+
+        assertEquals( value( "a" ), first.value( handle ) );
+        assertEquals( value( "b" ), second.value( handle ) );
+        assertEquals( value( "a" ), first.value( handle ) );
+    }
+
+    @Test
+    void shouldRememberIndexForInterleavedResults()
+    {
+        List<String> first = new ArrayList<>( asList( "a", "b" ) );
+        List<String> second = new ArrayList<>( asList( "b" ) );
+        ColumnHandle handle = ColumnHandle.of( "b" );
+        assertEquals( 1, handle.index( first ) );
+        assertEquals( 0, handle.index( second ) );
+
+        first.add( 0, "c" );
+        second.add( 0, "c" );
+
+        assertEquals( 1, handle.index( first ) );
+        assertEquals( 0, handle.index( second ) );
+    }
+
+    @Test
+    void shouldForgetOldestResultWhenAllResolutionsAreTaken()
+    {
+        List<String> oldest = new ArrayList<>( asList( "a", "b" ) );
+        ColumnHandle handle = ColumnHandle.of( "b" );
+        assertEquals( 1, handle.index( oldest ) );
+        for ( int i = 0; i < ColumnHandle.RESOLUTIONS; i++ )
+        {
+            handle.index( asList( "b" ) );
+        }
+
+        oldest.add( 0, "c" );
+
+        assertEquals( 2, handle.index( oldest ) );
+    }
+
+    @Test
+    void shouldNotAllowNullKey()
+    {
+        assertThrows( NullPointerException.class, () -> ColumnHandle.of( null ) );
+    }
+}
@@ -29,6 +29,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
@@ -38,6 +39,8 @@ import org.neo4j.driver.internal.logging.DevNullLogging;
 import org.neo4j.driver.internal.logging.JULogging;
 import org.neo4j.driver.internal.logging.Slf4jLogging;
 import org.neo4j.driver.net.ServerAddressResolver;
+import org.neo4j.driver.tracing.DriverTracer;
+import org.neo4j.driver.tracing.InMemoryTracer;
 import org.neo4j.driver.util.TestUtil;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -184,6 +187,136 @@ class ConfigTest
         assertThrows( IllegalArgumentException.class, () -> builder.withConnectionTimeout( Long.MAX_VALUE - 42, TimeUnit.SECONDS ) );
     }
 
+    @Test
+    void shouldNotCacheDomainNamesByDefault()
+    {
+        Config config = Config.defaultConfig();
+
+        assertEquals( 0, config.domainNameCachePositiveTtlMillis() );
+        assertEquals( 0, config.domainNameCacheNegativeTtlMillis() );
+    }
+
+    @Test
+    void shouldThrowForNegativeDomainNameCacheTtl()
+    {
+        Config.ConfigBuilder builder = Config.builder();
+
+        assertThrows( IllegalArgumentException.class, () -> builder.withDomainNameCache( -1, 0, TimeUnit.SECONDS ) );
+        assertThrows( IllegalArgumentException.class, () -> builder.withDomainNameCache( 0, -1, TimeUnit.SECONDS ) );
+    }
+
+    @Test
+    void shouldNotDetectBlockedEventLoopsByDefault()
+    {
+        assertEquals( 0, Config.defaultConfig().eventLoopBlockedThresholdMillis() );
+    }
+
+    @Test
+    void shouldConfigureEventLoopBlockedThreshold()
+    {
+        Config config = Config.builder().withEventLoopBlockedThreshold( 2, TimeUnit.SECONDS ).build();
+
+        assertEquals( 2000, config.eventLoopBlockedThresholdMillis() );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withEventLoopBlockedThreshold( -1, TimeUnit.SECONDS ) );
+    }
+
+    @Test
+    void shouldNotLogSlowQueriesByDefault()
+    {
+        Config config = Config.defaultConfig();
+
+        assertEquals( 0, config.slowQueryThresholdMillis() );
+        assertEquals( 10, config.slowQueryLogsPerSecond() );
+        assertFalse( config.slowQueryParametersLogged() );
+    }
+
+    @Test
+    void shouldConfigureSlowQueryLogging()
+    {
+        Config config = Config.builder()
+                              .withSlowQueryLogging( 3, TimeUnit.SECONDS )
+                              .withSlowQueryLogRateLimit( 2 )
+                              .withSlowQueryParameterLogging( true )
+                              .build();
+
+        assertEquals( 3000, config.slowQueryThresholdMillis() );
+        assertEquals( 2, config.slowQueryLogsPerSecond() );
+        assertTrue( config.slowQueryParametersLogged() );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withSlowQueryLogging( -1, TimeUnit.SECONDS ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withSlowQueryLogRateLimit( 0 ) );
+    }
+
+    @Test
+    void shouldNotTraceByDefault()
+    {
+        assertSame( DriverTracer.noop(), Config.defaultConfig().tracer() );
+    }
+
+    @Test
+    void shouldConfigureTracer()
+    {
+        InMemoryTracer tracer = new InMemoryTracer();
+
+        Config config = Config.builder().withTracer( tracer ).build();
+
+        assertSame( tracer, config.tracer() );
+        assertThrows( NullPointerException.class, () -> Config.builder().withTracer( null ) );
+    }
+
+    @Test
+    void shouldConfigureClientZone()
+    {
+        Config config = Config.builder().withClientZone( "zone-a", Collections.singletonMap( "*.zone-a", "zone-a" ) ).build();
+
+        assertEquals( "zone-a", config.clientZone() );
+        assertEquals( Collections.singletonMap( "*.zone-a", "zone-a" ), config.serverZones() );
+    }
+
+    @Test
+    void shouldThrowForEmptyClientZone()
+    {
+        Config.ConfigBuilder builder = Config.builder();
+
+        assertThrows( IllegalArgumentException.class, () -> builder.withClientZone( "", Collections.emptyMap() ) );
+    }
+
+    @Test
+    void shouldThrowForNonPositiveAdaptiveFetchSizeMemoryBudget()
+    {
+        Config.ConfigBuilder builder = Config.builder();
+
+        assertThrows( IllegalArgumentException.class, () -> builder.withAdaptiveFetchSize( 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> builder.withAdaptiveFetchSize( -1 ) );
+    }
+
+    @Test
+    void shouldKeepAdaptiveFetchSizeRegardlessOfFixedFetchSizeOrder()
+    {
+        Config adaptiveFirst = Config.builder().withAdaptiveFetchSize( 1024 ).withFetchSize( 10 ).build();
+        Config fixedFirst = Config.builder().withFetchSize( 10 ).withAdaptiveFetchSize( 1024 ).build();
+
+        assertEquals( 1024, adaptiveFirst.adaptiveFetchSizeMemoryBudget() );
+        assertEquals( 10, adaptiveFirst.fetchSize() );
+        assertEquals( 1024, fixedFirst.adaptiveFetchSizeMemoryBudget() );
+        assertEquals( 10, fixedFirst.fetchSize() );
+    }
+
+    @Test
+    void shouldNotPullRecordsInReactiveBatchesByDefault()
+    {
+        assertEquals( 0, Config.defaultConfig().reactiveMinimumPullSize() );
+    }
+
+    @Test
+    void shouldThrowForNonPositiveReactiveMinimumPullSize()
+    {
+        Config.ConfigBuilder builder = Config.builder();
+
+        assertThrows( IllegalArgumentException.class, () -> builder.withReactiveMinimumPullSize( 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> builder.withReactiveMinimumPullSize( -1 ) );
+        assertEquals( 250, builder.withReactiveMinimumPullSize( 250 ).build().reactiveMinimumPullSize() );
+    }
+
     @Test
     void shouldNotAllowNegativeMaxRetryTimeMs()
     {
@@ -208,6 +341,35 @@ class ConfigTest
         assertEquals( TimeUnit.SECONDS.toMillis( 42 ), config.retrySettings().maxRetryTimeMs() );
     }
 
+    @Test
+    void shouldNotLimitRetriesWithBudgetByDefault()
+    {
+        assertEquals( 0, Config.defaultConfig().retrySettings().retryBudgetMaxTokens() );
+    }
+
+    @Test
+    void shouldConfigureRetryBudgetIndependentOfMaxRetryTime()
+    {
+        Config config = Config.builder()
+                              .withTransactionRetryBudget( 10, 0.1 )
+                              .withMaxTransactionRetryTime( 5, TimeUnit.SECONDS )
+                              .build();
+
+        assertEquals( 5000, config.retrySettings().maxRetryTimeMs() );
+        assertEquals( 10, config.retrySettings().retryBudgetMaxTokens() );
+        assertEquals( 0.1, config.retrySettings().retryBudgetRatio() );
+    }
+
+    @Test
+    void shouldNotAllowIllegalRetryBudget()
+    {
+        Config.ConfigBuilder builder = Config.builder();
+
+        assertThrows( IllegalArgumentException.class, () -> builder.withTransactionRetryBudget( 0, 0.1 ) );
+        assertThrows( IllegalArgumentException.class, () -> builder.withTransactionRetryBudget( 10, 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> builder.withTransactionRetryBudget( 10, Double.NaN ) );
+    }
+
     @Test
     void shouldHaveCorrectDefaultMaxConnectionPoolSize()
     {
@@ -362,6 +524,45 @@ class ConfigTest
         assertThrows( IllegalArgumentException.class, () -> Config.builder().withUserAgent( "" ).build() );
     }
 
+    @Test
+    void shouldHaveDefaultCircuitBreakerSettings()
+    {
+        Config config = Config.defaultConfig();
+
+        assertFalse( config.isCircuitBreakerEnabled() );
+        assertEquals( 50, config.circuitBreakerFailureRateThreshold() );
+        assertEquals( 20, config.circuitBreakerWindowSize() );
+        assertEquals( 5, config.circuitBreakerMinimumCalls() );
+        assertEquals( TimeUnit.SECONDS.toMillis( 30 ), config.circuitBreakerOpenDurationMillis() );
+    }
+
+    @Test
+    void shouldChangeCircuitBreakerSettings()
+    {
+        Config config = Config.builder()
+                              .withCircuitBreaker( true )
+                              .withCircuitBreakerFailureRateThreshold( 75, 40, 10 )
+                              .withCircuitBreakerOpenDuration( 5, TimeUnit.SECONDS )
+                              .build();
+
+        assertTrue( config.isCircuitBreakerEnabled() );
+        assertEquals( 75, config.circuitBreakerFailureRateThreshold() );
+        assertEquals( 40, config.circuitBreakerWindowSize() );
+        assertEquals( 10, config.circuitBreakerMinimumCalls() );
+        assertEquals( 5000, config.circuitBreakerOpenDurationMillis() );
+    }
+
+    @Test
+    void shouldErrorWithIllegalCircuitBreakerSettings()
+    {
+        Config.ConfigBuilder builder = Config.builder();
+        assertThrows( IllegalArgumentException.class, () -> builder.withCircuitBreakerFailureRateThreshold( 0, 20, 5 ) );
+        assertThrows( IllegalArgumentException.class, () -> builder.withCircuitBreakerFailureRateThreshold( 101, 20, 5 ) );
+        assertThrows( IllegalArgumentException.class, () -> builder.withCircuitBreakerFailureRateThreshold( 50, 0, 5 ) );
+        assertThrows( IllegalArgumentException.class, () -> builder.withCircuitBreakerFailureRateThreshold( 50, 20, -1 ) );
+        assertThrows( IllegalArgumentException.class, () -> builder.withCircuitBreakerOpenDuration( 0, TimeUnit.SECONDS ) );
+    }
+
     @Test
     void shouldNotHaveMeterRegistryByDefault()
     {
@@ -404,6 +605,7 @@ class ConfigTest
                                   .withConnectionLivenessCheckTimeout( 4321L, TimeUnit.MILLISECONDS )
                                   .withMaxConnectionLifetime( 4711, TimeUnit.MILLISECONDS )
                                   .withMaxTransactionRetryTime( 3210L, TimeUnit.MILLISECONDS )
+                                  .withTransactionRetryBudget( 20, 0.2 )
                                   .withFetchSize( 9876L )
                                   .withEventLoopThreads( 4 )
                                   .withoutEncryption()
@@ -411,7 +613,20 @@ class ConfigTest
                                   .withUserAgent( "user-agent" )
                                   .withDriverMetrics()
                                   .withRoutingTablePurgeDelay( 50000, TimeUnit.MILLISECONDS )
+                                  .withRoutingTableSharing( true )
+                                  .withAdaptiveFetchSize( 1024 * 1024 )
+                                  .withReactiveMinimumPullSize( 64 )
+                                  .withDomainNameCache( 30, 5, TimeUnit.SECONDS )
+                                  .withClientZone( "zone-a", Collections.singletonMap( "*.zone-a", "zone-a" ) )
+                                  .withEventLoopBlockedThreshold( 250, TimeUnit.MILLISECONDS )
+                                  .withTracer( new InMemoryTracer() )
+                                  .withSlowQueryLogging( 2, TimeUnit.SECONDS )
+                                  .withSlowQueryLogRateLimit( 5 )
+                                  .withSlowQueryParameterLogging( true )
                                   .withLeakedSessionsLogging()
+                                  .withCircuitBreaker( true )
+                                  .withCircuitBreakerFailureRateThreshold( 60, 30, 6 )
+                                  .withCircuitBreakerOpenDuration( 15, TimeUnit.SECONDS )
                                   .withMetricsAdapter( MetricsAdapter.MICROMETER )
                                   .build();
 
@@ -425,6 +640,8 @@ class ConfigTest
             assertNotNull( verify.retrySettings() );
             assertSame( DevNullLogging.DEV_NULL_LOGGING, verify.logging() );
             assertEquals( config.retrySettings().maxRetryTimeMs(), verify.retrySettings().maxRetryTimeMs() );
+            assertEquals( config.retrySettings().retryBudgetMaxTokens(), verify.retrySettings().retryBudgetMaxTokens() );
+            assertEquals( config.retrySettings().retryBudgetRatio(), verify.retrySettings().retryBudgetRatio() );
             assertEquals( config.fetchSize(), verify.fetchSize() );
             assertEquals( config.eventLoopThreads(), verify.eventLoopThreads() );
             assertEquals( config.encrypted(), verify.encrypted() );
@@ -436,7 +653,24 @@ class ConfigTest
             assertEquals( config.isMetricsEnabled(), verify.isMetricsEnabled() );
             assertEquals( config.metricsAdapter(), verify.metricsAdapter() );
             assertEquals( config.routingSettings().routingTablePurgeDelayMs(), verify.routingSettings().routingTablePurgeDelayMs() );
+            assertEquals( config.routingSettings().routingTableSharing(), verify.routingSettings().routingTableSharing() );
+            assertEquals( config.adaptiveFetchSizeMemoryBudget(), verify.adaptiveFetchSizeMemoryBudget() );
+            assertEquals( config.reactiveMinimumPullSize(), verify.reactiveMinimumPullSize() );
             assertEquals( config.logLeakedSessions(), verify.logLeakedSessions() );
+            assertEquals( config.domainNameCachePositiveTtlMillis(), verify.domainNameCachePositiveTtlMillis() );
+            assertEquals( config.domainNameCacheNegativeTtlMillis(), verify.domainNameCacheNegativeTtlMillis() );
+            assertEquals( config.clientZone(), verify.clientZone() );
+            assertEquals( config.serverZones(), verify.serverZones() );
+            assertEquals( config.eventLoopBlockedThresholdMillis(), verify.eventLoopBlockedThresholdMillis() );
+            assertSame( DriverTracer.noop(), verify.tracer() );
+            assertEquals( config.slowQueryThresholdMillis(), verify.slowQueryThresholdMillis() );
+            assertEquals( config.slowQueryLogsPerSecond(), verify.slowQueryLogsPerSecond() );
+            assertEquals( config.slowQueryParametersLogged(), verify.slowQueryParametersLogged() );
+            assertEquals( config.isCircuitBreakerEnabled(), verify.isCircuitBreakerEnabled() );
+            assertEquals( config.circuitBreakerFailureRateThreshold(), verify.circuitBreakerFailureRateThreshold() );
+            assertEquals( config.circuitBreakerWindowSize(), verify.circuitBreakerWindowSize() );
+            assertEquals( config.circuitBreakerMinimumCalls(), verify.circuitBreakerMinimumCalls() );
+            assertEquals( config.circuitBreakerOpenDurationMillis(), verify.circuitBreakerOpenDurationMillis() );
         }
 
         @Test
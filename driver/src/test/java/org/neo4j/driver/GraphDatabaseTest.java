@@ -30,6 +30,7 @@ import java.util.List;
 
 import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.DomainNameResolver;
 import org.neo4j.driver.internal.DriverFactory;
 import org.neo4j.driver.internal.InternalDriver;
 import org.neo4j.driver.internal.cluster.RoutingSettings;
@@ -221,7 +222,7 @@ class GraphDatabaseTest
         @Override
         protected InternalDriver createRoutingDriver( SecurityPlan securityPlan, BoltServerAddress address, ConnectionPool connectionPool,
                                                       EventExecutorGroup eventExecutorGroup, RoutingSettings routingSettings, RetryLogic retryLogic,
-                                                      MetricsProvider metricsProvider, Config config )
+                                                      MetricsProvider metricsProvider, DomainNameResolver domainNameResolver, Config config )
         {
             return driverIterator.next();
         }
@@ -31,6 +31,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import org.neo4j.driver.util.TestUtil;
@@ -203,4 +204,32 @@ class SessionConfigTest
         assertEquals( config.database(), verify.database() );
         assertEquals( config.impersonatedUser(), verify.impersonatedUser() );
     }
+
+    @Test
+    void shouldPublishRecordsOnNetworkThreadsByDefault()
+    {
+        assertFalse( defaultConfig().recordPublishingExecutor().isPresent() );
+    }
+
+    @Test
+    void shouldSetRecordPublishingExecutor()
+    {
+        Executor executor = Runnable::run;
+
+        SessionConfig config = builder().withRecordPublishingExecutor( executor ).build();
+
+        assertEquals( Optional.of( executor ), config.recordPublishingExecutor() );
+        assertThrows( NullPointerException.class, () -> builder().withRecordPublishingExecutor( null ) );
+    }
+
+    @Test
+    void shouldNotSerializeRecordPublishingExecutor() throws Exception
+    {
+        SessionConfig config = builder().withRecordPublishingExecutor( Runnable::run ).withDatabase( "testing" ).build();
+
+        SessionConfig verify = TestUtil.serializeAndReadBack( config, SessionConfig.class );
+
+        assertFalse( verify.recordPublishingExecutor().isPresent() );
+        assertEquals( config.database(), verify.database() );
+    }
 }
@@ -47,12 +47,14 @@ import org.neo4j.driver.Transaction;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.ConnectionSettings;
+import org.neo4j.driver.internal.DomainNameResolver;
 import org.neo4j.driver.internal.DriverFactory;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.async.pool.ConnectionPoolImpl;
 import org.neo4j.driver.internal.async.pool.PoolSettings;
 import org.neo4j.driver.internal.cluster.RoutingContext;
 import org.neo4j.driver.internal.cluster.RoutingSettings;
+import org.neo4j.driver.internal.logging.SlowQueryLogger;
 import org.neo4j.driver.internal.metrics.MetricsProvider;
 import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
 import org.neo4j.driver.internal.retry.RetrySettings;
@@ -481,15 +483,16 @@ class ConnectionHandlingIT
 
         @Override
         protected ConnectionPool createConnectionPool( AuthToken authToken, SecurityPlan securityPlan, Bootstrap bootstrap,
-                                                       MetricsProvider ignored, Config config, boolean ownsEventLoopGroup,
-                                                       RoutingContext routingContext )
+                                                       MetricsProvider metricsProvider, DomainNameResolver domainNameResolver, Config config,
+                                                       boolean ownsEventLoopGroup, RoutingContext routingContext )
         {
             ConnectionSettings connectionSettings = new ConnectionSettings( authToken, "test", 1000 );
             PoolSettings poolSettings = new PoolSettings( config.maxConnectionPoolSize(),
                     config.connectionAcquisitionTimeoutMillis(), config.maxConnectionLifetimeMillis(),
                     config.idleTimeBeforeConnectionTest() );
             Clock clock = createClock();
-            ChannelConnector connector = super.createConnector( connectionSettings, securityPlan, config, clock, routingContext );
+            ChannelConnector connector = super.createConnector( connectionSettings, securityPlan, config, clock, routingContext, domainNameResolver,
+                                                                metricsProvider.metricsListener() );
             connectionPool = new MemorizingConnectionPool( connector, bootstrap, poolSettings, config.logging(), clock, ownsEventLoopGroup );
             return connectionPool;
         }
@@ -503,7 +506,7 @@ class ConnectionHandlingIT
         MemorizingConnectionPool( ChannelConnector connector, Bootstrap bootstrap, PoolSettings settings,
                 Logging logging, Clock clock, boolean ownsEventLoopGroup )
         {
-            super( connector, bootstrap, settings, DevNullMetricsListener.INSTANCE, logging, clock, ownsEventLoopGroup );
+            super( connector, bootstrap, settings, DevNullMetricsListener.INSTANCE, SlowQueryLogger.DISABLED, logging, clock, ownsEventLoopGroup );
         }
 
         void startMemorizing()
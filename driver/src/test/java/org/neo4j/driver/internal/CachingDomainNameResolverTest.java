@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.neo4j.driver.internal.metrics.MetricsListener;
+import org.neo4j.driver.internal.util.FakeClock;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDomainNameResolverTest
+{
+    private final DomainNameResolver delegate = mock( DomainNameResolver.class );
+    private final MetricsListener metricsListener = mock( MetricsListener.class );
+    private final FakeClock clock = new FakeClock();
+    private final CachingDomainNameResolver resolver = new CachingDomainNameResolver( delegate, clock, 1000, 100, metricsListener );
+
+    @Test
+    void shouldCacheSuccessfulResolutionsUntilTtlExpires() throws Exception
+    {
+        InetAddress[] addresses = {InetAddress.getByAddress( "neo4j", new byte[]{10, 0, 0, 1} )};
+        when( delegate.resolve( "neo4j" ) ).thenReturn( addresses );
+
+        assertArrayEquals( addresses, resolver.resolve( "neo4j" ) );
+        clock.progress( 999 );
+        assertTrue( resolver.isCached( "neo4j" ) );
+        assertArrayEquals( addresses, resolver.resolve( "neo4j" ) );
+        verify( delegate, times( 1 ) ).resolve( "neo4j" );
+
+        clock.progress( 1 );
+        assertFalse( resolver.isCached( "neo4j" ) );
+        assertArrayEquals( addresses, resolver.resolve( "neo4j" ) );
+        verify( delegate, times( 2 ) ).resolve( "neo4j" );
+
+        verify( metricsListener, times( 2 ) ).afterDomainNameResolution( false, true );
+        verify( metricsListener ).afterDomainNameResolution( true, true );
+    }
+
+    @Test
+    void shouldCacheFailedResolutionsUsingNegativeTtl() throws Exception
+    {
+        when( delegate.resolve( "unknown" ) ).thenThrow( new UnknownHostException( "unknown" ) );
+
+        assertThrows( UnknownHostException.class, () -> resolver.resolve( "unknown" ) );
+        assertThrows( UnknownHostException.class, () -> resolver.resolve( "unknown" ) );
+        verify( delegate, times( 1 ) ).resolve( "unknown" );
+
+        clock.progress( 100 );
+        assertThrows( UnknownHostException.class, () -> resolver.resolve( "unknown" ) );
+        verify( delegate, times( 2 ) ).resolve( "unknown" );
+
+        verify( metricsListener, times( 2 ) ).afterDomainNameResolution( false, false );
+        verify( metricsListener ).afterDomainNameResolution( true, false );
+    }
+
+    @Test
+    void shouldNotCacheWhenTtlIsZero() throws Exception
+    {
+        CachingDomainNameResolver resolver = new CachingDomainNameResolver( delegate, clock, 1000, 0, metricsListener );
+        when( delegate.resolve( "unknown" ) ).thenThrow( new UnknownHostException( "unknown" ) );
+
+        assertThrows( UnknownHostException.class, () -> resolver.resolve( "unknown" ) );
+        assertThrows( UnknownHostException.class, () -> resolver.resolve( "unknown" ) );
+
+        verify( delegate, times( 2 ) ).resolve( "unknown" );
+        assertEquals( 0, resolver.size() );
+    }
+
+    @Test
+    void shouldNotExposeCachedArrays() throws Exception
+    {
+        InetAddress address = InetAddress.getByAddress( "neo4j", new byte[]{10, 0, 0, 1} );
+        when( delegate.resolve( "neo4j" ) ).thenReturn( new InetAddress[]{address} );
+
+        resolver.resolve( "neo4j" )[0] = null;
+
+        assertEquals( address, resolver.resolve( "neo4j" )[0] );
+    }
+
+    @Test
+    void shouldBoundNumberOfEntries() throws Exception
+    {
+        when( delegate.resolve( anyString() ) ).thenReturn( new InetAddress[]{InetAddress.getLoopbackAddress()} );
+
+        for ( int i = 0; i < CachingDomainNameResolver.MAX_ENTRIES * 2; i++ )
+        {
+            resolver.resolve( "host-" + i );
+        }
+
+        assertTrue( resolver.size() <= CachingDomainNameResolver.MAX_ENTRIES );
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntryWhenFull() throws Exception
+    {
+        when( delegate.resolve( anyString() ) ).thenReturn( new InetAddress[]{InetAddress.getLoopbackAddress()} );
+        for ( int i = 0; i < CachingDomainNameResolver.MAX_ENTRIES; i++ )
+        {
+            resolver.resolve( "host-" + i );
+        }
+
+        resolver.resolve( "host-0" );
+        resolver.resolve( "new-host" );
+
+        assertEquals( CachingDomainNameResolver.MAX_ENTRIES, resolver.size() );
+        assertTrue( resolver.isCached( "host-0" ) );
+        assertFalse( resolver.isCached( "host-1" ) );
+        assertTrue( resolver.isCached( "new-host" ) );
+    }
+
+    @Test
+    void shouldEvictExpiredEntriesBeforeLeastRecentlyUsedWhenFull() throws Exception
+    {
+        when( delegate.resolve( anyString() ) ).thenReturn( new InetAddress[]{InetAddress.getLoopbackAddress()} );
+        when( delegate.resolve( "unknown" ) ).thenThrow( new UnknownHostException( "unknown" ) );
+        for ( int i = 1; i < CachingDomainNameResolver.MAX_ENTRIES; i++ )
+        {
+            resolver.resolve( "host-" + i );
+        }
+        assertThrows( UnknownHostException.class, () -> resolver.resolve( "unknown" ) );
+
+        clock.progress( 100 );
+        resolver.resolve( "new-host" );
+
+        assertEquals( CachingDomainNameResolver.MAX_ENTRIES, resolver.size() );
+        assertTrue( resolver.isCached( "host-1" ) );
+        assertTrue( resolver.isCached( "new-host" ) );
+    }
+
+    @Test
+    void shouldOffloadLookupsOfNamesThatAreNotCached() throws Exception
+    {
+        ExecutorService lookupExecutor = mock( ExecutorService.class );
+        CachingDomainNameResolver resolver = new CachingDomainNameResolver( delegate, clock, 1000, 100, metricsListener, lookupExecutor );
+        InetAddress[] addresses = {InetAddress.getByAddress( "neo4j", new byte[]{10, 0, 0, 1} )};
+        when( delegate.resolve( "neo4j" ) ).thenReturn( addresses );
+
+        CompletableFuture<InetAddress[]> miss = resolver.resolveAsync( "neo4j" ).toCompletableFuture();
+
+        assertFalse( miss.isDone() );
+        verify( delegate, never() ).resolve( "neo4j" );
+        ArgumentCaptor<Runnable> lookup = ArgumentCaptor.forClass( Runnable.class );
+        verify( lookupExecutor ).execute( lookup.capture() );
+        lookup.getValue().run();
+        assertArrayEquals( addresses, miss.get() );
+
+        CompletableFuture<InetAddress[]> hit = resolver.resolveAsync( "neo4j" ).toCompletableFuture();
+
+        assertArrayEquals( addresses, hit.getNow( null ) );
+        verify( lookupExecutor, times( 1 ) ).execute( any() );
+    }
+
+    @Test
+    void shouldShareOffloadedLookupBetweenConcurrentMisses() throws Exception
+    {
+        ExecutorService lookupExecutor = mock( ExecutorService.class );
+        CachingDomainNameResolver resolver = new CachingDomainNameResolver( delegate, clock, 1000, 100, metricsListener, lookupExecutor );
+        InetAddress[] addresses = {InetAddress.getByAddress( "neo4j", new byte[]{10, 0, 0, 1} )};
+        when( delegate.resolve( "neo4j" ) ).thenReturn( addresses );
+
+        CompletableFuture<InetAddress[]> first = resolver.resolveAsync( "neo4j" ).toCompletableFuture();
+        CompletableFuture<InetAddress[]> second = resolver.resolveAsync( "neo4j" ).toCompletableFuture();
+
+        ArgumentCaptor<Runnable> lookup = ArgumentCaptor.forClass( Runnable.class );
+        verify( lookupExecutor ).execute( lookup.capture() );
+        lookup.getValue().run();
+        assertArrayEquals( addresses, first.get() );
+        assertArrayEquals( addresses, second.get() );
+        verify( delegate, times( 1 ) ).resolve( "neo4j" );
+    }
+
+    @Test
+    void shouldFailOffloadedLookupsAfterClose()
+    {
+        CachingDomainNameResolver resolver = new CachingDomainNameResolver( delegate, clock, 1000, 100, metricsListener );
+
+        resolver.close();
+
+        ExecutionException e = assertThrows( ExecutionException.class, () -> resolver.resolveAsync( "neo4j" ).toCompletableFuture().get() );
+        assertThat( e.getCause(), instanceOf( RejectedExecutionException.class ) );
+    }
+}
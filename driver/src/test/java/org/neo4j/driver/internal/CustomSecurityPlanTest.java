@@ -75,11 +75,12 @@ class CustomSecurityPlanTest
 
         @Override
         protected ConnectionPool createConnectionPool( AuthToken authToken, SecurityPlan securityPlan, Bootstrap bootstrap,
-                                                       MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup,
-                                                       RoutingContext routingContext )
+                                                       MetricsProvider metricsProvider, DomainNameResolver domainNameResolver, Config config,
+                                                       boolean ownsEventLoopGroup, RoutingContext routingContext )
         {
             capturedSecurityPlans.add( securityPlan );
-            return super.createConnectionPool( authToken, securityPlan, bootstrap, metricsProvider, config, ownsEventLoopGroup, routingContext );
+            return super.createConnectionPool( authToken, securityPlan, bootstrap, metricsProvider, domainNameResolver, config, ownsEventLoopGroup,
+                                               routingContext );
         }
     }
 }
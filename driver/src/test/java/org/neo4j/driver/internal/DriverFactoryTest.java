@@ -44,6 +44,7 @@ import org.neo4j.driver.internal.cluster.RoutingSettings;
 import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancer;
 import org.neo4j.driver.internal.metrics.DevNullMetricsProvider;
 import org.neo4j.driver.internal.metrics.InternalMetricsProvider;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.metrics.MetricsProvider;
 import org.neo4j.driver.internal.metrics.MicrometerMetricsProvider;
 import org.neo4j.driver.internal.retry.RetryLogic;
@@ -247,15 +248,16 @@ class DriverFactoryTest
 
         @Override
         protected InternalDriver createRoutingDriver( SecurityPlan securityPlan, BoltServerAddress address, ConnectionPool connectionPool,
-                EventExecutorGroup eventExecutorGroup, RoutingSettings routingSettings, RetryLogic retryLogic, MetricsProvider metricsProvider, Config config )
+                EventExecutorGroup eventExecutorGroup, RoutingSettings routingSettings, RetryLogic retryLogic, MetricsProvider metricsProvider,
+                DomainNameResolver domainNameResolver, Config config )
         {
             throw new UnsupportedOperationException( "Can't create routing driver" );
         }
 
         @Override
         protected ConnectionPool createConnectionPool( AuthToken authToken, SecurityPlan securityPlan, Bootstrap bootstrap,
-                                                       MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup,
-                                                       RoutingContext routingContext )
+                                                       MetricsProvider metricsProvider, DomainNameResolver domainNameResolver, Config config,
+                                                       boolean ownsEventLoopGroup, RoutingContext routingContext )
         {
             return connectionPool;
         }
@@ -275,7 +277,8 @@ class DriverFactoryTest
 
         @Override
         protected LoadBalancer createLoadBalancer( BoltServerAddress address, ConnectionPool connectionPool,
-                EventExecutorGroup eventExecutorGroup, Config config, RoutingSettings routingSettings )
+                EventExecutorGroup eventExecutorGroup, Config config, RoutingSettings routingSettings, MetricsListener metricsListener,
+                DomainNameResolver domainNameResolver )
         {
             return null;
         }
@@ -291,7 +294,8 @@ class DriverFactoryTest
 
         @Override
         protected ConnectionPool createConnectionPool( AuthToken authToken, SecurityPlan securityPlan, Bootstrap bootstrap,
-                MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup, RoutingContext routingContext )
+                MetricsProvider metricsProvider, DomainNameResolver domainNameResolver, Config config, boolean ownsEventLoopGroup,
+                RoutingContext routingContext )
         {
             return connectionPoolMock();
         }
@@ -314,7 +318,8 @@ class DriverFactoryTest
 
         @Override
         protected ConnectionPool createConnectionPool( AuthToken authToken, SecurityPlan securityPlan, Bootstrap bootstrap,
-                MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup, RoutingContext routingContext )
+                MetricsProvider metricsProvider, DomainNameResolver domainNameResolver, Config config, boolean ownsEventLoopGroup,
+                RoutingContext routingContext )
         {
             return connectionPoolMock();
         }
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.neo4j.driver.Column;
+import org.neo4j.driver.Columns;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.value.Uncoercible;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.driver.Values.NULL;
+import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.internal.types.InternalTypeSystem.TYPE_SYSTEM;
+
+class InternalColumnsTest
+{
+    private static final List<String> KEYS = asList( "id", "score", "active", "name" );
+
+    @Test
+    void shouldStoreTypedColumnsInArrays()
+    {
+        InternalColumns.Builder builder = new InternalColumns.Builder( KEYS );
+        for ( int i = 0; i < 100; i++ )
+        {
+            builder.add( new InternalRecord( KEYS, new Value[]{value( i ), value( i / 2.0 ), value( i % 2 == 0 ), value( "n" + i )} ) );
+        }
+
+        Columns columns = builder.build();
+
+        assertEquals( KEYS, columns.keys() );
+        assertEquals( 100, columns.rowCount() );
+        assertEquals( TYPE_SYSTEM.INTEGER(), columns.column( "id" ).type() );
+        assertEquals( 100, columns.column( "id" ).asLongArray().length );
+        assertEquals( 99, columns.column( "id" ).asLongArray()[99] );
+        assertEquals( 49.5, columns.column( "score" ).asDoubleArray()[99] );
+        assertTrue( columns.column( "active" ).asBooleanArray()[98] );
+        assertEquals( "n42", columns.column( 3 ).asStringArray()[42] );
+        assertEquals( value( "n7" ), columns.column( 3 ).get( 7 ) );
+    }
+
+    @Test
+    void shouldReturnCopiesOfStorage()
+    {
+        InternalColumns.Builder builder = new InternalColumns.Builder( KEYS );
+        builder.add( new InternalRecord( KEYS, new Value[]{value( 1 ), value( 1.5 ), value( true ), value( "a" )} ) );
+        Columns columns = builder.build();
+
+        columns.column( "id" ).asLongArray()[0] = 42;
+        columns.column( "score" ).asDoubleArray()[0] = 42.0;
+        columns.column( "active" ).asBooleanArray()[0] = false;
+        columns.column( 3 ).asStringArray()[0] = "changed";
+
+        assertEquals( 1, columns.column( "id" ).asLongArray()[0] );
+        assertEquals( 1.5, columns.column( "score" ).asDoubleArray()[0] );
+        assertTrue( columns.column( "active" ).asBooleanArray()[0] );
+        assertEquals( "a", columns.column( 3 ).asStringArray()[0] );
+        assertEquals( value( 1 ), columns.column( "id" ).get( 0 ) );
+    }
+
+    @Test
+    void shouldTrackNulls()
+    {
+        InternalColumns.Builder builder = new InternalColumns.Builder( asList( "id" ) );
+        builder.add( new InternalRecord( asList( "id" ), new Value[]{NULL} ) );
+        builder.add( new InternalRecord( asList( "id" ), new Value[]{value( 5 )} ) );
+        builder.add( new InternalRecord( asList( "id" ), new Value[]{NULL} ) );
+
+        Column column = builder.build().column( "id" );
+
+        assertEquals( TYPE_SYSTEM.INTEGER(), column.type() );
+        assertArrayEquals( new long[]{0, 5, 0}, column.asLongArray() );
+        assertTrue( column.isNull( 0 ) );
+        assertFalse( column.isNull( 1 ) );
+        assertSame( NULL, column.get( 2 ) );
+    }
+
+    @Test
+    void shouldReadColumnOfNullsAsAnyArray()
+    {
+        InternalColumns.Builder builder = new InternalColumns.Builder( asList( "x" ) );
+        builder.add( new InternalRecord( asList( "x" ), new Value[]{NULL} ) );
+        builder.add( new InternalRecord( asList( "x" ), new Value[]{NULL} ) );
+
+        Column column = builder.build().column( 0 );
+
+        assertEquals( TYPE_SYSTEM.NULL(), column.type() );
+        assertArrayEquals( new long[2], column.asLongArray() );
+        assertArrayEquals( new String[2], column.asStringArray() );
+    }
+
+    @Test
+    void shouldFallBackToValuesForMixedTypes()
+    {
+        InternalColumns.Builder builder = new InternalColumns.Builder( asList( "x" ) );
+        for ( int i = 0; i < 20; i++ )
+        {
+            builder.add( new InternalRecord( asList( "x" ), new Value[]{value( i )} ) );
+        }
+        builder.add( new InternalRecord( asList( "x" ), new Value[]{value( "twenty" )} ) );
+        builder.add( new InternalRecord( asList( "x" ), new Value[]{value( asList( 1, 2 ) )} ) );
+
+        Column column = builder.build().column( "x" );
+
+        assertEquals( TYPE_SYSTEM.ANY(), column.type() );
+        assertEquals( 22, column.size() );
+        assertEquals( value( 19 ), column.get( 19 ) );
+        assertEquals( value( "twenty" ), column.get( 20 ) );
+        assertEquals( value( asList( 1, 2 ) ), column.get( 21 ) );
+        assertThrows( Uncoercible.class, column::asLongArray );
+    }
+
+    @Test
+    void shouldNotCoerceColumnToOtherArrayType()
+    {
+        InternalColumns.Builder builder = new InternalColumns.Builder( asList( "x" ) );
+        builder.add( new InternalRecord( asList( "x" ), new Value[]{value( 1 )} ) );
+
+        Column column = builder.build().column( "x" );
+
+        assertThrows( Uncoercible.class, column::asDoubleArray );
+        assertThrows( Uncoercible.class, column::asStringArray );
+    }
+
+    @Test
+    void shouldFailForUnknownColumnsAndRows()
+    {
+        Columns columns = new InternalColumns.Builder( asList( "x" ) ).build();
+
+        assertEquals( 0, columns.rowCount() );
+        assertThrows( NoSuchElementException.class, () -> columns.column( "y" ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> columns.column( "x" ).get( 0 ) );
+    }
+}
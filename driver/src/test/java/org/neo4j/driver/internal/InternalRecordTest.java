@@ -29,6 +29,7 @@ import java.util.NoSuchElementException;
 
 import org.neo4j.driver.internal.util.Extract;
 import org.neo4j.driver.internal.value.NullValue;
+import org.neo4j.driver.ColumnHandle;
 import org.neo4j.driver.Value;
 import java.util.function.Function;
 
@@ -221,6 +222,15 @@ class InternalRecordTest
         assertThat( appendedValues, equalTo( Arrays.asList( values ) ) );
     }
 
+    @Test
+    void shouldGetValueByColumnHandle()
+    {
+        InternalRecord record = createRecord();
+
+        assertThat( record.value( ColumnHandle.of( "k2" ) ), equalTo( value( 1 ) ) );
+        assertThat( record.value( ColumnHandle.of( "k3" ) ), equalTo( NullValue.NULL ) );
+    }
+
     private InternalRecord createRecord()
     {
         List<String> keys = Arrays.asList( "k1", "k2" );
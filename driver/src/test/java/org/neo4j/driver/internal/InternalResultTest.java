@@ -25,8 +25,11 @@ import org.junit.jupiter.params.provider.ValueSource;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Spliterator;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
+import org.neo4j.driver.Columns;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
@@ -55,6 +58,7 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
@@ -356,6 +360,149 @@ class InternalResultTest
         assertThrows( NoSuchRecordException.class, result::peek );
     }
 
+    @Test
+    void shouldIterateLargeResultInOrder()
+    {
+        Result result = createResult( 2500 );
+
+        int count = 0;
+        while ( result.hasNext() )
+        {
+            count++;
+            assertThat( result.next().get( "k1" ), equalTo( value( "v1-" + count ) ) );
+        }
+
+        assertEquals( 2500, count );
+        assertThrows( NoSuchRecordException.class, result::next );
+    }
+
+    @Test
+    void shouldListRemainingRecordsAfterPartialIteration()
+    {
+        Result result = createResult( 5 );
+        result.next();
+
+        List<Record> records = result.list();
+
+        assertThat( records, hasSize( 4 ) );
+        assertThat( records.get( 0 ).get( "k1" ), equalTo( value( "v1-2" ) ) );
+        assertFalse( result.hasNext() );
+    }
+
+    @Test
+    void shouldNotReturnBufferedRecordsAfterConsume()
+    {
+        Result result = createResult( 3 );
+        assertTrue( result.hasNext() );
+
+        result.consume();
+
+        assertThrows( ResultConsumedException.class, result::hasNext );
+    }
+
+    @Test
+    void shouldStreamRecordsInParallel()
+    {
+        Result result = createResult( 2500 );
+
+        List<String> values = result.stream()
+                                    .parallel()
+                                    .map( record -> record.get( "k1" ).asString() )
+                                    .collect( Collectors.toList() );
+
+        assertEquals( 2500, values.size() );
+        for ( int i = 0; i < values.size(); i++ )
+        {
+            assertEquals( "v1-" + (i + 1), values.get( i ) );
+        }
+    }
+
+    @Test
+    void shouldSplitOffReceivedRecords()
+    {
+        InternalResult result = (InternalResult) createResult( 1500 );
+        Spliterator<Record> spliterator = result.stream().spliterator();
+
+        Spliterator<Record> batch = spliterator.trySplit();
+
+        assertNotNull( batch );
+        assertEquals( InternalResult.RecordSpliterator.SPLIT_BATCH_UNIT, batch.getExactSizeIfKnown() );
+        batch.tryAdvance( record -> assertThat( record.get( "k1" ), equalTo( value( "v1-1" ) ) ) );
+        spliterator.tryAdvance( record -> assertThat( record.get( "k1" ), equalTo( value( "v1-129" ) ) ) );
+        assertEquals( 2 * InternalResult.RecordSpliterator.SPLIT_BATCH_UNIT, spliterator.trySplit().getExactSizeIfKnown() );
+        assertEquals( Long.MAX_VALUE, spliterator.estimateSize() );
+    }
+
+    @Test
+    void shouldNotWaitForRecordsWhenSplitting()
+    {
+        InternalResult result = (InternalResult) createResult( 0, false );
+        Spliterator<Record> spliterator = result.stream().spliterator();
+
+        assertNull( spliterator.trySplit() );
+    }
+
+    @Test
+    void shouldCapSplitBatchSize()
+    {
+        InternalResult result = (InternalResult) createResult( 5000 );
+        Spliterator<Record> spliterator = result.stream().spliterator();
+
+        long maxSize = 0;
+        long totalSize = 0;
+        Spliterator<Record> batch;
+        while ( (batch = spliterator.trySplit()) != null )
+        {
+            maxSize = Math.max( maxSize, batch.getExactSizeIfKnown() );
+            totalSize += batch.getExactSizeIfKnown();
+        }
+
+        assertEquals( InternalResult.RECORD_BATCH_SIZE, maxSize );
+        assertEquals( 5000, totalSize );
+    }
+
+    @Test
+    void shouldListRecordsMappedToType()
+    {
+        Result result = createResult( 3 );
+        result.next();
+
+        List<Row> rows = result.list( Row.class );
+
+        assertThat( rows, hasSize( 2 ) );
+        assertEquals( "v1-2", rows.get( 0 ).k1 );
+        assertEquals( "v2-3", rows.get( 1 ).k2 );
+        assertFalse( result.hasNext() );
+    }
+
+    @Test
+    void shouldCollectRemainingRecordsAsColumns()
+    {
+        Result result = createResult( 2500 );
+        result.next();
+
+        Columns columns = result.collectColumns();
+
+        assertEquals( 2499, columns.rowCount() );
+        assertEquals( "v1-2", columns.column( "k1" ).asStringArray()[0] );
+        assertEquals( "v2-2500", columns.column( "k2" ).asStringArray()[2498] );
+        assertFalse( result.hasNext() );
+    }
+
+    @Test
+    void shouldTakeRecordsAndDiscardRest()
+    {
+        Result result = createResult( 5 );
+        assertTrue( result.hasNext() );
+
+        List<Record> records = result.take( 2 );
+
+        assertThat( records, hasSize( 2 ) );
+        assertThat( records.get( 1 ).get( "k1" ), equalTo( value( "v1-2" ) ) );
+        assertFalse( result.hasNext() );
+        assertThrows( IllegalArgumentException.class, () -> result.take( -1 ) );
+    }
+
     @ParameterizedTest
     @ValueSource( booleans = {true, false} )
     void shouldDelegateIsOpen( boolean expectedState )
@@ -374,6 +521,11 @@ class InternalResultTest
     }
 
     private Result createResult( int numberOfRecords )
+    {
+        return createResult( numberOfRecords, true );
+    }
+
+    private Result createResult( int numberOfRecords, boolean complete )
     {
         RunResponseHandler runHandler = new RunResponseHandler( new CompletableFuture<>(), BoltProtocolV3.METADATA_EXTRACTOR, mock( Connection.class ), null );
         runHandler.onSuccess( singletonMap( "fields", value( Arrays.asList( "k1", "k2" ) ) ) );
@@ -391,12 +543,21 @@ class InternalResultTest
         {
             pullAllHandler.onRecord( new Value[]{value( "v1-" + i ), value( "v2-" + i )} );
         }
-        pullAllHandler.onSuccess( emptyMap() );
+        if ( complete )
+        {
+            pullAllHandler.onSuccess( emptyMap() );
+        }
 
         AsyncResultCursor cursor = new AsyncResultCursorImpl( null, runHandler, pullAllHandler );
         return new InternalResult( connection, new DisposableAsyncResultCursor( cursor ) );
     }
 
+    static class Row
+    {
+        String k1;
+        String k2;
+    }
+
     private List<Value> values( Record record )
     {
         List<Value> result = new ArrayList<>( record.keys().size() );
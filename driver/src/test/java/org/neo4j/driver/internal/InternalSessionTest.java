@@ -58,7 +58,7 @@ public class InternalSessionTest
         // GIVEN
         RetryLogic logic = mock( RetryLogic.class );
         String expected = "";
-        given( logic.retry( any() ) ).willReturn( expected );
+        given( logic.retry( any(), any() ) ).willReturn( expected );
         given( networkSession.retryLogic() ).willReturn( logic );
         TransactionCallback<String> tc = ( ignored ) -> expected;
         Consumer<TransactionContext> consumer = ( ignored ) ->
@@ -97,7 +97,7 @@ public class InternalSessionTest
             assertEquals( expected, actual );
         }
         then( networkSession ).should().retryLogic();
-        then( logic ).should().retry( any() );
+        then( logic ).should().retry( any(), any() );
     }
 
     static List<ExecuteVariation> executeVariations()
@@ -19,14 +19,17 @@
 package org.neo4j.driver.internal.async;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
 
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
+import org.neo4j.driver.Columns;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
@@ -52,10 +55,15 @@ import static java.util.Collections.singletonMap;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -376,6 +384,101 @@ class AsyncResultCursorImplTest
         verify( pullAllHandler ).listAsync( mapFunction );
     }
 
+    @Test
+    void shouldCollectColumnsAsyncFromBufferedBatches()
+    {
+        RunResponseHandler runHandler = newRunResponseHandler();
+        runHandler.onSuccess( singletonMap( "fields", value( asList( "key1", "key2" ) ) ) );
+        PullAllResponseHandler pullAllHandler = mock( PullAllResponseHandler.class );
+        Record record1 = new InternalRecord( asList( "key1", "key2" ), values( 1, "a" ) );
+        Record record2 = new InternalRecord( asList( "key1", "key2" ), values( 2, "b" ) );
+        Record record3 = new InternalRecord( asList( "key1", "key2" ), values( 3, "c" ) );
+        when( pullAllHandler.drainRecords( any(), anyInt() ) )
+                .thenAnswer( drain( record1, record2 ) ).thenReturn( 0 )
+                .thenAnswer( drain( record3 ) ).thenReturn( 0 );
+        when( pullAllHandler.peekAsync() ).thenReturn( completedFuture( record3 ) ).thenReturn( completedWithNull() );
+
+        AsyncResultCursorImpl cursor = newCursor( runHandler, pullAllHandler );
+
+        Columns columns = await( cursor.collectColumnsAsync() );
+
+        assertEquals( asList( "key1", "key2" ), columns.keys() );
+        assertArrayEquals( new long[]{1, 2, 3}, columns.column( "key1" ).asLongArray() );
+        assertArrayEquals( new String[]{"a", "b", "c"}, columns.column( "key2" ).asStringArray() );
+        verify( pullAllHandler, times( 2 ) ).peekAsync();
+        verify( pullAllHandler, never() ).nextAsync();
+    }
+
+    @Test
+    void shouldPropagateFailureFromCollectColumnsAsync()
+    {
+        PullAllResponseHandler pullAllHandler = mock( PullAllResponseHandler.class );
+        RuntimeException error = new RuntimeException( "Hi" );
+        when( pullAllHandler.peekAsync() ).thenReturn( failedFuture( error ) );
+
+        AsyncResultCursorImpl cursor = newCursor( pullAllHandler );
+
+        RuntimeException e = assertThrows( RuntimeException.class, () -> await( cursor.collectColumnsAsync() ) );
+        assertEquals( error, e );
+    }
+
+    @Test
+    void shouldFailCollectColumnsAsyncWhenRecordCanNotBeCollected()
+    {
+        RunResponseHandler runHandler = newRunResponseHandler();
+        runHandler.onSuccess( singletonMap( "fields", value( asList( "key1", "key2" ) ) ) );
+        PullAllResponseHandler pullAllHandler = mock( PullAllResponseHandler.class );
+        Record brokenRecord = mock( Record.class );
+        RuntimeException error = new RuntimeException( "Broken record" );
+        when( brokenRecord.get( anyInt() ) ).thenThrow( error );
+        when( pullAllHandler.drainRecords( any(), anyInt() ) )
+                .thenReturn( 0 )
+                .thenAnswer( drain( brokenRecord ) ).thenReturn( 0 );
+        when( pullAllHandler.peekAsync() ).thenReturn( completedFuture( brokenRecord ) ).thenReturn( completedWithNull() );
+
+        AsyncResultCursorImpl cursor = newCursor( runHandler, pullAllHandler );
+
+        RuntimeException e = assertThrows( RuntimeException.class, () -> await( cursor.collectColumnsAsync() ) );
+        assertEquals( error, e );
+    }
+
+    @Test
+    void shouldTakeAsyncAndConsumeRest()
+    {
+        PullAllResponseHandler pullAllHandler = mock( PullAllResponseHandler.class );
+        Record record1 = new InternalRecord( asList( "key1" ), values( 1 ) );
+        Record record2 = new InternalRecord( asList( "key1" ), values( 2 ) );
+        Record record3 = new InternalRecord( asList( "key1" ), values( 3 ) );
+        when( pullAllHandler.drainRecords( any(), anyInt() ) ).thenAnswer( drain( record1 ) ).thenReturn( 0 ).thenAnswer( drain( record2 ) );
+        when( pullAllHandler.peekAsync() ).thenReturn( completedFuture( record2 ) );
+        when( pullAllHandler.consumeAsync() ).thenReturn( completedFuture( mock( ResultSummary.class ) ) );
+
+        AsyncResultCursorImpl cursor = newCursor( pullAllHandler );
+
+        List<Record> records = await( cursor.takeAsync( 2 ) );
+
+        assertEquals( asList( record1, record2 ), records );
+        verify( pullAllHandler ).drainRecords( any(), eq( 2 ) );
+        verify( pullAllHandler, times( 2 ) ).drainRecords( any(), eq( 1 ) );
+        verify( pullAllHandler ).consumeAsync();
+        verify( pullAllHandler, never() ).nextAsync();
+        assertThrows( IllegalArgumentException.class, () -> await( cursor.takeAsync( -1 ) ) );
+    }
+
+    @Test
+    void shouldTakeAsyncFromShorterResult()
+    {
+        PullAllResponseHandler pullAllHandler = mock( PullAllResponseHandler.class );
+        Record record = new InternalRecord( asList( "key1" ), values( 1 ) );
+        when( pullAllHandler.drainRecords( any(), anyInt() ) ).thenAnswer( drain( record ) ).thenReturn( 0 );
+        when( pullAllHandler.peekAsync() ).thenReturn( completedWithNull() );
+        when( pullAllHandler.consumeAsync() ).thenReturn( completedFuture( mock( ResultSummary.class ) ) );
+
+        AsyncResultCursorImpl cursor = newCursor( pullAllHandler );
+
+        assertEquals( singletonList( record ), await( cursor.takeAsync( 10 ) ) );
+    }
+
     @Test
     void shouldConsumeAsync()
     {
@@ -421,6 +524,16 @@ class AsyncResultCursorImplTest
         return new AsyncResultCursorImpl( null, runHandler, pullAllHandler );
     }
 
+    private static Answer<Integer> drain( Record... records )
+    {
+        return invocation ->
+        {
+            Queue<Record> sink = invocation.getArgument( 0 );
+            sink.addAll( asList( records ) );
+            return records.length;
+        };
+    }
+
     private static RunResponseHandler newRunResponseHandler()
     {
         return new RunResponseHandler( new CompletableFuture<>(), BoltProtocolV3.METADATA_EXTRACTOR, mock( Connection.class ), null );
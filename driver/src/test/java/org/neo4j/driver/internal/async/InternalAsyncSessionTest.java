@@ -259,7 +259,7 @@ class InternalAsyncSessionTest
         String expected = "";
         given( networkSession.retryLogic() ).willReturn( logic );
         AsyncTransactionCallback<CompletionStage<String>> tc = ( ignored ) -> CompletableFuture.completedFuture( expected );
-        given( logic.<String>retryAsync( any() ) ).willReturn( tc.execute( null ) );
+        given( logic.<String>retryAsync( any(), any() ) ).willReturn( tc.execute( null ) );
         TransactionConfig config = TransactionConfig.builder().build();
 
         // WHEN
@@ -273,7 +273,7 @@ class InternalAsyncSessionTest
         // THEN
         assertEquals( expected, actual.toCompletableFuture().get() );
         then( networkSession ).should().retryLogic();
-        then( logic ).should().retryAsync( any() );
+        then( logic ).should().retryAsync( any(), any() );
     }
 
     private void testTxRollbackWhenThrows( AccessMode transactionMode )
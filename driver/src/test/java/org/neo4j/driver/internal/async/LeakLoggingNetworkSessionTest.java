@@ -28,9 +28,10 @@ import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.internal.DefaultBookmarksHolder;
-import org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizePolicy;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
+import org.neo4j.driver.internal.tracing.DevNullTracer;
 import org.neo4j.driver.internal.util.FixedRetryLogic;
 import org.neo4j.driver.util.TestUtil;
 
@@ -98,7 +99,7 @@ class LeakLoggingNetworkSessionTest
     private static LeakLoggingNetworkSession newSession( Logging logging, boolean openConnection )
     {
         return new LeakLoggingNetworkSession( connectionProviderMock( openConnection ), new FixedRetryLogic( 0 ), defaultDatabase(), READ,
-                                              new DefaultBookmarksHolder(), null, FetchSizeUtil.UNLIMITED_FETCH_SIZE, logging );
+                                              new DefaultBookmarksHolder(), null, FetchSizePolicy.UNLIMITED, 0, logging , DevNullTracer.INSTANCE );
     }
 
     private static ConnectionProvider connectionProviderMock( boolean openConnection )
@@ -36,21 +36,32 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.neo4j.driver.Query;
+import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.connection.ChannelAttributes;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.async.pool.ExtendedChannelPool;
+import org.neo4j.driver.internal.diagnostics.InFlightQuery;
 import org.neo4j.driver.internal.handlers.NoOpResponseHandler;
+import org.neo4j.driver.internal.logging.SlowQueryLogger;
+import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.messaging.request.BeginMessage;
 import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
 import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
+import org.neo4j.driver.internal.metrics.MetricsListener;
+import org.neo4j.driver.internal.metrics.QueryExecution;
 import org.neo4j.driver.internal.spi.ResponseHandler;
 import org.neo4j.driver.internal.util.FakeClock;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
 import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -58,11 +69,18 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.neo4j.driver.AccessMode.WRITE;
+import static org.neo4j.driver.internal.DatabaseNameUtil.database;
+import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.messageDispatcher;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.terminationReason;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+import static org.neo4j.driver.internal.messaging.request.CommitMessage.COMMIT;
 import static org.neo4j.driver.internal.messaging.request.PullAllMessage.PULL_ALL;
 import static org.neo4j.driver.internal.messaging.request.ResetMessage.RESET;
+import static org.neo4j.driver.internal.messaging.request.RollbackMessage.ROLLBACK;
+import static org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage.autoCommitTxRunMessage;
+import static org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage.unmanagedTxRunMessage;
 import static org.neo4j.driver.internal.util.Iterables.single;
 import static org.neo4j.driver.util.DaemonThreadFactory.daemon;
 import static org.neo4j.driver.util.TestUtil.DEFAULT_TEST_PROTOCOL_VERSION;
@@ -87,6 +105,102 @@ class NetworkConnectionTest
         assertTrue( connection.isOpen() );
     }
 
+    @Test
+    void shouldObserveQueryExecutionsOnlyWithMetricsOrSlowQueryLogging()
+    {
+        Channel channel = newChannel();
+        ExtendedChannelPool pool = mock( ExtendedChannelPool.class );
+        SlowQueryLogger slowQueryLogger = new SlowQueryLogger( 1, 1, false, new FakeClock(), DEV_NULL_LOGGING );
+
+        assertFalse( newConnection( channel ).isQueryExecutionObserved() );
+        assertTrue( new NetworkConnection( channel, pool, new FakeClock(), mock( MetricsListener.class ), SlowQueryLogger.DISABLED, DEV_NULL_LOGGING )
+                            .isQueryExecutionObserved() );
+        assertTrue( new NetworkConnection( channel, pool, new FakeClock(), DevNullMetricsListener.INSTANCE, slowQueryLogger, DEV_NULL_LOGGING )
+                            .isQueryExecutionObserved() );
+    }
+
+    @Test
+    void shouldReportAcquisitionTimeOnlyForFirstQuery()
+    {
+        Channel channel = newChannel();
+        ChannelAttributes.setAcquisitionNanos( channel, 42 );
+        SlowQueryLogger slowQueryLogger = mock( SlowQueryLogger.class );
+        NetworkConnection connection =
+                new NetworkConnection( channel, mock( ExtendedChannelPool.class ), new FakeClock(), DevNullMetricsListener.INSTANCE, slowQueryLogger,
+                                       DEV_NULL_LOGGING );
+        QueryExecution first = new QueryExecution( true, 1, 2, 3, 4, 5, 6 );
+        QueryExecution second = new QueryExecution( true, 1, 2, 3, 4, 5, 6 );
+
+        connection.afterQueryCompleted( first );
+        connection.afterQueryCompleted( second );
+
+        verify( slowQueryLogger ).afterQueryCompleted( first, connection.serverAddress(), 42 );
+        verify( slowQueryLogger ).afterQueryCompleted( second, connection.serverAddress(), -1 );
+    }
+
+    @Test
+    void shouldTrackInFlightQueryUntilResultCompleted()
+    {
+        EmbeddedChannel channel = newChannel();
+        NetworkConnection connection = newConnection( channel );
+
+        connection.write( autoCommitTxRunMessage( new Query( "RETURN 1" ), TransactionConfig.empty(), database( "foo" ), WRITE, emptySet(), null ),
+                          NO_OP_HANDLER );
+
+        InFlightQuery inFlightQuery = ChannelAttributes.inFlightQuery( channel );
+        assertEquals( "RETURN 1", inFlightQuery.query() );
+        assertEquals( "foo", inFlightQuery.database() );
+
+        connection.afterResultCompleted();
+
+        assertNull( ChannelAttributes.inFlightQuery( channel ) );
+    }
+
+    @Test
+    void shouldClearInFlightQueryOnRelease()
+    {
+        EmbeddedChannel channel = newChannel();
+        NetworkConnection connection = newConnection( channel );
+        connection.write( unmanagedTxRunMessage( new Query( "RETURN 1" ) ), NO_OP_HANDLER );
+        assertNotNull( ChannelAttributes.inFlightQuery( channel ) );
+
+        connection.release();
+
+        assertNull( ChannelAttributes.inFlightQuery( channel ) );
+    }
+
+    @Test
+    void shouldReportBeginDatabaseForQueriesInExplicitTransaction()
+    {
+        EmbeddedChannel channel = newChannel();
+        NetworkConnection connection = newConnection( channel );
+
+        connection.write( new BeginMessage( emptySet(), TransactionConfig.empty(), database( "foo" ), WRITE, null ), NO_OP_HANDLER );
+        connection.write( unmanagedTxRunMessage( new Query( "RETURN 1" ) ), NO_OP_HANDLER );
+
+        assertEquals( "foo", ChannelAttributes.inFlightQuery( channel ).database() );
+    }
+
+    @Test
+    void shouldForgetBeginDatabaseWhenTransactionEnds()
+    {
+        for ( Message transactionEnd : asList( COMMIT, ROLLBACK ) )
+        {
+            EmbeddedChannel channel = newChannel();
+            NetworkConnection connection = newConnection( channel );
+            connection.write( new BeginMessage( emptySet(), TransactionConfig.empty(), database( "foo" ), WRITE, null ), NO_OP_HANDLER );
+            connection.write( unmanagedTxRunMessage( new Query( "RETURN 1" ) ), NO_OP_HANDLER );
+            connection.write( transactionEnd, NO_OP_HANDLER );
+
+            connection.write( autoCommitTxRunMessage( new Query( "RETURN 2" ), TransactionConfig.empty(), defaultDatabase(), WRITE, emptySet(), null ),
+                              NO_OP_HANDLER );
+
+            InFlightQuery inFlightQuery = ChannelAttributes.inFlightQuery( channel );
+            assertEquals( "RETURN 2", inFlightQuery.query() );
+            assertNull( inFlightQuery.database() );
+        }
+    }
+
     @Test
     void shouldNotBeOpenAfterRelease()
     {
@@ -630,7 +744,7 @@ class NetworkConnectionTest
 
     private static NetworkConnection newConnection( Channel channel, ExtendedChannelPool pool )
     {
-        return new NetworkConnection( channel, pool, new FakeClock(), DevNullMetricsListener.INSTANCE, DEV_NULL_LOGGING );
+        return new NetworkConnection( channel, pool, new FakeClock(), DevNullMetricsListener.INSTANCE, SlowQueryLogger.DISABLED, DEV_NULL_LOGGING );
     }
 
     private static void assertConnectionReleasedError( IllegalStateException e )
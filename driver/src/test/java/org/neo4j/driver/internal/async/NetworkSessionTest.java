@@ -32,13 +32,18 @@ import org.neo4j.driver.Query;
 import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.DefaultBookmarksHolder;
 import org.neo4j.driver.internal.InternalBookmark;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizePolicy;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.request.PullMessage;
 import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
 import org.neo4j.driver.internal.messaging.v4.BoltProtocolV4;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
+import org.neo4j.driver.internal.util.FixedRetryLogic;
+import org.neo4j.driver.tracing.DriverTracer;
+import org.neo4j.driver.tracing.InMemoryTracer;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.hamcrest.CoreMatchers.containsString;
@@ -61,6 +66,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.AccessMode.READ;
 import static org.neo4j.driver.AccessMode.WRITE;
+import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.util.Futures.failedFuture;
 import static org.neo4j.driver.util.TestUtil.await;
 import static org.neo4j.driver.util.TestUtil.connectionMock;
@@ -215,6 +222,27 @@ class NetworkSessionTest
         verify( connectionProvider, never() ).acquireConnection( any( ConnectionContext.class ) );
     }
 
+    @Test
+    void tracesSessionConnectionAcquisitionAndRun()
+    {
+        InMemoryTracer tracer = new InMemoryTracer();
+        NetworkSession session = new NetworkSession( connectionProvider, new FixedRetryLogic( 0 ), defaultDatabase(), WRITE, new DefaultBookmarksHolder(),
+                                                     null, FetchSizePolicy.UNLIMITED, 0, DEV_NULL_LOGGING, tracer );
+        String query = "RETURN 1";
+        setupSuccessfulRunAndPull( connection, query );
+
+        run( session, query );
+        close( session );
+
+        InMemoryTracer.Span sessionSpan = tracer.endedSpans( DriverTracer.SESSION ).get( 0 );
+        assertEquals( "WRITE", sessionSpan.attributes().get( "access.mode" ) );
+        assertEquals( sessionSpan, tracer.endedSpans( DriverTracer.CONNECTION_ACQUISITION ).get( 0 ).parent() );
+        InMemoryTracer.Span runSpan = tracer.endedSpans( DriverTracer.RUN ).get( 0 );
+        assertEquals( sessionSpan, runSpan.parent() );
+        assertEquals( query, runSpan.attributes().get( "db.statement" ) );
+        assertEquals( 1, tracer.endedSpans( DriverTracer.PULL ).size() );
+    }
+
     @Test
     void acquiresNewConnectionForBeginTx()
     {
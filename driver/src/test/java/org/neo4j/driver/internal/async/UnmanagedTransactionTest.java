@@ -42,6 +42,7 @@ import org.neo4j.driver.exceptions.ConnectionReadTimeoutException;
 import org.neo4j.driver.internal.DefaultBookmarksHolder;
 import org.neo4j.driver.internal.FailableCursor;
 import org.neo4j.driver.internal.InternalBookmark;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizePolicy;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.v4.BoltProtocolV4;
 import org.neo4j.driver.internal.spi.Connection;
@@ -67,7 +68,6 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
 import static org.neo4j.driver.util.TestUtil.assertNoCircularReferences;
 import static org.neo4j.driver.util.TestUtil.await;
 import static org.neo4j.driver.util.TestUtil.beginMessage;
@@ -185,7 +185,7 @@ class UnmanagedTransactionTest
     {
         RuntimeException error = new RuntimeException( "Wrong bookmark!" );
         Connection connection = connectionWithBegin( handler -> handler.onFailure( error ) );
-        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), UNLIMITED_FETCH_SIZE );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), FetchSizePolicy.UNLIMITED );
 
         Set<Bookmark> bookmarks = Collections.singleton( InternalBookmark.parse( "SomeBookmark" ) );
         TransactionConfig txConfig = TransactionConfig.empty();
@@ -200,7 +200,7 @@ class UnmanagedTransactionTest
     void shouldNotReleaseConnectionWhenBeginSucceeds()
     {
         Connection connection = connectionWithBegin( handler -> handler.onSuccess( emptyMap() ) );
-        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), UNLIMITED_FETCH_SIZE );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), FetchSizePolicy.UNLIMITED );
 
         Set<Bookmark> bookmarks = Collections.singleton( InternalBookmark.parse( "SomeBookmark" ) );
         TransactionConfig txConfig = TransactionConfig.empty();
@@ -214,7 +214,7 @@ class UnmanagedTransactionTest
     void shouldReleaseConnectionWhenTerminatedAndCommitted()
     {
         Connection connection = connectionMock();
-        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), UNLIMITED_FETCH_SIZE );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), FetchSizePolicy.UNLIMITED );
 
         tx.markTerminated( null );
 
@@ -230,7 +230,7 @@ class UnmanagedTransactionTest
         Connection connection = connectionMock();
         ClientException terminationCause = new ClientException( "Custom exception" );
         ResultCursorsHolder resultCursorsHolder = mockResultCursorWith( terminationCause );
-        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), UNLIMITED_FETCH_SIZE, resultCursorsHolder );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), FetchSizePolicy.UNLIMITED, resultCursorsHolder );
 
         tx.markTerminated( terminationCause );
 
@@ -245,7 +245,7 @@ class UnmanagedTransactionTest
         Connection connection = connectionMock();
         ClientException terminationCause = new ClientException( "Custom exception" );
         ResultCursorsHolder resultCursorsHolder = mockResultCursorWith( new ClientException( "Cursor error" ) );
-        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), UNLIMITED_FETCH_SIZE, resultCursorsHolder );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), FetchSizePolicy.UNLIMITED, resultCursorsHolder );
 
         tx.markTerminated( terminationCause );
 
@@ -262,7 +262,7 @@ class UnmanagedTransactionTest
     {
         Connection connection = connectionMock();
         ClientException terminationCause = new ClientException( "Custom exception" );
-        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), UNLIMITED_FETCH_SIZE );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), FetchSizePolicy.UNLIMITED );
 
         tx.markTerminated( terminationCause );
 
@@ -276,7 +276,7 @@ class UnmanagedTransactionTest
     void shouldReleaseConnectionWhenTerminatedAndRolledBack()
     {
         Connection connection = connectionMock();
-        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), UNLIMITED_FETCH_SIZE );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), FetchSizePolicy.UNLIMITED );
 
         tx.markTerminated( null );
         await( tx.rollbackAsync() );
@@ -288,7 +288,7 @@ class UnmanagedTransactionTest
     void shouldReleaseConnectionWhenClose() throws Throwable
     {
         Connection connection = connectionMock();
-        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), UNLIMITED_FETCH_SIZE );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), FetchSizePolicy.UNLIMITED );
 
         await( tx.closeAsync() );
 
@@ -300,7 +300,7 @@ class UnmanagedTransactionTest
     {
         AuthorizationExpiredException exception = new AuthorizationExpiredException( "code", "message" );
         Connection connection = connectionWithBegin( handler -> handler.onFailure( exception ) );
-        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), UNLIMITED_FETCH_SIZE );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), FetchSizePolicy.UNLIMITED );
         Set<Bookmark> bookmarks = Collections.singleton( InternalBookmark.parse( "SomeBookmark" ) );
         TransactionConfig txConfig = TransactionConfig.empty();
 
@@ -316,7 +316,7 @@ class UnmanagedTransactionTest
     void shouldReleaseConnectionOnConnectionReadTimeoutExceptionFailure()
     {
         Connection connection = connectionWithBegin( handler -> handler.onFailure( ConnectionReadTimeoutException.INSTANCE ) );
-        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), UNLIMITED_FETCH_SIZE );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), FetchSizePolicy.UNLIMITED );
         Set<Bookmark> bookmarks = Collections.singleton( InternalBookmark.parse( "SomeBookmark" ) );
         TransactionConfig txConfig = TransactionConfig.empty();
 
@@ -349,7 +349,7 @@ class UnmanagedTransactionTest
         BoltProtocol protocol = mock( BoltProtocol.class );
         given( connection.protocol() ).willReturn( protocol );
         given( protocolCommit ? protocol.commitTransaction( connection ) : protocol.rollbackTransaction( connection ) ).willReturn( new CompletableFuture<>() );
-        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), UNLIMITED_FETCH_SIZE );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), FetchSizePolicy.UNLIMITED );
 
         CompletionStage<Void> initialStage = mapTransactionAction( initialAction, tx ).get();
         CompletionStage<Void> similarStage = mapTransactionAction( similarAction, tx ).get();
@@ -393,7 +393,7 @@ class UnmanagedTransactionTest
         given( connection.protocol() ).willReturn( protocol );
         given( protocolCommit ? protocol.commitTransaction( connection ) : protocol.rollbackTransaction( connection ) )
                 .willReturn( protocolActionCompleted ? completedFuture( null ) : new CompletableFuture<>() );
-        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), UNLIMITED_FETCH_SIZE );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), FetchSizePolicy.UNLIMITED );
 
         CompletionStage<Void> originalActionStage = mapTransactionAction( initialAction, tx ).get();
         CompletionStage<Void> conflictingActionStage = mapTransactionAction( conflictingAction, tx ).get();
@@ -437,7 +437,7 @@ class UnmanagedTransactionTest
         given( connection.protocol() ).willReturn( protocol );
         given( protocolCommit ? protocol.commitTransaction( connection ) : protocol.rollbackTransaction( connection ) )
                 .willReturn( completedFuture( null ) );
-        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), UNLIMITED_FETCH_SIZE );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), FetchSizePolicy.UNLIMITED );
 
         CompletionStage<Void> originalActionStage = mapTransactionAction( originalAction, tx ).get();
         CompletionStage<Void> closeStage = commitOnClose != null ? tx.closeAsync( commitOnClose ) : tx.closeAsync();
@@ -462,7 +462,7 @@ class UnmanagedTransactionTest
 
     private static UnmanagedTransaction beginTx( Connection connection, Set<Bookmark> initialBookmarks )
     {
-        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), UNLIMITED_FETCH_SIZE );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarksHolder(), FetchSizePolicy.UNLIMITED );
         return await( tx.beginAsync( initialBookmarks, TransactionConfig.empty() ) );
     }
 
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 
 import org.neo4j.driver.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -80,7 +81,7 @@ class ChannelConnectedListenerTest
 
     private static ChannelConnectedListener newListener( ChannelPromise handshakeCompletedPromise )
     {
-        return new ChannelConnectedListener( LOCAL_DEFAULT, new ChannelPipelineBuilderImpl(),
+        return new ChannelConnectedListener( LOCAL_DEFAULT, new ChannelPipelineBuilderImpl( DevNullMetricsListener.INSTANCE ),
                 handshakeCompletedPromise, DEV_NULL_LOGGING );
     }
 }
@@ -19,7 +19,9 @@
 package org.neo4j.driver.internal.async.connection;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import org.neo4j.driver.internal.metrics.QueryExecution;
 import org.neo4j.driver.internal.spi.Connection;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -27,6 +29,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 import static org.neo4j.driver.AccessMode.READ;
+import static org.neo4j.driver.internal.DatabaseNameUtil.database;
 import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
 
 public class DirectConnectionTest
@@ -47,4 +50,22 @@ public class DirectConnectionTest
         assertEquals( agent, actualAgent );
         then( connection ).should().serverAgent();
     }
+
+    @Test
+    void shouldTagQueryExecutionWithDatabaseAndMode()
+    {
+        // given
+        Connection connection = mock( Connection.class );
+        DirectConnection directConnection = new DirectConnection( connection, database( "neo4j" ), READ, null );
+        ArgumentCaptor<QueryExecution> captor = ArgumentCaptor.forClass( QueryExecution.class );
+
+        // when
+        directConnection.afterQueryCompleted( new QueryExecution( true, 1, 2, 3, 4, 5, 6 ) );
+
+        // then
+        then( connection ).should().afterQueryCompleted( captor.capture() );
+        assertEquals( "neo4j", captor.getValue().database() );
+        assertEquals( "READ", captor.getValue().accessMode() );
+        assertEquals( 5, captor.getValue().records() );
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.connection;
+
+import io.netty.channel.EventLoopGroup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntSupplier;
+
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.internal.metrics.MetricsListener;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventLoopMonitorTest
+{
+    private final MetricsListener metricsListener = mock( MetricsListener.class );
+    private final Logger log = mock( Logger.class );
+    private final Logging logging = mock( Logging.class );
+    private EventLoopGroup eventLoopGroup;
+
+    @BeforeEach
+    void setUp()
+    {
+        when( logging.getLog( any( Class.class ) ) ).thenReturn( log );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        if ( eventLoopGroup != null )
+        {
+            eventLoopGroup.shutdownGracefully( 0, 0, SECONDS ).syncUninterruptibly();
+        }
+    }
+
+    @Test
+    void shouldRegisterAndProbeAllEventLoops()
+    {
+        eventLoopGroup = EventLoopGroupFactory.newEventLoopGroup( 2 );
+
+        new EventLoopMonitor( eventLoopGroup, metricsListener, 10, 0, logging ).start();
+
+        verify( metricsListener, timeout( 10_000 ).times( 2 ) ).registerEventLoopMetrics( startsWith( "Neo4jDriverIO" ), any( IntSupplier.class ),
+                                                                                          any( IntSupplier.class ) );
+        verify( metricsListener, timeout( 10_000 ).atLeast( 4 ) ).afterEventLoopProbe( startsWith( "Neo4jDriverIO" ), anyLong() );
+        verify( metricsListener, never() ).afterEventLoopBlocked( anyString() );
+    }
+
+    @Test
+    void shouldLogStackTraceOfBlockedEventLoop()
+    {
+        eventLoopGroup = EventLoopGroupFactory.newEventLoopGroup( 1 );
+        new EventLoopMonitor( eventLoopGroup, metricsListener, 10, 50, logging ).start();
+        verify( metricsListener, timeout( 10_000 ) ).afterEventLoopProbe( anyString(), anyLong() );
+
+        CountDownLatch latch = new CountDownLatch( 1 );
+        eventLoopGroup.execute( () -> awaitUninterruptibly( latch ) );
+
+        verify( metricsListener, timeout( 10_000 ) ).afterEventLoopBlocked( startsWith( "Neo4jDriverIO" ) );
+        ArgumentCaptor<Object> stackTrace = ArgumentCaptor.forClass( Object.class );
+        verify( log, timeout( 10_000 ) ).warn( startsWith( "Event loop thread %s is blocked" ), any(), any(), any(), stackTrace.capture() );
+        assertThat( stackTrace.getValue().toString(), containsString( "awaitUninterruptibly" ) );
+
+        latch.countDown();
+
+        verify( log, timeout( 10_000 ) ).info( startsWith( "Event loop thread %s is no longer blocked" ), any(), any() );
+        verify( metricsListener, times( 1 ) ).afterEventLoopBlocked( anyString() );
+    }
+
+    @Test
+    void shouldRemoveMetricsWhenEventLoopGroupTerminates()
+    {
+        eventLoopGroup = EventLoopGroupFactory.newEventLoopGroup( 1 );
+        new EventLoopMonitor( eventLoopGroup, metricsListener, 10, 50, logging ).start();
+        verify( metricsListener, timeout( 10_000 ) ).registerEventLoopMetrics( anyString(), any( IntSupplier.class ), any( IntSupplier.class ) );
+
+        eventLoopGroup.shutdownGracefully( 0, 0, SECONDS ).syncUninterruptibly();
+
+        verify( metricsListener, timeout( 10_000 ) ).removeEventLoopMetrics( startsWith( "Neo4jDriverIO" ) );
+        verify( metricsListener, never() ).afterEventLoopBlocked( anyString() );
+    }
+
+    private static void awaitUninterruptibly( CountDownLatch latch )
+    {
+        try
+        {
+            latch.await( 30, SECONDS );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -50,6 +50,7 @@ import org.neo4j.driver.internal.messaging.v4.BoltProtocolV4;
 import org.neo4j.driver.internal.messaging.v4.MessageFormatV4;
 import org.neo4j.driver.internal.messaging.v41.BoltProtocolV41;
 import org.neo4j.driver.internal.messaging.v42.BoltProtocolV42;
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
 import org.neo4j.driver.internal.util.ErrorUtil;
 
 import static io.netty.buffer.Unpooled.copyInt;
@@ -288,7 +289,7 @@ class HandshakeHandlerTest
 
     private static HandshakeHandler newHandler( ChannelPromise handshakeCompletedPromise )
     {
-        return newHandler( new ChannelPipelineBuilderImpl(), handshakeCompletedPromise );
+        return newHandler( new ChannelPipelineBuilderImpl( DevNullMetricsListener.INSTANCE ), handshakeCompletedPromise );
     }
 
     private static HandshakeHandler newHandler( ChannelPipelineBuilder pipelineBuilder, ChannelPromise handshakeCompletedPromise )
@@ -300,6 +301,11 @@ class HandshakeHandlerTest
     {
         MessageFormat usedMessageFormat;
 
+        MemorizingChannelPipelineBuilder()
+        {
+            super( DevNullMetricsListener.INSTANCE );
+        }
+
         @Override
         public void build( MessageFormat messageFormat, ChannelPipeline pipeline, Logging logging )
         {
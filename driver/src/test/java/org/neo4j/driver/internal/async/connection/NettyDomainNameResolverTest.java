@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.connection;
+
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.neo4j.driver.internal.DomainNameResolver;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NettyDomainNameResolverTest
+{
+    @Test
+    void shouldNotBlockOnAsyncLookups() throws Exception
+    {
+        DomainNameResolver domainNameResolver = mock( DomainNameResolver.class );
+        CompletableFuture<InetAddress[]> lookup = new CompletableFuture<>();
+        when( domainNameResolver.resolveAsync( "neo4j" ) ).thenReturn( lookup );
+        NettyDomainNameResolver resolver = new NettyDomainNameResolver( ImmediateEventExecutor.INSTANCE, domainNameResolver );
+
+        Future<InetAddress> result = resolver.resolve( "neo4j" );
+
+        assertFalse( result.isDone() );
+        verify( domainNameResolver, never() ).resolve( anyString() );
+        InetAddress address = InetAddress.getByAddress( "neo4j", new byte[]{10, 0, 0, 1} );
+        lookup.complete( new InetAddress[]{address} );
+        assertEquals( address, result.getNow() );
+    }
+
+    @Test
+    void shouldFailWhenAsyncLookupFails()
+    {
+        DomainNameResolver domainNameResolver = mock( DomainNameResolver.class );
+        CompletableFuture<InetAddress[]> lookup = new CompletableFuture<>();
+        lookup.completeExceptionally( new UnknownHostException( "neo4j" ) );
+        when( domainNameResolver.resolveAsync( "neo4j" ) ).thenReturn( lookup );
+        NettyDomainNameResolver resolver = new NettyDomainNameResolver( ImmediateEventExecutor.INSTANCE, domainNameResolver );
+
+        Future<List<InetAddress>> result = resolver.resolveAll( "neo4j" );
+
+        assertTrue( result.isDone() );
+        assertThat( result.cause(), instanceOf( UnknownHostException.class ) );
+    }
+
+    @Test
+    void shouldResolveInlineWithBlockingResolvers() throws Exception
+    {
+        InetAddress address = InetAddress.getByAddress( "neo4j", new byte[]{10, 0, 0, 1} );
+        DomainNameResolver domainNameResolver = name -> new InetAddress[]{address};
+        NettyDomainNameResolver resolver = new NettyDomainNameResolver( ImmediateEventExecutor.INSTANCE, domainNameResolver );
+
+        assertEquals( singletonList( address ), resolver.resolveAll( "neo4j" ).getNow() );
+    }
+}
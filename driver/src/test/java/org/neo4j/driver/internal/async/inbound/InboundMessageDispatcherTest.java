@@ -28,8 +28,10 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 
+import java.lang.management.ManagementFactory;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.logging.Level;
 
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
@@ -49,16 +51,20 @@ import org.neo4j.driver.internal.value.IntegerValue;
 
 import static java.util.Collections.emptyMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -173,6 +179,39 @@ class InboundMessageDispatcherTest
         assertEquals( 1, dispatcher.queuedHandlersCount() );
     }
 
+    @Test
+    void shouldPassRecordSizeAndDecodeTimeBeforeRecord()
+    {
+        InboundMessageDispatcher dispatcher = newDispatcher();
+        ResponseHandler handler = mock( ResponseHandler.class );
+        dispatcher.enqueue( handler );
+        Value[] fields = {new IntegerValue( 1 )};
+
+        dispatcher.beforeInboundMessage( 42, System.nanoTime() );
+        dispatcher.handleRecordMessage( fields );
+
+        InOrder inOrder = inOrder( handler );
+        inOrder.verify( handler ).onRecordSize( 42 );
+        inOrder.verify( handler ).onRecordDecodeTime( longThat( nanos -> nanos >= 0 ) );
+        inOrder.verify( handler ).onRecord( fields );
+    }
+
+    @Test
+    void shouldNotPassDecodeTimeWhenDecodingIsNotTimed()
+    {
+        InboundMessageDispatcher dispatcher = newDispatcher();
+        ResponseHandler handler = mock( ResponseHandler.class );
+        dispatcher.enqueue( handler );
+        Value[] fields = {new IntegerValue( 1 )};
+
+        dispatcher.beforeInboundMessage( 42, -1 );
+        dispatcher.handleRecordMessage( fields );
+
+        verify( handler ).onRecordSize( 42 );
+        verify( handler, never() ).onRecordDecodeTime( anyLong() );
+        verify( handler ).onRecord( fields );
+    }
+
     @Test
     void shouldFailAllHandlersOnChannelError()
     {
@@ -286,6 +325,20 @@ class InboundMessageDispatcherTest
         verifyFailure( handler2 );
     }
 
+    @Test
+    void shouldSkipRecordMessagesWhenHandlerDiscardsRecords()
+    {
+        InboundMessageDispatcher dispatcher = newDispatcher();
+        assertFalse( dispatcher.skipRecordMessage() );
+
+        ResponseHandler handler = mock( ResponseHandler.class );
+        dispatcher.enqueue( handler );
+        assertFalse( dispatcher.skipRecordMessage() );
+
+        when( handler.isDiscardingRecords() ).thenReturn( true );
+        assertTrue( dispatcher.skipRecordMessage() );
+    }
+
     @Test
     void shouldThrowWhenNoHandlerToHandleRecordMessage()
     {
@@ -437,7 +490,49 @@ class InboundMessageDispatcherTest
         // THEN
         assertTrue( dispatcher.getLog() instanceof ChannelActivityLogger );
         assertTrue( dispatcher.getErrorLog() instanceof ChannelErrorLogger );
-        verify( errorLogger ).debug( contains( throwable.getClass().toString() ) );
+        verify( (Logger) errorLogger ).debug( contains( throwable.getClass().toString() ) );
+    }
+
+    @Test
+    void shouldNotAllocateWhenDispatchingRecordsAndSuccessWithDebugLoggingDisabled()
+    {
+        assumeTrue( ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean );
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue( threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled() );
+
+        InboundMessageDispatcher dispatcher = new InboundMessageDispatcher( newChannelMock(), Logging.console( Level.INFO ) );
+        CountingResponseHandler handler = new CountingResponseHandler();
+        Value[] fields = Values.values( 1, "a" );
+        Map<String,Value> metadata = emptyMap();
+        int iterations = 10_000;
+
+        // warm up so that class loading and compilation do not count as allocations of the dispatcher
+        dispatchRecordsAndSuccess( dispatcher, handler, fields, metadata, iterations );
+
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes( threadId );
+        dispatchRecordsAndSuccess( dispatcher, handler, fields, metadata, iterations );
+        long allocated = threadMXBean.getThreadAllocatedBytes( threadId ) - allocatedBefore;
+
+        assertEquals( 2 * iterations * 10, handler.records );
+        assertEquals( 2 * iterations, handler.successes );
+        // a single allocation per message would be at least 16 bytes, allow for allocations of the measurement itself
+        assertTrue( allocated < 1024, "Expected no allocations in the steady state, but " + allocated + " bytes were allocated" );
+    }
+
+    private static void dispatchRecordsAndSuccess( InboundMessageDispatcher dispatcher, ResponseHandler handler, Value[] fields,
+                                                   Map<String,Value> metadata, int iterations )
+    {
+        for ( int i = 0; i < iterations; i++ )
+        {
+            dispatcher.enqueue( handler );
+            for ( int j = 0; j < 10; j++ )
+            {
+                dispatcher.beforeInboundMessage( 16, -1 );
+                dispatcher.handleRecordMessage( fields );
+            }
+            dispatcher.handleSuccessMessage( metadata );
+        }
     }
 
     private static void verifyFailure( ResponseHandler handler )
@@ -476,4 +571,28 @@ class InboundMessageDispatcherTest
         when( handler.canManageAutoRead() ).thenReturn( true );
         return handler;
     }
+
+    private static class CountingResponseHandler implements ResponseHandler
+    {
+        long records;
+        long successes;
+
+        @Override
+        public void onSuccess( Map<String,Value> metadata )
+        {
+            successes++;
+        }
+
+        @Override
+        public void onFailure( Throwable error )
+        {
+            throw new AssertionError( error );
+        }
+
+        @Override
+        public void onRecord( Value[] fields )
+        {
+            records++;
+        }
+    }
 }
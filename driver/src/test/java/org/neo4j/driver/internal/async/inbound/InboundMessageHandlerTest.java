@@ -70,7 +70,7 @@ class InboundMessageHandlerTest
         writer = new MessageToByteBufWriter( new KnowledgeableMessageFormat( false ) );
         ChannelAttributes.setMessageDispatcher( channel, messageDispatcher );
 
-        InboundMessageHandler handler = new InboundMessageHandler( new MessageFormatV3(), DEV_NULL_LOGGING );
+        InboundMessageHandler handler = new InboundMessageHandler( new MessageFormatV3(), DEV_NULL_LOGGING, false );
         channel.pipeline().addFirst( handler );
     }
 
@@ -142,7 +142,7 @@ class InboundMessageHandlerTest
         doThrow( error ).when( reader ).read( any() );
         when( messageFormat.newReader( any() ) ).thenReturn( reader );
 
-        InboundMessageHandler handler = new InboundMessageHandler( messageFormat, DEV_NULL_LOGGING );
+        InboundMessageHandler handler = new InboundMessageHandler( messageFormat, DEV_NULL_LOGGING, false );
 
         channel.pipeline().remove( InboundMessageHandler.class );
         channel.pipeline().addLast( handler );
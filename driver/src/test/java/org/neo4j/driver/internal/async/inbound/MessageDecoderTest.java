@@ -22,15 +22,22 @@ import io.netty.channel.embedded.EmbeddedChannel;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import org.neo4j.driver.internal.messaging.response.RecordMessage;
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
+import org.neo4j.driver.internal.metrics.MetricsListener;
+
 import static io.netty.buffer.Unpooled.wrappedBuffer;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setPoolId;
 import static org.neo4j.driver.util.TestUtil.assertByteBufEquals;
 
 class MessageDecoderTest
 {
-    private final EmbeddedChannel channel = new EmbeddedChannel( new MessageDecoder() );
+    private final EmbeddedChannel channel = new EmbeddedChannel( new MessageDecoder( DevNullMetricsListener.INSTANCE ) );
 
     @AfterEach
     void tearDown()
@@ -81,4 +88,20 @@ class MessageDecoderTest
         assertByteBufEquals( wrappedBuffer( new byte[]{4, 5, 6} ), channel.readInbound() );
         assertByteBufEquals( wrappedBuffer( new byte[]{7, 8, 9, 10} ), channel.readInbound() );
     }
+
+    @Test
+    void shouldReportReceivedMessagesOfPooledChannels()
+    {
+        MetricsListener metricsListener = mock( MetricsListener.class );
+        EmbeddedChannel pooledChannel = new EmbeddedChannel( new MessageDecoder( metricsListener ) );
+        setPoolId( pooledChannel, "pool" );
+
+        pooledChannel.writeInbound( wrappedBuffer( new byte[]{(byte) 0xB1, RecordMessage.SIGNATURE, 1} ) );
+        pooledChannel.writeInbound( wrappedBuffer( new byte[]{2, 3} ) );
+        pooledChannel.writeInbound( wrappedBuffer( new byte[0] ) );
+        pooledChannel.finishAndReleaseAll();
+
+        // 5 bytes of content, two chunk headers and the message boundary
+        verify( metricsListener ).afterMessageReceived( "pool", RecordMessage.SIGNATURE, 11, 2 );
+    }
 }
@@ -27,6 +27,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.neo4j.driver.util.TestUtil.assertByteBufContains;
@@ -110,6 +111,7 @@ class ChunkAwareByteBufOutputTest
                 (short) 3, (byte) 5, (byte) 3, (byte) -5, // chunk 1
                 (short) 1, (byte) 42 // chunk 2
         );
+        assertEquals( 2, output.chunkCount() );
     }
 
     @ParameterizedTest
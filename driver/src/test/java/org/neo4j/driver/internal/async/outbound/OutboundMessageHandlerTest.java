@@ -35,7 +35,10 @@ import org.neo4j.driver.internal.async.connection.ChannelAttributes;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.request.PullAllMessage;
 import org.neo4j.driver.internal.messaging.v3.MessageFormatV3;
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.packstream.PackOutput;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -43,6 +46,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.Values.value;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
@@ -100,6 +105,31 @@ class OutboundMessageHandlerTest
         assertTrue( channel.finish() );
     }
 
+    @Test
+    void shouldReportSentMessagesAndFlushesOfPooledChannels()
+    {
+        MetricsListener metricsListener = mock( MetricsListener.class );
+        channel.pipeline().addLast( new OutboundMessageHandler( mockMessageFormatWithWriter( 1, 2, 3 ), DEV_NULL_LOGGING, metricsListener ) );
+        ChannelAttributes.setPoolId( channel, "pool" );
+
+        channel.writeAndFlush( PULL_ALL );
+
+        // chunk header, 3 bytes of content and the message boundary
+        verify( metricsListener ).afterMessageSent( "pool", PullAllMessage.SIGNATURE, 7, 1 );
+        verify( metricsListener ).afterFlush( "pool" );
+    }
+
+    @Test
+    void shouldNotReportMessagesOfChannelsWithoutPool()
+    {
+        MetricsListener metricsListener = mock( MetricsListener.class );
+        channel.pipeline().addLast( new OutboundMessageHandler( mockMessageFormatWithWriter( 1, 2, 3 ), DEV_NULL_LOGGING, metricsListener ) );
+
+        channel.writeAndFlush( PULL_ALL );
+
+        verifyNoInteractions( metricsListener );
+    }
+
     private static MessageFormat mockMessageFormatWithWriter( final int... bytesToWrite )
     {
         MessageFormat messageFormat = mock( MessageFormat.class );
@@ -131,6 +161,6 @@ class OutboundMessageHandlerTest
 
     private static OutboundMessageHandler newHandler( MessageFormat messageFormat )
     {
-        return new OutboundMessageHandler( messageFormat, DEV_NULL_LOGGING );
+        return new OutboundMessageHandler( messageFormat, DEV_NULL_LOGGING , DevNullMetricsListener.INSTANCE );
     }
 }
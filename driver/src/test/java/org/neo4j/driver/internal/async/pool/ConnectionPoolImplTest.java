@@ -20,14 +20,26 @@ package org.neo4j.driver.internal.async.pool;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 
+import org.neo4j.driver.diagnostics.ConnectionPoolDiagnostics;
+import org.neo4j.driver.diagnostics.DriverDiagnostics;
+import org.neo4j.driver.diagnostics.EventLoopDiagnostics;
+import org.neo4j.driver.diagnostics.InFlightQueryDiagnostics;
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.diagnostics.DiagnosticsCollector;
+import org.neo4j.driver.internal.diagnostics.InFlightQuery;
 import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.util.FakeClock;
 
 import static java.util.Arrays.asList;
@@ -36,12 +48,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.internal.BoltServerAddress.LOCAL_DEFAULT;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.authorizationStateListener;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setConnectionId;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setInFlightQuery;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setServerAddress;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+import static org.neo4j.driver.internal.util.Iterables.single;
 
 class ConnectionPoolImplTest
 {
@@ -132,6 +149,87 @@ class ConnectionPoolImplTest
         assertEquals( nettyChannelHealthChecker, authorizationStateListener( channel ) );
     }
 
+    @Test
+    void shouldReportWhetherAcquiredConnectionIsNew() throws ExecutionException, InterruptedException
+    {
+        NettyChannelTracker nettyChannelTracker = mock( NettyChannelTracker.class );
+        MetricsListener metricsListener = mock( MetricsListener.class );
+        TestConnectionPool pool = new TestConnectionPool( mock( Bootstrap.class ), nettyChannelTracker, mock( NettyChannelHealthChecker.class ),
+                                                          newSettings(), metricsListener, DEV_NULL_LOGGING, new FakeClock(), true );
+
+        pool.acquire( ADDRESS_1 ).toCompletableFuture().get();
+
+        verify( metricsListener ).afterAcquiredConnection( pool.getPool( ADDRESS_1 ).id(), true );
+    }
+
+    @Test
+    void shouldCollectDiagnostics() throws ExecutionException, InterruptedException
+    {
+        EventLoopGroup eventLoopGroup = new DefaultEventLoopGroup( 2 );
+        try
+        {
+            NettyChannelTracker nettyChannelTracker = mock( NettyChannelTracker.class );
+            TestConnectionPool pool = new TestConnectionPool( new Bootstrap().group( eventLoopGroup ), nettyChannelTracker,
+                                                              mock( NettyChannelHealthChecker.class ), newSettings(), DevNullMetricsListener.INSTANCE,
+                                                              DEV_NULL_LOGGING, new FakeClock(), true );
+            pool.acquire( ADDRESS_1 ).toCompletableFuture().get();
+
+            EventLoop eventLoop = eventLoopGroup.next();
+            Channel queryingChannel = newChannel( eventLoop, "bolt-1" );
+            setInFlightQuery( queryingChannel, new InFlightQuery( "RETURN 1", "foo", System.nanoTime() ) );
+            Channel idleChannel = newChannel( eventLoop, "bolt-2" );
+            when( nettyChannelTracker.channels() ).thenReturn( new HashSet<>( asList( queryingChannel, idleChannel ) ) );
+            when( nettyChannelTracker.inUseChannelCount( ADDRESS_1 ) ).thenReturn( 1 );
+            when( nettyChannelTracker.idleChannelCount( ADDRESS_1 ) ).thenReturn( 1 );
+
+            DiagnosticsCollector collector = new DiagnosticsCollector( new FakeClock() );
+            pool.collectDiagnostics( collector );
+            DriverDiagnostics diagnostics = collector.snapshot();
+
+            ConnectionPoolDiagnostics connectionPool = single( diagnostics.connectionPools() );
+            assertEquals( ADDRESS_1.toString(), connectionPool.address() );
+            assertEquals( 1, connectionPool.inUse() );
+            assertEquals( 1, connectionPool.idle() );
+
+            InFlightQueryDiagnostics inFlightQuery = single( diagnostics.inFlightQueries() );
+            assertEquals( "RETURN 1", inFlightQuery.query() );
+            assertEquals( "foo", inFlightQuery.database() );
+            assertEquals( ADDRESS_1.toString(), inFlightQuery.address() );
+            assertEquals( "bolt-1", inFlightQuery.connectionId() );
+
+            List<EventLoopDiagnostics> eventLoops = diagnostics.eventLoops();
+            assertEquals( 2, eventLoops.size() );
+            assertEquals( 2, eventLoops.stream().mapToInt( EventLoopDiagnostics::connections ).sum() );
+            assertTrue( eventLoops.stream().allMatch( loop -> loop.pendingTasks() >= 0 ) );
+        }
+        finally
+        {
+            eventLoopGroup.shutdownGracefully().syncUninterruptibly();
+        }
+    }
+
+    @Test
+    void shouldNotCollectEventLoopDiagnosticsWhenEventLoopGroupIsNotOwned()
+    {
+        NettyChannelTracker nettyChannelTracker = mock( NettyChannelTracker.class );
+        TestConnectionPool pool = new TestConnectionPool( mock( Bootstrap.class ), nettyChannelTracker, mock( NettyChannelHealthChecker.class ),
+                                                          newSettings(), DevNullMetricsListener.INSTANCE, DEV_NULL_LOGGING, new FakeClock(), false );
+
+        DiagnosticsCollector collector = new DiagnosticsCollector( new FakeClock() );
+        pool.collectDiagnostics( collector );
+
+        assertTrue( collector.snapshot().eventLoops().isEmpty() );
+    }
+
+    private static Channel newChannel( EventLoop eventLoop, String connectionId )
+    {
+        EmbeddedChannel channel = spy( new EmbeddedChannel() );
+        when( channel.eventLoop() ).thenReturn( eventLoop );
+        setServerAddress( channel, ADDRESS_1 );
+        setConnectionId( channel, connectionId );
+        return channel;
+    }
+
     private static PoolSettings newSettings()
     {
         return new PoolSettings( 10, 5000, -1, -1 );
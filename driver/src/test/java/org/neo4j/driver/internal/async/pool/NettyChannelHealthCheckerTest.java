@@ -35,15 +35,26 @@ import org.neo4j.driver.Value;
 import org.neo4j.driver.exceptions.AuthorizationExpiredException;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.messaging.request.ResetMessage;
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
+import org.neo4j.driver.internal.metrics.ListenerEvent;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.util.Clock;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setCreationTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setLastUsedTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setMessageDispatcher;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setPoolId;
 import static org.neo4j.driver.internal.async.pool.PoolSettings.DEFAULT_CONNECTION_ACQUISITION_TIMEOUT;
 import static org.neo4j.driver.internal.async.pool.PoolSettings.DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST;
 import static org.neo4j.driver.internal.async.pool.PoolSettings.DEFAULT_MAX_CONNECTION_POOL_SIZE;
@@ -158,6 +169,42 @@ class NettyChannelHealthCheckerTest
         testPing( false );
     }
 
+    @Test
+    void shouldReportPingsToMetricsListener()
+    {
+        int idleTimeBeforeConnectionTest = 1000;
+        PoolSettings settings = new PoolSettings( DEFAULT_MAX_CONNECTION_POOL_SIZE,
+                DEFAULT_CONNECTION_ACQUISITION_TIMEOUT, NOT_CONFIGURED, idleTimeBeforeConnectionTest );
+        MetricsListener metricsListener = mock( MetricsListener.class );
+        ListenerEvent<?> healthCheckEvent = mock( ListenerEvent.class );
+        doReturn( healthCheckEvent ).when( metricsListener ).createListenerEvent();
+        NettyChannelHealthChecker healthChecker = new NettyChannelHealthChecker( settings, Clock.SYSTEM, DEV_NULL_LOGGING, metricsListener );
+        setPoolId( channel, "pool" );
+        setCreationTimestamp( channel, Clock.SYSTEM.millis() );
+        setLastUsedTimestamp( channel, Clock.SYSTEM.millis() - idleTimeBeforeConnectionTest * 2 );
+
+        Future<Boolean> healthy = healthChecker.isHealthy( channel );
+
+        verify( metricsListener ).beforeHealthCheck( "pool", healthCheckEvent );
+        verify( metricsListener, never() ).afterHealthCheck( any(), any(), anyBoolean() );
+        dispatcher.handleFailureMessage( "Neo.ClientError.General.Unknown", "Error!" );
+        assertThat( await( healthy ), is( false ) );
+        verify( metricsListener ).afterHealthCheck( "pool", healthCheckEvent, false );
+    }
+
+    @Test
+    void shouldNotReportActiveConnectionChecksToMetricsListener()
+    {
+        MetricsListener metricsListener = mock( MetricsListener.class );
+        PoolSettings settings = new PoolSettings( DEFAULT_MAX_CONNECTION_POOL_SIZE,
+                DEFAULT_CONNECTION_ACQUISITION_TIMEOUT, NOT_CONFIGURED, DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST );
+        NettyChannelHealthChecker healthChecker = new NettyChannelHealthChecker( settings, Clock.SYSTEM, DEV_NULL_LOGGING, metricsListener );
+        setCreationTimestamp( channel, Clock.SYSTEM.millis() );
+
+        assertThat( await( healthChecker.isHealthy( channel ) ), is( true ) );
+        verifyNoInteractions( metricsListener );
+    }
+
     @Test
     void shouldKeepActiveConnections()
     {
@@ -222,6 +269,6 @@ class NettyChannelHealthCheckerTest
 
     private NettyChannelHealthChecker newHealthChecker( PoolSettings settings, Clock clock )
     {
-        return new NettyChannelHealthChecker( settings, clock, DEV_NULL_LOGGING );
+        return new NettyChannelHealthChecker( settings, clock, DEV_NULL_LOGGING , DevNullMetricsListener.INSTANCE );
     }
 }
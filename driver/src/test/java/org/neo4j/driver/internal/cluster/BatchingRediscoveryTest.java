@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.neo4j.driver.Bookmark;
+import org.neo4j.driver.internal.DatabaseName;
+import org.neo4j.driver.internal.InternalBookmark;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.internal.util.FakeClock;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.internal.DatabaseNameUtil.database;
+import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
+import static org.neo4j.driver.internal.util.ClusterCompositionUtil.A;
+import static org.neo4j.driver.internal.util.ClusterCompositionUtil.B;
+import static org.neo4j.driver.internal.util.ClusterCompositionUtil.C;
+import static org.neo4j.driver.internal.util.ClusterCompositionUtil.createClusterComposition;
+import static org.neo4j.driver.util.TestUtil.await;
+
+class BatchingRediscoveryTest
+{
+    private static final Set<Bookmark> BAR_BOOKMARKS = Collections.singleton( InternalBookmark.parse( "neo4j:bookmark:v1:tx42" ) );
+
+    private final FakeClock clock = new FakeClock();
+    private final ConnectionPool pool = mock( ConnectionPool.class );
+    private final Rediscovery delegate = mock( Rediscovery.class );
+    private final Map<DatabaseName,RoutingTableHandler> handlers = new ConcurrentHashMap<>();
+
+    @Test
+    void shouldLookupSingleDatabaseWhenNoOtherTableNeedsRefresh()
+    {
+        RoutingTable table = routingTable( database( "foo" ), Long.MAX_VALUE );
+        routingTableHandler( database( "bar" ), Long.MAX_VALUE );
+        ClusterCompositionLookupResult result = new ClusterCompositionLookupResult( createClusterComposition( asList( A ), asList( B ), asList( C ) ) );
+        when( delegate.lookupClusterComposition( table, pool, Collections.emptySet(), null ) ).thenReturn( completedFuture( result ) );
+
+        BatchingRediscovery rediscovery = new BatchingRediscovery( delegate, handlers, clock );
+
+        assertSame( result, await( rediscovery.lookupClusterComposition( table, pool, Collections.emptySet(), null ) ) );
+        verify( delegate, never() ).lookupClusterCompositions( any(), any(), any(), any() );
+    }
+
+    @Test
+    void shouldBatchLookupOfStaleTablesAndUpdateTheirHandlers()
+    {
+        RoutingTable table = routingTable( database( "foo" ), clock.millis() - 1 );
+        RoutingTableHandler staleHandler = routingTableHandler( database( "bar" ), clock.millis() - 1 );
+        when( staleHandler.rediscoveryBookmarks() ).thenReturn( BAR_BOOKMARKS );
+        RoutingTableHandler expiringHandler = routingTableHandler( database( "baz" ), clock.millis() + 1 );
+        routingTableHandler( defaultDatabase(), clock.millis() - 1 );
+        routingTableHandler( database( "fresh" ), Long.MAX_VALUE );
+
+        ClusterComposition composition = createClusterComposition( asList( A ), asList( B ), asList( C ) );
+        ClusterComposition batchedComposition = createClusterComposition( asList( A ), asList( B ), asList( B, C ) );
+        ClusterCompositionLookupResult result =
+                new ClusterCompositionLookupResult( composition, null, singletonMap( database( "bar" ), batchedComposition ) );
+        when( delegate.lookupClusterCompositions( eq( table ), eq( pool ), any(), any() ) ).thenReturn( completedFuture( result ) );
+
+        BatchingRediscovery rediscovery = new BatchingRediscovery( delegate, handlers, clock );
+
+        assertSame( result, await( rediscovery.lookupClusterComposition( table, pool, Collections.emptySet(), null ) ) );
+        Map<DatabaseName,Set<Bookmark>> batchedDatabases = new HashMap<>();
+        batchedDatabases.put( database( "bar" ), BAR_BOOKMARKS );
+        batchedDatabases.put( database( "baz" ), Collections.emptySet() );
+        verify( delegate ).lookupClusterCompositions( eq( table ), eq( pool ), eq( Collections.emptySet() ), eq( batchedDatabases ) );
+        verify( staleHandler ).updateBatchedRoutingTable( batchedComposition );
+        verify( staleHandler, never() ).updateRoutingTable( any() );
+        verify( expiringHandler, never() ).updateBatchedRoutingTable( any() );
+    }
+
+    @Test
+    void shouldNotBatchImpersonatedLookups()
+    {
+        RoutingTable table = routingTable( database( "foo" ), clock.millis() - 1 );
+        routingTableHandler( database( "bar" ), clock.millis() - 1 );
+        ClusterCompositionLookupResult result = new ClusterCompositionLookupResult( createClusterComposition( asList( A ), asList( B ), asList( C ) ) );
+        when( delegate.lookupClusterComposition( table, pool, Collections.emptySet(), "user" ) ).thenReturn( completedFuture( result ) );
+
+        BatchingRediscovery rediscovery = new BatchingRediscovery( delegate, handlers, clock );
+
+        assertSame( result, await( rediscovery.lookupClusterComposition( table, pool, Collections.emptySet(), "user" ) ) );
+        verify( delegate, never() ).lookupClusterCompositions( any(), any(), any(), any() );
+    }
+
+    private RoutingTable routingTable( DatabaseName databaseName, long expirationTimestamp )
+    {
+        RoutingTable table = mock( RoutingTable.class );
+        when( table.database() ).thenReturn( databaseName );
+        when( table.expirationTimestamp() ).thenReturn( expirationTimestamp );
+        return table;
+    }
+
+    private RoutingTableHandler routingTableHandler( DatabaseName databaseName, long expirationTimestamp )
+    {
+        RoutingTable table = routingTable( databaseName, expirationTimestamp );
+        RoutingTableHandler handler = mock( RoutingTableHandler.class );
+        when( handler.routingTable() ).thenReturn( table );
+        when( handler.rediscoveryBookmarks() ).thenReturn( Collections.emptySet() );
+        handlers.put( databaseName, handler );
+        return handler;
+    }
+}
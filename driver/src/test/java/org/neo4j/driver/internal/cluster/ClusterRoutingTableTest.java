@@ -34,6 +34,7 @@ import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.driver.AccessMode.READ;
 import static org.neo4j.driver.AccessMode.WRITE;
@@ -275,6 +276,39 @@ class ClusterRoutingTableTest
         assertFalse( routingTable.preferInitialRouter() );
     }
 
+    @Test
+    void shouldPublishSnapshotOnEveryChange()
+    {
+        ClusterRoutingTable routingTable = newRoutingTable();
+        RoutingTableSnapshot initial = routingTable.snapshot();
+        assertEquals( routingTable.expirationTimestamp(), initial.expirationTimestamp() );
+
+        routingTable.update( createClusterComposition( asList( A, B ), asList( B, C ), asList( A, C ) ) );
+        RoutingTableSnapshot updated = routingTable.snapshot();
+        assertSnapshotOf( routingTable, updated );
+
+        routingTable.forget( B );
+        assertSnapshotOf( routingTable, routingTable.snapshot() );
+        assertEquals( asList( A, B ), updated.routers() );
+    }
+
+    @Test
+    void shouldShareAddressListsBetweenRoutingTablesUsingSameInterner()
+    {
+        ServerAddressInterner interner = new ServerAddressInterner();
+        ClusterRoutingTable table1 = new ClusterRoutingTable( database( "foo" ), new FakeClock(), interner );
+        ClusterRoutingTable table2 = new ClusterRoutingTable( database( "bar" ), new FakeClock(), interner );
+
+        table1.update( createClusterComposition( asList( A, B ), asList( C ), asList( D, E ) ) );
+        table2.update( createClusterComposition( asList( new BoltServerAddress( A.host(), A.port() ), B ), asList( C ), asList( new BoltServerAddress( D.host(), D.port() ), F ) ) );
+
+        assertSame( table1.routers(), table2.routers() );
+        assertSame( table1.writers(), table2.writers() );
+        assertSame( table1.readers().get( 0 ), table2.readers().get( 0 ) );
+        assertEquals( asList( D, E ), table1.readers() );
+        assertEquals( asList( D, F ), table2.readers() );
+    }
+
     private ClusterRoutingTable newRoutingTable()
     {
         return new ClusterRoutingTable( defaultDatabase(), new FakeClock() );
@@ -284,4 +318,13 @@ class ClusterRoutingTableTest
     {
         return new ClusterRoutingTable( defaultDatabase(), clock );
     }
+
+    private static void assertSnapshotOf( RoutingTable routingTable, RoutingTableSnapshot snapshot )
+    {
+        assertEquals( routingTable.database(), snapshot.database() );
+        assertEquals( routingTable.expirationTimestamp(), snapshot.expirationTimestamp() );
+        assertEquals( routingTable.routers(), snapshot.routers() );
+        assertEquals( routingTable.readers(), snapshot.readers() );
+        assertEquals( routingTable.writers(), snapshot.writers() );
+    }
 }
@@ -62,6 +62,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.startsWith;
@@ -464,6 +465,30 @@ class RediscoveryTest
         assertEquals( 0, eventExecutor.scheduleDelays().size() );
     }
 
+    @Test
+    void shouldResolveRoutersWithoutBlocking() throws UnknownHostException
+    {
+        ClusterComposition expectedComposition =
+                new ClusterComposition( 42, asOrderedSet( A, B ), asOrderedSet( A, B ), asOrderedSet( A, B ), null );
+        Map<BoltServerAddress,Object> responsesByAddress = new HashMap<>();
+        responsesByAddress.put( B, new ServiceUnavailableException( "Hi!" ) );
+        responsesByAddress.put( E, expectedComposition );
+        ClusterCompositionProvider compositionProvider = compositionProviderMock( responsesByAddress );
+        DomainNameResolver domainNameResolver = mock( DomainNameResolver.class );
+        when( domainNameResolver.resolveAsync( anyString() ) )
+                .thenAnswer( invocation -> completedFuture( InetAddress.getAllByName( invocation.getArgument( 0 ) ) ) );
+        Rediscovery rediscovery = new RediscoveryImpl( A, compositionProvider, resolverMock( A, E ), DEV_NULL_LOGGING, domainNameResolver );
+        RoutingTable table = routingTableMock( B );
+
+        ClusterComposition actualComposition =
+                await( rediscovery.lookupClusterComposition( table, pool, Collections.emptySet(), null ) ).getClusterComposition();
+
+        assertEquals( expectedComposition, actualComposition );
+        verify( domainNameResolver ).resolveAsync( B.host() );
+        verify( domainNameResolver ).resolveAsync( E.host() );
+        verify( domainNameResolver, never() ).resolve( anyString() );
+    }
+
     @Test
     void shouldResolveToIP() throws UnknownHostException
     {
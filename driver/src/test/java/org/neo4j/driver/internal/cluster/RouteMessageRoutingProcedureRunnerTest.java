@@ -25,7 +25,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,6 +41,7 @@ import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.DatabaseNameUtil;
+import org.neo4j.driver.internal.InternalBookmark;
 import org.neo4j.driver.internal.handlers.RouteMessageResponseHandler;
 import org.neo4j.driver.internal.messaging.request.RouteMessage;
 import org.neo4j.driver.internal.spi.Connection;
@@ -119,6 +122,36 @@ class RouteMessageRoutingProcedureRunnerTest
         verify( connection ).release();
     }
 
+    @Test
+    void shouldPipelineRoutingTableRequestsForMultipleDatabases()
+    {
+        Map<String,Value> routingTable = getRoutingTable();
+        CompletableFuture<Map<String,Value>> completableFuture = CompletableFuture.completedFuture( routingTable );
+        RouteMessageRoutingProcedureRunner runner = new RouteMessageRoutingProcedureRunner( RoutingContext.EMPTY, () -> completableFuture );
+        Connection connection = mock( Connection.class );
+        doReturn( CompletableFuture.completedFuture( null ) ).when( connection ).release();
+        Set<Bookmark> fooBookmarks = Collections.singleton( InternalBookmark.parse( "neo4j:bookmark:v1:tx42" ) );
+        Set<Bookmark> barBookmarks = Collections.singleton( InternalBookmark.parse( "neo4j:bookmark:v1:tx7" ) );
+        Map<DatabaseName,Set<Bookmark>> bookmarksByDatabase = new LinkedHashMap<>();
+        bookmarksByDatabase.put( DatabaseNameUtil.database( "foo" ), fooBookmarks );
+        bookmarksByDatabase.put( DatabaseNameUtil.database( "bar" ), barBookmarks );
+        bookmarksByDatabase.put( DatabaseNameUtil.database( "baz" ), Collections.emptySet() );
+
+        List<RoutingProcedureResponse> responses = TestUtil.await( runner.runBatch( connection, bookmarksByDatabase ) );
+
+        assertEquals( 3, responses.size() );
+        assertTrue( responses.get( 0 ).isSuccess() );
+        assertTrue( responses.get( 1 ).isSuccess() );
+        assertTrue( responses.get( 2 ).isSuccess() );
+        verify( connection ).write( eq( new RouteMessage( Collections.emptyMap(), fooBookmarks, "foo", null ) ),
+                                    eq( new RouteMessageResponseHandler( completableFuture ) ) );
+        verify( connection ).write( eq( new RouteMessage( Collections.emptyMap(), barBookmarks, "bar", null ) ),
+                                    eq( new RouteMessageResponseHandler( completableFuture ) ) );
+        verify( connection ).writeAndFlush( eq( new RouteMessage( Collections.emptyMap(), Collections.emptySet(), "baz", null ) ),
+                                            eq( new RouteMessageResponseHandler( completableFuture ) ) );
+        verify( connection ).release();
+    }
+
     private void verifyMessageWasWrittenAndFlushed( Connection connection, CompletableFuture<Map<String,Value>> completableFuture,
                                                     RoutingContext routingContext, Set<Bookmark> bookmarks, DatabaseName databaseName )
     {
@@ -23,9 +23,11 @@ import org.junit.jupiter.api.Test;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
+import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Value;
@@ -53,7 +55,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.internal.DatabaseNameUtil.database;
 import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 import static org.neo4j.driver.internal.util.Futures.failedFuture;
 import static org.neo4j.driver.util.TestUtil.await;
@@ -304,6 +308,38 @@ class RoutingProcedureClusterCompositionProviderTest
         assertEquals( serverSet( "one:1337", "two:1337" ), cluster.routers() );
     }
 
+    @Test
+    void shouldSkipBatchedDatabasesWhoseLookupFails()
+    {
+        // Given
+        Clock mockedClock = mock( Clock.class );
+        Connection connection = mock( Connection.class );
+        RouteMessageRoutingProcedureRunner mockedRunner = newRouteMessageRoutingProcedureRunnerMock();
+        ClusterCompositionProvider provider = newClusterCompositionProvider( mockedRunner, connection, mockedClock );
+
+        Record record = new InternalRecord( asList( "ttl", "servers" ), new Value[]{
+                value( 100 ), value( asList(
+                serverInfo( "READ", "one:1337" ),
+                serverInfo( "WRITE", "one:1337" ),
+                serverInfo( "ROUTE", "one:1337" ) ) )
+        } );
+        Map<DatabaseName,Set<Bookmark>> bookmarksByDatabase = new LinkedHashMap<>();
+        bookmarksByDatabase.put( database( "foo" ), Collections.emptySet() );
+        bookmarksByDatabase.put( database( "bar" ), Collections.emptySet() );
+        bookmarksByDatabase.put( database( "baz" ), Collections.emptySet() );
+        when( mockedRunner.runBatch( connection, bookmarksByDatabase ) )
+                .thenReturn( completedFuture( asList( newRoutingResponse( record ), newRoutingResponse( new ServiceUnavailableException( "Unavailable" ) ),
+                                                      newRoutingResponse() ) ) );
+        when( mockedClock.millis() ).thenReturn( 12345L );
+
+        // When
+        Map<DatabaseName,ClusterComposition> compositions = await( provider.getClusterCompositions( connection, bookmarksByDatabase ) );
+
+        // Then
+        assertEquals( Collections.singleton( database( "foo" ) ), compositions.keySet() );
+        assertEquals( serverSet( "one:1337" ), compositions.get( database( "foo" ) ).readers() );
+    }
+
     @Test
     void shouldReturnFailureWhenProcedureRunnerFails()
     {
@@ -415,7 +451,7 @@ class RoutingProcedureClusterCompositionProviderTest
     {
         when( connection.protocol() ).thenReturn( BoltProtocolV3.INSTANCE );
         return new RoutingProcedureClusterCompositionProvider( mock( Clock.class ), runner, newMultiDBProcedureRunnerMock(),
-                                                               newRouteMessageRoutingProcedureRunnerMock() );
+                                                               newRouteMessageRoutingProcedureRunnerMock(), DEV_NULL_LOGGING );
     }
 
     private static RoutingProcedureClusterCompositionProvider newClusterCompositionProvider( MultiDatabasesRoutingProcedureRunner runner,
@@ -423,14 +459,15 @@ class RoutingProcedureClusterCompositionProviderTest
     {
         when( connection.protocol() ).thenReturn( BoltProtocolV4.INSTANCE );
         return new RoutingProcedureClusterCompositionProvider( mock( Clock.class ), newProcedureRunnerMock(), runner,
-                                                               newRouteMessageRoutingProcedureRunnerMock() );
+                                                               newRouteMessageRoutingProcedureRunnerMock(), DEV_NULL_LOGGING );
     }
 
     private static RoutingProcedureClusterCompositionProvider newClusterCompositionProvider( MultiDatabasesRoutingProcedureRunner runner, Connection connection,
                                                                                              Clock clock )
     {
         when( connection.protocol() ).thenReturn( BoltProtocolV4.INSTANCE );
-        return new RoutingProcedureClusterCompositionProvider( clock, newProcedureRunnerMock(), runner, newRouteMessageRoutingProcedureRunnerMock() );
+        return new RoutingProcedureClusterCompositionProvider( clock, newProcedureRunnerMock(), runner, newRouteMessageRoutingProcedureRunnerMock(),
+                                                               DEV_NULL_LOGGING );
     }
 
     private static RoutingProcedureClusterCompositionProvider newClusterCompositionProvider( RouteMessageRoutingProcedureRunner runner, Connection connection )
@@ -443,6 +480,6 @@ class RoutingProcedureClusterCompositionProviderTest
                                                                                              Connection connection, Clock clock )
     {
         when( connection.protocol() ).thenReturn( BoltProtocolV43.INSTANCE );
-        return new RoutingProcedureClusterCompositionProvider( clock, newProcedureRunnerMock(), newMultiDBProcedureRunnerMock(), runner );
+        return new RoutingProcedureClusterCompositionProvider( clock, newProcedureRunnerMock(), newMultiDBProcedureRunnerMock(), runner, DEV_NULL_LOGGING );
     }
 }
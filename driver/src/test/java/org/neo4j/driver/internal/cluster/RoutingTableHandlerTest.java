@@ -33,6 +33,8 @@ import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.async.ConnectionContext;
+import org.neo4j.driver.internal.cluster.loadbalancing.CircuitBreakers;
+import org.neo4j.driver.internal.diagnostics.DiagnosticsCollector;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.util.FakeClock;
@@ -191,14 +193,22 @@ class RoutingTableHandlerTest
             {
                 return Optional.empty();
             }
+
+            @Override
+            public void collectDiagnostics( DiagnosticsCollector collector )
+            {
+            }
         };
 
-        RoutingTableHandler handler = newRoutingTableHandler( routingTable, rediscovery, connectionPool, registry );
+        CircuitBreakers circuitBreakers = mock( CircuitBreakers.class );
+        RoutingTableHandler handler = new RoutingTableHandlerImpl( routingTable, rediscovery, connectionPool, circuitBreakers, registry, DEV_NULL_LOGGING,
+                                                                   STALE_ROUTING_TABLE_PURGE_DELAY_MS );
 
         RoutingTable actual = await( handler.ensureRoutingTable( simple( false ) ) );
         assertEquals( routingTable, actual );
 
         verify( connectionPool ).retainAll( new HashSet<>( asList( A, B, C ) ) );
+        verify( circuitBreakers ).retainAll( new HashSet<>( asList( A, B, C ) ) );
     }
 
     @Test
@@ -221,6 +231,35 @@ class RoutingTableHandlerTest
         verify( registry ).remove( defaultDatabase() );
     }
 
+    @Test
+    void shouldNotPurgeWhenUpdatingBatchedRoutingTable()
+    {
+        RoutingTable routingTable = new ClusterRoutingTable( defaultDatabase(), new FakeClock() );
+        ConnectionPool connectionPool = newConnectionPoolMock();
+        RoutingTableRegistry registry = newRoutingTableRegistryMock();
+        RoutingTableHandler handler = newRoutingTableHandler( routingTable, newRediscoveryMock(), connectionPool, registry );
+
+        handler.updateBatchedRoutingTable( new ClusterComposition( 42, asOrderedSet( B ), asOrderedSet( C ), asOrderedSet( A ), null ) );
+
+        assertEquals( 42, routingTable.expirationTimestamp() );
+        assertEquals( singletonList( C ), routingTable.writers() );
+        verify( registry, never() ).removeAged();
+        verify( connectionPool, never() ).retainAll( any() );
+    }
+
+    @Test
+    void shouldIgnoreOlderBatchedRoutingTable()
+    {
+        RoutingTable routingTable = new ClusterRoutingTable( defaultDatabase(), new FakeClock() );
+        routingTable.update( new ClusterComposition( 42, asOrderedSet( B ), asOrderedSet( C ), asOrderedSet( A ), null ) );
+        RoutingTableHandler handler = newRoutingTableHandler( routingTable, newRediscoveryMock(), newConnectionPoolMock() );
+
+        handler.updateBatchedRoutingTable( new ClusterComposition( 41, asOrderedSet( D ), asOrderedSet( E ), asOrderedSet( A ), null ) );
+
+        assertEquals( 42, routingTable.expirationTimestamp() );
+        assertEquals( singletonList( C ), routingTable.writers() );
+    }
+
     private void testRediscoveryWhenStale( AccessMode mode )
     {
         ConnectionPool connectionPool = mock( ConnectionPool.class );
@@ -307,14 +346,16 @@ class RoutingTableHandlerTest
 
     private static RoutingTableHandler newRoutingTableHandler( RoutingTable routingTable, Rediscovery rediscovery, ConnectionPool connectionPool )
     {
-        return new RoutingTableHandlerImpl( routingTable, rediscovery, connectionPool, newRoutingTableRegistryMock(), DEV_NULL_LOGGING,
+        CircuitBreakers circuitBreakers = CircuitBreakers.disabled( connectionPool, new FakeClock(), DEV_NULL_LOGGING );
+        return new RoutingTableHandlerImpl( routingTable, rediscovery, connectionPool, circuitBreakers, newRoutingTableRegistryMock(), DEV_NULL_LOGGING,
                                             STALE_ROUTING_TABLE_PURGE_DELAY_MS );
     }
 
     private static RoutingTableHandler newRoutingTableHandler( RoutingTable routingTable, Rediscovery rediscovery, ConnectionPool connectionPool,
             RoutingTableRegistry routingTableRegistry )
     {
-        return new RoutingTableHandlerImpl( routingTable, rediscovery, connectionPool, routingTableRegistry, DEV_NULL_LOGGING,
+        CircuitBreakers circuitBreakers = CircuitBreakers.disabled( connectionPool, new FakeClock(), DEV_NULL_LOGGING );
+        return new RoutingTableHandlerImpl( routingTable, rediscovery, connectionPool, circuitBreakers, routingTableRegistry, DEV_NULL_LOGGING,
                                             STALE_ROUTING_TABLE_PURGE_DELAY_MS );
     }
 }
@@ -35,6 +35,7 @@ import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.async.ImmutableConnectionContext;
 import org.neo4j.driver.internal.cluster.RoutingTableRegistryImpl.RoutingTableHandlerFactory;
+import org.neo4j.driver.internal.cluster.loadbalancing.CircuitBreakers;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.util.Clock;
 
@@ -71,8 +72,8 @@ class RoutingTableRegistryImplTest
     {
         Clock clock = Clock.SYSTEM;
         RoutingTableHandlerFactory factory =
-                new RoutingTableHandlerFactory( mock( ConnectionPool.class ), mock( RediscoveryImpl.class ), clock, DEV_NULL_LOGGING,
-                                                STALE_ROUTING_TABLE_PURGE_DELAY_MS );
+                new RoutingTableHandlerFactory( mock( ConnectionPool.class ), mock( CircuitBreakers.class ), mock( RediscoveryImpl.class ), clock,
+                                                DEV_NULL_LOGGING, STALE_ROUTING_TABLE_PURGE_DELAY_MS );
 
         RoutingTableHandler handler = factory.newInstance( database( "Molly" ), null );
         RoutingTable table = handler.routingTable();
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ServerAddressInternerTest
+{
+    @Test
+    void shouldReturnCanonicalAddress()
+    {
+        ServerAddressInterner interner = new ServerAddressInterner();
+        BoltServerAddress address = new BoltServerAddress( "localhost", 7687 );
+
+        assertSame( address, interner.intern( address ) );
+        assertSame( address, interner.intern( new BoltServerAddress( "localhost", 7687 ) ) );
+    }
+
+    @Test
+    void shouldNotInternResolvedAddresses()
+    {
+        ServerAddressInterner interner = new ServerAddressInterner();
+        BoltServerAddress address = new BoltServerAddress( "localhost", 7687 );
+        BoltServerAddress resolvedAddress = new BoltServerAddress( "localhost", "127.0.0.1", 7687 )
+        {
+        };
+
+        interner.intern( address );
+
+        assertSame( resolvedAddress, interner.intern( resolvedAddress ) );
+    }
+
+    @Test
+    void shouldReturnCanonicalUnmodifiableList()
+    {
+        ServerAddressInterner interner = new ServerAddressInterner();
+        BoltServerAddress address1 = new BoltServerAddress( "host1", 7687 );
+        BoltServerAddress address2 = new BoltServerAddress( "host2", 7687 );
+
+        List<BoltServerAddress> list1 = interner.intern( new ArrayList<>( asList( address1, address2 ) ) );
+        List<BoltServerAddress> list2 = interner.intern( new ArrayList<>( asList( new BoltServerAddress( "host1", 7687 ), address2 ) ) );
+
+        assertSame( list1, list2 );
+        assertSame( address1, list2.get( 0 ) );
+        assertThrows( UnsupportedOperationException.class, () -> list1.add( address1 ) );
+    }
+
+    @Test
+    void shouldKeepOrderWhenInterningLists()
+    {
+        ServerAddressInterner interner = new ServerAddressInterner();
+        BoltServerAddress address1 = new BoltServerAddress( "host1", 7687 );
+        BoltServerAddress address2 = new BoltServerAddress( "host2", 7687 );
+
+        List<BoltServerAddress> list1 = interner.intern( asList( address1, address2 ) );
+        List<BoltServerAddress> list2 = interner.intern( asList( address2, address1 ) );
+
+        assertEquals( asList( address1, address2 ), list1 );
+        assertEquals( asList( address2, address1 ), list2 );
+        assertSame( Collections.emptyList(), interner.intern( new ArrayList<>() ) );
+    }
+}
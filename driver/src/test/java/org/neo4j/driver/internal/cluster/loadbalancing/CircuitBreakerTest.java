@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import org.junit.jupiter.api.Test;
+
+import org.neo4j.driver.internal.util.FakeClock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest
+{
+    private final FakeClock clock = new FakeClock();
+    private final CircuitBreaker breaker = new CircuitBreaker( new CircuitBreakerSettings( true, 4, 4, 50, 1000 ), clock );
+
+    @Test
+    void shouldStayClosedUntilMinimumCallsReached()
+    {
+        assertNull( breaker.record( false ) );
+        assertNull( breaker.record( false ) );
+        assertNull( breaker.record( false ) );
+
+        assertTrue( breaker.allowsRequests() );
+        assertEquals( CircuitBreaker.State.CLOSED, breaker.state() );
+    }
+
+    @Test
+    void shouldOpenWhenFailureRateReachesThreshold()
+    {
+        assertNull( breaker.record( true ) );
+        assertNull( breaker.record( false ) );
+        assertNull( breaker.record( true ) );
+        assertEquals( CircuitBreaker.State.OPEN, breaker.record( false ) );
+
+        assertFalse( breaker.allowsRequests() );
+        assertEquals( 1, breaker.openedCount() );
+    }
+
+    @Test
+    void shouldForgetOutcomesOutsideOfWindow()
+    {
+        breaker.record( false );
+        breaker.record( true );
+        breaker.record( true );
+        breaker.record( true );
+
+        // the first failure leaves the window
+        assertNull( breaker.record( true ) );
+        assertNull( breaker.record( false ) );
+
+        assertEquals( CircuitBreaker.State.CLOSED, breaker.state() );
+    }
+
+    @Test
+    void shouldHalfOpenOnlyAfterOpenDuration()
+    {
+        openBreaker();
+
+        assertFalse( breaker.tryHalfOpen() );
+        clock.progress( 999 );
+        assertFalse( breaker.tryHalfOpen() );
+        clock.progress( 1 );
+        assertTrue( breaker.tryHalfOpen() );
+        assertFalse( breaker.tryHalfOpen() );
+
+        assertEquals( CircuitBreaker.State.HALF_OPEN, breaker.state() );
+        assertFalse( breaker.allowsRequests() );
+    }
+
+    @Test
+    void shouldCloseWhenProbeSucceeds()
+    {
+        openBreaker();
+        clock.progress( 1000 );
+        breaker.tryHalfOpen();
+
+        assertEquals( CircuitBreaker.State.CLOSED, breaker.record( true ) );
+        assertTrue( breaker.allowsRequests() );
+
+        // window is reset after closing
+        assertNull( breaker.record( false ) );
+        assertNull( breaker.record( false ) );
+        assertNull( breaker.record( false ) );
+    }
+
+    @Test
+    void shouldReopenWhenProbeFails()
+    {
+        openBreaker();
+        clock.progress( 1000 );
+        breaker.tryHalfOpen();
+
+        assertEquals( CircuitBreaker.State.OPEN, breaker.record( false ) );
+        assertEquals( 2, breaker.openedCount() );
+        assertFalse( breaker.tryHalfOpen() );
+    }
+
+    @Test
+    void shouldIgnoreOutcomesWhileOpen()
+    {
+        openBreaker();
+
+        assertNull( breaker.record( true ) );
+        assertEquals( CircuitBreaker.State.OPEN, breaker.state() );
+    }
+
+    private void openBreaker()
+    {
+        for ( int i = 0; i < 4; i++ )
+        {
+            breaker.record( false );
+        }
+        assertEquals( CircuitBreaker.State.OPEN, breaker.state() );
+    }
+}
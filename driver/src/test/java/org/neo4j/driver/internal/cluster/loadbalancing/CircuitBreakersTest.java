@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import org.junit.jupiter.api.Test;
+
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.internal.metrics.MetricsListener;
+import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.internal.util.FakeClock;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+import static org.neo4j.driver.internal.util.ClusterCompositionUtil.A;
+import static org.neo4j.driver.internal.util.ClusterCompositionUtil.B;
+import static org.neo4j.driver.internal.util.Futures.completedWithNull;
+import static org.neo4j.driver.internal.util.Futures.failedFuture;
+
+class CircuitBreakersTest
+{
+    private final FakeClock clock = new FakeClock();
+    private final ConnectionPool connectionPool = mock( ConnectionPool.class );
+    private final MetricsListener metricsListener = mock( MetricsListener.class );
+
+    @Test
+    void shouldAllowAllRequestsWhenDisabled()
+    {
+        CircuitBreakers breakers = new CircuitBreakers( CircuitBreakerSettings.DISABLED, connectionPool, clock, metricsListener, DEV_NULL_LOGGING );
+
+        for ( int i = 0; i < 10; i++ )
+        {
+            breakers.onFailure( A );
+        }
+
+        assertTrue( breakers.allowsRequests( A ) );
+        verifyNoInteractions( metricsListener );
+    }
+
+    @Test
+    void shouldOpenCircuitOnlyForFailingAddress()
+    {
+        CircuitBreakers breakers = newCircuitBreakers();
+
+        breakers.onFailure( A );
+        breakers.onFailure( A );
+        breakers.onSuccess( B );
+
+        assertFalse( breakers.allowsRequests( A ) );
+        assertTrue( breakers.allowsRequests( B ) );
+        verify( metricsListener ).afterCircuitBreakerOpened( A );
+        verify( metricsListener, never() ).afterCircuitBreakerOpened( B );
+    }
+
+    @Test
+    void shouldCloseCircuitWhenProbeSucceeds()
+    {
+        Connection connection = mock( Connection.class );
+        when( connection.reset() ).thenReturn( completedWithNull() );
+        when( connection.release() ).thenReturn( completedWithNull() );
+        when( connectionPool.acquire( A ) ).thenReturn( completedFuture( connection ) );
+        CircuitBreakers breakers = newCircuitBreakers();
+        breakers.onFailure( A );
+        breakers.onFailure( A );
+
+        clock.progress( 1000 );
+        breakers.probeIfDue( singletonList( A ) );
+
+        assertTrue( breakers.allowsRequests( A ) );
+        assertEquals( CircuitBreaker.State.CLOSED, breakers.state( A ) );
+        verify( connection ).reset();
+        verify( connection ).release();
+        verify( metricsListener ).afterCircuitBreakerHalfOpened( A );
+        verify( metricsListener ).afterCircuitBreakerClosed( A );
+    }
+
+    @Test
+    void shouldKeepCircuitOpenWhenProbeFails()
+    {
+        when( connectionPool.acquire( A ) ).thenReturn( failedFuture( new ServiceUnavailableException( "Unavailable" ) ) );
+        CircuitBreakers breakers = newCircuitBreakers();
+        breakers.onFailure( A );
+        breakers.onFailure( A );
+
+        clock.progress( 1000 );
+        breakers.probeIfDue( singletonList( A ) );
+
+        assertFalse( breakers.allowsRequests( A ) );
+        assertEquals( CircuitBreaker.State.OPEN, breakers.state( A ) );
+        verify( metricsListener ).afterCircuitBreakerHalfOpened( A );
+        verify( metricsListener, never() ).afterCircuitBreakerClosed( A );
+    }
+
+    @Test
+    void shouldKeepCircuitOpenWhenProbeResetFails()
+    {
+        Connection connection = mock( Connection.class );
+        when( connection.reset() ).thenReturn( failedFuture( new ServiceUnavailableException( "Connection reset" ) ) );
+        when( connection.release() ).thenReturn( completedWithNull() );
+        when( connectionPool.acquire( A ) ).thenReturn( completedFuture( connection ) );
+        CircuitBreakers breakers = newCircuitBreakers();
+        breakers.onFailure( A );
+        breakers.onFailure( A );
+
+        clock.progress( 1000 );
+        breakers.probeIfDue( singletonList( A ) );
+
+        assertFalse( breakers.allowsRequests( A ) );
+        assertEquals( CircuitBreaker.State.OPEN, breakers.state( A ) );
+        verify( connection ).release();
+        verify( metricsListener, never() ).afterCircuitBreakerClosed( A );
+    }
+
+    @Test
+    void shouldNotProbeWhenCheckingIfRequestsAreAllowed()
+    {
+        CircuitBreakers breakers = newCircuitBreakers();
+        breakers.onFailure( A );
+        breakers.onFailure( A );
+
+        clock.progress( 1000 );
+
+        assertFalse( breakers.allowsRequests( A ) );
+        assertEquals( CircuitBreaker.State.OPEN, breakers.state( A ) );
+        verifyNoInteractions( connectionPool );
+    }
+
+    @Test
+    void shouldNotProbeBeforeOpenDurationHasElapsed()
+    {
+        CircuitBreakers breakers = newCircuitBreakers();
+        breakers.onFailure( A );
+        breakers.onFailure( A );
+
+        clock.progress( 999 );
+        breakers.probeIfDue( asList( A, B ) );
+
+        assertEquals( CircuitBreaker.State.OPEN, breakers.state( A ) );
+        verifyNoInteractions( connectionPool );
+    }
+
+    @Test
+    void shouldForgetBreakersOfAddressesThatAreNotRetained()
+    {
+        CircuitBreakers breakers = newCircuitBreakers();
+        breakers.onFailure( A );
+        breakers.onFailure( A );
+        breakers.onFailure( B );
+        breakers.onFailure( B );
+
+        breakers.retainAll( singleton( B ) );
+
+        assertTrue( breakers.allowsRequests( A ) );
+        assertEquals( CircuitBreaker.State.CLOSED, breakers.state( A ) );
+        assertEquals( CircuitBreaker.State.OPEN, breakers.state( B ) );
+    }
+
+    private CircuitBreakers newCircuitBreakers()
+    {
+        return new CircuitBreakers( new CircuitBreakerSettings( true, 2, 2, 50, 1000 ), connectionPool, clock, metricsListener, DEV_NULL_LOGGING );
+    }
+}
@@ -41,6 +41,7 @@ import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.util.ClusterCompositionUtil.A;
+import static org.neo4j.driver.internal.util.ClusterCompositionUtil.B;
 
 class LeastConnectedLoadBalancingStrategyTest
 {
@@ -161,6 +162,34 @@ class LeastConnectedLoadBalancingStrategyTest
         assertEquals( address2, strategy.selectReader( Arrays.asList( address1, address2 ) ) );
     }
 
+    @Test
+    void shouldSkipAddressesWithOpenCircuit()
+    {
+        CircuitBreakers circuitBreakers = mock( CircuitBreakers.class );
+        when( circuitBreakers.enabled() ).thenReturn( true );
+        when( circuitBreakers.allowsRequests( A ) ).thenReturn( false );
+        when( circuitBreakers.allowsRequests( B ) ).thenReturn( true );
+        when( connectionPool.inUseConnections( A ) ).thenReturn( 0 );
+        when( connectionPool.inUseConnections( B ) ).thenReturn( 42 );
+
+        LoadBalancingStrategy strategy = new LeastConnectedLoadBalancingStrategy( connectionPool, circuitBreakers, DEV_NULL_LOGGING );
+
+        assertEquals( B, strategy.selectReader( Arrays.asList( A, B ) ) );
+        assertEquals( B, strategy.selectWriter( Arrays.asList( A, B ) ) );
+    }
+
+    @Test
+    void shouldIgnoreCircuitBreakersWhenAllCircuitsAreOpen()
+    {
+        CircuitBreakers circuitBreakers = mock( CircuitBreakers.class );
+        when( circuitBreakers.enabled() ).thenReturn( true );
+        when( circuitBreakers.allowsRequests( any( BoltServerAddress.class ) ) ).thenReturn( false );
+
+        LoadBalancingStrategy strategy = new LeastConnectedLoadBalancingStrategy( connectionPool, circuitBreakers, DEV_NULL_LOGGING );
+
+        assertEquals( A, strategy.selectReader( Collections.singletonList( A ) ) );
+    }
+
     @Test
     void shouldTraceLogWhenNoAddressSelected()
     {
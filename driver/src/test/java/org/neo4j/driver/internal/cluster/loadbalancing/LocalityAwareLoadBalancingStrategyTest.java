@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+class LocalityAwareLoadBalancingStrategyTest
+{
+    private static final BoltServerAddress LOCAL_1 = new BoltServerAddress( "reader-1.zone-a", 7687 );
+    private static final BoltServerAddress LOCAL_2 = new BoltServerAddress( "reader-2.zone-a", 7687 );
+    private static final BoltServerAddress REMOTE = new BoltServerAddress( "reader-3.zone-b", 7687 );
+    private static final List<BoltServerAddress> READERS = Arrays.asList( REMOTE, LOCAL_1, LOCAL_2 );
+
+    private final ConnectionPool connectionPool = mock( ConnectionPool.class );
+    private final CircuitBreakers circuitBreakers = mock( CircuitBreakers.class );
+    private LocalityAwareLoadBalancingStrategy strategy;
+
+    @BeforeEach
+    void setUp()
+    {
+        when( circuitBreakers.allowsRequests( any( BoltServerAddress.class ) ) ).thenReturn( true );
+        LoadBalancingStrategy delegate = new LeastConnectedLoadBalancingStrategy( connectionPool, DEV_NULL_LOGGING );
+        ServerZones zones = new ServerZones( Collections.singletonMap( "*.zone-a", "zone-a" ) );
+        strategy = new LocalityAwareLoadBalancingStrategy( delegate, "zone-a", zones, connectionPool, 10, circuitBreakers, DEV_NULL_LOGGING );
+    }
+
+    @Test
+    void shouldPreferLocalReaders()
+    {
+        for ( int i = 0; i < 10; i++ )
+        {
+            BoltServerAddress selected = strategy.selectReader( READERS );
+            assertEquals( "zone-a", selected.host().substring( selected.host().indexOf( '.' ) + 1 ) );
+        }
+    }
+
+    @Test
+    void shouldSkipSaturatedLocalReaders()
+    {
+        when( connectionPool.inUseConnections( LOCAL_1 ) ).thenReturn( 10 );
+        when( connectionPool.inUseConnections( LOCAL_2 ) ).thenReturn( 5 );
+
+        assertEquals( LOCAL_2, strategy.selectReader( READERS ) );
+        assertEquals( LOCAL_2, strategy.selectReader( READERS ) );
+    }
+
+    @Test
+    void shouldFallBackToRemoteReadersWhenLocalReadersAreSaturated()
+    {
+        when( connectionPool.inUseConnections( LOCAL_1 ) ).thenReturn( 10 );
+        when( connectionPool.inUseConnections( LOCAL_2 ) ).thenReturn( 10 );
+
+        assertEquals( REMOTE, strategy.selectReader( READERS ) );
+    }
+
+    @Test
+    void shouldFallBackToRemoteReadersWhenLocalCircuitsAreOpen()
+    {
+        when( circuitBreakers.allowsRequests( LOCAL_1 ) ).thenReturn( false );
+        when( circuitBreakers.allowsRequests( LOCAL_2 ) ).thenReturn( false );
+
+        assertEquals( REMOTE, strategy.selectReader( READERS ) );
+    }
+
+    @Test
+    void shouldDelegateWriterSelection()
+    {
+        LoadBalancingStrategy delegate = mock( LoadBalancingStrategy.class );
+        LocalityAwareLoadBalancingStrategy strategy = new LocalityAwareLoadBalancingStrategy(
+                delegate, "zone-a", new ServerZones( Collections.emptyMap() ), connectionPool, 10, circuitBreakers, DEV_NULL_LOGGING );
+
+        strategy.selectWriter( READERS );
+
+        verify( delegate ).selectWriter( READERS );
+    }
+}
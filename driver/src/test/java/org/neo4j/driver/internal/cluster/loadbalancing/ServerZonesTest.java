@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ServerZonesTest
+{
+    @Test
+    void shouldMatchHostPatterns()
+    {
+        Map<String,String> patterns = new LinkedHashMap<>();
+        patterns.put( "*.zone-a.internal", "a" );
+        patterns.put( "core-b-*", "b" );
+        ServerZones zones = new ServerZones( patterns );
+
+        assertEquals( "a", zones.zoneOf( new BoltServerAddress( "core-1.zone-a.internal", 7687 ) ) );
+        assertEquals( "a", zones.zoneOf( new BoltServerAddress( "CORE-2.ZONE-A.INTERNAL", 7687 ) ) );
+        assertEquals( "b", zones.zoneOf( new BoltServerAddress( "core-b-1", 7687 ) ) );
+        assertNull( zones.zoneOf( new BoltServerAddress( "core-c-1", 7687 ) ) );
+    }
+
+    @Test
+    void shouldMatchHostAndPortWhenPatternContainsPort()
+    {
+        Map<String,String> patterns = new LinkedHashMap<>();
+        patterns.put( "localhost:7687", "a" );
+        patterns.put( "localhost:*", "b" );
+        ServerZones zones = new ServerZones( patterns );
+
+        assertEquals( "a", zones.zoneOf( new BoltServerAddress( "localhost", 7687 ) ) );
+        assertEquals( "b", zones.zoneOf( new BoltServerAddress( "localhost", 7688 ) ) );
+    }
+
+    @Test
+    void shouldTreatPatternCharactersLiterally()
+    {
+        Map<String,String> patterns = new LinkedHashMap<>();
+        patterns.put( "10.0.1.*", "a" );
+        ServerZones zones = new ServerZones( patterns );
+
+        assertEquals( "a", zones.zoneOf( new BoltServerAddress( "10.0.1.15", 7687 ) ) );
+        assertNull( zones.zoneOf( new BoltServerAddress( "10.0.121.15", 7687 ) ) );
+    }
+}
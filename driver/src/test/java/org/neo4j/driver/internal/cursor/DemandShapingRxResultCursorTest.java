@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cursor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.internal.InternalRecord;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.neo4j.driver.Values.values;
+
+class DemandShapingRxResultCursorTest
+{
+    private RxResultCursor delegate;
+    private RxResultCursor cursor;
+    private BiConsumer<Record,Throwable> serverRecords;
+    private final List<Record> received = new ArrayList<>();
+    private boolean completed;
+    private Throwable error;
+
+    @BeforeEach
+    @SuppressWarnings( "unchecked" )
+    void setUp()
+    {
+        delegate = mock( RxResultCursor.class );
+        cursor = DemandShapingRxResultCursor.withMinimumPullSize( delegate, 100 );
+        cursor.installRecordConsumer( ( record, error ) ->
+                                      {
+                                          if ( record != null )
+                                          {
+                                              received.add( record );
+                                          }
+                                          else
+                                          {
+                                              completed = true;
+                                              this.error = error;
+                                          }
+                                      } );
+
+        ArgumentCaptor<BiConsumer<Record,Throwable>> captor = ArgumentCaptor.forClass( BiConsumer.class );
+        verify( delegate ).installRecordConsumer( captor.capture() );
+        serverRecords = captor.getValue();
+    }
+
+    @Test
+    void shouldNotShapeDemandWithoutMinimumPullSize()
+    {
+        RxResultCursor cursor = mock( RxResultCursor.class );
+
+        assertSame( cursor, DemandShapingRxResultCursor.withMinimumPullSize( cursor, 0 ) );
+        assertSame( cursor, DemandShapingRxResultCursor.withMinimumPullSize( cursor, 1 ) );
+    }
+
+    @Test
+    void shouldPullAtLeastMinimumPullSize()
+    {
+        cursor.request( 1 );
+
+        verify( delegate ).request( 100 );
+    }
+
+    @Test
+    void shouldPullDemandWhenLargerThanMinimumPullSize()
+    {
+        cursor.request( 500 );
+
+        verify( delegate ).request( 500 );
+    }
+
+    @Test
+    void shouldDeliverBufferedRecordsWithoutPulling()
+    {
+        cursor.request( 1 );
+        receiveRecords( 10 );
+
+        assertEquals( 1, received.size() );
+
+        cursor.request( 1 );
+        cursor.request( 1 );
+
+        assertEquals( 3, received.size() );
+        verify( delegate, times( 1 ) ).request( anyLong() );
+    }
+
+    @Test
+    void shouldPullNextBatchBeforeBufferedRecordsRunOut()
+    {
+        cursor.request( 1 );
+        receiveRecords( 100 );
+
+        for ( int i = 0; i < 69; i++ )
+        {
+            cursor.request( 1 );
+        }
+        assertEquals( 70, received.size() );
+        verify( delegate, times( 1 ) ).request( anyLong() );
+
+        // 30 records left, prefetching the next batch while 29 are still buffered
+        cursor.request( 1 );
+        verify( delegate, times( 2 ) ).request( 100 );
+        assertEquals( 71, received.size() );
+    }
+
+    @Test
+    void shouldCompleteAfterBufferedRecordsAreDelivered()
+    {
+        cursor.request( 1 );
+        receiveRecords( 3 );
+        serverRecords.accept( null, null );
+
+        assertEquals( 1, received.size() );
+        assertFalse( completed );
+
+        cursor.request( 2 );
+
+        assertEquals( 3, received.size() );
+        assertTrue( completed );
+        assertNull( error );
+    }
+
+    @Test
+    void shouldDeliverErrorWithoutDemandWhenNothingIsBuffered()
+    {
+        RuntimeException failure = new RuntimeException( "Failed" );
+
+        serverRecords.accept( null, failure );
+
+        assertTrue( completed );
+        assertSame( failure, error );
+    }
+
+    @Test
+    void shouldRequestAllOnce()
+    {
+        cursor.request( Long.MAX_VALUE );
+        cursor.request( Long.MAX_VALUE );
+        receiveRecords( 300 );
+
+        assertEquals( 300, received.size() );
+        verify( delegate, times( 1 ) ).request( Long.MAX_VALUE );
+        verify( delegate, never() ).request( 100 );
+    }
+
+    @Test
+    void shouldDropBufferedRecordsOnCancel()
+    {
+        cursor.request( 1 );
+        receiveRecords( 10 );
+
+        cursor.cancel();
+        cursor.request( 5 );
+
+        assertEquals( 1, received.size() );
+        verify( delegate ).cancel();
+    }
+
+    private void receiveRecords( int count )
+    {
+        for ( int i = 0; i < count; i++ )
+        {
+            serverRecords.accept( new InternalRecord( singletonList( "key" ), values( i ) ), null );
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.neo4j.driver.internal.util.Futures;
 
@@ -54,7 +55,7 @@ class DisposableAsyncResultCursorTest
         when( delegate.singleAsync() ).thenReturn( Futures.completedWithNull() );
         when( delegate.forEachAsync( any() ) ).thenReturn( Futures.completedWithNull() );
         when( delegate.listAsync() ).thenReturn( Futures.completedWithNull() );
-        when( delegate.listAsync( any() ) ).thenReturn( Futures.completedWithNull() );
+        when( delegate.listAsync( any( Function.class ) ) ).thenReturn( Futures.completedWithNull() );
         when( delegate.pullAllFailureAsync() ).thenReturn( Futures.completedWithNull() );
         when( delegate.mapSuccessfulRunCompletionAsync() ).thenReturn( CompletableFuture.completedFuture( delegate ) );
 
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import org.neo4j.driver.diagnostics.ConnectionPoolDiagnostics;
+import org.neo4j.driver.diagnostics.DriverDiagnostics;
+import org.neo4j.driver.diagnostics.InFlightQueryDiagnostics;
+import org.neo4j.driver.diagnostics.RoutingTableDiagnostics;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.cluster.ClusterComposition;
+import org.neo4j.driver.internal.cluster.ClusterRoutingTable;
+import org.neo4j.driver.internal.util.FakeClock;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.driver.internal.DatabaseNameUtil.database;
+import static org.neo4j.driver.internal.util.ClusterCompositionUtil.A;
+import static org.neo4j.driver.internal.util.ClusterCompositionUtil.B;
+import static org.neo4j.driver.internal.util.ClusterCompositionUtil.C;
+import static org.neo4j.driver.util.TestUtil.asOrderedSet;
+
+class DiagnosticsCollectorTest
+{
+    @Test
+    void shouldSnapshotCollectedState()
+    {
+        FakeClock clock = new FakeClock();
+        clock.progress( 1000 );
+        ClusterRoutingTable routingTable = new ClusterRoutingTable( database( "movies" ), clock );
+        routingTable.update( new ClusterComposition( 42, asOrderedSet( B, C ), asOrderedSet( A ), asOrderedSet( A, B ), "movies" ) );
+
+        DiagnosticsCollector collector = new DiagnosticsCollector( clock );
+        collector.routingTable( routingTable );
+        collector.connectionPool( A, 3, 7 );
+        collector.inFlightQuery( new InFlightQuery( "RETURN 1", "movies", System.nanoTime() - 5_000_000_000L ), A, "bolt-1" );
+        collector.eventLoop( "eventLoop-0", 2, 4 );
+        collector.retries( 5, 1, 3 );
+        collector.retries( 2, 0, 1 );
+
+        DriverDiagnostics diagnostics = collector.snapshot();
+
+        assertEquals( 1000, diagnostics.timestamp() );
+
+        RoutingTableDiagnostics table = diagnostics.routingTables().get( 0 );
+        assertEquals( "movies", table.database() );
+        assertEquals( 42, table.expirationTimestamp() );
+        assertEquals( asList( A.toString(), B.toString() ), table.routers() );
+        assertEquals( asList( B.toString(), C.toString() ), table.readers() );
+        assertEquals( singletonList( A.toString() ), table.writers() );
+
+        ConnectionPoolDiagnostics pool = diagnostics.connectionPools().get( 0 );
+        assertEquals( A.toString(), pool.address() );
+        assertEquals( 3, pool.inUse() );
+        assertEquals( 7, pool.idle() );
+
+        InFlightQueryDiagnostics query = diagnostics.inFlightQueries().get( 0 );
+        assertEquals( "RETURN 1", query.query() );
+        assertEquals( "movies", query.database() );
+        assertEquals( A.toString(), query.address() );
+        assertEquals( "bolt-1", query.connectionId() );
+        assertThat( query.ageMillis(), greaterThanOrEqualTo( 4000L ) );
+
+        assertEquals( "eventLoop-0", diagnostics.eventLoops().get( 0 ).name() );
+        assertEquals( 2, diagnostics.eventLoops().get( 0 ).pendingTasks() );
+        assertEquals( 4, diagnostics.eventLoops().get( 0 ).connections() );
+
+        assertEquals( 7, diagnostics.retries().retries() );
+        assertEquals( 1, diagnostics.retries().retriesExhausted() );
+        assertEquals( 4, diagnostics.retries().retriesRejected() );
+    }
+
+    @Test
+    void shouldNotExposeLaterChangesOfCollector()
+    {
+        DiagnosticsCollector collector = new DiagnosticsCollector( new FakeClock() );
+        DriverDiagnostics diagnostics = collector.snapshot();
+
+        collector.connectionPool( A, 1, 1 );
+
+        assertTrue( diagnostics.connectionPools().isEmpty() );
+        assertThrows( UnsupportedOperationException.class, () -> diagnostics.connectionPools().clear() );
+    }
+
+    @Test
+    void shouldRenderEmptySnapshotAsJson()
+    {
+        DriverDiagnostics diagnostics = new DiagnosticsCollector( new FakeClock() ).snapshot();
+
+        assertEquals( "{\"timestamp\":0,\"routingTables\":[],\"connectionPools\":[],\"inFlightQueries\":[],\"eventLoops\":[]," +
+                      "\"retries\":{\"retries\":0,\"retriesExhausted\":0,\"retriesRejected\":0}}", diagnostics.toJson() );
+    }
+
+    @Test
+    void shouldRenderAndEscapeJson()
+    {
+        DiagnosticsCollector collector = new DiagnosticsCollector( new FakeClock() );
+        BoltServerAddress address = new BoltServerAddress( "localhost", 7687 );
+        collector.connectionPool( address, 1, 2 );
+        collector.inFlightQuery( new InFlightQuery( "MATCH (n {name: \"a\\b\"})\n\tRETURN n\u0001", null, System.nanoTime() ), address, "bolt-7" );
+
+        String json = collector.snapshot().toJson();
+
+        assertTrue( json.contains( "\"connectionPools\":[{\"address\":\"localhost:7687\",\"inUse\":1,\"idle\":2}]" ), json );
+        assertTrue( json.contains( "{\"query\":\"MATCH (n {name: \\\"a\\\\b\\\"})\\n\\tRETURN n\\u0001\",\"database\":null,\"address\":\"localhost:7687\"," +
+                                   "\"connectionId\":\"bolt-7\",\"ageMillis\":" ), json );
+    }
+}
@@ -19,6 +19,7 @@
 package org.neo4j.driver.internal.handlers;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -27,6 +28,7 @@ import java.util.function.Function;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.internal.messaging.v3.BoltProtocolV3;
+import org.neo4j.driver.internal.metrics.QueryExecution;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.summary.ResultSummary;
 
@@ -39,9 +41,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.neo4j.driver.Values.value;
 import static org.neo4j.driver.Values.values;
 import static org.neo4j.driver.util.TestUtil.await;
@@ -89,6 +93,54 @@ class LegacyPullAllResponseHandlerTest extends PullAllResponseHandlerTestBase<Le
         verify( connection ).enableAutoRead();
     }
 
+    @Test
+    void shouldDiscardRecordsAfterConsume()
+    {
+        LegacyPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ), connectionMock() );
+        CompletableFuture<Record> peekFuture = handler.peekAsync().toCompletableFuture();
+        assertFalse( handler.isDiscardingRecords() );
+
+        handler.consumeAsync();
+
+        assertTrue( handler.isDiscardingRecords() );
+        assertTrue( peekFuture.isDone() );
+        assertNull( peekFuture.join() );
+    }
+
+    @Test
+    void shouldReportQueryExecutionOnCompletion()
+    {
+        Connection connection = connectionMock();
+        when( connection.isQueryExecutionObserved() ).thenReturn( true );
+        LegacyPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ), connection );
+
+        handler.onRecordSize( 42 );
+        handler.onRecordDecodeTime( 3 );
+        handler.onRecord( values( 1, 2 ) );
+        handler.onFailure( new RuntimeException() );
+
+        ArgumentCaptor<QueryExecution> captor = ArgumentCaptor.forClass( QueryExecution.class );
+        verify( connection ).afterQueryCompleted( captor.capture() );
+        QueryExecution execution = captor.getValue();
+        assertFalse( execution.successful() );
+        assertEquals( 1, execution.records() );
+        assertEquals( 42, execution.bytes() );
+        assertEquals( 3, execution.decodeNanos() );
+    }
+
+    @Test
+    void shouldNotCollectQueryExecutionWhenNotObserved()
+    {
+        Connection connection = connectionMock();
+        LegacyPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ), connection );
+
+        handler.onRecord( values( 1, 2 ) );
+        handler.onSuccess( emptyMap() );
+
+        verify( connection ).afterResultCompleted();
+        verify( connection, never() ).afterQueryCompleted( any() );
+    }
+
     @Test
     void shouldNotDisableAutoReadWhenSummaryRequested()
     {
@@ -22,7 +22,9 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -463,6 +465,29 @@ public abstract class PullAllResponseHandlerTestBase<T extends PullAllResponseHa
         assertNull( await( recordFuture ) );
     }
 
+    @Test
+    void shouldDrainAvailableRecordsInBatches()
+    {
+        PullAllResponseHandler handler = newHandler( asList( "key1", "key2" ) );
+
+        handler.onRecord( values( 1, 2 ) );
+        handler.onRecord( values( 3, 4 ) );
+        handler.onRecord( values( 5, 6 ) );
+
+        Queue<Record> records = new ArrayDeque<>();
+        assertEquals( 2, handler.drainRecords( records, 2 ) );
+        assertEquals( 1, handler.drainRecords( records, 2 ) );
+        assertEquals( 0, handler.drainRecords( records, 2 ) );
+
+        assertEquals( 3, records.size() );
+        assertEquals( 1, records.poll().get( "key1" ).asInt() );
+        assertEquals( 3, records.poll().get( "key1" ).asInt() );
+        assertEquals( 5, records.poll().get( "key1" ).asInt() );
+
+        CompletableFuture<Record> recordFuture = handler.peekAsync().toCompletableFuture();
+        assertFalse( recordFuture.isDone() );
+    }
+
     @Test
     void shouldPullAllAvailableRecordsWithNextAsync()
     {
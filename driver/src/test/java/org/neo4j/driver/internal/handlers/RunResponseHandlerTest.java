@@ -49,6 +49,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.neo4j.driver.Values.value;
 import static org.neo4j.driver.Values.values;
 import static org.neo4j.driver.util.TestUtil.await;
@@ -112,6 +113,30 @@ class RunResponseHandlerTest
         assertEquals( -1, handler.resultAvailableAfter() );
     }
 
+    @Test
+    void shouldMeasureRunRoundTripWhenQueryExecutionIsObserved()
+    {
+        Connection connection = mock( Connection.class );
+        when( connection.isQueryExecutionObserved() ).thenReturn( true );
+        RunResponseHandler handler = new RunResponseHandler( new CompletableFuture<>(), BoltProtocolV3.METADATA_EXTRACTOR, connection, null );
+        assertEquals( -1, handler.runRoundTripNanos() );
+
+        handler.onSuccess( emptyMap() );
+
+        assertTrue( handler.runRoundTripNanos() >= 0 );
+    }
+
+    @Test
+    void shouldNotMeasureRunRoundTripWhenQueryExecutionIsNotObserved()
+    {
+        RunResponseHandler handler = newHandler();
+
+        handler.onSuccess( emptyMap() );
+
+        assertEquals( -1, handler.runStartNanos() );
+        assertEquals( -1, handler.runRoundTripNanos() );
+    }
+
     @Test
     void shouldReturnKeysWhenSucceeded()
     {
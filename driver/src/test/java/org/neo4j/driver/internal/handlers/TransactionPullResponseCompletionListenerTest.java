@@ -67,7 +67,7 @@ class TransactionPullResponseCompletionListenerTest
         UnmanagedTransaction tx = mock( UnmanagedTransaction.class );
         when( tx.isOpen() ).thenReturn( true );
         TransactionPullResponseCompletionListener listener = new TransactionPullResponseCompletionListener( tx );
-        RunResponseHandler runHandler = new RunResponseHandler( new CompletableFuture<>(), METADATA_EXTRACTOR, null, null );
+        RunResponseHandler runHandler = new RunResponseHandler( new CompletableFuture<>(), METADATA_EXTRACTOR, connection, null );
         PullResponseHandler handler = new BasicPullResponseHandler( new Query( "RETURN 1" ), runHandler,
                                                                     connection, METADATA_EXTRACTOR, listener );
         handler.installRecordConsumer( ( record, throwable ) ->
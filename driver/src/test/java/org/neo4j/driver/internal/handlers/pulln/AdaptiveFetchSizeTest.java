@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.handlers.pulln;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.driver.internal.handlers.pulln.AdaptiveFetchSize.INITIAL_FETCH_SIZE;
+import static org.neo4j.driver.internal.handlers.pulln.AdaptiveFetchSize.MAX_FETCH_SIZE;
+import static org.neo4j.driver.internal.handlers.pulln.AdaptiveFetchSize.MIN_FETCH_SIZE;
+
+class AdaptiveFetchSizeTest
+{
+    @Test
+    void shouldStartWithInitialFetchSize()
+    {
+        AdaptiveFetchSize fetchSize = new AdaptiveFetchSize( 1024 * 1024 );
+
+        assertEquals( INITIAL_FETCH_SIZE, fetchSize.current() );
+        assertEquals( INITIAL_FETCH_SIZE, fetchSize.next() );
+    }
+
+    @Test
+    void shouldGrowWhenConsumerIsStarvedUpToMaximum()
+    {
+        AdaptiveFetchSize fetchSize = new AdaptiveFetchSize( Long.MAX_VALUE );
+        fetchSize.recordReceived( 20 );
+
+        long previous = fetchSize.current();
+        for ( int i = 0; i < 20; i++ )
+        {
+            fetchSize.consumerStarved();
+            long next = fetchSize.next();
+            assertTrue( next >= previous );
+            previous = next;
+        }
+
+        assertEquals( MAX_FETCH_SIZE, previous );
+    }
+
+    @Test
+    void shouldShrinkWhenConsumerIsLaggingDownToMinimum()
+    {
+        AdaptiveFetchSize fetchSize = new AdaptiveFetchSize( Long.MAX_VALUE );
+
+        for ( int i = 0; i < 20; i++ )
+        {
+            fetchSize.consumerStarved();
+            fetchSize.consumerLagging();
+            fetchSize.next();
+        }
+
+        assertEquals( MIN_FETCH_SIZE, fetchSize.current() );
+    }
+
+    @Test
+    void shouldShrinkWhenManyRecordsWaitedForConsumer()
+    {
+        AdaptiveFetchSize fetchSize = new AdaptiveFetchSize( Long.MAX_VALUE );
+
+        fetchSize.consumerDemand( (int) INITIAL_FETCH_SIZE / 2 + 1 );
+
+        assertEquals( INITIAL_FETCH_SIZE / 2, fetchSize.next() );
+    }
+
+    @Test
+    void shouldNotShrinkWhenRecordsArrivedWhileConsumerWaited()
+    {
+        AdaptiveFetchSize fetchSize = new AdaptiveFetchSize( Long.MAX_VALUE );
+
+        fetchSize.consumerStarved();
+        fetchSize.consumerDemand( (int) INITIAL_FETCH_SIZE );
+
+        assertEquals( INITIAL_FETCH_SIZE * 2, fetchSize.next() );
+    }
+
+    @Test
+    void shouldKeepBufferedRecordsWithinMemoryBudget()
+    {
+        AdaptiveFetchSize fetchSize = new AdaptiveFetchSize( 16 * 1024 * 1024 );
+        fetchSize.recordReceived( 2 * 1024 * 1024 );
+        fetchSize.recordReceived( 2 * 1024 * 1024 );
+
+        fetchSize.consumerStarved();
+
+        assertEquals( 4, fetchSize.next() );
+    }
+
+    @Test
+    void shouldRequestAtLeastOneRecord()
+    {
+        AdaptiveFetchSize fetchSize = new AdaptiveFetchSize( 1024 );
+        fetchSize.recordReceived( 1024 * 1024 );
+
+        assertEquals( 1, fetchSize.next() );
+    }
+}
@@ -22,12 +22,17 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 
 import org.neo4j.driver.Query;
+import org.neo4j.driver.Record;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.internal.handlers.PullAllResponseHandlerTestBase;
 import org.neo4j.driver.internal.handlers.PullResponseCompletionListener;
@@ -39,7 +44,10 @@ import org.neo4j.driver.internal.value.BooleanValue;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -59,12 +67,12 @@ class AutoPullResponseHandlerTest extends PullAllResponseHandlerTestBase<AutoPul
         AutoPullResponseHandler handler =
                 new AutoPullResponseHandler( query, runResponseHandler, connection, BoltProtocolV3.METADATA_EXTRACTOR,
                                              mock( PullResponseCompletionListener.class ),
-                                             DEFAULT_FETCH_SIZE );
+                                             FetchSizePolicy.fixed( DEFAULT_FETCH_SIZE ) );
         handler.prePopulateRecords();
         return handler;
     }
 
-    protected AutoPullResponseHandler newHandler( Query query, Connection connection, long fetchSize )
+    protected AutoPullResponseHandler newHandler( Query query, Connection connection, FetchSizePolicy fetchSizePolicy )
     {
         RunResponseHandler runResponseHandler =
                 new RunResponseHandler( new CompletableFuture<>(), BoltProtocolV3.METADATA_EXTRACTOR, mock( Connection.class ), null );
@@ -72,7 +80,7 @@ class AutoPullResponseHandlerTest extends PullAllResponseHandlerTestBase<AutoPul
         AutoPullResponseHandler handler =
                 new AutoPullResponseHandler( query, runResponseHandler, connection, BoltProtocolV3.METADATA_EXTRACTOR,
                                              mock( PullResponseCompletionListener.class ),
-                                             fetchSize );
+                                             fetchSizePolicy );
         handler.prePopulateRecords();
         return handler;
     }
@@ -84,7 +92,7 @@ class AutoPullResponseHandlerTest extends PullAllResponseHandlerTestBase<AutoPul
         InOrder inOrder = Mockito.inOrder( connection );
 
         //highwatermark=2, lowwatermark=1
-        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, 4 );
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, FetchSizePolicy.fixed( 4 ) );
 
         Map<String,Value> metaData = new HashMap<>( 1 );
         metaData.put( "has_more", BooleanValue.TRUE );
@@ -106,7 +114,7 @@ class AutoPullResponseHandlerTest extends PullAllResponseHandlerTestBase<AutoPul
         InOrder inOrder = Mockito.inOrder( connection );
 
         //highWatermark=2, lowWatermark=1
-        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, 4 );
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, FetchSizePolicy.fixed( 4 ) );
 
         Map<String,Value> metaData = new HashMap<>( 1 );
         metaData.put( "has_more", BooleanValue.TRUE );
@@ -129,7 +137,7 @@ class AutoPullResponseHandlerTest extends PullAllResponseHandlerTestBase<AutoPul
         InOrder inOrder = Mockito.inOrder( connection );
 
         //highwatermark=4, lowwatermark=2
-        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, 7 );
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, FetchSizePolicy.fixed( 7 ) );
 
         Map<String,Value> metaData = new HashMap<>( 1 );
         metaData.put( "has_more", BooleanValue.TRUE );
@@ -156,7 +164,7 @@ class AutoPullResponseHandlerTest extends PullAllResponseHandlerTestBase<AutoPul
     void shouldKeepRequestingMoreRecordsWhenPullAll()
     {
         Connection connection = connectionMock();
-        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, -1 );
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, FetchSizePolicy.UNLIMITED );
 
         Map<String,Value> metaData = new HashMap<>( 1 );
         metaData.put( "has_more", BooleanValue.TRUE );
@@ -180,7 +188,7 @@ class AutoPullResponseHandlerTest extends PullAllResponseHandlerTestBase<AutoPul
         InOrder inOrder = Mockito.inOrder( connection );
 
         //highwatermark=0, lowwatermark=0
-        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, 1 );
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, FetchSizePolicy.fixed( 1 ) );
 
         Map<String,Value> metaData = new HashMap<>( 1 );
         metaData.put( "has_more", BooleanValue.TRUE );
@@ -196,4 +204,138 @@ class AutoPullResponseHandlerTest extends PullAllResponseHandlerTestBase<AutoPul
 
         inOrder.verify( connection ).writeAndFlush( any( PullMessage.class ), any() );
     }
+
+    @Test
+    void shouldLimitAdaptiveFetchSizeByMemoryBudget()
+    {
+        Connection connection = connectionMock();
+        InOrder inOrder = Mockito.inOrder( connection );
+
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, FetchSizePolicy.adaptive( 1000 ) );
+
+        Map<String,Value> metaData = new HashMap<>( 1 );
+        metaData.put( "has_more", BooleanValue.TRUE );
+
+        inOrder.verify( connection ).writeAndFlush( eq( new PullMessage( AdaptiveFetchSize.INITIAL_FETCH_SIZE, -1 ) ), any() );
+
+        handler.onRecordSize( 100 );
+        handler.onRecord( values( 1 ) );
+        handler.onRecordSize( 100 );
+        handler.onRecord( values( 2 ) );
+        handler.onSuccess( metaData );
+
+        // half of the budget divided by the average record size
+        inOrder.verify( connection ).writeAndFlush( eq( new PullMessage( 5, -1 ) ), any() );
+        assertEquals( 5, handler.fetchSize() );
+    }
+
+    @Test
+    void shouldNotGrowAdaptiveFetchSizeForSlowBatchConsumer()
+    {
+        Connection connection = connectionMock();
+        InOrder inOrder = Mockito.inOrder( connection );
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, FetchSizePolicy.adaptive( 64 * 1024 * 1024 ) );
+        inOrder.verify( connection ).writeAndFlush( eq( new PullMessage( AdaptiveFetchSize.INITIAL_FETCH_SIZE, -1 ) ), any() );
+
+        // records pile up while the consumer is busy with the records it took before
+        for ( int i = 0; i < 60; i++ )
+        {
+            handler.onRecord( values( i ) );
+        }
+        assertEquals( 30, handler.drainRecords( new ArrayDeque<>(), Integer.MAX_VALUE ) );
+        for ( int i = 60; i < AdaptiveFetchSize.INITIAL_FETCH_SIZE; i++ )
+        {
+            handler.onRecord( values( i ) );
+        }
+        handler.onSuccess( singletonMap( "has_more", BooleanValue.TRUE ) );
+
+        inOrder.verify( connection ).writeAndFlush( eq( new PullMessage( AdaptiveFetchSize.INITIAL_FETCH_SIZE / 2, -1 ) ), any() );
+    }
+
+    @Test
+    void shouldGrowAdaptiveFetchSizeForWaitingBatchConsumer()
+    {
+        Connection connection = connectionMock();
+        InOrder inOrder = Mockito.inOrder( connection );
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, FetchSizePolicy.adaptive( 64 * 1024 * 1024 ) );
+        inOrder.verify( connection ).writeAndFlush( eq( new PullMessage( AdaptiveFetchSize.INITIAL_FETCH_SIZE, -1 ) ), any() );
+
+        // the consumer waits for records, which arrive in a burst
+        handler.peekAsync();
+        for ( int i = 0; i < 60; i++ )
+        {
+            handler.onRecord( values( i ) );
+        }
+        assertEquals( 30, handler.drainRecords( new ArrayDeque<>(), Integer.MAX_VALUE ) );
+        for ( int i = 60; i < AdaptiveFetchSize.INITIAL_FETCH_SIZE; i++ )
+        {
+            handler.onRecord( values( i ) );
+        }
+        handler.onSuccess( singletonMap( "has_more", BooleanValue.TRUE ) );
+
+        inOrder.verify( connection ).writeAndFlush( eq( new PullMessage( AdaptiveFetchSize.INITIAL_FETCH_SIZE * 2, -1 ) ), any() );
+    }
+
+    @Test
+    void shouldLimitDrainedRecordsToLowWatermark()
+    {
+        Connection connection = connectionMock();
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, FetchSizePolicy.fixed( 10 ) );
+        for ( int i = 0; i < 10; i++ )
+        {
+            handler.onRecord( values( i ) );
+        }
+        handler.onSuccess( singletonMap( "has_more", BooleanValue.TRUE ) );
+
+        Queue<Record> sink = new ArrayDeque<>();
+        assertEquals( 3, handler.drainRecords( sink, Integer.MAX_VALUE ) );
+        assertEquals( 3, handler.drainRecords( sink, Integer.MAX_VALUE ) );
+        verify( connection, times( 1 ) ).writeAndFlush( eq( new PullMessage( 10, -1 ) ), any() );
+
+        // the next batch is only requested once the queue reaches the low watermark
+        assertEquals( 3, handler.drainRecords( sink, Integer.MAX_VALUE ) );
+        verify( connection, times( 2 ) ).writeAndFlush( eq( new PullMessage( 10, -1 ) ), any() );
+        assertEquals( 1, handler.drainRecords( sink, Integer.MAX_VALUE ) );
+        assertEquals( 10, sink.size() );
+    }
+
+    @Test
+    void shouldNotGuardStateWithObjectMonitor() throws Exception
+    {
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connectionMock(), FetchSizePolicy.fixed( DEFAULT_FETCH_SIZE ) );
+        CountDownLatch monitorHeld = new CountDownLatch( 1 );
+        CountDownLatch releaseMonitor = new CountDownLatch( 1 );
+
+        Thread monitorHolder = new Thread( () ->
+        {
+            synchronized ( handler )
+            {
+                monitorHeld.countDown();
+                try
+                {
+                    releaseMonitor.await();
+                }
+                catch ( InterruptedException e )
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        } );
+        monitorHolder.start();
+        monitorHeld.await();
+
+        try
+        {
+            assertTimeoutPreemptively( Duration.ofSeconds( 10 ), () ->
+            {
+                handler.onRecord( values( 1 ) );
+                assertEquals( 1, handler.nextAsync().toCompletableFuture().get().get( 0 ).asInt() );
+            } );
+        }
+        finally
+        {
+            releaseMonitor.countDown();
+            monitorHolder.join();
+        }
+    }
 }
@@ -21,6 +21,7 @@ package org.neo4j.driver.internal.handlers.pulln;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 
 import java.util.HashMap;
 import java.util.function.BiConsumer;
@@ -32,15 +33,21 @@ import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.messaging.request.DiscardMessage;
 import org.neo4j.driver.internal.messaging.request.PullMessage;
 import org.neo4j.driver.internal.messaging.v43.BoltProtocolV43;
+import org.neo4j.driver.internal.metrics.QueryExecution;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.value.BooleanValue;
 import org.neo4j.driver.summary.ResultSummary;
 
+import static java.util.Collections.emptyMap;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -236,6 +243,55 @@ abstract class BasicPullResponseHandlerTestBase
         assertThat( handler.state(), equalTo( BasicPullResponseHandler.State.CANCELLED_STATE ) );
     }
 
+    @Test
+    void shouldDiscardRecordsOnlyWhenCancelled() throws Throwable
+    {
+        Connection conn = mockConnection();
+        BasicPullResponseHandler handler = newResponseHandlerWithStatus( conn, BasicPullResponseHandler.State.STREAMING_STATE );
+        assertFalse( handler.isDiscardingRecords() );
+
+        handler.cancel();
+
+        assertTrue( handler.isDiscardingRecords() );
+    }
+
+    @Test
+    void shouldReportQueryExecutionOnCompletion() throws Throwable
+    {
+        Connection conn = mockConnection();
+        when( conn.isQueryExecutionObserved() ).thenReturn( true );
+        BasicPullResponseHandler handler = newResponseHandlerWithStatus( conn, BasicPullResponseHandler.State.STREAMING_STATE );
+
+        handler.onRecordSize( 10 );
+        handler.onRecordDecodeTime( 5 );
+        handler.onRecord( new Value[0] );
+        handler.onRecordSize( 20 );
+        handler.onRecordDecodeTime( 7 );
+        handler.onRecord( new Value[0] );
+        handler.onSuccess( emptyMap() );
+
+        ArgumentCaptor<QueryExecution> captor = ArgumentCaptor.forClass( QueryExecution.class );
+        verify( conn ).afterQueryCompleted( captor.capture() );
+        QueryExecution execution = captor.getValue();
+        assertTrue( execution.successful() );
+        assertEquals( 2, execution.records() );
+        assertEquals( 30, execution.bytes() );
+        assertEquals( 12, execution.decodeNanos() );
+    }
+
+    @Test
+    void shouldNotCollectQueryExecutionWhenNotObserved() throws Throwable
+    {
+        Connection conn = mockConnection();
+        BasicPullResponseHandler handler = newResponseHandlerWithStatus( conn, BasicPullResponseHandler.State.STREAMING_STATE );
+
+        handler.onRecord( new Value[0] );
+        handler.onSuccess( emptyMap() );
+
+        verify( conn ).afterResultCompleted();
+        verify( conn, never() ).afterQueryCompleted( any() );
+    }
+
     static Connection mockConnection()
     {
         Connection conn = mock( Connection.class );
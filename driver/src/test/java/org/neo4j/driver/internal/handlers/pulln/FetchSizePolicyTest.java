@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.handlers.pulln;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.DEFAULT_FETCH_SIZE;
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
+
+class FetchSizePolicyTest
+{
+    @Test
+    void shouldCreateFixedPolicy()
+    {
+        FetchSizePolicy policy = FetchSizePolicy.fixed( DEFAULT_FETCH_SIZE );
+
+        assertFalse( policy.isAdaptive() );
+        assertEquals( DEFAULT_FETCH_SIZE, policy.fetchSize() );
+        assertEquals( 0, policy.memoryBudgetBytes() );
+        assertEquals( FetchSizePolicy.fixed( DEFAULT_FETCH_SIZE ), policy );
+    }
+
+    @Test
+    void shouldCreateUnlimitedPolicy()
+    {
+        assertFalse( FetchSizePolicy.UNLIMITED.isAdaptive() );
+        assertEquals( UNLIMITED_FETCH_SIZE, FetchSizePolicy.UNLIMITED.fetchSize() );
+        assertEquals( FetchSizePolicy.fixed( UNLIMITED_FETCH_SIZE ), FetchSizePolicy.UNLIMITED );
+    }
+
+    @Test
+    void shouldCreateAdaptivePolicy()
+    {
+        FetchSizePolicy policy = FetchSizePolicy.adaptive( 4096 );
+
+        assertTrue( policy.isAdaptive() );
+        assertEquals( 4096, policy.memoryBudgetBytes() );
+        assertEquals( AdaptiveFetchSize.INITIAL_FETCH_SIZE, policy.fetchSize() );
+        assertNotEquals( FetchSizePolicy.fixed( AdaptiveFetchSize.INITIAL_FETCH_SIZE ), policy );
+    }
+
+    @Test
+    void shouldRejectInvalidValues()
+    {
+        assertThrows( IllegalArgumentException.class, () -> FetchSizePolicy.fixed( 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> FetchSizePolicy.fixed( -2 ) );
+        assertThrows( IllegalArgumentException.class, () -> FetchSizePolicy.adaptive( 0 ) );
+    }
+}
@@ -23,9 +23,17 @@ import org.junit.jupiter.api.Test;
 
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.connection.ChannelAttributes;
+import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class ChannelActivityLoggerTest
 {
@@ -73,4 +81,20 @@ class ChannelActivityLoggerTest
 
         assertEquals( "[0x" + channel.id() + "][][bolt-12345] Hello!", reformatted );
     }
+
+    @Test
+    void shouldApplyLogLevelChangesOfExistingChannels()
+    {
+        Logger delegate = mock( Logger.class );
+        Logging logging = mock( Logging.class );
+        when( logging.getLog( getClass() ) ).thenReturn( delegate );
+        ChannelActivityLogger activityLogger = new ChannelActivityLogger( new EmbeddedChannel(), logging, getClass() );
+
+        activityLogger.debug( "Hello %s!", "world" );
+        verify( delegate, never() ).debug( anyString(), any( Object[].class ) );
+
+        when( delegate.isDebugEnabled() ).thenReturn( true );
+        activityLogger.debug( "Hello %s!", "world" );
+        verify( delegate ).debug( anyString(), eq( "world" ) );
+    }
 }
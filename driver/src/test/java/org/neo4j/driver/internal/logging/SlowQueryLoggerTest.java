@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.logging;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.Config;
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.metrics.QueryExecution;
+import org.neo4j.driver.internal.util.FakeClock;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.Values.parameters;
+import static org.neo4j.driver.internal.DatabaseNameUtil.database;
+
+class SlowQueryLoggerTest
+{
+    private static final BoltServerAddress ADDRESS = new BoltServerAddress( "server", 7687 );
+    private static final Query QUERY = new Query( "MATCH (n {secret: $secret}) RETURN n", parameters( "secret", "hunter2" ) );
+
+    private final FakeClock clock = new FakeClock();
+    private final Logger log = mock( Logger.class );
+
+    @Test
+    void shouldBeDisabledByDefault()
+    {
+        assertSame( SlowQueryLogger.DISABLED, SlowQueryLogger.create( Config.defaultConfig(), clock ) );
+    }
+
+    @Test
+    void shouldNotLogFastQueries()
+    {
+        SlowQueryLogger logger = newLogger( 10, false );
+
+        logger.afterQueryCompleted( execution( 4, 5, 9 ), ADDRESS, 0 );
+
+        verify( log, never() ).warn( anyString(), anyString() );
+    }
+
+    @Test
+    void shouldNotLogFastQueriesConsumedSlowly()
+    {
+        SlowQueryLogger logger = newLogger( 10, false );
+
+        logger.afterQueryCompleted( execution( 1, 2, 1000 ), ADDRESS, 0 );
+
+        verify( log, never() ).warn( anyString(), anyString() );
+    }
+
+    @Test
+    void shouldLogQueriesWithSlowConnectionAcquisition()
+    {
+        SlowQueryLogger logger = newLogger( 10, false );
+
+        logger.afterQueryCompleted( execution( 1, 2, 10 ), ADDRESS, TimeUnit.MILLISECONDS.toNanos( 4 ) );
+        verify( log, never() ).warn( anyString(), anyString() );
+
+        logger.afterQueryCompleted( execution( 1, 2, 10 ), ADDRESS, TimeUnit.MILLISECONDS.toNanos( 8 ) );
+        assertThat( loggedMessages( 1 ), containsString( "Slow query took 3ms on the server (acquire: 8ms, run: 5ms, stream: 5ms)" ) );
+    }
+
+    @Test
+    void shouldFallBackToRunRoundTripWhenServerDoesNotReportTimings()
+    {
+        SlowQueryLogger logger = newLogger( 10, false );
+
+        logger.afterQueryCompleted( execution( QUERY, 5, -1, -1, 1000 ), ADDRESS, 0 );
+        verify( log, never() ).warn( anyString(), anyString() );
+
+        logger.afterQueryCompleted( execution( QUERY, 20, -1, -1, 1000 ), ADDRESS, 0 );
+        assertThat( loggedMessages( 1 ), containsString( "Slow query took 20ms on the server (acquire: 0ms, run: 20ms, stream: 980ms)" ) );
+    }
+
+    @Test
+    void shouldLogSlowQueryWithRedactedParameters()
+    {
+        SlowQueryLogger logger = newLogger( 10, false );
+
+        logger.afterQueryCompleted( execution( 8, 12, 40 ), ADDRESS, TimeUnit.MILLISECONDS.toNanos( 3 ) );
+
+        String message = loggedMessages( 1 );
+        assertThat( message, containsString( "Slow query took 20ms on the server (acquire: 3ms, run: 5ms, stream: 35ms)" ) );
+        assertThat( message, containsString( "7 records received" ) );
+        assertThat( message, containsString( "database: neo4j" ) );
+        assertThat( message, containsString( "server: server:7687" ) );
+        assertThat( message, containsString( "query: 'MATCH (n {secret: $secret}) RETURN n'" ) );
+        assertThat( message, containsString( "parameters: {secret: <redacted>}" ) );
+        assertThat( message, not( containsString( "hunter2" ) ) );
+    }
+
+    @Test
+    void shouldLogParametersWhenEnabled()
+    {
+        SlowQueryLogger logger = newLogger( 10, true );
+
+        logger.afterQueryCompleted( slowExecution(), ADDRESS, -1 );
+
+        String message = loggedMessages( 1 );
+        assertThat( message, containsString( "acquire: unknown" ) );
+        assertThat( message, containsString( "parameters: {secret: \"hunter2\"}" ) );
+    }
+
+    @Test
+    void shouldAbbreviateLongParameters()
+    {
+        SlowQueryLogger logger = newLogger( 10, true );
+        String value = new String( new char[200] ).replace( '\0', 'x' );
+        Query query = new Query( "RETURN $value", parameters( "value", value ) );
+
+        logger.afterQueryCompleted( execution( query, 5, 10, 10, 20 ), ADDRESS, 0 );
+
+        String message = loggedMessages( 1 );
+        assertThat( message, not( containsString( value ) ) );
+        assertThat( message, containsString( "..." ) );
+    }
+
+    @Test
+    void shouldRateLimitLoggedQueries()
+    {
+        SlowQueryLogger logger = new SlowQueryLogger( 10, 2, false, clock, logging() );
+
+        for ( int i = 0; i < 5; i++ )
+        {
+            logger.afterQueryCompleted( slowExecution(), ADDRESS, 0 );
+        }
+        verify( log, times( 2 ) ).warn( anyString(), anyString() );
+
+        clock.progress( 1000 );
+        logger.afterQueryCompleted( slowExecution(), ADDRESS, 0 );
+
+        String message = loggedMessages( 3 );
+        assertThat( message, containsString( "3 slow queries were not logged due to the rate limit" ) );
+    }
+
+    private SlowQueryLogger newLogger( long thresholdMillis, boolean logParameters )
+    {
+        return new SlowQueryLogger( thresholdMillis, 10, logParameters, clock, logging() );
+    }
+
+    private Logging logging()
+    {
+        Logging logging = mock( Logging.class );
+        when( logging.getLog( any( Class.class ) ) ).thenReturn( log );
+        return logging;
+    }
+
+    private String loggedMessages( int count )
+    {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass( String.class );
+        verify( log, times( count ) ).warn( anyString(), captor.capture() );
+        return captor.getValue();
+    }
+
+    private static QueryExecution slowExecution()
+    {
+        return execution( 10, 10, 20 );
+    }
+
+    private static QueryExecution execution( long resultAvailableAfterMillis, long resultConsumedAfterMillis, long totalMillis )
+    {
+        return execution( QUERY, 5, resultAvailableAfterMillis, resultConsumedAfterMillis, totalMillis );
+    }
+
+    private static QueryExecution execution( Query query, long runMillis, long resultAvailableAfterMillis, long resultConsumedAfterMillis,
+                                             long totalMillis )
+    {
+        return new QueryExecution( true, TimeUnit.MILLISECONDS.toNanos( runMillis ), resultAvailableAfterMillis, resultConsumedAfterMillis, 0, 7, 100,
+                                   query, TimeUnit.MILLISECONDS.toNanos( totalMillis ) ).withTarget( database( "neo4j" ), null );
+    }
+}
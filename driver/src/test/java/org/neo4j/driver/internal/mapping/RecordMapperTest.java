@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.mapping;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.InternalRecord;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.neo4j.driver.Values.NULL;
+import static org.neo4j.driver.Values.value;
+
+class RecordMapperTest
+{
+    private static final List<String> KEYS = asList( "name", "age", "born", "unknown" );
+
+    @Test
+    void shouldMapColumnsToFieldsAndSetters()
+    {
+        RecordMapper<Person> mapper = RecordMapper.of( Person.class );
+
+        Person person = mapper.apply( record( KEYS, value( "Alice" ), value( 42 ), value( LocalDate.of( 1980, 1, 2 ) ), value( "ignored" ) ) );
+
+        assertEquals( "Alice", person.name );
+        assertEquals( 42, person.age );
+        assertEquals( LocalDate.of( 1980, 1, 2 ), person.born );
+        assertEquals( 1, person.setterCalls );
+    }
+
+    @Test
+    void shouldResolveColumnsPerKeys()
+    {
+        RecordMapper<Person> mapper = RecordMapper.of( Person.class );
+
+        Person first = mapper.apply( record( asList( "name", "age" ), value( "Alice" ), value( 42 ) ) );
+        Person second = mapper.apply( record( asList( "age", "name" ), value( 7 ), value( "Bob" ) ) );
+
+        assertEquals( "Alice", first.name );
+        assertEquals( 42, first.age );
+        assertEquals( "Bob", second.name );
+        assertEquals( 7, second.age );
+    }
+
+    @Test
+    void shouldLeaveUnmatchedPropertiesUntouched()
+    {
+        Person person = RecordMapper.of( Person.class ).apply( record( asList( "name" ), value( "Alice" ) ) );
+
+        assertEquals( "Alice", person.name );
+        assertEquals( 0, person.age );
+        assertNull( person.born );
+    }
+
+    @Test
+    void shouldMapNullToObjectProperty()
+    {
+        Person person = RecordMapper.of( Person.class ).apply( record( asList( "name", "born" ), NULL, NULL ) );
+
+        assertNull( person.name );
+        assertNull( person.born );
+    }
+
+    @Test
+    void shouldFailToMapNullToPrimitiveProperty()
+    {
+        RecordMapper<Person> mapper = RecordMapper.of( Person.class );
+
+        ClientException error = assertThrows( ClientException.class, () -> mapper.apply( record( asList( "age" ), NULL ) ) );
+
+        assertThat( error.getMessage(), containsString( "'age'" ) );
+    }
+
+    @Test
+    void shouldMapEnums()
+    {
+        Pet pet = RecordMapper.of( Pet.class ).apply( record( asList( "kind" ), value( "CAT" ) ) );
+
+        assertEquals( Kind.CAT, pet.kind );
+        assertThrows( ClientException.class, () -> RecordMapper.of( Pet.class ).apply( record( asList( "kind" ), value( "FISH" ) ) ) );
+    }
+
+    @Test
+    void shouldFailForTypesWithoutNoArgumentConstructor()
+    {
+        ClientException error = assertThrows( ClientException.class, () -> RecordMapper.of( Immutable.class ) );
+
+        assertThat( error.getMessage(), containsString( "no-argument constructor" ) );
+    }
+
+    @Test
+    void shouldFailForInterfaces()
+    {
+        assertThrows( ClientException.class, () -> RecordMapper.of( Runnable.class ) );
+    }
+
+    @Test
+    void shouldFailForUnsupportedPropertyWithMatchingColumn()
+    {
+        RecordMapper<Holder> mapper = RecordMapper.of( Holder.class );
+
+        assertThrows( ClientException.class, () -> mapper.apply( record( asList( "thread" ), value( "main" ) ) ) );
+        assertEquals( "x", mapper.apply( record( asList( "name" ), value( "x" ) ) ).name );
+    }
+
+    @Test
+    void shouldCacheTypeMappings()
+    {
+        assertSame( TypeMapping.of( Person.class ), TypeMapping.of( Person.class ) );
+    }
+
+    @Test
+    void shouldNotTouchMembersWithoutMatchingColumn()
+    {
+        // the private fields of java.util.Observable can not be made accessible on Java 9 and later
+        Watched watched = RecordMapper.of( Watched.class ).apply( record( asList( "name" ), value( "Alice" ) ) );
+
+        assertEquals( "Alice", watched.name );
+    }
+
+    @Test
+    void shouldFailWithClearErrorWhenMatchedMemberIsNotAccessible()
+    {
+        RecordMapper<Watched> mapper = RecordMapper.of( Watched.class );
+        Record record = record( asList( "name", "changed" ), value( "Alice" ), value( true ) );
+
+        assumeFalse( canMakeAccessible( java.util.Observable.class, "changed" ) );
+
+        ClientException e = assertThrows( ClientException.class, () -> mapper.apply( record ) );
+        assertThat( e.getMessage(), containsString( "is not accessible" ) );
+    }
+
+    private static boolean canMakeAccessible( Class<?> type, String fieldName )
+    {
+        try
+        {
+            type.getDeclaredField( fieldName ).setAccessible( true );
+            return true;
+        }
+        catch ( NoSuchFieldException | RuntimeException e )
+        {
+            return false;
+        }
+    }
+
+    private static Record record( List<String> keys, Value... values )
+    {
+        return new InternalRecord( keys, Arrays.copyOf( values, keys.size() ) );
+    }
+
+    @SuppressWarnings( "deprecation" )
+    static class Watched extends java.util.Observable
+    {
+        public String name;
+    }
+
+    static class Person
+    {
+        String name;
+        int age;
+        private LocalDate born;
+        transient int setterCalls;
+
+        public void setBorn( LocalDate born )
+        {
+            this.born = born;
+            setterCalls++;
+        }
+    }
+
+    enum Kind
+    {
+        CAT,
+        DOG
+    }
+
+    static class Pet
+    {
+        Kind kind;
+    }
+
+    static class Holder
+    {
+        String name;
+        Thread thread;
+    }
+
+    static class Immutable
+    {
+        final String name;
+
+        Immutable( String name )
+        {
+            this.name = name;
+        }
+    }
+}
@@ -38,6 +38,7 @@ import org.neo4j.driver.internal.messaging.response.IgnoredMessage;
 import org.neo4j.driver.internal.messaging.response.RecordMessage;
 import org.neo4j.driver.internal.messaging.response.SuccessMessage;
 import org.neo4j.driver.internal.messaging.v3.MessageFormatV3;
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
 import org.neo4j.driver.internal.packstream.PackStream;
 import org.neo4j.driver.internal.util.messaging.KnowledgeableMessageFormat;
 import org.neo4j.driver.internal.util.messaging.MemorizingInboundMessageDispatcher;
@@ -141,7 +142,7 @@ class MessageFormatTest
     {
         EmbeddedChannel channel = new EmbeddedChannel();
         setMessageDispatcher( channel, new MemorizingInboundMessageDispatcher( channel, DEV_NULL_LOGGING ) );
-        new ChannelPipelineBuilderImpl().build( format, channel.pipeline(), DEV_NULL_LOGGING );
+        new ChannelPipelineBuilderImpl( DevNullMetricsListener.INSTANCE ).build( format, channel.pipeline(), DEV_NULL_LOGGING );
         return channel;
     }
 
@@ -55,6 +55,7 @@ import org.neo4j.driver.internal.handlers.CommitTxResponseHandler;
 import org.neo4j.driver.internal.handlers.PullAllResponseHandler;
 import org.neo4j.driver.internal.handlers.RollbackTxResponseHandler;
 import org.neo4j.driver.internal.handlers.RunResponseHandler;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizePolicy;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.MessageFormat;
 import org.neo4j.driver.internal.messaging.request.BeginMessage;
@@ -91,7 +92,6 @@ import static org.mockito.Mockito.when;
 import static org.neo4j.driver.AccessMode.WRITE;
 import static org.neo4j.driver.Values.value;
 import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
-import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
 import static org.neo4j.driver.util.TestUtil.await;
 import static org.neo4j.driver.util.TestUtil.connectionMock;
 
@@ -361,7 +361,7 @@ public class BoltProtocolV3Test
         ClientException e = assertThrows( ClientException.class,
                                           () -> protocol.runInAutoCommitTransaction( connectionMock( "foo", protocol ),
                                                                                      new Query( "RETURN 1" ), BookmarksHolder.NO_OP, TransactionConfig.empty(),
-                                                                                     UNLIMITED_FETCH_SIZE ) );
+                                                                                     FetchSizePolicy.UNLIMITED ) );
         assertThat( e.getMessage(), startsWith( "Database name parameter for selecting database is not supported" ) );
     }
 
@@ -372,7 +372,7 @@ public class BoltProtocolV3Test
         {
             e = assertThrows( ClientException.class,
                               () -> protocol.runInAutoCommitTransaction( connectionMock( "foo", protocol ), new Query( "RETURN 1" ), BookmarksHolder.NO_OP,
-                                                                         TransactionConfig.empty(), UNLIMITED_FETCH_SIZE ) );
+                                                                         TransactionConfig.empty(), FetchSizePolicy.UNLIMITED ) );
         }
         else
         {
@@ -389,7 +389,7 @@ public class BoltProtocolV3Test
         Connection connection = connectionMock( mode, protocol );
 
         CompletableFuture<AsyncResultCursor> cursorFuture =
-                protocol.runInUnmanagedTransaction( connection, QUERY, mock( UnmanagedTransaction.class ), UNLIMITED_FETCH_SIZE ).asyncResult()
+                protocol.runInUnmanagedTransaction( connection, QUERY, mock( UnmanagedTransaction.class ), FetchSizePolicy.UNLIMITED ).asyncResult()
                         .toCompletableFuture();
 
         ResponseHandler runResponseHandler = verifyRunInvoked( connection, false, Collections.emptySet(), TransactionConfig.empty(), mode ).runHandler;
@@ -428,11 +428,11 @@ public class BoltProtocolV3Test
         if ( autoCommitTx )
         {
             BookmarksHolder bookmarksHolder = new DefaultBookmarksHolder( initialBookmarks );
-            cursorStage = protocol.runInAutoCommitTransaction( connection, QUERY, bookmarksHolder, config, UNLIMITED_FETCH_SIZE ).asyncResult();
+            cursorStage = protocol.runInAutoCommitTransaction( connection, QUERY, bookmarksHolder, config, FetchSizePolicy.UNLIMITED ).asyncResult();
         }
         else
         {
-            cursorStage = protocol.runInUnmanagedTransaction( connection, QUERY, mock( UnmanagedTransaction.class ), UNLIMITED_FETCH_SIZE ).asyncResult();
+            cursorStage = protocol.runInUnmanagedTransaction( connection, QUERY, mock( UnmanagedTransaction.class ), FetchSizePolicy.UNLIMITED ).asyncResult();
         }
 
         CompletableFuture<AsyncResultCursor> cursorFuture = cursorStage.toCompletableFuture();
@@ -453,7 +453,7 @@ public class BoltProtocolV3Test
         BookmarksHolder bookmarksHolder = new DefaultBookmarksHolder( bookmarks );
 
         CompletableFuture<AsyncResultCursor> cursorFuture =
-                protocol.runInAutoCommitTransaction( connection, QUERY, bookmarksHolder, config, UNLIMITED_FETCH_SIZE )
+                protocol.runInAutoCommitTransaction( connection, QUERY, bookmarksHolder, config, FetchSizePolicy.UNLIMITED )
                         .asyncResult()
                         .toCompletableFuture();
         assertFalse( cursorFuture.isDone() );
@@ -475,7 +475,7 @@ public class BoltProtocolV3Test
         BookmarksHolder bookmarksHolder = new DefaultBookmarksHolder( bookmarks );
 
         CompletableFuture<AsyncResultCursor> cursorFuture =
-                protocol.runInAutoCommitTransaction( connection, QUERY, bookmarksHolder, config, UNLIMITED_FETCH_SIZE )
+                protocol.runInAutoCommitTransaction( connection, QUERY, bookmarksHolder, config, FetchSizePolicy.UNLIMITED )
                         .asyncResult()
                         .toCompletableFuture();
         assertFalse( cursorFuture.isDone() );
@@ -56,6 +56,7 @@ import org.neo4j.driver.internal.handlers.CommitTxResponseHandler;
 import org.neo4j.driver.internal.handlers.PullAllResponseHandler;
 import org.neo4j.driver.internal.handlers.RollbackTxResponseHandler;
 import org.neo4j.driver.internal.handlers.RunResponseHandler;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizePolicy;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.MessageFormat;
 import org.neo4j.driver.internal.messaging.request.BeginMessage;
@@ -93,7 +94,6 @@ import static org.neo4j.driver.AccessMode.WRITE;
 import static org.neo4j.driver.Values.value;
 import static org.neo4j.driver.internal.DatabaseNameUtil.database;
 import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
-import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
 import static org.neo4j.driver.util.TestUtil.await;
 import static org.neo4j.driver.util.TestUtil.connectionMock;
 
@@ -353,7 +353,7 @@ public final class BoltProtocolV4Test
     {
         assertDoesNotThrow(
                 () -> protocol.runInAutoCommitTransaction( connectionMock( "foo", protocol ),
-                                                           new Query( "RETURN 1" ), BookmarksHolder.NO_OP, TransactionConfig.empty(), UNLIMITED_FETCH_SIZE ) );
+                                                           new Query( "RETURN 1" ), BookmarksHolder.NO_OP, TransactionConfig.empty(), FetchSizePolicy.UNLIMITED ) );
     }
 
     private BoltProtocol createProtocol()
@@ -378,7 +378,7 @@ public final class BoltProtocolV4Test
         BookmarksHolder bookmarksHolder = new DefaultBookmarksHolder( bookmarks );
 
         CompletableFuture<AsyncResultCursor> cursorFuture =
-                protocol.runInAutoCommitTransaction( connection, QUERY, bookmarksHolder, config, UNLIMITED_FETCH_SIZE )
+                protocol.runInAutoCommitTransaction( connection, QUERY, bookmarksHolder, config, FetchSizePolicy.UNLIMITED )
                         .asyncResult()
                         .toCompletableFuture();
 
@@ -403,7 +403,7 @@ public final class BoltProtocolV4Test
         BookmarksHolder bookmarksHolder = new DefaultBookmarksHolder( bookmarks );
 
         CompletableFuture<AsyncResultCursor> cursorFuture =
-                protocol.runInAutoCommitTransaction( connection, QUERY, bookmarksHolder, config, UNLIMITED_FETCH_SIZE )
+                protocol.runInAutoCommitTransaction( connection, QUERY, bookmarksHolder, config, FetchSizePolicy.UNLIMITED )
                         .asyncResult()
                         .toCompletableFuture();
 
@@ -425,7 +425,7 @@ public final class BoltProtocolV4Test
         Connection connection = connectionMock( mode, protocol );
 
         CompletableFuture<AsyncResultCursor> cursorFuture =
-                protocol.runInUnmanagedTransaction( connection, QUERY, mock( UnmanagedTransaction.class ), UNLIMITED_FETCH_SIZE )
+                protocol.runInUnmanagedTransaction( connection, QUERY, mock( UnmanagedTransaction.class ), FetchSizePolicy.UNLIMITED )
                         .asyncResult()
                         .toCompletableFuture();
 
@@ -466,12 +466,12 @@ public final class BoltProtocolV4Test
         if ( autoCommitTx )
         {
             BookmarksHolder bookmarksHolder = new DefaultBookmarksHolder( initialBookmarks );
-            cursorStage = protocol.runInAutoCommitTransaction( connection, QUERY, bookmarksHolder, config, UNLIMITED_FETCH_SIZE )
+            cursorStage = protocol.runInAutoCommitTransaction( connection, QUERY, bookmarksHolder, config, FetchSizePolicy.UNLIMITED )
                                   .asyncResult();
         }
         else
         {
-            cursorStage = protocol.runInUnmanagedTransaction( connection, QUERY, mock( UnmanagedTransaction.class ), UNLIMITED_FETCH_SIZE )
+            cursorStage = protocol.runInUnmanagedTransaction( connection, QUERY, mock( UnmanagedTransaction.class ), FetchSizePolicy.UNLIMITED )
                                   .asyncResult();
         }
 
@@ -493,7 +493,7 @@ public final class BoltProtocolV4Test
         if ( autoCommitTx )
         {
             ResultCursorFactory factory =
-                    protocol.runInAutoCommitTransaction( connection, QUERY, BookmarksHolder.NO_OP, TransactionConfig.empty(), UNLIMITED_FETCH_SIZE );
+                    protocol.runInAutoCommitTransaction( connection, QUERY, BookmarksHolder.NO_OP, TransactionConfig.empty(), FetchSizePolicy.UNLIMITED );
             CompletionStage<AsyncResultCursor> resultStage = factory.asyncResult();
             ResponseHandler runHandler =
                     verifySessionRunInvoked( connection, Collections.emptySet(), TransactionConfig.empty(), AccessMode.WRITE, database( "foo" ) );
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.DomainNameResolutionMetrics;
+import org.neo4j.driver.EventLoopMetrics;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.messaging.request.PullMessage;
+import org.neo4j.driver.internal.messaging.response.SuccessMessage;
+import org.neo4j.driver.internal.util.Clock;
+import org.neo4j.driver.internal.util.FakeClock;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.driver.internal.DatabaseNameUtil.database;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+class InternalMetricsTest
+{
+    @Test
+    void shouldAggregateQueryExecutionsPerDatabaseAndMode()
+    {
+        InternalMetrics metrics = new InternalMetrics( Clock.SYSTEM, DEV_NULL_LOGGING );
+
+        metrics.afterQueryCompleted( new QueryExecution( true, 10_000_000, 2, 3, 40_000, 5, 600 ).withTarget( database( "neo4j" ), AccessMode.READ ) );
+        metrics.afterQueryCompleted( new QueryExecution( false, 20_000_000, -1, -1, 0, 0, 0 ).withTarget( database( "neo4j" ), AccessMode.READ ) );
+        metrics.afterQueryCompleted( new QueryExecution( true, 300, 1, 1, 1, 1, 1 ).withTarget( database( "neo4j" ), AccessMode.WRITE ) );
+
+        InternalQueryMetrics reads = metrics.queryMetrics( "neo4j", "READ" );
+        assertEquals( 1, reads.completed() );
+        assertEquals( 1, reads.failed() );
+        assertEquals( 10, reads.runTimePercentile( 0.5 ) );
+        assertEquals( 20, reads.runTimePercentile( 1 ) );
+        assertEquals( 2, reads.resultAvailableAfterPercentile( 1 ) );
+        assertEquals( 3, reads.resultConsumedAfterPercentile( 1 ) );
+        assertEquals( 40, reads.decodeTimePercentile( 1 ) );
+        assertEquals( 5, reads.recordsPercentile( 1 ) );
+        assertEquals( 0, reads.recordsPercentile( 0.5 ) );
+        assertEquals( 5, reads.totalRecords() );
+        assertEquals( 600, reads.totalBytes() );
+        assertEquals( 1, metrics.queryMetrics( "neo4j", "WRITE" ).completed() );
+        assertEquals( 2, metrics.queryMetrics().size() );
+        assertThat( metrics.toString(), containsString( "database=neo4j, accessMode=WRITE, completed=1" ) );
+    }
+
+    @Test
+    void shouldCountWireTrafficPerPool()
+    {
+        InternalMetrics metrics = new InternalMetrics( Clock.SYSTEM, DEV_NULL_LOGGING );
+        metrics.registerPoolMetrics( "pool", new BoltServerAddress( "localhost", 7687 ), () -> 0, () -> 0 );
+
+        metrics.afterMessageSent( "pool", PullMessage.SIGNATURE, 12, 1 );
+        metrics.afterMessageSent( "pool", PullMessage.SIGNATURE, 12, 1 );
+        metrics.afterFlush( "pool" );
+        metrics.afterMessageReceived( "pool", SuccessMessage.SIGNATURE, 40, 1 );
+        metrics.afterMessageReceived( "unknown", SuccessMessage.SIGNATURE, 40, 1 );
+
+        ConnectionPoolMetrics poolMetrics = metrics.connectionPoolMetrics().iterator().next();
+        assertEquals( 24, poolMetrics.bytesSent() );
+        assertEquals( 40, poolMetrics.bytesReceived() );
+        assertEquals( 2, poolMetrics.chunksSent() );
+        assertEquals( 1, poolMetrics.chunksReceived() );
+        assertEquals( 1, poolMetrics.flushes() );
+        assertEquals( singletonMap( "PULL", 2L ), poolMetrics.messagesSent() );
+        assertEquals( singletonMap( "SUCCESS", 1L ), poolMetrics.messagesReceived() );
+    }
+
+    @Test
+    void shouldRecordAcquisitionTimePercentiles()
+    {
+        FakeClock clock = new FakeClock();
+        InternalMetrics metrics = new InternalMetrics( clock, DEV_NULL_LOGGING );
+        metrics.registerPoolMetrics( "pool", new BoltServerAddress( "localhost", 7687 ), () -> 0, () -> 0 );
+
+        for ( int i = 0; i < 1_000; i++ )
+        {
+            ListenerEvent<?> acquireEvent = metrics.createListenerEvent();
+            metrics.beforeAcquiringOrCreating( "pool", acquireEvent );
+            clock.progress( i < 990 ? 3 : 900 );
+            metrics.afterAcquiredOrCreated( "pool", acquireEvent );
+        }
+
+        ConnectionPoolMetrics poolMetrics = metrics.connectionPoolMetrics().iterator().next();
+        assertEquals( 990 * 3 + 10 * 900, poolMetrics.totalAcquisitionTime() );
+        assertEquals( 3, poolMetrics.acquisitionTimePercentile( 0.5 ) );
+        assertEquals( 3, poolMetrics.acquisitionTimePercentile( 0.99 ) );
+        assertEquals( 911, poolMetrics.acquisitionTimePercentile( 0.999 ) );
+        assertEquals( 0, poolMetrics.inUseTimePercentile( 0.99 ) );
+        assertThat( metrics.toString(), containsString( "acquisitionTime=[p50=3, p99=3, p999=911]" ) );
+    }
+
+    @Test
+    void shouldRecordWaitingAcquisitionsAndHealthChecks()
+    {
+        FakeClock clock = new FakeClock();
+        InternalMetrics metrics = new InternalMetrics( clock, DEV_NULL_LOGGING );
+        metrics.registerPoolMetrics( "pool", new BoltServerAddress( "localhost", 7687 ), () -> 0, () -> 0 );
+        ConnectionPoolMetrics poolMetrics = metrics.connectionPoolMetrics().iterator().next();
+
+        ListenerEvent<?> waitEvent = metrics.createListenerEvent();
+        metrics.beforeWaitingToAcquire( "pool", waitEvent );
+        assertEquals( 1, poolMetrics.waitingToAcquire() );
+        clock.progress( 20 );
+        metrics.afterWaitingToAcquire( "pool", waitEvent );
+        metrics.afterAcquiredConnection( "pool", true );
+        metrics.afterAcquiredConnection( "pool", false );
+        metrics.afterAcquiredConnection( "pool", false );
+
+        ListenerEvent<?> healthyCheck = metrics.createListenerEvent();
+        metrics.beforeHealthCheck( "pool", healthyCheck );
+        clock.progress( 2 );
+        metrics.afterHealthCheck( "pool", healthyCheck, true );
+        ListenerEvent<?> failedCheck = metrics.createListenerEvent();
+        metrics.beforeHealthCheck( "pool", failedCheck );
+        clock.progress( 5 );
+        metrics.afterHealthCheck( "pool", failedCheck, false );
+
+        assertEquals( 0, poolMetrics.waitingToAcquire() );
+        assertEquals( 1, poolMetrics.waitedToAcquire() );
+        assertEquals( 20, poolMetrics.waitTimePercentile( 0.99 ) );
+        assertEquals( 1, poolMetrics.acquiredNewConnections() );
+        assertEquals( 2, poolMetrics.acquiredIdleConnections() );
+        assertEquals( 2, poolMetrics.healthChecks() );
+        assertEquals( 1, poolMetrics.failedHealthChecks() );
+        assertEquals( 2, poolMetrics.healthCheckTimePercentile( 0.5 ) );
+        assertEquals( 5, poolMetrics.healthCheckTimePercentile( 1 ) );
+        assertThat( metrics.toString(), containsString( "waitingToAcquire=0, waitedToAcquire=1, acquiredNewConnections=1, acquiredIdleConnections=2" ) );
+    }
+
+    @Test
+    void shouldTrackEventLoops()
+    {
+        InternalMetrics metrics = new InternalMetrics( Clock.SYSTEM, DEV_NULL_LOGGING );
+        metrics.registerEventLoopMetrics( "loop-1", () -> 3, () -> 2 );
+
+        metrics.afterEventLoopProbe( "loop-1", TimeUnit.MILLISECONDS.toNanos( 40 ) );
+        metrics.afterEventLoopProbe( "loop-1", TimeUnit.MILLISECONDS.toNanos( 5 ) );
+        metrics.afterEventLoopBlocked( "loop-1" );
+        metrics.afterEventLoopBlocked( "unknown" );
+
+        EventLoopMetrics eventLoopMetrics = metrics.eventLoopMetrics().iterator().next();
+        assertEquals( "loop-1", eventLoopMetrics.id() );
+        assertEquals( 3, eventLoopMetrics.pendingTasks() );
+        assertEquals( 2, eventLoopMetrics.activeConnections() );
+        assertEquals( 5, eventLoopMetrics.schedulingLag() );
+        assertEquals( 40, eventLoopMetrics.maxSchedulingLag() );
+        assertEquals( 1, eventLoopMetrics.blockedDetections() );
+
+        metrics.removeEventLoopMetrics( "loop-1" );
+        assertTrue( metrics.eventLoopMetrics().isEmpty() );
+    }
+
+    @Test
+    void shouldCountRetriesPerCause()
+    {
+        InternalMetrics metrics = new InternalMetrics( Clock.SYSTEM, DEV_NULL_LOGGING );
+
+        metrics.afterRetryScheduled( "Neo.TransientError.Transaction.DeadlockDetected" );
+        metrics.afterRetryScheduled( "Neo.TransientError.Transaction.DeadlockDetected" );
+        metrics.afterRetryScheduled( "SessionExpiredException" );
+        metrics.afterRetryBackoff( 40 );
+        metrics.afterRetryBackoff( 2 );
+        metrics.afterRetryRejected( "SessionExpiredException" );
+
+        assertThat( metrics.toString(), containsString( "Neo.TransientError.Transaction.DeadlockDetected=2" ) );
+        assertThat( metrics.toString(), containsString( "SessionExpiredException=1" ) );
+        assertThat( metrics.toString(), containsString( "backoffMillis=42, rejected=1" ) );
+    }
+
+    @Test
+    void shouldCountDomainNameResolutions()
+    {
+        InternalMetrics metrics = new InternalMetrics( Clock.SYSTEM, DEV_NULL_LOGGING );
+
+        metrics.afterDomainNameResolution( true, true );
+        metrics.afterDomainNameResolution( true, false );
+        metrics.afterDomainNameResolution( false, true );
+
+        DomainNameResolutionMetrics resolutionMetrics = metrics.domainNameResolutionMetrics();
+        assertEquals( 2, resolutionMetrics.cacheHits() );
+        assertEquals( 1, resolutionMetrics.cacheMisses() );
+        assertEquals( 1, resolutionMetrics.failures() );
+        assertThat( metrics.toString(), containsString( "DomainNameResolution=[cacheHits=2, cacheMisses=1, failures=1]" ) );
+    }
+}
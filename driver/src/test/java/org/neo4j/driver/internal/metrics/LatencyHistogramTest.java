@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest
+{
+    @Test
+    void shouldReturnZeroWhenEmpty()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals( 0, histogram.count() );
+        assertEquals( 0, histogram.sum() );
+        assertEquals( 0, histogram.snapshot().percentile( 0.99 ) );
+    }
+
+    @Test
+    void shouldRecordSmallValuesExactly()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.rangeClosed( 1, 50 ).forEach( histogram::record );
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals( 50, snapshot.count() );
+        assertEquals( 1, snapshot.percentile( 0 ) );
+        assertEquals( 25, snapshot.percentile( 0.5 ) );
+        assertEquals( 50, snapshot.percentile( 0.99 ) );
+        assertEquals( 50, snapshot.percentile( 1 ) );
+        assertEquals( 1275, histogram.sum() );
+    }
+
+    @Test
+    void shouldExposeTailLatency()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for ( int i = 0; i < 990; i++ )
+        {
+            histogram.record( 2 );
+        }
+        for ( int i = 0; i < 10; i++ )
+        {
+            histogram.record( 5_000 );
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals( 2, snapshot.percentile( 0.5 ) );
+        assertEquals( 2, snapshot.percentile( 0.99 ) );
+        assertWithinPrecision( 5_000, snapshot.percentile( 0.999 ) );
+    }
+
+    @ParameterizedTest
+    @ValueSource( longs = {64, 65, 100, 1_000, 12_345, 1_000_000, 12_345_678_901L} )
+    void shouldRecordLargeValuesWithRelativePrecision( long value )
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record( value );
+
+        assertWithinPrecision( value, histogram.snapshot().percentile( 0.5 ) );
+    }
+
+    @Test
+    void shouldClampOutOfRangeValues()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record( -5 );
+        histogram.record( Long.MAX_VALUE );
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals( 0, snapshot.percentile( 0.5 ) );
+        assertEquals( LatencyHistogram.MAX_VALUE, snapshot.percentile( 1 ) );
+    }
+
+    @Test
+    void shouldMapEveryBucketToItsHighestValue()
+    {
+        for ( int bucket = 0; bucket < LatencyHistogram.BUCKET_COUNT; bucket++ )
+        {
+            long highest = LatencyHistogram.highestValueInBucket( bucket );
+            assertEquals( bucket, LatencyHistogram.bucketIndex( highest ) );
+            if ( bucket + 1 < LatencyHistogram.BUCKET_COUNT )
+            {
+                assertEquals( bucket + 1, LatencyHistogram.bucketIndex( highest + 1 ) );
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource( doubles = {-0.1, 1.1, Double.NaN} )
+    void shouldRejectIllegalPercentiles( double percentile )
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertThrows( IllegalArgumentException.class, () -> histogram.snapshot().percentile( percentile ) );
+    }
+
+    @Test
+    void shouldNotLoseConcurrentRecordings()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threads = 8;
+        int recordingsPerThread = 10_000;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for ( int i = 0; i < threads; i++ )
+        {
+            futures.add( CompletableFuture.runAsync( () ->
+                                                     {
+                                                         for ( int j = 0; j < recordingsPerThread; j++ )
+                                                         {
+                                                             histogram.record( j % 100 );
+                                                         }
+                                                     } ) );
+        }
+        CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
+
+        assertEquals( threads * recordingsPerThread, histogram.count() );
+        assertEquals( threads * recordingsPerThread, histogram.snapshot().count() );
+    }
+
+    private static void assertWithinPrecision( long expected, long actual )
+    {
+        assertTrue( actual >= expected && actual <= expected + expected / 32, "Expected about " + expected + " but was " + actual );
+    }
+}
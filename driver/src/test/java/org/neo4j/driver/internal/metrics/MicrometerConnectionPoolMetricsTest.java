@@ -30,6 +30,9 @@ import java.util.function.IntSupplier;
 
 import org.neo4j.driver.ConnectionPoolMetrics;
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.messaging.request.PullMessage;
+import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
+import org.neo4j.driver.internal.messaging.response.RecordMessage;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -217,6 +220,7 @@ class MicrometerConnectionPoolMetricsTest
         // THEN
         verifyMetrics( expectedMetrics, metrics );
         assertEquals( timerCount + 1, timer.count() );
+        assertEquals( (long) Math.ceil( timer.max( TimeUnit.MILLISECONDS ) ), metrics.inUseTimePercentile( 1 ) );
     }
 
     @Test
@@ -265,6 +269,99 @@ class MicrometerConnectionPoolMetricsTest
         }
     }
 
+    @Test
+    void shouldTrackCircuitBreakerState()
+    {
+        // WHEN
+        metrics.afterCircuitBreakerOpened();
+        metrics.afterCircuitBreakerHalfOpened();
+
+        // THEN
+        assertEquals( "HALF_OPEN", metrics.circuitBreakerState() );
+        assertEquals( 2, registry.get( MicrometerConnectionPoolMetrics.CIRCUIT_STATE ).gauge().value() );
+        assertEquals( 1L, metrics.circuitBreakerOpened() );
+        assertEquals( 1, registry.get( MicrometerConnectionPoolMetrics.CIRCUIT_OPENED ).counter().count() );
+
+        // WHEN
+        metrics.afterCircuitBreakerClosed();
+
+        // THEN
+        assertEquals( "CLOSED", metrics.circuitBreakerState() );
+        assertEquals( 0, registry.get( MicrometerConnectionPoolMetrics.CIRCUIT_STATE ).gauge().value() );
+    }
+
+    @Test
+    void shouldCountWireTraffic()
+    {
+        // WHEN
+        metrics.afterMessageSent( RunWithMetadataMessage.SIGNATURE, 100, 1 );
+        metrics.afterMessageSent( PullMessage.SIGNATURE, 20, 1 );
+        metrics.afterFlush();
+        metrics.afterMessageReceived( RecordMessage.SIGNATURE, 70000, 2 );
+        metrics.afterMessageReceived( RecordMessage.SIGNATURE, 30, 1 );
+
+        // THEN
+        assertEquals( 120L, metrics.bytesSent() );
+        assertEquals( 70030L, metrics.bytesReceived() );
+        assertEquals( 2L, metrics.chunksSent() );
+        assertEquals( 3L, metrics.chunksReceived() );
+        assertEquals( 1L, metrics.flushes() );
+        assertEquals( 1L, metrics.messagesSent().get( "RUN" ) );
+        assertEquals( 1L, metrics.messagesSent().get( "PULL" ) );
+        assertEquals( 2L, metrics.messagesReceived().get( "RECORD" ) );
+        assertEquals( 2, registry.get( MicrometerConnectionPoolMetrics.MESSAGES_RECEIVED ).tag( "type", "RECORD" ).counter().count() );
+        assertEquals( 70030, registry.get( MicrometerConnectionPoolMetrics.BYTES_RECEIVED ).counter().count() );
+        assertEquals( 1, registry.get( MicrometerConnectionPoolMetrics.FLUSHES ).counter().count() );
+    }
+
+    @Test
+    void shouldTrackWaitingAcquisitions()
+    {
+        // GIVEN
+        MicrometerTimerListenerEvent event = new MicrometerTimerListenerEvent( registry );
+
+        // WHEN
+        metrics.beforeWaiting( event );
+
+        // THEN
+        assertEquals( 1, metrics.waitingToAcquire() );
+        assertEquals( 1, registry.get( MicrometerConnectionPoolMetrics.WAITING ).gauge().value() );
+
+        // WHEN
+        metrics.afterWaiting( event );
+
+        // THEN
+        assertEquals( 0, metrics.waitingToAcquire() );
+        assertEquals( 1L, metrics.waitedToAcquire() );
+        assertEquals( 1, registry.get( MicrometerConnectionPoolMetrics.WAIT ).timer().count() );
+    }
+
+    @Test
+    void shouldCountAcquisitionsPerSourceAndFailedHealthChecks()
+    {
+        // GIVEN
+        MicrometerTimerListenerEvent healthyCheck = new MicrometerTimerListenerEvent( registry );
+        MicrometerTimerListenerEvent failedCheck = new MicrometerTimerListenerEvent( registry );
+
+        // WHEN
+        metrics.afterAcquiredConnection( true );
+        metrics.afterAcquiredConnection( false );
+        metrics.afterAcquiredConnection( false );
+        metrics.beforeHealthCheck( healthyCheck );
+        metrics.afterHealthCheck( healthyCheck, true );
+        metrics.beforeHealthCheck( failedCheck );
+        metrics.afterHealthCheck( failedCheck, false );
+
+        // THEN
+        assertEquals( 1L, metrics.acquiredNewConnections() );
+        assertEquals( 2L, metrics.acquiredIdleConnections() );
+        assertEquals( 2, registry.get( MicrometerConnectionPoolMetrics.ACQUIRED ).tag( "source", "idle" ).counter().count() );
+        assertEquals( 2L, metrics.healthChecks() );
+        assertEquals( 1L, metrics.failedHealthChecks() );
+        assertEquals( 2, registry.get( MicrometerConnectionPoolMetrics.HEALTH_CHECK ).timer().count() );
+        assertEquals( 1, registry.get( MicrometerConnectionPoolMetrics.HEALTH_CHECK_FAILED ).counter().count() );
+    }
+
     void verifyMetrics( ConnectionPoolMetrics expected, ConnectionPoolMetrics actual )
     {
         assertEquals( ID, actual.id() );
@@ -19,20 +19,33 @@
 package org.neo4j.driver.internal.metrics;
 
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 
+import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.DomainNameResolutionMetrics;
+import org.neo4j.driver.EventLoopMetrics;
+import org.neo4j.driver.QueryMetrics;
 import org.neo4j.driver.internal.BoltServerAddress;
 
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.neo4j.driver.internal.DatabaseNameUtil.database;
 
 class MicrometerMetricsTest
 {
@@ -208,6 +221,127 @@ class MicrometerMetricsTest
         then( poolMetricsListener ).should().released( event );
     }
 
+    @Test
+    void shouldRecordQueryExecutionTaggedWithDatabaseAndMode()
+    {
+        // GIVEN
+        QueryExecution execution = new QueryExecution( true, 2_000_000, 3, -1, 500, 10, 1024 ).withTarget( database( "neo4j" ), AccessMode.READ );
+
+        // WHEN
+        metrics.afterQueryCompleted( execution );
+
+        // THEN
+        Tags tags = Tags.of( "database", "neo4j", "mode", "READ" );
+        assertEquals( 1, registry.get( MicrometerQueryMetrics.PREFIX ).tags( tags ).tag( "outcome", "success" ).counter().count() );
+        assertEquals( 0, registry.get( MicrometerQueryMetrics.PREFIX ).tags( tags ).tag( "outcome", "failure" ).counter().count() );
+        Timer run = registry.get( MicrometerQueryMetrics.RUN ).tags( tags ).timer();
+        assertEquals( 1, run.count() );
+        assertEquals( 2, run.totalTime( TimeUnit.MILLISECONDS ) );
+        assertEquals( 3, registry.get( MicrometerQueryMetrics.RESULT_AVAILABLE_AFTER ).tags( tags ).timer().totalTime( TimeUnit.MILLISECONDS ) );
+        assertEquals( 0, registry.get( MicrometerQueryMetrics.RESULT_CONSUMED_AFTER ).tags( tags ).timer().count() );
+        assertEquals( 500, registry.get( MicrometerQueryMetrics.DECODE ).tags( tags ).timer().totalTime( TimeUnit.NANOSECONDS ) );
+        assertEquals( 10, registry.get( MicrometerQueryMetrics.RECORDS ).tags( tags ).summary().totalAmount() );
+        assertEquals( 1024, registry.get( MicrometerQueryMetrics.BYTES ).tags( tags ).summary().totalAmount() );
+    }
+
+    @Test
+    void shouldRegisterQueryMetersOncePerDatabaseAndMode()
+    {
+        // GIVEN
+        QueryExecution read = new QueryExecution( true, 1_000_000, 1, 1, 0, 1, 10 ).withTarget( database( "neo4j" ), AccessMode.READ );
+        QueryExecution write = new QueryExecution( false, 1_000_000, 1, 1, 0, 1, 10 ).withTarget( database( "neo4j" ), AccessMode.WRITE );
+
+        // WHEN
+        int initialMeters = registry.getMeters().size();
+        metrics.afterQueryCompleted( read );
+        int queryMeters = registry.getMeters().size() - initialMeters;
+        metrics.afterQueryCompleted( read );
+        metrics.afterQueryCompleted( write );
+
+        // THEN
+        assertEquals( initialMeters + 2 * queryMeters, registry.getMeters().size() );
+        assertEquals( 2, metrics.queryMetrics().size() );
+        QueryMetrics reads = metrics.queryMetrics().stream().filter( m -> m.accessMode().equals( "READ" ) ).findFirst().get();
+        assertEquals( "neo4j", reads.database() );
+        assertEquals( 2, reads.completed() );
+        assertEquals( 0, reads.failed() );
+    }
+
+    @Test
+    void shouldAnswerQueryPercentilesFromComputedPercentiles()
+    {
+        // GIVEN
+        for ( int i = 1; i <= 100; i++ )
+        {
+            metrics.afterQueryCompleted( new QueryExecution( true, i * 1_000_000L, i, i, 0, i, i ).withTarget( database( "neo4j" ), AccessMode.READ ) );
+        }
+
+        // WHEN
+        QueryMetrics queryMetrics = metrics.queryMetrics().iterator().next();
+
+        // THEN
+        assertThat( queryMetrics.recordsPercentile( 0.5 ), both( greaterThanOrEqualTo( 48L ) ).and( lessThanOrEqualTo( 52L ) ) );
+        assertThat( queryMetrics.runTimePercentile( 0.4 ), both( greaterThanOrEqualTo( 48L ) ).and( lessThanOrEqualTo( 52L ) ) );
+        assertEquals( 100, queryMetrics.bytesPercentile( 1 ) );
+        assertThrows( IllegalArgumentException.class, () -> queryMetrics.recordsPercentile( 1.5 ) );
+    }
+
+    @Test
+    void shouldRecordDomainNameResolutionsTaggedWithCacheAndOutcome()
+    {
+        // WHEN
+        metrics.afterDomainNameResolution( true, true );
+        metrics.afterDomainNameResolution( true, false );
+        metrics.afterDomainNameResolution( false, true );
+
+        // THEN
+        assertEquals( 1, registry.get( MicrometerDomainNameResolutionMetrics.DOMAIN_NAME_RESOLUTION ).tags( "cache", "hit", "outcome", "failure" )
+                                 .counter().count() );
+        DomainNameResolutionMetrics resolutionMetrics = metrics.domainNameResolutionMetrics();
+        assertEquals( 2, resolutionMetrics.cacheHits() );
+        assertEquals( 1, resolutionMetrics.cacheMisses() );
+        assertEquals( 1, resolutionMetrics.failures() );
+    }
+
+    @Test
+    void shouldRecordRetriesTaggedWithCause()
+    {
+        // WHEN
+        metrics.afterRetryScheduled( "Neo.TransientError.Transaction.DeadlockDetected" );
+        metrics.afterRetryScheduled( "Neo.TransientError.Transaction.DeadlockDetected" );
+        metrics.afterRetryBackoff( 1500 );
+        metrics.afterRetryRejected( "SessionExpiredException" );
+
+        // THEN
+        assertEquals( 2, registry.get( MicrometerMetrics.RETRIES ).tags( "cause", "Neo.TransientError.Transaction.DeadlockDetected" ).counter().count() );
+        assertEquals( 1500, registry.get( MicrometerMetrics.RETRY_BACKOFF ).timer().totalTime( TimeUnit.MILLISECONDS ) );
+        assertEquals( 1, registry.get( MicrometerMetrics.RETRIES_REJECTED ).tags( "cause", "SessionExpiredException" ).counter().count() );
+    }
+
+    @Test
+    void shouldRecordEventLoopMetricsTaggedWithEventLoop()
+    {
+        // GIVEN
+        metrics.registerEventLoopMetrics( "loop-1", () -> 3, () -> 2 );
+
+        // WHEN
+        metrics.afterEventLoopProbe( "loop-1", TimeUnit.MILLISECONDS.toNanos( 7 ) );
+        metrics.afterEventLoopBlocked( "loop-1" );
+
+        // THEN
+        Tags tags = Tags.of( "eventloop", "loop-1" );
+        assertEquals( 3, registry.get( MicrometerEventLoopMetrics.PENDING_TASKS ).tags( tags ).gauge().value() );
+        assertEquals( 2, registry.get( MicrometerEventLoopMetrics.ACTIVE_CONNECTIONS ).tags( tags ).gauge().value() );
+        assertEquals( 7, registry.get( MicrometerEventLoopMetrics.SCHEDULING_LAG ).tags( tags ).timer().totalTime( TimeUnit.MILLISECONDS ) );
+        assertEquals( 1, registry.get( MicrometerEventLoopMetrics.BLOCKED ).tags( tags ).counter().count() );
+        EventLoopMetrics eventLoopMetrics = metrics.eventLoopMetrics().iterator().next();
+        assertEquals( 7, eventLoopMetrics.schedulingLag() );
+        assertEquals( 1, eventLoopMetrics.blockedDetections() );
+
+        metrics.removeEventLoopMetrics( "loop-1" );
+        assertTrue( metrics.eventLoopMetrics().isEmpty() );
+    }
+
     @Test
     void shouldCreateListenerEvent()
     {
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.exceptions.ResultConsumedException;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.cursor.RxResultCursor;
+import org.neo4j.driver.internal.cursor.RxResultCursorImpl;
+import org.neo4j.driver.internal.handlers.RunResponseHandler;
+import org.neo4j.driver.internal.reactive.util.ListBasedPullHandler;
+import org.neo4j.driver.reactive.ReactiveResult;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.Values.values;
+
+class InternalReactiveResultTest
+{
+    @Test
+    void shouldPublishRecordsInBatches()
+    {
+        List<Record> records = records( 5 );
+        ReactiveResult result = newResult( new ListBasedPullHandler( records ) );
+
+        StepVerifier.create( Flux.from( result.recordBatches( 2 ) ) )
+                    .expectNext( records.subList( 0, 2 ) )
+                    .expectNext( records.subList( 2, 4 ) )
+                    .expectNext( records.subList( 4, 5 ) )
+                    .verifyComplete();
+    }
+
+    @Test
+    void shouldRequestBatchSizeRecordsForEveryRequestedBatch()
+    {
+        RxResultCursor cursor = mock( RxResultCursor.class );
+        ReactiveResult result = new InternalReactiveResult( cursor );
+
+        StepVerifier.create( Flux.from( result.recordBatches( 10 ) ), 0 )
+                    .thenRequest( 2 )
+                    .then( () -> verify( cursor ).request( 20 ) )
+                    .thenRequest( Long.MAX_VALUE )
+                    .then( () -> verify( cursor ).request( Long.MAX_VALUE ) )
+                    .thenCancel()
+                    .verify();
+    }
+
+    @Test
+    @SuppressWarnings( "unchecked" )
+    void shouldPublishReceivedRecordsBeforeError()
+    {
+        RxResultCursor cursor = mock( RxResultCursor.class );
+        ReactiveResult result = new InternalReactiveResult( cursor );
+        ArgumentCaptor<BiConsumer<Record,Throwable>> consumerCaptor = ArgumentCaptor.forClass( BiConsumer.class );
+        List<Record> records = records( 3 );
+        IOException error = new IOException( "Connection reset" );
+
+        StepVerifier.create( Flux.from( result.recordBatches( 2 ) ) )
+                    .then( () ->
+                           {
+                               verify( cursor ).installRecordConsumer( consumerCaptor.capture() );
+                               BiConsumer<Record,Throwable> consumer = consumerCaptor.getValue();
+                               records.forEach( record -> consumer.accept( record, null ) );
+                               consumer.accept( null, error );
+                           } )
+                    .expectNext( records.subList( 0, 2 ) )
+                    .expectNext( records.subList( 2, 3 ) )
+                    .expectErrorMatches( error::equals )
+                    .verify();
+    }
+
+    @Test
+    void shouldFailWhenBatchesRequestedAfterConsume()
+    {
+        RxResultCursor cursor = mock( RxResultCursor.class );
+        when( cursor.isDone() ).thenReturn( true );
+        ReactiveResult result = new InternalReactiveResult( cursor );
+
+        StepVerifier.create( Flux.from( result.recordBatches( 2 ) ) )
+                    .expectError( ResultConsumedException.class )
+                    .verify();
+        verify( cursor, never() ).installRecordConsumer( any() );
+    }
+
+    @Test
+    void shouldRejectNonPositiveBatchSize()
+    {
+        ReactiveResult result = new InternalReactiveResult( mock( RxResultCursor.class ) );
+
+        assertThrows( IllegalArgumentException.class, () -> result.recordBatches( 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> result.recordBatches( -1 ) );
+    }
+
+    @Test
+    void shouldPublishOneSignalPerBatchInsteadOfPerRecord()
+    {
+        int recordCount = 10_000;
+        List<Record> records = records( recordCount );
+
+        long recordSignals = Flux.from( newResult( new ListBasedPullHandler( records ) ).records() ).count().block();
+        List<List<Record>> batches = Flux.from( newResult( new ListBasedPullHandler( records ) ).recordBatches( 1000 ) ).collectList().block();
+
+        assertEquals( recordCount, recordSignals );
+        assertEquals( 10, batches.size() );
+        assertEquals( recordCount, batches.stream().mapToInt( List::size ).sum() );
+    }
+
+    @Test
+    void shouldPublishRecordsAndSummaryOnPublishingScheduler()
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor( runnable -> new Thread( runnable, "publisher" ) );
+        try
+        {
+            List<Record> records = records( 3 );
+            ReactiveResult result = new InternalReactiveResult( new RxResultCursorImpl( mock( RunResponseHandler.class ), new ListBasedPullHandler( records ) ),
+                                                                Schedulers.fromExecutor( executor ) );
+            List<String> threads = new ArrayList<>();
+
+            StepVerifier.create( Flux.from( result.records() ).doOnNext( record -> threads.add( Thread.currentThread().getName() ) ) )
+                        .expectNextSequence( records )
+                        .verifyComplete();
+            StepVerifier.create( Mono.from( result.consume() ).map( summary -> Thread.currentThread().getName() ) )
+                        .expectNext( "publisher" )
+                        .verifyComplete();
+
+            assertEquals( asList( "publisher", "publisher", "publisher" ), threads );
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldBoundUpstreamDemandOfBatchesPublishedOnScheduler()
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            RxResultCursor cursor = mock( RxResultCursor.class );
+            ReactiveResult result = new InternalReactiveResult( cursor, Schedulers.fromExecutor( executor ) );
+
+            StepVerifier.create( Flux.from( result.recordBatches( 100 ) ), 1 )
+                        .then( () -> verify( cursor ).request( InternalReactiveResult.batchPrefetch( 100 ) * 100L ) )
+                        .thenCancel()
+                        .verify();
+
+            assertEquals( 2, InternalReactiveResult.batchPrefetch( 100 ) );
+            assertEquals( 1, InternalReactiveResult.batchPrefetch( 1000 ) );
+            assertEquals( InternalReactiveResult.PUBLISHING_BUFFER_SIZE, InternalReactiveResult.batchPrefetch( 1 ) );
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    private static ReactiveResult newResult( ListBasedPullHandler pullHandler )
+    {
+        return new InternalReactiveResult( new RxResultCursorImpl( mock( RunResponseHandler.class ), pullHandler ) );
+    }
+
+    private static List<Record> records( int count )
+    {
+        List<Record> records = new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ )
+        {
+            records.add( new InternalRecord( asList( "key1", "key2" ), values( i, i ) ) );
+        }
+        return records;
+    }
+}
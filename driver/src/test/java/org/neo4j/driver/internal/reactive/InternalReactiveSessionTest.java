@@ -305,7 +305,7 @@ public class InternalReactiveSessionTest
         String expected = "";
         given( networkSession.retryLogic() ).willReturn( logic );
         ReactiveTransactionCallback<Publisher<String>> tc = ( ignored ) -> Mono.justOrEmpty( expected );
-        given( logic.<String>retryRx( any() ) ).willReturn( tc.execute( null ) );
+        given( logic.<String>retryRx( any(), any() ) ).willReturn( tc.execute( null ) );
         TransactionConfig config = TransactionConfig.builder().build();
 
         // WHEN
@@ -319,7 +319,7 @@ public class InternalReactiveSessionTest
         // THEN
         assertEquals( expected, Mono.from( actual ).block() );
         then( networkSession ).should().retryLogic();
-        then( logic ).should().retryRx( any() );
+        then( logic ).should().retryRx( any(), any() );
     }
 
     static List<ExecuteVariation> executeVariations()
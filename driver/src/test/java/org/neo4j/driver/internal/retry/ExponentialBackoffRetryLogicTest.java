@@ -43,16 +43,25 @@ import java.util.stream.Stream;
 
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
+import org.neo4j.driver.diagnostics.RetryDiagnostics;
 import org.neo4j.driver.exceptions.AuthorizationExpiredException;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.ConnectionReadTimeoutException;
 import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.exceptions.SessionExpiredException;
 import org.neo4j.driver.exceptions.TransientException;
+import org.neo4j.driver.internal.diagnostics.DiagnosticsCollector;
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
+import org.neo4j.driver.internal.metrics.MetricsListener;
+import org.neo4j.driver.internal.tracing.DevNullTracer;
 import org.neo4j.driver.internal.util.Clock;
 import org.neo4j.driver.internal.util.ImmediateSchedulingEventExecutor;
+import org.neo4j.driver.tracing.DriverTracer;
+import org.neo4j.driver.tracing.InMemoryTracer;
+import org.neo4j.driver.tracing.TraceSpan;
 
 import static java.lang.Long.MAX_VALUE;
+import static java.util.Collections.singletonList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.closeTo;
@@ -174,6 +183,133 @@ class ExponentialBackoffRetryLogicTest
         assertEquals( delaysWithoutJitter( initialDelay, multiplier, retries ), eventExecutor.scheduleDelays() );
     }
 
+    @Test
+    void shouldTraceDelaysBetweenRetries()
+    {
+        InMemoryTracer tracer = new InMemoryTracer();
+        TraceSpan parent = tracer.startSpan( DriverTracer.SESSION, null );
+        Clock clock = mock( Clock.class );
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( MAX_VALUE, 1, 2, 0, eventExecutor, clock, DEV_NULL_LOGGING, tracer , RetryBudget.UNLIMITED, DevNullMetricsListener.INSTANCE );
+        AtomicInteger invocations = new AtomicInteger();
+
+        logic.retry( () ->
+                     {
+                         if ( invocations.incrementAndGet() <= 2 )
+                         {
+                             throw new TransientException( "Neo.TransientError.Transaction.DeadlockDetected", "Deadlock" );
+                         }
+                         return null;
+                     }, parent );
+
+        List<InMemoryTracer.Span> spans = tracer.endedSpans( DriverTracer.RETRY );
+        assertEquals( 2, spans.size() );
+        for ( int i = 0; i < spans.size(); i++ )
+        {
+            InMemoryTracer.Span span = spans.get( i );
+            assertEquals( parent, span.parent() );
+            assertEquals( (long) i + 1, span.attributes().get( "retry.attempt" ) );
+            assertEquals( (long) Math.pow( 2, i ), span.attributes().get( "retry.delay.ms" ) );
+            assertEquals( "Neo.TransientError.Transaction.DeadlockDetected", span.attributes().get( "error.code" ) );
+            assertThat( span.error(), instanceOf( TransientException.class ) );
+        }
+    }
+
+    @Test
+    void shouldTraceDelaysBetweenAsyncRetries()
+    {
+        InMemoryTracer tracer = new InMemoryTracer();
+        TraceSpan parent = tracer.startSpan( DriverTracer.SESSION, null );
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( MAX_VALUE, 1, 2, 0, eventExecutor, Clock.SYSTEM, DEV_NULL_LOGGING, tracer , RetryBudget.UNLIMITED, DevNullMetricsListener.INSTANCE );
+        AtomicInteger invocations = new AtomicInteger();
+
+        CompletionStage<String> future = logic.retryAsync( () -> invocations.incrementAndGet() <= 3
+                                                                 ? failedFuture( new SessionExpiredException( "Oh no" ) )
+                                                                 : completedFuture( "Done" ), parent );
+
+        assertEquals( "Done", await( future ) );
+        List<InMemoryTracer.Span> spans = tracer.endedSpans( DriverTracer.RETRY );
+        assertEquals( 3, spans.size() );
+        assertEquals( 3L, spans.get( 2 ).attributes().get( "retry.attempt" ) );
+        assertEquals( parent, spans.get( 2 ).parent() );
+    }
+
+    @Test
+    void shouldRejectRetriesWhenBudgetIsExhausted()
+    {
+        MetricsListener metricsListener = mock( MetricsListener.class );
+        ExponentialBackoffRetryLogic logic = newRetryLogic( new RetryBudget( 2, 0.5 ), metricsListener );
+        AtomicInteger invocations = new AtomicInteger();
+        SessionExpiredException error = sessionExpired();
+
+        SessionExpiredException e = assertThrows( SessionExpiredException.class, () -> logic.retry( () ->
+                                                                                                     {
+                                                                                                         invocations.incrementAndGet();
+                                                                                                         throw error;
+                                                                                                     } ) );
+
+        assertEquals( error, e );
+        assertEquals( 3, invocations.get() );
+        verify( metricsListener, times( 2 ) ).afterRetryScheduled( "SessionExpiredException" );
+        verify( metricsListener, times( 2 ) ).afterRetryBackoff( anyLong() );
+        verify( metricsListener ).afterRetryRejected( "SessionExpiredException" );
+        assertEquals( 1, retryDiagnostics( logic ).retriesRejected() );
+
+        // two successful transaction functions earn one retry
+        logic.retry( () -> null );
+        logic.retry( () -> null );
+        invocations.set( 0 );
+        assertThrows( SessionExpiredException.class, () -> logic.retry( () ->
+                                                                         {
+                                                                             invocations.incrementAndGet();
+                                                                             throw error;
+                                                                         } ) );
+        assertEquals( 2, invocations.get() );
+    }
+
+    @Test
+    void shouldRejectAsyncRetriesWhenBudgetIsExhausted()
+    {
+        MetricsListener metricsListener = mock( MetricsListener.class );
+        ExponentialBackoffRetryLogic logic = newRetryLogic( new RetryBudget( 1, 1 ), metricsListener );
+        AtomicInteger invocations = new AtomicInteger();
+        TransientException error = new TransientException( "Neo.TransientError.Transaction.DeadlockDetected", "Deadlock" );
+
+        CompletionStage<Object> future = logic.retryAsync( () ->
+                                                           {
+                                                               invocations.incrementAndGet();
+                                                               return failedFuture( error );
+                                                           } );
+
+        assertEquals( error, assertThrows( TransientException.class, () -> await( future ) ) );
+        assertEquals( 2, invocations.get() );
+        verify( metricsListener ).afterRetryScheduled( "Neo.TransientError.Transaction.DeadlockDetected" );
+        verify( metricsListener ).afterRetryBackoff( anyLong() );
+        verify( metricsListener ).afterRetryRejected( "Neo.TransientError.Transaction.DeadlockDetected" );
+
+        assertEquals( "Done", await( logic.retryAsync( () -> completedFuture( "Done" ) ) ) );
+        assertEquals( "Done", await( logic.retryAsync( () -> invocations.incrementAndGet() <= 3 ? failedFuture( error ) : completedFuture( "Done" ) ) ) );
+    }
+
+    @Test
+    void shouldRejectRxRetriesWhenBudgetIsExhausted()
+    {
+        MetricsListener metricsListener = mock( MetricsListener.class );
+        ExponentialBackoffRetryLogic logic = newRetryLogic( new RetryBudget( 1, 1 ), metricsListener );
+        AtomicInteger invocations = new AtomicInteger();
+        ServiceUnavailableException error = serviceUnavailable();
+
+        Publisher<Object> publisher = logic.retryRx( Mono.error( error ).doOnTerminate( invocations::incrementAndGet ) );
+
+        assertEquals( error, assertThrows( ServiceUnavailableException.class, () -> await( publisher ) ) );
+        assertEquals( 2, invocations.get() );
+        verify( metricsListener ).afterRetryScheduled( "ServiceUnavailableException" );
+        verify( metricsListener ).afterRetryBackoff( anyLong() );
+        verify( metricsListener ).afterRetryRejected( "ServiceUnavailableException" );
+
+        assertEquals( singletonList( "Done" ), await( logic.retryRx( Mono.just( "Done" ) ) ) );
+        assertEquals( singletonList( "Done" ), await( logic.retryRx( createMono( "Done", serviceUnavailable() ) ) ) );
+    }
+
     @Test
     void nextDelayCalculatedAccordingToJitter() throws Exception
     {
@@ -774,7 +910,7 @@ class ExponentialBackoffRetryLogicTest
         Logging logging = mock( Logging.class );
         Logger logger = mock( Logger.class );
         when( logging.getLog( any( Class.class ) ) ).thenReturn( logger );
-        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging );
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         AtomicBoolean exceptionThrown = new AtomicBoolean( false );
         String result = logic.retry( () ->
@@ -796,7 +932,7 @@ class ExponentialBackoffRetryLogicTest
         Logging logging = mock( Logging.class );
         Logger logger = mock( Logger.class );
         when( logging.getLog( any( Class.class ) ) ).thenReturn( logger );
-        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging );
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         AtomicBoolean exceptionThrown = new AtomicBoolean( false );
         String result = logic.retry( () ->
@@ -818,7 +954,7 @@ class ExponentialBackoffRetryLogicTest
         Logging logging = mock( Logging.class );
         Logger logger = mock( Logger.class );
         when( logging.getLog( any( Class.class ) ) ).thenReturn( logger );
-        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging );
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         AtomicBoolean exceptionThrown = new AtomicBoolean( false );
         String result = logic.retry( () ->
@@ -840,7 +976,7 @@ class ExponentialBackoffRetryLogicTest
         Logging logging = mock( Logging.class );
         Logger logger = mock( Logger.class );
         when( logging.getLog( anyString() ) ).thenReturn( logger );
-        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging );
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         AtomicBoolean exceptionThrown = new AtomicBoolean( false );
         ClientException exception = Assertions.assertThrows( ClientException.class, () -> logic.retry( () ->
@@ -864,7 +1000,7 @@ class ExponentialBackoffRetryLogicTest
         Logger logger = mock( Logger.class );
         when( logging.getLog( any( Class.class ) ) ).thenReturn( logger );
         ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor,
-                clock, logging );
+                clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         retry( logic, retries );
 
@@ -882,7 +1018,7 @@ class ExponentialBackoffRetryLogicTest
         Logger logger = mock( Logger.class );
         when( logging.getLog( any( Class.class ) ) ).thenReturn( logger );
 
-        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging );
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         AtomicBoolean exceptionThrown = new AtomicBoolean( false );
         String result = await( logic.retryAsync( () ->
@@ -904,7 +1040,7 @@ class ExponentialBackoffRetryLogicTest
         Logging logging = mock( Logging.class );
         Logger logger = mock( Logger.class );
         when( logging.getLog( any( Class.class ) ) ).thenReturn( logger );
-        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging );
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         AtomicBoolean exceptionThrown = new AtomicBoolean( false );
         String result = await( logic.retryAsync( () ->
@@ -927,7 +1063,7 @@ class ExponentialBackoffRetryLogicTest
         Logger logger = mock( Logger.class );
         when( logging.getLog( anyString() ) ).thenReturn( logger );
 
-        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging );
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         AtomicBoolean exceptionThrown = new AtomicBoolean( false );
         ClientException exception = Assertions.assertThrows( ClientException.class, () -> await( logic.retryAsync( () ->
@@ -953,7 +1089,7 @@ class ExponentialBackoffRetryLogicTest
         when( logging.getLog( any( Class.class ) ) ).thenReturn( logger );
 
         ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor,
-                clock, logging );
+                clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         assertEquals( result, await( retryAsync( logic, retries, result ) ) );
 
@@ -971,7 +1107,7 @@ class ExponentialBackoffRetryLogicTest
         Logger logger = mock( Logger.class );
         when( logging.getLog( any( Class.class ) ) ).thenReturn( logger );
 
-        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging );
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         AtomicBoolean exceptionThrown = new AtomicBoolean( false );
         String result = await( Mono.from( logic.retryRx( Mono.fromSupplier( () ->
@@ -993,7 +1129,7 @@ class ExponentialBackoffRetryLogicTest
         Logging logging = mock( Logging.class );
         Logger logger = mock( Logger.class );
         when( logging.getLog( any( Class.class ) ) ).thenReturn( logger );
-        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging );
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         AtomicBoolean exceptionThrown = new AtomicBoolean( false );
         String result = await( Mono.from( logic.retryRx( Mono.fromSupplier( () ->
@@ -1015,7 +1151,7 @@ class ExponentialBackoffRetryLogicTest
         Logging logging = mock( Logging.class );
         Logger logger = mock( Logger.class );
         when( logging.getLog( any( Class.class ) ) ).thenReturn( logger );
-        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging );
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         AtomicBoolean exceptionThrown = new AtomicBoolean( false );
         String result = await( Mono.from( logic.retryRx( Mono.fromSupplier( () ->
@@ -1039,7 +1175,7 @@ class ExponentialBackoffRetryLogicTest
         Logger logger = mock( Logger.class );
         when( logging.getLog( anyString() ) ).thenReturn( logger );
 
-        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging );
+        ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor, clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         AtomicBoolean exceptionThrown = new AtomicBoolean( false );
         ClientException exception = Assertions.assertThrows( ClientException.class, () -> await( Mono.from( logic.retryRx( Mono.fromSupplier( () ->
@@ -1065,7 +1201,7 @@ class ExponentialBackoffRetryLogicTest
         when( logging.getLog( any( Class.class ) ) ).thenReturn( logger );
 
         ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor,
-                clock, logging );
+                clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         assertEquals( result, await( Flux.from( retryRx( logic, retries, result ) ).single() ) );
 
@@ -1082,7 +1218,7 @@ class ExponentialBackoffRetryLogicTest
         Logger logger = mock( Logger.class );
         when( logging.getLog( anyString() ) ).thenReturn( logger );
         ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor,
-                mock( Clock.class ), logging );
+                mock( Clock.class ), logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         RuntimeException error = assertThrows( RuntimeException.class, () ->
                 logic.retry( () ->
@@ -1100,7 +1236,7 @@ class ExponentialBackoffRetryLogicTest
         Logger logger = mock( Logger.class );
         when( logging.getLog( anyString() ) ).thenReturn( logger );
         ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor,
-                mock( Clock.class ), logging );
+                mock( Clock.class ), logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         RuntimeException error = assertThrows( RuntimeException.class, () ->
                 await( logic.retryAsync( () -> failedFuture( new RuntimeException( "Fatal async" ) ) ) ) );
@@ -1116,7 +1252,7 @@ class ExponentialBackoffRetryLogicTest
         Logger logger = mock( Logger.class );
         when( logging.getLog( anyString() ) ).thenReturn( logger );
         ExponentialBackoffRetryLogic logic = new ExponentialBackoffRetryLogic( RetrySettings.DEFAULT, eventExecutor,
-                mock( Clock.class ), logging );
+                mock( Clock.class ), logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         Publisher<Object> retryRx = logic.retryRx( Mono.error( new RuntimeException( "Fatal rx" ) ) );
         RuntimeException error = assertThrows( RuntimeException.class, () -> await( retryRx ) );
@@ -1133,7 +1269,7 @@ class ExponentialBackoffRetryLogicTest
         Logger logger = mock( Logger.class );
         when( logging.getLog( any( Class.class ) ) ).thenReturn( logger );
         RetrySettings settings = RetrySettings.DEFAULT;
-        RetryLogic logic = new ExponentialBackoffRetryLogic( settings, eventExecutor, clock, logging );
+        RetryLogic logic = new ExponentialBackoffRetryLogic( settings, eventExecutor, clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         ServiceUnavailableException error = assertThrows( ServiceUnavailableException.class, () ->
                 logic.retry( new Supplier<Long>()
@@ -1171,7 +1307,7 @@ class ExponentialBackoffRetryLogicTest
         Logger logger = mock( Logger.class );
         when( logging.getLog( any( Class.class ) ) ).thenReturn( logger );
         RetrySettings settings = RetrySettings.DEFAULT;
-        RetryLogic logic = new ExponentialBackoffRetryLogic( settings, eventExecutor, clock, logging );
+        RetryLogic logic = new ExponentialBackoffRetryLogic( settings, eventExecutor, clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         SessionExpiredException error = assertThrows( SessionExpiredException.class, () ->
                 await( logic.retryAsync( new Supplier<CompletionStage<Void>>()
@@ -1209,7 +1345,7 @@ class ExponentialBackoffRetryLogicTest
         Logger logger = mock( Logger.class );
         when( logging.getLog( any( Class.class ) ) ).thenReturn( logger );
         RetrySettings settings = RetrySettings.DEFAULT;
-        RetryLogic logic = new ExponentialBackoffRetryLogic( settings, eventExecutor, clock, logging );
+        RetryLogic logic = new ExponentialBackoffRetryLogic( settings, eventExecutor, clock, logging , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
 
         AtomicBoolean invoked = new AtomicBoolean( false );
         SessionExpiredException error = assertThrows( SessionExpiredException.class, () ->
@@ -1239,7 +1375,7 @@ class ExponentialBackoffRetryLogicTest
         Clock clock = mock( Clock.class );
         when( clock.millis() ).thenReturn( 0L, 100L, 200L, 400L, 800L );
         ExponentialBackoffRetryLogic retryLogic = new ExponentialBackoffRetryLogic( 500, 100, 2, 0,
-                eventExecutor, clock, DEV_NULL_LOGGING );
+                eventExecutor, clock, DEV_NULL_LOGGING , DevNullTracer.INSTANCE, RetryBudget.UNLIMITED, DevNullMetricsListener.INSTANCE );
 
         Flux<Integer> source = Flux.concat( Flux.range( 0, 2 ), Flux.error( exception ) );
         Flux<Integer> retriedSource = Flux.from( retryLogic.retryRx( source ) );
@@ -1260,7 +1396,7 @@ class ExponentialBackoffRetryLogicTest
         Clock clock = mock( Clock.class );
         when( clock.millis() ).thenReturn( 0L, 100L, 200L, 400L, 800L );
         ExponentialBackoffRetryLogic retryLogic = new ExponentialBackoffRetryLogic( 500, 100, 2, 0.1,
-                eventExecutor, clock, DEV_NULL_LOGGING );
+                eventExecutor, clock, DEV_NULL_LOGGING , DevNullTracer.INSTANCE, RetryBudget.UNLIMITED, DevNullMetricsListener.INSTANCE );
 
         Flux<Integer> source = Flux.concat( Flux.range( 0, 2 ), Flux.error( exception ) );
         Flux<Integer> retriedSource = Flux.from( retryLogic.retryRx( source ) );
@@ -1355,7 +1491,20 @@ class ExponentialBackoffRetryLogicTest
             double multiplier, double jitterFactor, Clock clock )
     {
         return new ExponentialBackoffRetryLogic( maxRetryTimeMs, initialRetryDelayMs, multiplier, jitterFactor,
-                eventExecutor, clock, DEV_NULL_LOGGING );
+                eventExecutor, clock, DEV_NULL_LOGGING , DevNullTracer.INSTANCE, RetryBudget.UNLIMITED, DevNullMetricsListener.INSTANCE );
+    }
+
+    private ExponentialBackoffRetryLogic newRetryLogic( RetryBudget retryBudget, MetricsListener metricsListener )
+    {
+        return new ExponentialBackoffRetryLogic( MAX_VALUE, 1, 1, 0, eventExecutor, mock( Clock.class ), DEV_NULL_LOGGING, DevNullTracer.INSTANCE,
+                                                 retryBudget, metricsListener );
+    }
+
+    private static RetryDiagnostics retryDiagnostics( ExponentialBackoffRetryLogic logic )
+    {
+        DiagnosticsCollector collector = new DiagnosticsCollector( Clock.SYSTEM );
+        logic.collectDiagnostics( collector );
+        return collector.snapshot().retries();
     }
 
     private static ServiceUnavailableException serviceUnavailable()
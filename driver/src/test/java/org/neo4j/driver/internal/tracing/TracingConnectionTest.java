@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.tracing;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.messaging.request.PullMessage;
+import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.spi.ResponseHandler;
+import org.neo4j.driver.tracing.DriverTracer;
+import org.neo4j.driver.tracing.InMemoryTracer;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.internal.messaging.request.CommitMessage.COMMIT;
+import static org.neo4j.driver.internal.messaging.request.ResetMessage.RESET;
+import static org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage.unmanagedTxRunMessage;
+
+class TracingConnectionTest
+{
+    private final InMemoryTracer tracer = new InMemoryTracer();
+    private final InMemoryTracer.Span parent = tracer.startSpan( DriverTracer.SESSION, null );
+
+    @Test
+    void shouldTraceRunAndPullUntilResponse()
+    {
+        Connection delegate = connectionMock();
+        TracingConnection connection = new TracingConnection( delegate, tracer, parent );
+        ResponseHandler runHandler = mock( ResponseHandler.class );
+        ResponseHandler pullHandler = mock( ResponseHandler.class );
+
+        connection.writeAndFlush( unmanagedTxRunMessage( new Query( "RETURN 1" ) ), runHandler, new PullMessage( 10, -1 ), pullHandler );
+
+        ArgumentCaptor<ResponseHandler> runCaptor = ArgumentCaptor.forClass( ResponseHandler.class );
+        ArgumentCaptor<ResponseHandler> pullCaptor = ArgumentCaptor.forClass( ResponseHandler.class );
+        verify( delegate ).writeAndFlush( any(), runCaptor.capture(), any(), pullCaptor.capture() );
+        assertTrue( tracer.endedSpans().isEmpty() );
+
+        runCaptor.getValue().onSuccess( emptyMap() );
+        pullCaptor.getValue().onRecord( new Value[]{value( 1 )} );
+        pullCaptor.getValue().onRecord( new Value[]{value( 2 )} );
+        pullCaptor.getValue().onSuccess( singletonMap( "has_more", value( true ) ) );
+
+        InMemoryTracer.Span run = single( tracer.endedSpans( DriverTracer.RUN ) );
+        assertSame( parent, run.parent() );
+        assertEquals( "RETURN 1", run.attributes().get( "db.statement" ) );
+        assertEquals( "localhost:7687", run.attributes().get( "server.address" ) );
+
+        InMemoryTracer.Span pull = single( tracer.endedSpans( DriverTracer.PULL ) );
+        assertSame( parent, pull.parent() );
+        assertEquals( 2L, pull.attributes().get( "records" ) );
+        assertEquals( "true", pull.attributes().get( "has_more" ) );
+        verify( pullHandler ).onSuccess( singletonMap( "has_more", value( true ) ) );
+    }
+
+    @Test
+    void shouldRecordErrorOfFailedMessage()
+    {
+        Connection delegate = connectionMock();
+        TracingConnection connection = new TracingConnection( delegate, tracer, parent );
+        ResponseHandler handler = mock( ResponseHandler.class );
+        ServiceUnavailableException error = new ServiceUnavailableException( "Connection lost" );
+
+        connection.write( COMMIT, handler );
+
+        ArgumentCaptor<ResponseHandler> captor = ArgumentCaptor.forClass( ResponseHandler.class );
+        verify( delegate ).write( eq( COMMIT ), captor.capture() );
+        captor.getValue().onFailure( error );
+
+        InMemoryTracer.Span commit = single( tracer.endedSpans( DriverTracer.COMMIT ) );
+        assertSame( error, commit.error() );
+        verify( handler ).onFailure( error );
+    }
+
+    @Test
+    void shouldNotTraceOtherMessages()
+    {
+        Connection delegate = connectionMock();
+        TracingConnection connection = new TracingConnection( delegate, tracer, parent );
+        ResponseHandler handler = mock( ResponseHandler.class );
+
+        connection.writeAndFlush( RESET, handler );
+
+        verify( delegate ).writeAndFlush( RESET, handler );
+        assertTrue( tracer.endedSpans().isEmpty() );
+    }
+
+    private static InMemoryTracer.Span single( List<InMemoryTracer.Span> spans )
+    {
+        assertEquals( 1, spans.size(), spans.toString() );
+        return spans.get( 0 );
+    }
+
+    private static Connection connectionMock()
+    {
+        Connection connection = mock( Connection.class );
+        when( connection.serverAddress() ).thenReturn( BoltServerAddress.LOCAL_DEFAULT );
+        return connection;
+    }
+}
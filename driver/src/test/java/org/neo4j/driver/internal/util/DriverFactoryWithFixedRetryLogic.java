@@ -21,9 +21,11 @@ package org.neo4j.driver.internal.util;
 import io.netty.util.concurrent.EventExecutorGroup;
 
 import org.neo4j.driver.internal.DriverFactory;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.retry.RetryLogic;
 import org.neo4j.driver.internal.retry.RetrySettings;
 import org.neo4j.driver.Logging;
+import org.neo4j.driver.tracing.DriverTracer;
 
 public class DriverFactoryWithFixedRetryLogic extends DriverFactory
 {
@@ -36,7 +38,7 @@ public class DriverFactoryWithFixedRetryLogic extends DriverFactory
 
     @Override
     protected RetryLogic createRetryLogic( RetrySettings settings, EventExecutorGroup eventExecutorGroup,
-            Logging logging )
+            Logging logging, DriverTracer tracer, MetricsListener metricsListener )
     {
         return new FixedRetryLogic( retryCount );
     }
@@ -27,10 +27,12 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.Config;
+import org.neo4j.driver.internal.DomainNameResolver;
 import org.neo4j.driver.internal.metrics.MetricsProvider;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DriverFactory;
 import org.neo4j.driver.internal.cluster.RoutingContext;
+import org.neo4j.driver.internal.diagnostics.DiagnosticsCollector;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.security.SecurityPlan;
@@ -45,10 +47,10 @@ public class FailingConnectionDriverFactory extends DriverFactory
 
     @Override
     protected ConnectionPool createConnectionPool( AuthToken authToken, SecurityPlan securityPlan, Bootstrap bootstrap,
-                                                   MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup,
-                                                   RoutingContext routingContext )
+                                                   MetricsProvider metricsProvider, DomainNameResolver domainNameResolver, Config config,
+                                                   boolean ownsEventLoopGroup, RoutingContext routingContext )
     {
-        ConnectionPool pool = super.createConnectionPool( authToken, securityPlan, bootstrap, metricsProvider, config,
+        ConnectionPool pool = super.createConnectionPool( authToken, securityPlan, bootstrap, metricsProvider, domainNameResolver, config,
                                                           ownsEventLoopGroup, routingContext );
         return new ConnectionPoolWithFailingConnections( pool, nextRunFailure );
     }
@@ -105,6 +107,12 @@ public class FailingConnectionDriverFactory extends DriverFactory
         {
             return delegate.isOpen( address );
         }
+
+        @Override
+        public void collectDiagnostics( DiagnosticsCollector collector )
+        {
+            delegate.collectDiagnostics( collector );
+        }
     }
 
     private static class FailingConnection implements Connection
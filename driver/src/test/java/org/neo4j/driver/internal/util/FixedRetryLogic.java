@@ -20,8 +20,10 @@ package org.neo4j.driver.internal.util;
 
 import io.netty.util.concurrent.EventExecutorGroup;
 
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
 import org.neo4j.driver.internal.retry.ExponentialBackoffRetryLogic;
 import org.neo4j.driver.internal.retry.RetrySettings;
+import org.neo4j.driver.internal.tracing.DevNullTracer;
 
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 
@@ -37,7 +39,7 @@ public class FixedRetryLogic extends ExponentialBackoffRetryLogic
 
     public FixedRetryLogic( int retryCount, EventExecutorGroup eventExecutorGroup )
     {
-        super( new RetrySettings( Long.MAX_VALUE ), eventExecutorGroup, new SleeplessClock(), DEV_NULL_LOGGING );
+        super( new RetrySettings( Long.MAX_VALUE ), eventExecutorGroup, new SleeplessClock(), DEV_NULL_LOGGING , DevNullTracer.INSTANCE, DevNullMetricsListener.INSTANCE );
         this.retryCount = retryCount;
     }
 
@@ -31,7 +31,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import org.neo4j.driver.Config;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.ConnectionSettings;
-import org.neo4j.driver.internal.DefaultDomainNameResolver;
+import org.neo4j.driver.internal.DomainNameResolver;
 import org.neo4j.driver.internal.DriverFactory;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.async.connection.ChannelConnectorImpl;
@@ -41,6 +41,7 @@ import org.neo4j.driver.internal.async.outbound.OutboundMessageHandler;
 import org.neo4j.driver.internal.cluster.RoutingContext;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.security.SecurityPlan;
 
 public class MessageRecordingDriverFactory extends DriverFactory
@@ -54,15 +55,19 @@ public class MessageRecordingDriverFactory extends DriverFactory
 
     @Override
     protected ChannelConnector createConnector( ConnectionSettings settings, SecurityPlan securityPlan, Config config, Clock clock,
-                                                RoutingContext routingContext )
+                                                RoutingContext routingContext, DomainNameResolver domainNameResolver, MetricsListener metricsListener )
     {
-        ChannelPipelineBuilder pipelineBuilder = new MessageRecordingChannelPipelineBuilder();
-        return new ChannelConnectorImpl( settings, securityPlan, pipelineBuilder, config.logging(), clock, routingContext,
-                                         DefaultDomainNameResolver.getInstance() );
+        ChannelPipelineBuilder pipelineBuilder = new MessageRecordingChannelPipelineBuilder( metricsListener );
+        return new ChannelConnectorImpl( settings, securityPlan, pipelineBuilder, config.logging(), clock, routingContext, domainNameResolver );
     }
 
     private class MessageRecordingChannelPipelineBuilder extends ChannelPipelineBuilderImpl
     {
+        MessageRecordingChannelPipelineBuilder( MetricsListener metricsListener )
+        {
+            super( metricsListener );
+        }
+
         @Override
         public void build( MessageFormat messageFormat, ChannelPipeline pipeline, Logging logging )
         {
@@ -23,6 +23,7 @@ import io.netty.channel.ChannelPipeline;
 import org.neo4j.driver.internal.async.connection.ChannelPipelineBuilder;
 import org.neo4j.driver.internal.async.connection.ChannelPipelineBuilderImpl;
 import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
 import org.neo4j.driver.internal.util.FailingMessageFormat;
 import org.neo4j.driver.Logging;
 
@@ -37,7 +38,7 @@ public class ChannelPipelineBuilderWithFailingMessageFormat implements ChannelPi
         {
             failingMessageFormat = new FailingMessageFormat( messageFormat );
         }
-        new ChannelPipelineBuilderImpl().build( failingMessageFormat, pipeline, logging );
+        new ChannelPipelineBuilderImpl( DevNullMetricsListener.INSTANCE ).build( failingMessageFormat, pipeline, logging );
     }
 
     FailingMessageFormat getFailingMessageFormat()
@@ -29,9 +29,11 @@ import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.Config;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.ConnectionSettings;
+import org.neo4j.driver.internal.DomainNameResolver;
 import org.neo4j.driver.internal.async.connection.BootstrapFactory;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.cluster.RoutingContext;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.metrics.MetricsProvider;
 import org.neo4j.driver.internal.security.SecurityPlan;
 import org.neo4j.driver.internal.spi.ConnectionPool;
@@ -68,23 +70,27 @@ public class ChannelTrackingDriverFactory extends DriverFactoryWithClock
 
     @Override
     protected final ChannelConnector createConnector( ConnectionSettings settings, SecurityPlan securityPlan,
-                                                      Config config, Clock clock, RoutingContext routingContext )
+                                                      Config config, Clock clock, RoutingContext routingContext,
+                                                      DomainNameResolver domainNameResolver, MetricsListener metricsListener )
     {
-        return createChannelTrackingConnector( createRealConnector( settings, securityPlan, config, clock, routingContext ) );
+        return createChannelTrackingConnector( createRealConnector( settings, securityPlan, config, clock, routingContext, domainNameResolver,
+                                                                    metricsListener ) );
     }
 
     @Override
     protected final ConnectionPool createConnectionPool( AuthToken authToken, SecurityPlan securityPlan, Bootstrap bootstrap,
-            MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup, RoutingContext routingContext )
+            MetricsProvider metricsProvider, DomainNameResolver domainNameResolver, Config config, boolean ownsEventLoopGroup,
+            RoutingContext routingContext )
     {
-        pool = super.createConnectionPool( authToken, securityPlan, bootstrap, metricsProvider, config, ownsEventLoopGroup, routingContext );
+        pool = super.createConnectionPool( authToken, securityPlan, bootstrap, metricsProvider, domainNameResolver, config, ownsEventLoopGroup,
+                                           routingContext );
         return pool;
     }
 
     protected ChannelConnector createRealConnector( ConnectionSettings settings, SecurityPlan securityPlan,
-            Config config, Clock clock, RoutingContext routingContext )
+            Config config, Clock clock, RoutingContext routingContext, DomainNameResolver domainNameResolver, MetricsListener metricsListener )
     {
-        return super.createConnector( settings, securityPlan, config, clock, routingContext );
+        return super.createConnector( settings, securityPlan, config, clock, routingContext, domainNameResolver, metricsListener );
     }
 
     private ChannelTrackingConnector createChannelTrackingConnector( ChannelConnector connector )
@@ -20,10 +20,11 @@ package org.neo4j.driver.internal.util.io;
 
 import org.neo4j.driver.Config;
 import org.neo4j.driver.internal.ConnectionSettings;
-import org.neo4j.driver.internal.DefaultDomainNameResolver;
+import org.neo4j.driver.internal.DomainNameResolver;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.async.connection.ChannelConnectorImpl;
 import org.neo4j.driver.internal.cluster.RoutingContext;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.security.SecurityPlan;
 import org.neo4j.driver.internal.util.Clock;
 import org.neo4j.driver.internal.util.FailingMessageFormat;
@@ -39,10 +40,10 @@ public class ChannelTrackingDriverFactoryWithFailingMessageFormat extends Channe
 
     @Override
     protected ChannelConnector createRealConnector( ConnectionSettings settings, SecurityPlan securityPlan,
-                                                    Config config, Clock clock, RoutingContext routingContext )
+                                                    Config config, Clock clock, RoutingContext routingContext,
+                                                    DomainNameResolver domainNameResolver, MetricsListener metricsListener )
     {
-        return new ChannelConnectorImpl( settings, securityPlan, pipelineBuilder, config.logging(), clock, routingContext,
-                                         DefaultDomainNameResolver.getInstance() );
+        return new ChannelConnectorImpl( settings, securityPlan, pipelineBuilder, config.logging(), clock, routingContext, domainNameResolver );
     }
 
     public FailingMessageFormat getFailingMessageFormat()
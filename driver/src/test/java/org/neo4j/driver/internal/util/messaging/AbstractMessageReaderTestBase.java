@@ -40,8 +40,11 @@ import org.neo4j.driver.internal.util.io.ByteBufOutput;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public abstract class AbstractMessageReaderTestBase
 {
@@ -81,6 +84,24 @@ public abstract class AbstractMessageReaderTestBase
         }
     }
 
+    @TestFactory
+    Stream<DynamicNode> shouldSkipRecordMessagesWithoutDecodingFields()
+    {
+        return supportedMessages().filter( RecordMessage.class::isInstance )
+                                  .map( message -> dynamicTest( message.toString(), () -> testSkippedRecordMessageReading( message ) ) );
+    }
+
+    private void testSkippedRecordMessageReading( Message message ) throws IOException
+    {
+        MessageFormat.Reader reader = newReader( newInputWith( message ) );
+        ResponseMessageHandler handler = mock( ResponseMessageHandler.class );
+        when( handler.skipRecordMessage() ).thenReturn( true );
+
+        reader.read( handler );
+
+        verify( handler, never() ).handleRecordMessage( any() );
+    }
+
     @TestFactory
     Stream<DynamicNode> shouldFailToReadUnsupportedMessages()
     {
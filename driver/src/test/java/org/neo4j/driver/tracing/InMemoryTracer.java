@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A {@link DriverTracer} for tests that keeps all ended spans in memory until {@link #reset()} is invoked.
+ */
+public final class InMemoryTracer implements DriverTracer
+{
+    private final ConcurrentLinkedQueue<Span> endedSpans = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public Span startSpan( String name, TraceSpan parent )
+    {
+        return new Span( name, parent instanceof Span ? (Span) parent : null );
+    }
+
+    /**
+     * Returns the spans that have been ended, in the order they were ended.
+     *
+     * @return the ended spans.
+     */
+    public List<Span> endedSpans()
+    {
+        return Collections.unmodifiableList( new ArrayList<>( endedSpans ) );
+    }
+
+    /**
+     * Returns the spans with the given name that have been ended, in the order they were ended.
+     *
+     * @param name the name of the spans.
+     * @return the ended spans with the given name.
+     */
+    public List<Span> endedSpans( String name )
+    {
+        List<Span> spans = new ArrayList<>();
+        for ( Span span : endedSpans )
+        {
+            if ( span.name().equals( name ) )
+            {
+                spans.add( span );
+            }
+        }
+        return Collections.unmodifiableList( spans );
+    }
+
+    /**
+     * Forget all spans that have been ended.
+     */
+    public void reset()
+    {
+        endedSpans.clear();
+    }
+
+    /**
+     * A span recorded by the {@link InMemoryTracer}.
+     */
+    public final class Span implements TraceSpan
+    {
+        private final String name;
+        private final Span parent;
+        private final long startNanos = System.nanoTime();
+        private final Map<String,Object> attributes = new LinkedHashMap<>();
+        private volatile long endNanos = -1;
+        private volatile Throwable error;
+
+        private Span( String name, Span parent )
+        {
+            this.name = name;
+            this.parent = parent;
+        }
+
+        @Override
+        public synchronized Span setAttribute( String key, String value )
+        {
+            attributes.put( key, value );
+            return this;
+        }
+
+        @Override
+        public synchronized Span setAttribute( String key, long value )
+        {
+            attributes.put( key, value );
+            return this;
+        }
+
+        @Override
+        public void recordError( Throwable error )
+        {
+            this.error = error;
+        }
+
+        @Override
+        public void end()
+        {
+            if ( endNanos == -1 )
+            {
+                endNanos = System.nanoTime();
+                endedSpans.add( this );
+            }
+        }
+
+        /**
+         * @return the name of this span.
+         */
+        public String name()
+        {
+            return name;
+        }
+
+        /**
+         * @return the parent of this span, {@code null} for a root span.
+         */
+        public Span parent()
+        {
+            return parent;
+        }
+
+        /**
+         * @return a copy of the attributes of this span.
+         */
+        public synchronized Map<String,Object> attributes()
+        {
+            return new LinkedHashMap<>( attributes );
+        }
+
+        /**
+         * @return the error recorded for this span, {@code null} if none was recorded.
+         */
+        public Throwable error()
+        {
+            return error;
+        }
+
+        /**
+         * @return the duration of this span in nanoseconds, {@code -1} if it has not ended yet.
+         */
+        public long durationNanos()
+        {
+            long end = endNanos;
+            return end == -1 ? -1 : end - startNanos;
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format( "Span{name=%s, parent=%s, attributes=%s, error=%s, durationNanos=%d}",
+                                  name, parent == null ? null : parent.name(), attributes(), error, durationNanos() );
+        }
+    }
+}
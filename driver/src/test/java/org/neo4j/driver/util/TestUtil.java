@@ -63,6 +63,7 @@ import org.neo4j.driver.internal.DefaultBookmarksHolder;
 import org.neo4j.driver.internal.async.NetworkSession;
 import org.neo4j.driver.internal.async.connection.EventLoopGroupFactory;
 import org.neo4j.driver.internal.handlers.BeginTxResponseHandler;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizePolicy;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.BoltProtocolVersion;
 import org.neo4j.driver.internal.messaging.Message;
@@ -82,6 +83,7 @@ import org.neo4j.driver.internal.retry.RetryLogic;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 import org.neo4j.driver.internal.spi.ResponseHandler;
+import org.neo4j.driver.internal.tracing.DevNullTracer;
 import org.neo4j.driver.internal.util.FixedRetryLogic;
 
 import static java.util.Collections.emptyMap;
@@ -102,7 +104,6 @@ import static org.neo4j.driver.SessionConfig.builder;
 import static org.neo4j.driver.SessionConfig.forDatabase;
 import static org.neo4j.driver.internal.DatabaseNameUtil.database;
 import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
-import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 
@@ -310,8 +311,8 @@ public final class TestUtil
     public static NetworkSession newSession( ConnectionProvider connectionProvider, AccessMode mode,
                                              RetryLogic retryLogic, Set<Bookmark> bookmarks )
     {
-        return new NetworkSession( connectionProvider, retryLogic, defaultDatabase(), mode, new DefaultBookmarksHolder( bookmarks ), null, UNLIMITED_FETCH_SIZE,
-                                   DEV_NULL_LOGGING );
+        return new NetworkSession( connectionProvider, retryLogic, defaultDatabase(), mode, new DefaultBookmarksHolder( bookmarks ), null, FetchSizePolicy.UNLIMITED, 0,
+                                   DEV_NULL_LOGGING , DevNullTracer.INSTANCE );
     }
 
     public static void verifyRunRx( Connection connection, String query )